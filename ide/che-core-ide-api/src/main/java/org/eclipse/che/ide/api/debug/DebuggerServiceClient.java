@@ -121,6 +121,24 @@ public interface DebuggerServiceClient {
    */
   Promise<List<ThreadStateDto>> getThreadDump(String id);
 
+  /**
+   * Gets states of all threads, frames of the threads may be omitted.
+   *
+   * @param id debug session id
+   * @see #getStackFrames(String, long, int, int)
+   */
+  Promise<List<ThreadStateDto>> getThreads(String id);
+
+  /**
+   * Gets a range of frames of the thread without values of variables and fields.
+   *
+   * @param id debug session id
+   * @param threadId the unique thread id {@link ThreadState#getId()}
+   * @param start index of the first frame to return, the top frame has index 0
+   * @param count maximum number of frames to return
+   */
+  Promise<List<StackFrameDumpDto>> getStackFrames(String id, long threadId, int start, int count);
+
   /**
    * Resumes application.
    *
@@ -72,6 +72,13 @@ public class EditorFileStatusNotificationOperation
         .paramsAsDto(FileStateUpdateDto.class)
         .noResult()
         .withBiConsumer(this);
+
+    configurator
+        .newConfiguration()
+        .methodName("event:file-state-changed-batch")
+        .paramsAsListOfDto(FileStateUpdateDto.class)
+        .noResult()
+        .withBiConsumer((endpointId, updates) -> updates.forEach(it -> accept(endpointId, it)));
   }
 
   public void suspend() {
@@ -13,6 +13,7 @@ package org.eclipse.che.ide.debug;
 import java.util.List;
 import java.util.Map;
 import org.eclipse.che.api.debug.shared.dto.BreakpointDto;
+import org.eclipse.che.api.debug.shared.dto.StackFrameDumpDto;
 import org.eclipse.che.api.debug.shared.dto.ThreadStateDto;
 import org.eclipse.che.api.debug.shared.model.Breakpoint;
 import org.eclipse.che.api.debug.shared.model.SimpleValue;
@@ -115,6 +116,21 @@ public interface Debugger extends DebuggerObservable {
   /** Gets thread dump. */
   Promise<List<ThreadStateDto>> getThreadDump();
 
+  /**
+   * Gets states of all threads. Frames of the threads may be omitted, then they are fetched with
+   * {@link #getStackFrames(long, int, int)}.
+   */
+  Promise<List<ThreadStateDto>> getThreads();
+
+  /**
+   * Gets a range of frames of the thread without values of variables and fields.
+   *
+   * @param threadId the unique thread id {@link ThreadState#getId()}
+   * @param start index of the first frame to return, the top frame has index 0
+   * @param count maximum number of frames to return
+   */
+  Promise<List<StackFrameDumpDto>> getStackFrames(long threadId, int start, int count);
+
   /**
    * Sets a new value in the variable inside a specific frame.
    *
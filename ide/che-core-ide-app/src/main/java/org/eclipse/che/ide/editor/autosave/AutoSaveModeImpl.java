@@ -18,7 +18,10 @@ import com.google.gwt.user.client.Timer;
 import com.google.inject.Inject;
 import com.google.web.bindery.event.shared.EventBus;
 import com.google.web.bindery.event.shared.HandlerRegistration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import org.eclipse.che.api.project.shared.EditorContentChecksum;
 import org.eclipse.che.ide.api.editor.EditorOpenedEvent;
 import org.eclipse.che.ide.api.editor.EditorOpenedEventHandler;
 import org.eclipse.che.ide.api.editor.EditorPartPresenter;
@@ -233,14 +236,55 @@ public class AutoSaveModeImpl
 
     syncLock = true;
 
-    final DirtyRegion region = dirtyRegionQueue.removeNextDirtyRegion();
-    if (region == null) {
+    final List<DirtyRegion> regions = new ArrayList<>(dirtyRegionQueue.getSize());
+    for (DirtyRegion region = dirtyRegionQueue.removeNextDirtyRegion();
+        region != null;
+        region = dirtyRegionQueue.removeNextDirtyRegion()) {
+      regions.add(region);
+    }
+    if (regions.isEmpty()) {
+      syncLock = false;
+      return;
+    }
+
+    // document contains all the drained changes, so working copy must have the same content
+    final String contentChecksum =
+        documentHandle != null
+            ? EditorContentChecksum.of(documentHandle.getDocument().getContents())
+            : null;
+    editorWorkingCopySynchronizer
+        .synchronize(filePath, projectPath, regions, contentChecksum)
+        .onSuccess(
+            inSync -> {
+              if (Boolean.FALSE.equals(inSync)) {
+                resynchronizeWorkingCopy(filePath, projectPath);
+                return;
+              }
+              syncLock = false;
+              synchronizeWorkingCopy(filePath, projectPath);
+            })
+        .onFailure(
+            jsonRpcError -> {
+              syncLock = false;
+              Log.error(getClass(), jsonRpcError.getMessage());
+            });
+  }
+
+  /**
+   * Sends the whole editor content when the working copy is out of sync with the editor, as none
+   * of the following changes can be applied to such working copy consistently.
+   */
+  private void resynchronizeWorkingCopy(String filePath, String projectPath) {
+    if (documentHandle == null) {
       syncLock = false;
       return;
     }
 
+    // the content already contains all the queued changes
+    dirtyRegionQueue.purgeQueue();
+    String content = documentHandle.getDocument().getContents();
     editorWorkingCopySynchronizer
-        .synchronize(filePath, projectPath, region)
+        .synchronizeContent(filePath, projectPath, content)
         .onSuccess(
             () -> {
               syncLock = false;
@@ -10,7 +10,9 @@
  */
 package org.eclipse.che.ide.editor.synchronization.workingCopy;
 
+import java.util.List;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcPromise;
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.ide.api.editor.reconciler.DirtyRegion;
 
 /**
@@ -27,4 +29,34 @@ public interface EditorWorkingCopySynchronizer {
    * @param dirtyRegion describes a document range which has been changed
    */
   JsonRpcPromise<Boolean> synchronize(String filePath, String projectPath, DirtyRegion dirtyRegion);
+
+  /**
+   * Sends the batch of text changes of editor content to sync its working copy on server side with
+   * a single request. Changes are applied on server side in the given order, then the content of
+   * the working copy is verified against the given checksum of the editor content.
+   *
+   * @param filePath path to the file which content is needed to sync
+   * @param projectPath the path to the project which contains the file to sync
+   * @param dirtyRegions describe document ranges which have been changed
+   * @param contentChecksum {@link org.eclipse.che.api.project.shared.EditorContentChecksum
+   *     checksum} of the editor content after the changes or {@code null} to skip verification
+   * @return promise which is resolved with {@code false} if the changes conflict with the working
+   *     copy, the whole content should be sent with {@link #synchronizeContent} then
+   */
+  JsonRpcPromise<Boolean> synchronize(
+      String filePath,
+      String projectPath,
+      List<DirtyRegion> dirtyRegions,
+      @Nullable String contentChecksum);
+
+  /**
+   * Sends the whole editor content to replace the content of its working copy on server side. It
+   * is used when the working copy is out of sync with the editor content, so the following changes
+   * can't be applied to it consistently.
+   *
+   * @param filePath path to the file which content is needed to sync
+   * @param projectPath the path to the project which contains the file to sync
+   * @param content the whole editor content
+   */
+  JsonRpcPromise<Boolean> synchronizeContent(String filePath, String projectPath, String content);
 }
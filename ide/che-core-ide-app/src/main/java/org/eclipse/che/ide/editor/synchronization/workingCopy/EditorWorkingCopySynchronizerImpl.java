@@ -11,16 +11,22 @@
 package org.eclipse.che.ide.editor.synchronization.workingCopy;
 
 import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.INSERT;
+import static java.util.Collections.singletonList;
 import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.REMOVE;
+import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.REPLACE_ALL;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcPromise;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.project.shared.EditorContentChecksum;
 import org.eclipse.che.api.project.shared.dto.EditorChangesDto;
 import org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type;
 import org.eclipse.che.api.project.shared.dto.ServerError;
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.ide.api.editor.reconciler.DirtyRegion;
 import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.util.loging.Log;
@@ -36,6 +42,8 @@ public class EditorWorkingCopySynchronizerImpl implements EditorWorkingCopySynch
   private static final String ENDPOINT_ID = "ws-agent";
   private static final String WORKING_COPY_ERROR_METHOD = "track:editor-working-copy-error";
   private static final String EDITOR_CONTENT_CHANGES_METHOD = "track:editor-content-changes";
+  private static final String EDITOR_CONTENT_CHANGES_BATCH_METHOD =
+      "track:editor-content-changes-batch";
 
   private DtoFactory dtoFactory;
   private RequestTransmitter requestTransmitter;
@@ -59,6 +67,56 @@ public class EditorWorkingCopySynchronizerImpl implements EditorWorkingCopySynch
 
   public JsonRpcPromise<Boolean> synchronize(
       String filePath, String projectPath, DirtyRegion dirtyRegion) {
+    return requestTransmitter
+        .newRequest()
+        .endpointId(ENDPOINT_ID)
+        .methodName(EDITOR_CONTENT_CHANGES_METHOD)
+        .paramsAsDto(toChanges(filePath, projectPath, dirtyRegion))
+        .sendAndReceiveResultAsBoolean();
+  }
+
+  public JsonRpcPromise<Boolean> synchronize(
+      String filePath,
+      String projectPath,
+      List<DirtyRegion> dirtyRegions,
+      @Nullable String contentChecksum) {
+    List<EditorChangesDto> changes = new ArrayList<>(dirtyRegions.size());
+    for (DirtyRegion dirtyRegion : dirtyRegions) {
+      changes.add(toChanges(filePath, projectPath, dirtyRegion));
+    }
+    if (!changes.isEmpty()) {
+      // content is verified once all the changes of the batch are applied
+      changes.get(changes.size() - 1).withContentChecksum(contentChecksum);
+    }
+
+    return requestTransmitter
+        .newRequest()
+        .endpointId(ENDPOINT_ID)
+        .methodName(EDITOR_CONTENT_CHANGES_BATCH_METHOD)
+        .paramsAsListOfDto(changes)
+        .sendAndReceiveResultAsBoolean();
+  }
+
+  public JsonRpcPromise<Boolean> synchronizeContent(
+      String filePath, String projectPath, String content) {
+    EditorChangesDto changes =
+        dtoFactory
+            .createDto(EditorChangesDto.class)
+            .withType(REPLACE_ALL)
+            .withProjectPath(projectPath)
+            .withFileLocation(filePath)
+            .withText(content)
+            .withContentChecksum(EditorContentChecksum.of(content));
+
+    return requestTransmitter
+        .newRequest()
+        .endpointId(ENDPOINT_ID)
+        .methodName(EDITOR_CONTENT_CHANGES_BATCH_METHOD)
+        .paramsAsListOfDto(singletonList(changes))
+        .sendAndReceiveResultAsBoolean();
+  }
+
+  private EditorChangesDto toChanges(String filePath, String projectPath, DirtyRegion dirtyRegion) {
     Type type = dirtyRegion.getType().equals(DirtyRegion.INSERT) ? INSERT : REMOVE;
     EditorChangesDto changes =
         dtoFactory
@@ -75,13 +133,7 @@ public class EditorWorkingCopySynchronizerImpl implements EditorWorkingCopySynch
     } else {
       changes.withLength(length);
     }
-
-    return requestTransmitter
-        .newRequest()
-        .endpointId(ENDPOINT_ID)
-        .methodName(EDITOR_CONTENT_CHANGES_METHOD)
-        .paramsAsDto(changes)
-        .sendAndReceiveResultAsBoolean();
+    return changes;
   }
 
   private void onError(ServerError error) {
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.resource.api.usage.tracker;
+
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.workspace.server.WorkspaceManager;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.commons.schedule.ScheduleRate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of active (non stopped) workspaces and RAM used by them per namespace.
+ *
+ * <p>Active workspaces of a namespace are fetched from the database on the first request only,
+ * after that they are maintained incrementally from {@link WorkspaceStatusEvent workspace status
+ * events}. So resources usage checks performed on each workspace start don't need to fetch all the
+ * workspaces of the account with their runtimes.
+ *
+ * <p>Each event gets a sequence number when it is received, and the usage of a workspace is only
+ * ever changed to the state caused by its latest received event. So an event whose handling is
+ * delayed by fetching the workspace (e.g. RUNNING) can't override a later one (e.g. STOPPED), and
+ * events received while a namespace is being loaded are applied on top of the loaded state.
+ *
+ * <p>Tracked namespaces are periodically evicted so that their usage is reconciled with the
+ * database state on the next request.
+ */
+@Singleton
+public class ActiveWorkspacesRegistry implements EventSubscriber<WorkspaceStatusEvent> {
+  private static final Logger LOG = LoggerFactory.getLogger(ActiveWorkspacesRegistry.class);
+
+  private final Provider<WorkspaceManager> workspaceManagerProvider;
+  private final EnvironmentRamCalculator environmentRamCalculator;
+  private final EventService eventService;
+
+  /**
+   * Namespace -> (active workspace id -> RAM used by workspace in MB). Values are modified only
+   * while the lock of the namespace key is held so events and loading of the same namespace are
+   * applied one by one.
+   */
+  private final Map<String, Map<String, Long>> namespaces;
+  /** Workspace id -> namespace, used for cleaning up workspaces which are not accessible anymore */
+  private final Map<String, String> workspacesNamespaces;
+  /** Workspace id -> usage caused by the latest received event of the workspace */
+  private final Map<String, Usage> usages;
+  /** Sequence of the received events */
+  private final AtomicLong sequence;
+  /** Usages caused by events with this or lower sequence number are discarded */
+  private volatile long discardedSequence;
+  /** Usages with this or lower sequence number are discarded on the next reconciliation */
+  private volatile long reconciledSequence;
+
+  @Inject
+  public ActiveWorkspacesRegistry(
+      Provider<WorkspaceManager> workspaceManagerProvider,
+      EnvironmentRamCalculator environmentRamCalculator,
+      EventService eventService) {
+    this.workspaceManagerProvider = workspaceManagerProvider;
+    this.environmentRamCalculator = environmentRamCalculator;
+    this.eventService = eventService;
+    this.namespaces = new ConcurrentHashMap<>();
+    this.workspacesNamespaces = new ConcurrentHashMap<>();
+    this.usages = new ConcurrentHashMap<>();
+    this.sequence = new AtomicLong();
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    eventService.subscribe(this);
+  }
+
+  @PreDestroy
+  public void unsubscribe() {
+    eventService.unsubscribe(this);
+  }
+
+  /**
+   * Returns count of active workspaces in the given namespace.
+   *
+   * @param namespace namespace to fetch count of active workspaces
+   * @throws ServerException when any other error occurs during active workspaces fetching
+   */
+  public long getActiveWorkspacesCount(String namespace) throws ServerException {
+    return getActiveWorkspaces(namespace).size();
+  }
+
+  /**
+   * Returns RAM in megabytes which is used by active workspaces in the given namespace.
+   *
+   * @param namespace namespace to fetch used RAM
+   * @throws ServerException when any other error occurs during active workspaces fetching
+   */
+  public long getUsedRam(String namespace) throws ServerException {
+    return getActiveWorkspaces(namespace).values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  @Override
+  public void onEvent(WorkspaceStatusEvent event) {
+    final String workspaceId = event.getWorkspaceId();
+    final long eventSequence = sequence.incrementAndGet();
+    switch (event.getEventType()) {
+      case STOPPED:
+        remove(eventSequence, workspaceId);
+        break;
+      case STARTING:
+      case RUNNING:
+      case ERROR:
+        try {
+          update(eventSequence, workspaceManagerProvider.get().getWorkspace(workspaceId));
+        } catch (NotFoundException e) {
+          remove(eventSequence, workspaceId);
+        } catch (ServerException e) {
+          LOG.warn(
+              "Failed to update resources usage of workspace '{}'. Cause: {}",
+              workspaceId,
+              e.getMessage());
+          evict(workspaceId);
+        }
+        break;
+      default:
+        // status of workspace is not changed or changed to the status which doesn't affect usage
+    }
+  }
+
+  /** Evicts all the tracked namespaces, so their usage will be fetched from the database again. */
+  @ScheduleRate(initialDelay = 10, period = 10, unit = TimeUnit.MINUTES)
+  @VisibleForTesting
+  void reconcile() {
+    // usages received before the previous reconciliation are older than any namespace loading
+    discardedSequence = reconciledSequence;
+    reconciledSequence = sequence.get();
+    usages.values().removeIf(usage -> usage.sequence <= discardedSequence);
+    namespaces.clear();
+    workspacesNamespaces.clear();
+  }
+
+  private Map<String, Long> getActiveWorkspaces(String namespace) throws ServerException {
+    final Map<String, Long> activeWorkspaces = namespaces.get(namespace);
+    if (activeWorkspaces != null) {
+      return activeWorkspaces;
+    }
+    // the namespace is loaded without holding the lock of its key, events received during loading
+    // are not reflected by the loaded state, so they are applied on top of it before storing
+    final long loadingSequence = sequence.get();
+    final Map<String, Long> loaded = load(namespace);
+    return namespaces.computeIfAbsent(
+        namespace,
+        ns -> {
+          for (String workspaceId : loaded.keySet()) {
+            workspacesNamespaces.put(workspaceId, ns);
+          }
+          usages.forEach(
+              (workspaceId, usage) -> {
+                if (usage.sequence > loadingSequence
+                    && (usage.ram == null || ns.equals(usage.namespace))) {
+                  usage.applyTo(workspaceId, loaded);
+                }
+              });
+          return loaded;
+        });
+  }
+
+  private Map<String, Long> load(String namespace) throws ServerException {
+    final Map<String, Long> activeWorkspaces = new ConcurrentHashMap<>();
+    for (WorkspaceImpl workspace :
+        workspaceManagerProvider.get().getByNamespace(namespace, true)) {
+      if (STOPPED != workspace.getStatus()) {
+        activeWorkspaces.put(workspace.getId(), calculateRam(workspace));
+      }
+    }
+    return activeWorkspaces;
+  }
+
+  private void update(long eventSequence, WorkspaceImpl workspace) throws ServerException {
+    if (STOPPED == workspace.getStatus()) {
+      remove(eventSequence, workspace.getId());
+      return;
+    }
+    apply(
+        workspace.getId(),
+        new Usage(eventSequence, workspace.getNamespace(), calculateRam(workspace)));
+  }
+
+  private void remove(long eventSequence, String workspaceId) {
+    apply(workspaceId, new Usage(eventSequence, workspacesNamespaces.get(workspaceId), null));
+  }
+
+  /**
+   * Records the usage if it is caused by a later event than the recorded one, then applies the
+   * latest recorded usage to the tracked namespace of the workspace. The latest usage is read
+   * under the lock of the namespace key, so whichever event is applied last the namespace ends up
+   * with the usage of the latest received event.
+   */
+  private void apply(String workspaceId, Usage usage) {
+    if (usage.sequence <= discardedSequence) {
+      return;
+    }
+    final Usage latest =
+        usages.merge(workspaceId, usage, (old, cur) -> old.sequence > cur.sequence ? old : cur);
+    if (latest.ram != null) {
+      workspacesNamespaces.put(workspaceId, latest.namespace);
+    }
+    final String namespace =
+        latest.namespace != null ? latest.namespace : workspacesNamespaces.get(workspaceId);
+    if (namespace != null) {
+      namespaces.computeIfPresent(
+          namespace,
+          (ns, activeWorkspaces) -> {
+            final Usage current = usages.get(workspaceId);
+            if (current != null) {
+              current.applyTo(workspaceId, activeWorkspaces);
+            }
+            return activeWorkspaces;
+          });
+    }
+  }
+
+  /**
+   * Evicts namespace of the workspace whose usage can't be updated, if namespace is unknown then
+   * evicts all the namespaces.
+   */
+  private void evict(String workspaceId) {
+    final String namespace = workspacesNamespaces.get(workspaceId);
+    if (namespace != null) {
+      namespaces.remove(namespace);
+    } else {
+      namespaces.clear();
+    }
+  }
+
+  private long calculateRam(WorkspaceImpl workspace) throws ServerException {
+    if (WorkspaceStatus.STARTING.equals(workspace.getStatus())) {
+      //starting workspace may not have all machine in runtime
+      //it is need to calculate ram from environment config
+      return environmentRamCalculator.calculate(
+          workspace.getConfig().getEnvironments().get(workspace.getRuntime().getActiveEnv()));
+    }
+    return workspace
+        .getRuntime()
+        .getMachines()
+        .stream()
+        .mapToLong(machine -> machine.getConfig().getLimits().getRam())
+        .sum();
+  }
+
+  /** Usage of a workspace caused by a status event, {@code null} RAM means stopped workspace. */
+  private static class Usage {
+    private final long sequence;
+    private final String namespace;
+    private final Long ram;
+
+    private Usage(long sequence, String namespace, Long ram) {
+      this.sequence = sequence;
+      this.namespace = namespace;
+      this.ram = ram;
+    }
+
+    private void applyTo(String workspaceId, Map<String, Long> activeWorkspaces) {
+      if (ram == null) {
+        activeWorkspaces.remove(workspaceId);
+      } else {
+        activeWorkspaces.put(workspaceId, ram);
+      }
+    }
+  }
+}
@@ -10,17 +10,13 @@
  */
 package org.eclipse.che.multiuser.resource.api.usage.tracker;
 
-import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
-
 import java.util.Optional;
 import javax.inject.Inject;
-import javax.inject.Provider;
 import javax.inject.Singleton;
 import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.multiuser.resource.api.ResourceUsageTracker;
 import org.eclipse.che.multiuser.resource.api.type.RuntimeResourceType;
 import org.eclipse.che.multiuser.resource.model.Resource;
@@ -33,14 +29,14 @@ import org.eclipse.che.multiuser.resource.spi.impl.ResourceImpl;
  */
 @Singleton
 public class RuntimeResourceUsageTracker implements ResourceUsageTracker {
-  private final Provider<WorkspaceManager> workspaceManagerProvider;
   private final AccountManager accountManager;
+  private final ActiveWorkspacesRegistry activeWorkspacesRegistry;
 
   @Inject
   public RuntimeResourceUsageTracker(
-      Provider<WorkspaceManager> workspaceManagerProvider, AccountManager accountManager) {
-    this.workspaceManagerProvider = workspaceManagerProvider;
+      AccountManager accountManager, ActiveWorkspacesRegistry activeWorkspacesRegistry) {
     this.accountManager = accountManager;
+    this.activeWorkspacesRegistry = activeWorkspacesRegistry;
   }
 
   @Override
@@ -48,12 +44,7 @@ public class RuntimeResourceUsageTracker implements ResourceUsageTracker {
       throws NotFoundException, ServerException {
     final Account account = accountManager.getById(accountId);
     final long currentlyUsedRuntimes =
-        workspaceManagerProvider
-            .get()
-            .getByNamespace(account.getName(), false)
-            .stream()
-            .filter(ws -> STOPPED != ws.getStatus())
-            .count();
+        activeWorkspacesRegistry.getActiveWorkspacesCount(account.getName());
     if (currentlyUsedRuntimes > 0) {
       return Optional.of(
           new ResourceImpl(
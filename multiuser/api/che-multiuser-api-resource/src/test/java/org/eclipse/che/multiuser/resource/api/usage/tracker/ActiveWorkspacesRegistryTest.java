@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.resource.api.usage.tracker;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.inject.Provider;
+import org.eclipse.che.account.spi.AccountImpl;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineLimitsImpl;
+import org.eclipse.che.api.workspace.server.WorkspaceManager;
+import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link ActiveWorkspacesRegistry} */
+@Listeners(MockitoTestNGListener.class)
+public class ActiveWorkspacesRegistryTest {
+  private static final String NAMESPACE = "testAccount";
+  private static final AccountImpl ACCOUNT = new AccountImpl("account123", NAMESPACE, "test");
+
+  @Mock private Provider<WorkspaceManager> workspaceManagerProvider;
+  @Mock private WorkspaceManager workspaceManager;
+  @Mock private EnvironmentRamCalculator environmentRamCalculator;
+  @Mock private EventService eventService;
+
+  private ActiveWorkspacesRegistry registry;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    when(workspaceManagerProvider.get()).thenReturn(workspaceManager);
+    registry =
+        new ActiveWorkspacesRegistry(
+            workspaceManagerProvider, environmentRamCalculator, eventService);
+  }
+
+  @Test
+  public void shouldLoadActiveWorkspacesOfNamespaceOnFirstRequest() throws Exception {
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenReturn(
+            asList(
+                createWorkspace("ws1", WorkspaceStatus.RUNNING, 1000, 500),
+                createWorkspace("ws2", WorkspaceStatus.STOPPED),
+                createWorkspace("ws3", WorkspaceStatus.STOPPING, 1500)));
+
+    assertEquals(registry.getUsedRam(NAMESPACE), 3000L);
+    assertEquals(registry.getActiveWorkspacesCount(NAMESPACE), 2L);
+    verify(workspaceManager).getByNamespace(eq(NAMESPACE), eq(true));
+  }
+
+  @Test
+  public void shouldCalculateRamOfStartingWorkspaceFromEnvironmentConfig() throws Exception {
+    when(environmentRamCalculator.calculate(any())).thenReturn(3000L);
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenReturn(singletonList(createWorkspace("ws1", WorkspaceStatus.STARTING)));
+
+    assertEquals(registry.getUsedRam(NAMESPACE), 3000L);
+  }
+
+  @Test
+  public void shouldUpdateUsageFromEventsWithoutReloadingNamespace() throws Exception {
+    when(environmentRamCalculator.calculate(any())).thenReturn(2000L);
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenReturn(singletonList(createWorkspace("ws1", WorkspaceStatus.RUNNING, 1000)));
+    registry.getUsedRam(NAMESPACE);
+
+    when(workspaceManager.getWorkspace("ws2"))
+        .thenReturn(createWorkspace("ws2", WorkspaceStatus.STARTING));
+    registry.onEvent(event("ws2", EventType.STARTING));
+    assertEquals(registry.getUsedRam(NAMESPACE), 3000L);
+    assertEquals(registry.getActiveWorkspacesCount(NAMESPACE), 2L);
+
+    when(workspaceManager.getWorkspace("ws2"))
+        .thenReturn(createWorkspace("ws2", WorkspaceStatus.RUNNING, 500, 500));
+    registry.onEvent(event("ws2", EventType.RUNNING));
+    assertEquals(registry.getUsedRam(NAMESPACE), 2000L);
+
+    registry.onEvent(event("ws1", EventType.STOPPED));
+    assertEquals(registry.getUsedRam(NAMESPACE), 1000L);
+    assertEquals(registry.getActiveWorkspacesCount(NAMESPACE), 1L);
+
+    verify(workspaceManager).getByNamespace(eq(NAMESPACE), eq(true));
+  }
+
+  @Test
+  public void shouldReloadNamespaceWhenWorkspaceCanNotBeFetchedOnEvent() throws Exception {
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenReturn(singletonList(createWorkspace("ws1", WorkspaceStatus.RUNNING, 1000)));
+    registry.getUsedRam(NAMESPACE);
+    when(workspaceManager.getWorkspace("ws1")).thenThrow(new ServerException("error"));
+
+    registry.onEvent(event("ws1", EventType.ERROR));
+    registry.getUsedRam(NAMESPACE);
+
+    verify(workspaceManager, times(2)).getByNamespace(eq(NAMESPACE), eq(true));
+  }
+
+  @Test
+  public void shouldReloadNamespacesAfterReconciliation() throws Exception {
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenReturn(singletonList(createWorkspace("ws1", WorkspaceStatus.RUNNING, 1000)));
+    registry.getUsedRam(NAMESPACE);
+
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenReturn(singletonList(createWorkspace("ws1", WorkspaceStatus.RUNNING, 2000)));
+    registry.reconcile();
+
+    assertEquals(registry.getUsedRam(NAMESPACE), 2000L);
+    verify(workspaceManager, times(2)).getByNamespace(eq(NAMESPACE), eq(true));
+  }
+
+  @Test
+  public void shouldKeepUsageConsistentOnConcurrentStarts() throws Exception {
+    final int workspacesCount = 50;
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenReturn(singletonList(createWorkspace("ws-initial", WorkspaceStatus.RUNNING, 100)));
+    for (int i = 0; i < workspacesCount; i++) {
+      when(workspaceManager.getWorkspace("ws" + i))
+          .thenReturn(createWorkspace("ws" + i, WorkspaceStatus.RUNNING, 100));
+    }
+    registry.getUsedRam(NAMESPACE);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < workspacesCount; i++) {
+        final String workspaceId = "ws" + i;
+        futures.add(
+            executor.submit(
+                () -> {
+                  startLatch.await();
+                  registry.onEvent(event(workspaceId, EventType.RUNNING));
+                  return registry.getUsedRam(NAMESPACE);
+                }));
+      }
+      startLatch.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(registry.getActiveWorkspacesCount(NAMESPACE), workspacesCount + 1L);
+    assertEquals(registry.getUsedRam(NAMESPACE), (workspacesCount + 1L) * 100);
+  }
+
+  @Test
+  public void shouldNotTrackWorkspaceWhenItsDelayedRunningEventIsAppliedAfterStoppedOne()
+      throws Exception {
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenReturn(singletonList(createWorkspace("ws1", WorkspaceStatus.RUNNING, 1000)));
+    registry.getUsedRam(NAMESPACE);
+    final CountDownLatch fetchingLatch = new CountDownLatch(1);
+    final CountDownLatch stoppedLatch = new CountDownLatch(1);
+    when(workspaceManager.getWorkspace("ws2"))
+        .thenAnswer(
+            invocation -> {
+              fetchingLatch.countDown();
+              stoppedLatch.await();
+              return createWorkspace("ws2", WorkspaceStatus.RUNNING, 500);
+            });
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> running =
+          executor.submit(() -> registry.onEvent(event("ws2", EventType.RUNNING)));
+      fetchingLatch.await();
+      registry.onEvent(event("ws2", EventType.STOPPED));
+      stoppedLatch.countDown();
+      running.get();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(registry.getActiveWorkspacesCount(NAMESPACE), 1L);
+    assertEquals(registry.getUsedRam(NAMESPACE), 1000L);
+  }
+
+  @Test
+  public void shouldApplyEventsReceivedWhileNamespaceIsLoaded() throws Exception {
+    final CountDownLatch loadingLatch = new CountDownLatch(1);
+    final CountDownLatch eventsLatch = new CountDownLatch(1);
+    when(workspaceManager.getByNamespace(anyString(), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              loadingLatch.countDown();
+              eventsLatch.await();
+              return asList(
+                  createWorkspace("ws1", WorkspaceStatus.RUNNING, 1000),
+                  createWorkspace("ws2", WorkspaceStatus.RUNNING, 500));
+            });
+    when(workspaceManager.getWorkspace("ws3"))
+        .thenReturn(createWorkspace("ws3", WorkspaceStatus.RUNNING, 2000));
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final long usedRam;
+    try {
+      final Future<Long> loading = executor.submit(() -> registry.getUsedRam(NAMESPACE));
+      loadingLatch.await();
+      registry.onEvent(event("ws1", EventType.STOPPED));
+      registry.onEvent(event("ws3", EventType.RUNNING));
+      eventsLatch.countDown();
+      usedRam = loading.get();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(usedRam, 2500L);
+    assertEquals(registry.getActiveWorkspacesCount(NAMESPACE), 2L);
+    verify(workspaceManager).getByNamespace(eq(NAMESPACE), eq(true));
+  }
+
+  private static WorkspaceStatusEvent event(String workspaceId, EventType eventType) {
+    return DtoFactory.newDto(WorkspaceStatusEvent.class)
+        .withWorkspaceId(workspaceId)
+        .withEventType(eventType);
+  }
+
+  private static WorkspaceImpl createWorkspace(
+      String id, WorkspaceStatus status, Integer... machineRams) {
+    final List<MachineImpl> machines = new ArrayList<>(machineRams.length);
+    for (Integer machineRam : machineRams) {
+      machines.add(
+          MachineImpl.builder()
+              .setConfig(
+                  MachineConfigImpl.builder().setLimits(new MachineLimitsImpl(machineRam)).build())
+              .build());
+    }
+    return WorkspaceImpl.builder()
+        .setId(id)
+        .setAccount(ACCOUNT)
+        .setConfig(
+            new WorkspaceConfigImpl(
+                "name", null, "default", null, null, singletonMap("default", new EnvironmentImpl())))
+        .setRuntime(new WorkspaceRuntimeImpl("default", null, machines, null))
+        .setStatus(status)
+        .build();
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.keycloak.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.multiuser.keycloak.shared.KeycloakConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves keys which are used for JWT signature verification by the key id of the token.
+ *
+ * <p>Keys are pulled from the JWKS endpoint of the Keycloak realm and kept in an immutable map, so
+ * lookups don't need any locking. Keys are refreshed in background periodically and on demand when
+ * a token signed with an unknown key is received, which allows Keycloak to rotate realm keys
+ * without restarting the server. On demand refreshes are rate limited to protect the Keycloak
+ * server from being flooded by tokens with forged key ids.
+ */
+@Singleton
+public class KeycloakSigningKeyResolver extends SigningKeyResolverAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(KeycloakSigningKeyResolver.class);
+
+  private static final long REFRESH_PERIOD_MIN = 60;
+  private static final long MIN_ON_DEMAND_REFRESH_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10);
+
+  private final String certsUrl;
+  private final long minOnDemandRefreshIntervalMs;
+  private final AtomicReference<Map<String, PublicKey>> keys;
+  private final AtomicLong lastRefreshTime;
+  private final ScheduledExecutorService refresher;
+
+  @Inject
+  public KeycloakSigningKeyResolver(
+      @Named(KeycloakConstants.AUTH_SERVER_URL_SETTING) String authServerUrl,
+      @Named(KeycloakConstants.REALM_SETTING) String realm) {
+    this(
+        authServerUrl + "/realms/" + realm + "/protocol/openid-connect/certs",
+        MIN_ON_DEMAND_REFRESH_INTERVAL_MS);
+    refresher.scheduleWithFixedDelay(this::refresh, 0, REFRESH_PERIOD_MIN, TimeUnit.MINUTES);
+  }
+
+  /** Creates resolver which fetches keys on demand only. */
+  @VisibleForTesting
+  KeycloakSigningKeyResolver(String certsUrl, long minOnDemandRefreshIntervalMs) {
+    this.certsUrl = certsUrl;
+    this.minOnDemandRefreshIntervalMs = minOnDemandRefreshIntervalMs;
+    this.keys = new AtomicReference<>(ImmutableMap.of());
+    this.lastRefreshTime = new AtomicLong();
+    this.refresher =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("KeycloakKeysRefresher")
+                .setDaemon(true)
+                .build());
+  }
+
+  @Override
+  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+    final String keyId = header.getKeyId();
+    PublicKey key = findKey(keys.get(), keyId);
+    if (key == null && refreshOnDemand()) {
+      key = findKey(keys.get(), keyId);
+    }
+    if (key == null) {
+      throw new IllegalArgumentException(
+          "Public key for verifying the JWT with key id '" + keyId + "' is not found");
+    }
+    return key;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refresher.shutdownNow();
+  }
+
+  /** Returns key with the given id or the only key of the realm when token doesn't specify it. */
+  private PublicKey findKey(Map<String, PublicKey> keys, String keyId) {
+    if (keyId == null) {
+      return keys.size() == 1 ? keys.values().iterator().next() : null;
+    }
+    return keys.get(keyId);
+  }
+
+  /**
+   * Refreshes the keys unless they were refreshed less than {@link
+   * #MIN_ON_DEMAND_REFRESH_INTERVAL_MS} ago, returns true if keys were refreshed by this call. The
+   * interval is respected even when no keys are fetched yet, so that requests received while
+   * Keycloak is unavailable don't pile up on fetching the keys.
+   */
+  private boolean refreshOnDemand() {
+    final long lastRefresh = lastRefreshTime.get();
+    final long now = System.currentTimeMillis();
+    if (now - lastRefresh < minOnDemandRefreshIntervalMs
+        || !lastRefreshTime.compareAndSet(lastRefresh, now)) {
+      return false;
+    }
+    return refresh();
+  }
+
+  private boolean refresh() {
+    lastRefreshTime.set(System.currentTimeMillis());
+    HttpURLConnection conn = null;
+    try {
+      LOG.info("Pulling realm public keys from URL : {}", certsUrl);
+      conn = (HttpURLConnection) new URL(certsUrl).openConnection();
+      conn.setRequestMethod("GET");
+      final JsonObject jwks;
+      try (BufferedReader in = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
+        jwks = new JsonParser().parse(in).getAsJsonObject();
+      }
+      final Map<String, PublicKey> fetched = new LinkedHashMap<>();
+      final KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+      for (JsonElement element : jwks.getAsJsonArray("keys")) {
+        try {
+          final JsonObject jwk = element.getAsJsonObject();
+          if (!"RSA".equals(getString(jwk, "kty"))
+              || (jwk.has("use") && !"sig".equals(getString(jwk, "use")))) {
+            continue;
+          }
+          final String keyId = getString(jwk, "kid");
+          final BigInteger modulus = decodeUnsigned(getString(jwk, "n"));
+          final BigInteger exponent = decodeUnsigned(getString(jwk, "e"));
+          final PublicKey key = keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent));
+          if (fetched.putIfAbsent(keyId, key) != null) {
+            LOG.warn("Skipping duplicate Keycloak realm key with key id '{}'", keyId);
+          }
+        } catch (IllegalStateException | IllegalArgumentException | GeneralSecurityException e) {
+          // a single invalid key must not prevent verification with the other keys
+          LOG.warn("Skipping invalid Keycloak realm key {}. Cause: {}", element, e.getMessage());
+        }
+      }
+      keys.set(ImmutableMap.copyOf(fetched));
+      return true;
+    } catch (IOException | GeneralSecurityException | RuntimeException e) {
+      LOG.error("Exception during retrieval of the Keycloak realm public keys", e);
+      return false;
+    } finally {
+      if (conn != null) {
+        conn.disconnect();
+      }
+    }
+  }
+
+  /** Returns string value of the JWK parameter, throws if it is missing or is not a string. */
+  private static String getString(JsonObject jwk, String name) {
+    final JsonElement value = jwk.get(name);
+    if (value == null || !value.isJsonPrimitive() || !value.getAsJsonPrimitive().isString()) {
+      throw new IllegalArgumentException("Parameter '" + name + "' is missing or is not a string");
+    }
+    return value.getAsString();
+  }
+
+  private static BigInteger decodeUnsigned(String base64Url) {
+    return new BigInteger(1, Base64.getUrlDecoder().decode(base64Url));
+  }
+}
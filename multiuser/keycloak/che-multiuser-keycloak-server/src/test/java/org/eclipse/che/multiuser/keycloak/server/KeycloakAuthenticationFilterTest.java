@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.keycloak.server;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.fail;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.che.commons.auth.token.RequestTokenExtractor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link KeycloakAuthenticationFilter} */
+@Listeners(MockitoTestNGListener.class)
+public class KeycloakAuthenticationFilterTest {
+
+  @Mock private RequestTokenExtractor tokenExtractor;
+  @Mock private KeycloakSigningKeyResolver signingKeyResolver;
+  @Mock private HttpServletRequest request;
+  @Mock private HttpServletResponse response;
+  @Mock private FilterChain chain;
+
+  private KeyPair keyPair;
+  private KeyPair otherKeyPair;
+  private KeycloakAuthenticationFilter filter;
+
+  @BeforeClass
+  public void generateKeys() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    keyPair = generator.generateKeyPair();
+    otherKeyPair = generator.generateKeyPair();
+  }
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    when(request.getScheme()).thenReturn("http");
+    when(request.getRequestURI()).thenReturn("/api/workspace");
+    when(signingKeyResolver.resolveSigningKey(any(JwsHeader.class), any(Claims.class)))
+        .thenReturn(keyPair.getPublic());
+    filter = new KeycloakAuthenticationFilter(0, tokenExtractor, signingKeyResolver);
+  }
+
+  @Test
+  public void shouldVerifySignatureOfSameTokenOnce() throws Exception {
+    when(tokenExtractor.getToken(request)).thenReturn(token("user", 3600_000, keyPair));
+
+    filter.doFilter(request, response, chain);
+    filter.doFilter(request, response, chain);
+
+    verify(signingKeyResolver).resolveSigningKey(any(JwsHeader.class), any(Claims.class));
+    verify(request, times(2)).setAttribute(eq("token"), any());
+    verify(chain, times(2)).doFilter(request, response);
+  }
+
+  @Test
+  public void shouldVerifySignatureOfEachNewToken() throws Exception {
+    when(tokenExtractor.getToken(request))
+        .thenReturn(token("user1", 3600_000, keyPair), token("user2", 3600_000, keyPair));
+
+    filter.doFilter(request, response, chain);
+    filter.doFilter(request, response, chain);
+
+    verify(signingKeyResolver, times(2)).resolveSigningKey(any(JwsHeader.class), any(Claims.class));
+    verify(chain, times(2)).doFilter(request, response);
+  }
+
+  @Test
+  public void shouldNotCacheTokenWithInvalidSignature() throws Exception {
+    when(tokenExtractor.getToken(request)).thenReturn(token("user", 3600_000, otherKeyPair));
+
+    filter.doFilter(request, response, chain);
+    filter.doFilter(request, response, chain);
+
+    verify(signingKeyResolver, times(2)).resolveSigningKey(any(JwsHeader.class), any(Claims.class));
+    verify(response, times(2)).sendError(403);
+    verify(chain, never()).doFilter(request, response);
+    verify(request, never()).setAttribute(anyString(), any());
+  }
+
+  @Test
+  public void shouldVerifyCachedTokenAgainAfterItExpires() throws Exception {
+    when(tokenExtractor.getToken(request)).thenReturn(token("user", 1000, keyPair));
+    filter.doFilter(request, response, chain);
+
+    // expiration time of JWT has seconds precision
+    Thread.sleep(2000);
+
+    try {
+      filter.doFilter(request, response, chain);
+      fail("Expired token must not be taken from the cache");
+    } catch (ExpiredJwtException expected) {
+      // token is verified again and rejected
+    }
+    verify(signingKeyResolver, times(2)).resolveSigningKey(any(JwsHeader.class), any(Claims.class));
+    verify(chain).doFilter(request, response);
+  }
+
+  private static String token(String subject, long expiresInMs, KeyPair keyPair) {
+    return Jwts.builder()
+        .setSubject(subject)
+        .setExpiration(new Date(System.currentTimeMillis() + expiresInMs))
+        .signWith(SignatureAlgorithm.RS256, keyPair.getPrivate())
+        .compact();
+  }
+}
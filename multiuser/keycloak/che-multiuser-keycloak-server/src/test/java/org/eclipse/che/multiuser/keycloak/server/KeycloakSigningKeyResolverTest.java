@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.keycloak.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link KeycloakSigningKeyResolver} */
+public class KeycloakSigningKeyResolverTest {
+  private static final String CERTS_PATH = "/realms/che/protocol/openid-connect/certs";
+
+  private KeyPair key1;
+  private KeyPair key2;
+
+  private HttpServer server;
+  private AtomicInteger requests;
+  private volatile String jwks;
+  private KeycloakSigningKeyResolver resolver;
+
+  @BeforeClass
+  public void generateKeys() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    key1 = generator.generateKeyPair();
+    key2 = generator.generateKeyPair();
+  }
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    requests = new AtomicInteger();
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        CERTS_PATH,
+        exchange -> {
+          requests.incrementAndGet();
+          byte[] body = jwks.getBytes(UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+  }
+
+  @AfterMethod
+  public void tearDown() throws Exception {
+    if (resolver != null) {
+      resolver.shutdown();
+    }
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldResolveKeyByKeyIdOfToken() throws Exception {
+    jwks = jwks(jwk("k1", key1), jwk("k2", key2));
+    resolver = createResolver(0);
+
+    assertEquals(parse(token("k2", key2)), "user");
+    assertEquals(parse(token("k1", key1)), "user");
+    assertEquals(requests.get(), 1);
+  }
+
+  @Test
+  public void shouldResolveOnlyKeyOfRealmWhenTokenHasNoKeyId() throws Exception {
+    jwks = jwks(jwk("k1", key1));
+    resolver = createResolver(0);
+
+    assertEquals(parse(token(null, key1)), "user");
+  }
+
+  @Test
+  public void shouldRefreshKeysWhenTokenIsSignedWithRotatedKey() throws Exception {
+    jwks = jwks(jwk("k1", key1));
+    resolver = createResolver(0);
+    assertEquals(parse(token("k1", key1)), "user");
+
+    jwks = jwks(jwk("k2", key2));
+
+    assertEquals(parse(token("k2", key2)), "user");
+    assertEquals(requests.get(), 2);
+  }
+
+  @Test(
+    expectedExceptions = IllegalArgumentException.class,
+    expectedExceptionsMessageRegExp = ".*key id 'unknown' is not found"
+  )
+  public void shouldRejectTokenSignedWithUnknownKey() throws Exception {
+    jwks = jwks(jwk("k1", key1));
+    resolver = createResolver(0);
+
+    parse(token("unknown", key2));
+  }
+
+  @Test
+  public void shouldNotRefreshKeysOnDemandMoreOftenThanMinInterval() throws Exception {
+    jwks = jwks(jwk("k1", key1));
+    resolver = createResolver(TimeUnit.HOURS.toMillis(1));
+    assertEquals(parse(token("k1", key1)), "user");
+
+    jwks = jwks(jwk("k2", key2));
+
+    for (int i = 0; i < 3; i++) {
+      try {
+        parse(token("k2", key2));
+      } catch (IllegalArgumentException expected) {
+        // key is not refreshed yet
+      }
+    }
+    assertEquals(requests.get(), 1);
+  }
+
+  @Test
+  public void shouldNotRefreshKeysOnDemandMoreOftenThanMinIntervalWhenNoKeysAreFetched()
+      throws Exception {
+    jwks = "{\"keys\":[]}";
+    resolver = createResolver(TimeUnit.HOURS.toMillis(1));
+
+    for (int i = 0; i < 3; i++) {
+      try {
+        parse(token("k1", key1));
+      } catch (IllegalArgumentException expected) {
+        // keycloak has no keys
+      }
+    }
+    assertEquals(requests.get(), 1);
+  }
+
+  @Test
+  public void shouldSkipInvalidKeys() throws Exception {
+    jwks =
+        jwks(
+            "{\"kty\":\"RSA\",\"use\":\"enc\",\"n\":\"AQAB\",\"e\":\"AQAB\"}",
+            "{\"kid\":\"no-type\",\"use\":\"sig\",\"n\":\"AQAB\",\"e\":\"AQAB\"}",
+            "{\"kty\":\"RSA\",\"use\":\"sig\",\"n\":\"AQAB\",\"e\":\"AQAB\"}",
+            "{\"kid\":\"bad\",\"kty\":\"RSA\",\"n\":\"!!\",\"e\":\"AQAB\"}",
+            "\"not a key\"",
+            jwk("k1", key1));
+    resolver = createResolver(0);
+
+    assertEquals(parse(token("k1", key1)), "user");
+    assertEquals(requests.get(), 1);
+  }
+
+  private KeycloakSigningKeyResolver createResolver(long minOnDemandRefreshIntervalMs) {
+    return new KeycloakSigningKeyResolver(
+        "http://localhost:" + server.getAddress().getPort() + CERTS_PATH,
+        minOnDemandRefreshIntervalMs);
+  }
+
+  /** Verifies the token with the resolver and returns its subject. */
+  private String parse(String token) {
+    return Jwts.parser()
+        .setSigningKeyResolver(resolver)
+        .parseClaimsJws(token)
+        .getBody()
+        .getSubject();
+  }
+
+  private static String token(String keyId, KeyPair keyPair) {
+    return Jwts.builder()
+        .setHeaderParam("kid", keyId)
+        .setSubject("user")
+        .signWith(SignatureAlgorithm.RS256, keyPair.getPrivate())
+        .compact();
+  }
+
+  private static String jwks(String... keys) {
+    return "{\"keys\":[" + String.join(",", keys) + "]}";
+  }
+
+  private static String jwk(String keyId, KeyPair keyPair) {
+    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+    return "{\"kid\":\""
+        + keyId
+        + "\",\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\""
+        + encode(publicKey.getModulus())
+        + "\",\"e\":\""
+        + encode(publicKey.getPublicExponent())
+        + "\"}";
+  }
+
+  private static String encode(BigInteger value) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+  }
+}
@@ -11,6 +11,7 @@
 package org.eclipse.che.plugin.activity;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -30,13 +31,12 @@ public class WorkspaceActivityNotifier {
   private static final Logger LOG = LoggerFactory.getLogger(WorkspaceActivityNotifier.class);
 
   private final AtomicBoolean activeDuringThreshold;
+  private final AtomicLong lastUpdateTime;
   private final HttpJsonRequestFactory httpJsonRequestFactory;
   private final String apiEndpoint;
   private final String wsId;
   private final long threshold;
 
-  private long lastUpdateTime;
-
   @Inject
   public WorkspaceActivityNotifier(
       HttpJsonRequestFactory httpJsonRequestFactory,
@@ -47,6 +47,7 @@ public class WorkspaceActivityNotifier {
     this.apiEndpoint = apiEndpoint;
     this.wsId = wsId;
     this.activeDuringThreshold = new AtomicBoolean(false);
+    this.lastUpdateTime = new AtomicLong();
     this.threshold = threshold;
   }
 
@@ -55,21 +56,26 @@ public class WorkspaceActivityNotifier {
    *
    * <p>After last notification, any consecutive activities that come within specific amount of time
    * - {@code threshold}, will not notify immediately, but trigger notification in scheduler method
-   * {@link WorkspaceActivityNotifier#scheduleActivityNotification}
+   * {@link WorkspaceActivityNotifier#scheduleActivityNotification}. When activities come
+   * concurrently only one of them notifies master, the others are coalesced into the scheduled
+   * notification.
    */
   public void onActivity() {
-    long currentTime = System.currentTimeMillis();
-    if (currentTime < (lastUpdateTime + threshold)) {
+    final long currentTime = System.currentTimeMillis();
+    final long lastUpdate = lastUpdateTime.get();
+    if (currentTime < (lastUpdate + threshold)
+        || !lastUpdateTime.compareAndSet(lastUpdate, currentTime)) {
       activeDuringThreshold.set(true);
     } else {
+      activeDuringThreshold.set(false);
       notifyActivity();
-      lastUpdateTime = currentTime;
     }
   }
 
   @ScheduleRate(periodParameterName = "workspace.activity.schedule_period_s")
   private void scheduleActivityNotification() {
     if (activeDuringThreshold.compareAndSet(true, false)) {
+      lastUpdateTime.set(System.currentTimeMillis());
       notifyActivity();
     }
   }
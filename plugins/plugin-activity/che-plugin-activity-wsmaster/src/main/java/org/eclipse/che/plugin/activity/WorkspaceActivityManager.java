@@ -14,10 +14,20 @@ import static org.eclipse.che.activity.shared.Constants.ACTIVITY_CHECKER;
 import static org.eclipse.che.api.workspace.shared.Constants.WORKSPACE_STOPPED_BY;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.ConflictException;
@@ -41,6 +51,10 @@ import org.slf4j.LoggerFactory;
  * one minute rate. If workspace idle timeout is negative, then workspace would not be stopped
  * automatically.
  *
+ * <p>Expiration times are additionally indexed in the sorted set, so the scheduler visits only the
+ * expired workspaces instead of all the active ones. Expired workspaces are stopped in parallel by
+ * the bounded pool of threads.
+ *
  * @author Anton Korneta
  */
 @Singleton
@@ -48,8 +62,14 @@ public class WorkspaceActivityManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(WorkspaceActivityManager.class);
 
+  private static final int STOP_THREADS = 5;
+
   private final long timeout;
+  /** Workspace id -> expiration time, modified only along with {@link #expirations}. */
   private final Map<String, Long> activeWorkspaces;
+  /** Expiration times ordered from the earliest one. */
+  private final NavigableSet<Expiration> expirations;
+  private final ExecutorService stopExecutor;
   private final EventService eventService;
   private final EventSubscriber<?> workspaceEventsSubscriber;
 
@@ -64,6 +84,14 @@ public class WorkspaceActivityManager {
     this.workspaceManager = workspaceManager;
     this.eventService = eventService;
     this.activeWorkspaces = new ConcurrentHashMap<>();
+    this.expirations = new ConcurrentSkipListSet<>();
+    this.stopExecutor =
+        Executors.newFixedThreadPool(
+            STOP_THREADS,
+            new ThreadFactoryBuilder()
+                .setNameFormat("WorkspaceActivityManager-StopIdle-%d")
+                .setDaemon(true)
+                .build());
     this.workspaceEventsSubscriber =
         new EventSubscriber<WorkspaceStatusEvent>() {
           @Override
@@ -83,7 +111,7 @@ public class WorkspaceActivityManager {
                 update(event.getWorkspaceId(), System.currentTimeMillis());
                 break;
               case STOPPED:
-                activeWorkspaces.remove(event.getWorkspaceId());
+                remove(event.getWorkspaceId());
                 break;
               default:
                 //do nothing
@@ -102,7 +130,16 @@ public class WorkspaceActivityManager {
     try {
       long timeout = getIdleTimeout(wsId);
       if (timeout > 0) {
-        activeWorkspaces.put(wsId, activityTime + timeout);
+        final long expiration = activityTime + timeout;
+        activeWorkspaces.compute(
+            wsId,
+            (id, previous) -> {
+              if (previous != null) {
+                expirations.remove(new Expiration(previous, id));
+              }
+              expirations.add(new Expiration(expiration, id));
+              return expiration;
+            });
       }
     } catch (NotFoundException | ServerException e) {
       LOG.error(e.getLocalizedMessage(), e);
@@ -118,28 +155,21 @@ public class WorkspaceActivityManager {
   }
 
   @ScheduleRate(periodParameterName = "che.workspace.activity_check_scheduler_period_s")
-  private void invalidate() {
-    final long currentTime = System.currentTimeMillis();
-    for (Map.Entry<String, Long> workspaceExpireEntry : activeWorkspaces.entrySet()) {
-      if (workspaceExpireEntry.getValue() <= currentTime) {
-        try {
-          String workspaceId = workspaceExpireEntry.getKey();
-          Workspace workspace = workspaceManager.getWorkspace(workspaceId);
-          workspace.getAttributes().put(WORKSPACE_STOPPED_BY, ACTIVITY_CHECKER);
-          workspaceManager.updateWorkspace(workspaceId, workspace);
-          workspaceManager.stopWorkspace(workspaceId);
-        } catch (NotFoundException ignored) {
-          // workspace no longer exists, no need to do anything
-        } catch (ConflictException e) {
-          LOG.warn(e.getLocalizedMessage());
-        } catch (Exception ex) {
-          LOG.error(ex.getLocalizedMessage());
-          LOG.debug(ex.getLocalizedMessage(), ex);
-        } finally {
-          activeWorkspaces.remove(workspaceExpireEntry.getKey());
-        }
+  @VisibleForTesting
+  void invalidate() {
+    final List<String> expired = new ArrayList<>();
+    final Expiration bound = new Expiration(System.currentTimeMillis() + 1, "");
+    for (Iterator<Expiration> it = expirations.headSet(bound).iterator(); it.hasNext(); ) {
+      final Expiration expiration = it.next();
+      it.remove();
+      // the workspace may be active again, then its expiration is already replaced by the new one
+      if (activeWorkspaces.remove(expiration.workspaceId, expiration.time)) {
+        expired.add(expiration.workspaceId);
       }
     }
+    for (String workspaceId : expired) {
+      stopExecutor.execute(() -> stopExpired(workspaceId));
+    }
   }
 
   @VisibleForTesting
@@ -147,4 +177,69 @@ public class WorkspaceActivityManager {
   public void subscribe() {
     eventService.subscribe(workspaceEventsSubscriber);
   }
+
+  @PreDestroy
+  public void shutdown() {
+    eventService.unsubscribe(workspaceEventsSubscriber);
+    stopExecutor.shutdownNow();
+  }
+
+  private void stopExpired(String workspaceId) {
+    try {
+      Workspace workspace = workspaceManager.getWorkspace(workspaceId);
+      workspace.getAttributes().put(WORKSPACE_STOPPED_BY, ACTIVITY_CHECKER);
+      workspaceManager.updateWorkspace(workspaceId, workspace);
+      workspaceManager.stopWorkspace(workspaceId);
+    } catch (NotFoundException ignored) {
+      // workspace no longer exists, no need to do anything
+    } catch (ConflictException e) {
+      LOG.warn(e.getLocalizedMessage());
+    } catch (Exception ex) {
+      LOG.error(ex.getLocalizedMessage());
+      LOG.debug(ex.getLocalizedMessage(), ex);
+    }
+  }
+
+  private void remove(String workspaceId) {
+    activeWorkspaces.computeIfPresent(
+        workspaceId,
+        (id, expiration) -> {
+          expirations.remove(new Expiration(expiration, id));
+          return null;
+        });
+  }
+
+  /** Expiration time of the workspace, ordered by time and then by workspace id. */
+  private static final class Expiration implements Comparable<Expiration> {
+    private final long time;
+    private final String workspaceId;
+
+    private Expiration(long time, String workspaceId) {
+      this.time = time;
+      this.workspaceId = workspaceId;
+    }
+
+    @Override
+    public int compareTo(Expiration that) {
+      final int result = Long.compare(time, that.time);
+      return result != 0 ? result : workspaceId.compareTo(that.workspaceId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Expiration)) {
+        return false;
+      }
+      final Expiration that = (Expiration) obj;
+      return time == that.time && Objects.equals(workspaceId, that.workspaceId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(time, workspaceId);
+    }
+  }
 }
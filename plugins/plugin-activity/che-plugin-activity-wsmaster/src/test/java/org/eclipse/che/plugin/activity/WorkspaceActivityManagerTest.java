@@ -10,7 +10,11 @@
  */
 package org.eclipse.che.plugin.activity;
 
+import static org.eclipse.che.activity.shared.Constants.ACTIVITY_CHECKER;
+import static org.eclipse.che.api.workspace.shared.Constants.WORKSPACE_STOPPED_BY;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -18,6 +22,7 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.lang.reflect.Field;
+import java.util.HashMap;
 import java.util.Map;
 import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.shared.model.Account;
@@ -133,6 +138,38 @@ public class WorkspaceActivityManagerTest {
     assertTrue(activeWorkspaces.isEmpty());
   }
 
+  @Test
+  public void shouldStopOnlyExpiredWorkspaces() throws Exception {
+    final Map<String, String> attributes = new HashMap<>();
+    when(workspace.getAttributes()).thenReturn(attributes);
+    final long now = System.currentTimeMillis();
+    activityManager.update("expired1", now - EXPIRE_PERIOD_MS - 1000);
+    activityManager.update("expired2", now - EXPIRE_PERIOD_MS - 1);
+    activityManager.update("active", now);
+
+    activityManager.invalidate();
+
+    verify(workspaceManager, timeout(1000)).stopWorkspace("expired1");
+    verify(workspaceManager, timeout(1000)).stopWorkspace("expired2");
+    verify(workspaceManager, never()).stopWorkspace("active");
+    assertEquals(attributes.get(WORKSPACE_STOPPED_BY), ACTIVITY_CHECKER);
+    final Map<String, Long> activeWorkspaces = getActiveWorkspaces(activityManager);
+    assertEquals(activeWorkspaces.size(), 1);
+    assertTrue(activeWorkspaces.containsKey("active"));
+  }
+
+  @Test
+  public void shouldNotStopWorkspaceWhichBecameActiveBeforeExpiration() throws Exception {
+    final long now = System.currentTimeMillis();
+    activityManager.update("testWsId", now - EXPIRE_PERIOD_MS - 1000);
+    activityManager.update("testWsId", now);
+
+    activityManager.invalidate();
+
+    verify(workspaceManager, never()).stopWorkspace(anyString());
+    assertTrue(getActiveWorkspaces(activityManager).containsKey("testWsId"));
+  }
+
   @SuppressWarnings("unchecked")
   private Map<String, Long> getActiveWorkspaces(WorkspaceActivityManager workspaceActivityManager)
       throws Exception {
@@ -27,6 +27,7 @@ import org.eclipse.che.api.debug.shared.dto.BreakpointDto;
 import org.eclipse.che.api.debug.shared.dto.DebugSessionDto;
 import org.eclipse.che.api.debug.shared.dto.LocationDto;
 import org.eclipse.che.api.debug.shared.dto.SimpleValueDto;
+import org.eclipse.che.api.debug.shared.dto.StackFrameDumpDto;
 import org.eclipse.che.api.debug.shared.dto.ThreadStateDto;
 import org.eclipse.che.api.debug.shared.dto.VariableDto;
 import org.eclipse.che.api.debug.shared.dto.VariablePathDto;
@@ -351,6 +352,24 @@ public abstract class AbstractDebugger implements Debugger, DebuggerObservable {
     return service.getThreadDump(debugSessionDto.getId());
   }
 
+  @Override
+  public Promise<List<ThreadStateDto>> getThreads() {
+    if (!isConnected()) {
+      return Promises.reject(JsPromiseError.create("Debugger is not connected"));
+    }
+
+    return service.getThreads(debugSessionDto.getId());
+  }
+
+  @Override
+  public Promise<List<StackFrameDumpDto>> getStackFrames(long threadId, int start, int count) {
+    if (!isConnected()) {
+      return Promises.reject(JsPromiseError.create("Debugger is not connected"));
+    }
+
+    return service.getStackFrames(debugSessionDto.getId(), threadId, start, count);
+  }
+
   @Override
   public Breakpoint createBreakpoint(VirtualFile file, int lineNumber) {
     return new BreakpointImpl(new LocationImpl(file.getLocation().toString(), lineNumber));
@@ -80,6 +80,13 @@ public class DebuggerPresenter extends BasePresenter
 
   private List<Variable> variables;
   private List<? extends ThreadState> threadDump;
+  /** Frames of the thread {@link #framesThreadId}, they are fetched when the thread is selected */
+  private List<? extends StackFrameDump> frames;
+
+  private long framesThreadId;
+  /** Index of the selected frame to open once frames of the selected thread are fetched */
+  private int frameIndexToOpen;
+
   private Location executionPoint;
   private DebuggerDescriptor debuggerDescriptor;
 
@@ -171,11 +178,10 @@ public class DebuggerPresenter extends BasePresenter
     long selectedThreadId = view.getSelectedThreadId();
     updateVariables(selectedThreadId, frameIndex);
 
-    for (ThreadState ts : threadDump) {
-      if (ts.getId() == selectedThreadId) {
-        StackFrameDump stackFrameDump = ts.getFrames().get(frameIndex);
-        open(stackFrameDump.getLocation());
-      }
+    if (selectedThreadId != framesThreadId) {
+      frameIndexToOpen = frameIndex;
+    } else if (frameIndex >= 0 && frameIndex < frames.size()) {
+      open(frames.get(frameIndex).getLocation());
     }
   }
 
@@ -213,7 +219,7 @@ public class DebuggerPresenter extends BasePresenter
     Debugger debugger = debuggerManager.getActiveDebugger();
     if (debugger != null && debugger.isSuspended()) {
       debugger
-          .getThreadDump()
+          .getThreads()
           .then(
               threadDump -> {
                 DebuggerPresenter.this.threadDump = threadDump;
@@ -231,9 +237,34 @@ public class DebuggerPresenter extends BasePresenter
   }
 
   protected void updateStackFrameDump(long threadId) {
+    Debugger debugger = debuggerManager.getActiveDebugger();
+    if (debugger == null || !debugger.isSuspended()) {
+      return;
+    }
+
     for (ThreadState ts : threadDump) {
       if (ts.getId() == threadId) {
-        view.setFrames(ts.getFrames());
+        debugger
+            .getStackFrames(threadId, 0, ts.getFramesCount())
+            .then(
+                stackFrames -> {
+                  if (threadId != view.getSelectedThreadId()
+                      && view.getSelectedThreadId() != -1) {
+                    return;
+                  }
+                  frames = stackFrames;
+                  framesThreadId = threadId;
+                  view.setFrames(stackFrames);
+
+                  if (frameIndexToOpen >= 0 && frameIndexToOpen < stackFrames.size()) {
+                    open(stackFrames.get(frameIndexToOpen).getLocation());
+                  }
+                  frameIndexToOpen = -1;
+                })
+            .catchError(
+                error -> {
+                  Log.error(DebuggerPresenter.class, error.getCause());
+                });
       }
     }
   }
@@ -352,6 +383,7 @@ public class DebuggerPresenter extends BasePresenter
     executionPoint = null;
     variables = new ArrayList<>();
     threadDump = new ArrayList<>();
+    resetFrames();
     view.setExecutionPoint(null);
     view.setThreadDump(emptyList(), -1);
     view.setFrames(emptyList());
@@ -361,6 +393,7 @@ public class DebuggerPresenter extends BasePresenter
   private void resetView() {
     variables = new ArrayList<>();
     threadDump = new ArrayList<>();
+    resetFrames();
     executionPoint = null;
     debuggerDescriptor = null;
     updateBreakpoints();
@@ -371,6 +404,12 @@ public class DebuggerPresenter extends BasePresenter
     view.setVariables(emptyList());
   }
 
+  private void resetFrames() {
+    frames = new ArrayList<>();
+    framesThreadId = -1;
+    frameIndexToOpen = -1;
+  }
+
   @Override
   public void onBreakpointStopped(String filePath, Location location) {
     executionPoint = location;
@@ -10,6 +10,7 @@
  */
 package org.eclipse.che.plugin.debugger.ide.debug;
 
+import static java.util.Collections.singletonList;
 import static org.eclipse.che.ide.api.notification.StatusNotification.DisplayMode.NOT_EMERGE_MODE;
 import static org.eclipse.che.ide.api.notification.StatusNotification.Status.SUCCESS;
 import static org.mockito.Matchers.any;
@@ -19,12 +20,14 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import org.eclipse.che.api.debug.shared.dto.SimpleValueDto;
+import org.eclipse.che.api.debug.shared.dto.StackFrameDumpDto;
 import org.eclipse.che.api.debug.shared.model.Location;
 import org.eclipse.che.api.debug.shared.model.MutableVariable;
 import org.eclipse.che.api.debug.shared.model.StackFrameDump;
@@ -77,11 +80,13 @@ public class DebuggerPresenterTest extends BaseTest {
   @Mock private Promise<SimpleValueDto> promiseValue;
   @Mock private Promise<List<ThreadState>> promiseThreadDump;
   @Mock private Promise<StackFrameDump> promiseStackFrame;
+  @Mock private Promise<List<StackFrameDumpDto>> promiseStackFrames;
   @Mock private Promise<Void> promiseVoid;
 
   @Captor private ArgumentCaptor<Operation<Void>> operationVoidCaptor;
   @Captor private ArgumentCaptor<Operation<List<ThreadState>>> operationThreadDumpCaptor;
   @Captor private ArgumentCaptor<Operation<StackFrameDump>> operationStackFrameCaptor;
+  @Captor private ArgumentCaptor<Operation<List<StackFrameDumpDto>>> operationStackFramesCaptor;
   @Captor private ArgumentCaptor<Operation<SimpleValueDto>> operationValueCaptor;
 
   private DebuggerPresenter presenter;
@@ -153,7 +158,7 @@ public class DebuggerPresenterTest extends BaseTest {
   public void whenDebuggerStoppedThenPresenterShouldUpdateFramesAndVariables() throws Exception {
     Location executionPoint = mock(Location.class);
     doReturn(THREAD_ID).when(executionPoint).getThreadId();
-    doReturn(promiseThreadDump).when(debugger).getThreadDump();
+    doReturn(promiseThreadDump).when(debugger).getThreads();
     doReturn(promiseThreadDump).when(promiseThreadDump).then((Operation<List<ThreadState>>) any());
     doNothing().when(presenter).updateStackFrameDump(THREAD_ID);
     doNothing().when(presenter).updateVariables(THREAD_ID, 0);
@@ -167,6 +172,32 @@ public class DebuggerPresenterTest extends BaseTest {
     verify(view).setThreadDump(eq(threadDump), anyInt());
   }
 
+  @Test
+  public void shouldFetchFramesOfStoppedThreadOnly() throws Exception {
+    Location executionPoint = mock(Location.class);
+    doReturn(THREAD_ID).when(executionPoint).getThreadId();
+    ThreadState thread = mock(ThreadState.class);
+    doReturn(THREAD_ID).when(thread).getId();
+    doReturn(3).when(thread).getFramesCount();
+    doReturn(promiseThreadDump).when(debugger).getThreads();
+    doReturn(promiseThreadDump).when(promiseThreadDump).then((Operation<List<ThreadState>>) any());
+    doReturn(promiseStackFrames).when(debugger).getStackFrames(THREAD_ID, 0, 3);
+    doReturn(promiseStackFrames)
+        .when(promiseStackFrames)
+        .then((Operation<List<StackFrameDumpDto>>) any());
+    doNothing().when(presenter).updateVariables(THREAD_ID, 0);
+
+    presenter.onBreakpointStopped(null, executionPoint);
+    verify(promiseThreadDump).then(operationThreadDumpCaptor.capture());
+    operationThreadDumpCaptor.getValue().apply(singletonList(thread));
+
+    verify(debugger, never()).getThreadDump();
+    verify(promiseStackFrames).then(operationStackFramesCaptor.capture());
+    List<StackFrameDumpDto> frames = singletonList(mock(StackFrameDumpDto.class));
+    operationStackFramesCaptor.getValue().apply(frames);
+    verify(view).setFrames(frames);
+  }
+
   @Test
   public void updateVariablesShouldUpdateView() throws Exception {
     doReturn(promiseStackFrame).when(debugger).getStackFrameDump(THREAD_ID, FRAME_INDEX);
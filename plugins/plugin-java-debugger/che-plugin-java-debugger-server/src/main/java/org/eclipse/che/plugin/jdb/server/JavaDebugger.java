@@ -64,6 +64,7 @@ import org.eclipse.che.api.debug.shared.model.action.StepOutAction;
 import org.eclipse.che.api.debug.shared.model.action.StepOverAction;
 import org.eclipse.che.api.debug.shared.model.impl.BreakpointImpl;
 import org.eclipse.che.api.debug.shared.model.impl.DebuggerInfoImpl;
+import org.eclipse.che.api.debug.shared.model.impl.LocationImpl;
 import org.eclipse.che.api.debug.shared.model.impl.ThreadStateImpl;
 import org.eclipse.che.api.debug.shared.model.impl.event.BreakpointActivatedEventImpl;
 import org.eclipse.che.api.debug.shared.model.impl.event.DisconnectEventImpl;
@@ -119,6 +120,12 @@ public class JavaDebugger implements EventsHandler, Debugger {
   private JdbStackFrame stackFrame;
   /** Lock for synchronization debug processes. */
   private Lock lock = new ReentrantLock();
+  /**
+   * Source locations of the types found since the target VM was suspended, keyed by fully qualified
+   * name of the type. Lets thread dumps search the Java model once per type instead of once per
+   * stack frame.
+   */
+  private final Map<String, Location> typeLocations = new ConcurrentHashMap<>();
 
   /**
    * Create debugger and connect it to the JVM which already running at the specified host and port.
@@ -378,8 +385,8 @@ public class JavaDebugger implements EventsHandler, Debugger {
       List<JdbStackFrame> frames = new LinkedList<>();
       try {
         for (StackFrame f : t.frames()) {
-          frames.add(
-              new JdbStackFrame(f, emptyList(), emptyList(), new JdbLocation(f, new JdbMethod(f))));
+          JdbLocation location = new JdbLocation(f, new JdbMethod(f), getLocation(f.location()));
+          frames.add(new JdbStackFrame(f, emptyList(), emptyList(), location));
         }
       } catch (IncompatibleThreadStateException ignored) {
         // Thread isn't suspended. Information isn't available.
@@ -397,6 +404,59 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     return threadStates;
   }
+
+  @Override
+  public List<ThreadState> getThreads() throws DebuggerException {
+    List<ThreadState> threadStates = new LinkedList<>();
+
+    for (ThreadReference t : vm.allThreads()) {
+      int framesCount = 0;
+      try {
+        framesCount = t.frameCount();
+      } catch (IncompatibleThreadStateException ignored) {
+        // Thread isn't suspended. Information isn't available.
+      }
+
+      threadStates.add(
+          new ThreadStateImpl(
+              t.uniqueID(),
+              t.name(),
+              t.threadGroup().name(),
+              toThreadStatus(t.status()),
+              t.isSuspended(),
+              framesCount,
+              emptyList()));
+    }
+
+    return threadStates;
+  }
+
+  @Override
+  public List<JdbStackFrame> getStackFrames(long threadId, int start, int count)
+      throws DebuggerException {
+    for (ThreadReference t : vm.allThreads()) {
+      if (t.uniqueID() != threadId) {
+        continue;
+      }
+
+      List<JdbStackFrame> frames = new LinkedList<>();
+      try {
+        int framesCount = t.frameCount();
+        int from = Math.min(start, framesCount);
+        int length = (int) Math.min((long) count, framesCount - from);
+        for (StackFrame f : t.frames(from, length)) {
+          JdbLocation location = new JdbLocation(f, new JdbMethod(f), getLocation(f.location()));
+          frames.add(new JdbStackFrame(f, emptyList(), emptyList(), location));
+        }
+      } catch (IncompatibleThreadStateException ignored) {
+        // Thread isn't suspended. Information isn't available.
+      }
+      return frames;
+    }
+
+    throw new DebuggerException(format("Thread '%d' not found.", threadId));
+  }
+
   /**
    * Get value of variable with specified path. Each item in path is name of variable.
    *
@@ -700,6 +760,28 @@ public class JavaDebugger implements EventsHandler, Debugger {
     }
   }
 
+  /** Returns source location of the JVM location, type of the location is searched once. */
+  private Location getLocation(com.sun.jdi.Location jdiLocation) {
+    Location typeLocation =
+        typeLocations.computeIfAbsent(
+            jdiLocation.declaringType().name(),
+            fqn -> {
+              try {
+                return debuggerUtil.getLocation(jdiLocation);
+              } catch (DebuggerException e) {
+                return new LocationImpl(fqn, -1);
+              }
+            });
+    return new LocationImpl(
+        typeLocation.getTarget(),
+        jdiLocation.lineNumber(),
+        typeLocation.isExternalResource(),
+        typeLocation.getExternalResourceId(),
+        typeLocation.getResourceProjectPath(),
+        null,
+        -1);
+  }
+
   private StackFrame getJdiStackFrame(long threadId, int frameIndex) throws DebuggerException {
     try {
       for (ThreadReference t : vm.allThreads()) {
@@ -738,6 +820,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
   }
 
   private void setCurrentThread(ThreadReference t) {
+    typeLocations.clear();
     stackFrame = null;
     thread = t;
   }
@@ -747,6 +830,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
   }
 
   private void invalidateCurrentThread() {
+    typeLocations.clear();
     this.thread = null;
     invalidateCurrentFrame();
   }
@@ -44,8 +44,13 @@ public class JdbLocation implements Location {
   }
 
   public JdbLocation(StackFrame jdiStackFrame, Method method) {
+    this(jdiStackFrame, method, getLocation(jdiStackFrame.location()));
+  }
+
+  /** Intends to create location of the frame whose source location is already found. */
+  public JdbLocation(StackFrame jdiStackFrame, Method method, Location internal) {
     this.jdiStackFrame = jdiStackFrame;
-    this.internal = getLocation(jdiStackFrame.location());
+    this.internal = internal;
     this.method = method;
   }
 
@@ -84,7 +89,7 @@ public class JdbLocation implements Location {
     return jdiStackFrame == null ? -1 : jdiStackFrame.thread().uniqueID();
   }
 
-  private Location getLocation(com.sun.jdi.Location jdiLocation) {
+  private static Location getLocation(com.sun.jdi.Location jdiLocation) {
     try {
       return debuggerUtil.getLocation(jdiLocation);
     } catch (DebuggerException e) {
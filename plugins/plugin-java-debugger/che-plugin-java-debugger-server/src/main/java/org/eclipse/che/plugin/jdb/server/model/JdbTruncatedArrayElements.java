@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.jdb.server.model;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import org.eclipse.che.api.debug.shared.model.SimpleValue;
+import org.eclipse.che.api.debug.shared.model.Variable;
+import org.eclipse.che.api.debug.shared.model.VariablePath;
+import org.eclipse.che.api.debug.shared.model.impl.VariablePathImpl;
+
+/**
+ * Marks the array elements which are not fetched from the debuggee because the array is too large,
+ * so that the real length of the array is visible.
+ */
+public class JdbTruncatedArrayElements implements Variable {
+  private final String name;
+  private final SimpleValue value;
+  private final VariablePath parentPath;
+
+  public JdbTruncatedArrayElements(int fetched, int length, VariablePath parentPath) {
+    this.name = "[" + fetched + ".." + (length - 1) + "]";
+    this.parentPath = parentPath;
+    this.value = new TruncatedValue((length - fetched) + " more of " + length + " elements");
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public SimpleValue getValue() {
+    return value;
+  }
+
+  @Override
+  public String getType() {
+    return "";
+  }
+
+  @Override
+  public VariablePath getVariablePath() {
+    List<String> pathEntries = new LinkedList<>(parentPath.getPath());
+    pathEntries.add(getName());
+    return new VariablePathImpl(pathEntries);
+  }
+
+  private static class TruncatedValue implements SimpleValue {
+    private final String string;
+
+    private TruncatedValue(String string) {
+      this.string = string;
+    }
+
+    @Override
+    public String getString() {
+      return string;
+    }
+
+    @Override
+    public List<Variable> getVariables() {
+      return Collections.emptyList();
+    }
+  }
+}
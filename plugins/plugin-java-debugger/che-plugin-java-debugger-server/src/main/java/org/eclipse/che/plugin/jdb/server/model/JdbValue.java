@@ -14,8 +14,8 @@ import com.sun.jdi.ArrayReference;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.PrimitiveValue;
 import com.sun.jdi.Value;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -29,6 +29,12 @@ import org.eclipse.che.api.debug.shared.model.VariablePath;
  * @author Anatolii Bazko
  */
 public class JdbValue implements SimpleValue {
+  /**
+   * Maximum count of array elements to be shown, elements of big arrays aren't fetched from target
+   * VM all at once.
+   */
+  static final int MAX_ARRAY_ELEMENTS = 1000;
+
   private final Value jdiValue;
   private final AtomicReference<List<Variable>> variables;
   private final VariablePath variablePath;
@@ -52,12 +58,18 @@ public class JdbValue implements SimpleValue {
           if (isPrimitive()) {
             variables.set(Collections.emptyList());
           } else if (isArray()) {
-            variables.set(new LinkedList<>());
-
             ArrayReference array = (ArrayReference) jdiValue;
-            for (int i = 0; i < array.length(); i++) {
-              variables.get().add(new JdbArrayElement(array.getValue(i), i, variablePath));
+            // fetch all the elements with a single request instead of a request per element
+            int length = array.length();
+            List<Value> values = array.getValues(0, Math.min(length, MAX_ARRAY_ELEMENTS));
+            List<Variable> elements = new ArrayList<>(values.size() + 1);
+            for (int i = 0; i < values.size(); i++) {
+              elements.add(new JdbArrayElement(values.get(i), i, variablePath));
+            }
+            if (values.size() < length) {
+              elements.add(new JdbTruncatedArrayElements(values.size(), length, variablePath));
             }
+            variables.set(elements);
           } else {
             ObjectReference object = (ObjectReference) jdiValue;
             variables.set(
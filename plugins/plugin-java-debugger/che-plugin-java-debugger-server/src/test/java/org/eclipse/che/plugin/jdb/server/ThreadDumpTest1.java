@@ -80,6 +80,31 @@ public class ThreadDumpTest1 {
     validateFinalizerThreadDump(threads);
   }
 
+  @Test
+  public void shouldGetThreadsWithFramesCountAndFetchFramesByRange() throws Exception {
+    Optional<ThreadState> finalizerThread =
+        debugger.getThreads().stream().filter(t -> t.getName().equals("Finalizer")).findAny();
+    assertTrue(finalizerThread.isPresent());
+
+    ThreadState threadState = finalizerThread.get();
+    assertTrue(threadState.getFrames().isEmpty());
+    assertEquals(threadState.getFramesCount(), 4);
+
+    List<? extends StackFrameDump> allFrames =
+        debugger.getStackFrames(threadState.getId(), 0, Integer.MAX_VALUE);
+    assertEquals(allFrames.size(), 4);
+    assertEquals(allFrames.get(0).getLocation().getMethod().getName(), "wait");
+
+    List<? extends StackFrameDump> frames = debugger.getStackFrames(threadState.getId(), 1, 2);
+    assertEquals(frames.size(), 2);
+    Location location = frames.get(0).getLocation();
+    assertEquals(location.getTarget(), allFrames.get(1).getLocation().getTarget());
+    assertEquals(location.getLineNumber(), allFrames.get(1).getLocation().getLineNumber());
+    assertTrue(frames.get(0).getVariables().isEmpty());
+
+    assertTrue(debugger.getStackFrames(threadState.getId(), 4, 10).isEmpty());
+  }
+
   private void validateMainThreadDump(List<ThreadStateDto> threads) {
     Optional<ThreadStateDto> mainThread =
         threads.stream().filter(t -> t.getName().equals("main")).findAny();
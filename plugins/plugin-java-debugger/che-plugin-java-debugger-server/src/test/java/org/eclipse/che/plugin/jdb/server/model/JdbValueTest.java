@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.jdb.server.model;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.plugin.jdb.server.model.JdbValue.MAX_ARRAY_ELEMENTS;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.IntegerValue;
+import com.sun.jdi.Type;
+import java.util.List;
+import org.eclipse.che.api.debug.shared.model.Variable;
+import org.eclipse.che.api.debug.shared.model.impl.VariablePathImpl;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class JdbValueTest {
+
+  @Mock private ArrayReference array;
+  @Mock private IntegerValue element;
+  @Mock private Type elementType;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    when(element.type()).thenReturn(elementType);
+    when(elementType.name()).thenReturn("int");
+  }
+
+  @Test
+  public void shouldReturnAllElementsOfSmallArray() throws Exception {
+    when(array.length()).thenReturn(3);
+    when(array.getValues(0, 3)).thenReturn(nCopies(3, element));
+
+    List<Variable> variables =
+        new JdbValue(array, new VariablePathImpl(singletonList("arr"))).getVariables();
+
+    assertEquals(variables.size(), 3);
+    assertEquals(variables.get(2).getName(), "[2]");
+    assertEquals(variables.get(2).getVariablePath().getPath(), asList("arr", "[2]"));
+  }
+
+  @Test
+  public void shouldMarkElementsOfBigArrayWhichAreNotFetched() throws Exception {
+    int length = MAX_ARRAY_ELEMENTS + 500;
+    when(array.length()).thenReturn(length);
+    when(array.getValues(0, MAX_ARRAY_ELEMENTS)).thenReturn(nCopies(MAX_ARRAY_ELEMENTS, element));
+
+    List<Variable> variables =
+        new JdbValue(array, new VariablePathImpl(singletonList("arr"))).getVariables();
+
+    verify(array).getValues(0, MAX_ARRAY_ELEMENTS);
+    assertEquals(variables.size(), MAX_ARRAY_ELEMENTS + 1);
+    assertEquals(
+        variables.get(MAX_ARRAY_ELEMENTS - 1).getName(), "[" + (MAX_ARRAY_ELEMENTS - 1) + "]");
+    Variable truncated = variables.get(MAX_ARRAY_ELEMENTS);
+    assertEquals(truncated.getName(), "[" + MAX_ARRAY_ELEMENTS + ".." + (length - 1) + "]");
+    assertEquals(truncated.getValue().getString(), "500 more of " + length + " elements");
+    assertTrue(truncated.isPrimitive());
+    assertTrue(truncated.getValue().getVariables().isEmpty());
+  }
+}
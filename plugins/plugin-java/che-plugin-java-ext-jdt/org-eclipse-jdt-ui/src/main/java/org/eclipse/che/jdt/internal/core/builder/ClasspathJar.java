@@ -33,6 +33,7 @@ public class ClasspathJar extends CodenvyClasspathLocation {
   //    static SimpleLookupTable PackageCache = new SimpleLookupTable();
   String zipFilename; // keep for equals
   IFile resource;
+  // set only when the zip file is given by the client, otherwise the jar is read from the pool
   ZipFile zipFile;
   long lastModified;
   boolean closeZipFileAtEnd;
@@ -76,18 +77,16 @@ public class ClasspathJar extends CodenvyClasspathLocation {
   }
 
   /**
-   * Calculate and cache the package list available in the zipFile.
+   * Calculate the package list available in the zipFile.
    *
-   * @param jar The ClasspathJar to use
+   * @param zipFile The zip file to use
    * @return A SimpleSet with the all the package names in the zipFile.
    */
-  static SimpleSet findPackageSet(ClasspathJar jar) {
-    String zipFileName = jar.zipFilename;
-
+  static SimpleSet findPackageSet(ZipFile zipFile) {
     SimpleSet packageSet = new SimpleSet(41);
     packageSet.add(""); //$NON-NLS-1$
     nextEntry:
-    for (Enumeration e = jar.zipFile.entries(); e.hasMoreElements(); ) {
+    for (Enumeration e = zipFile.entries(); e.hasMoreElements(); ) {
       String fileName = ((ZipEntry) e.nextElement()).getName();
 
       // add the package name & all of its parent packages
@@ -167,8 +166,14 @@ public class ClasspathJar extends CodenvyClasspathLocation {
       String binaryFileName, String qualifiedPackageName, String qualifiedBinaryFileName) {
     if (!isPackage(qualifiedPackageName)) return null; // most common case
 
+    JarHandlePool.Handle handle = null;
     try {
-      ClassFileReader reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+      ZipFile zipFile = this.zipFile;
+      if (zipFile == null) {
+        handle = JarHandlePool.getInstance().acquire(this.zipFilename, lastModified());
+        zipFile = handle.getZipFile();
+      }
+      ClassFileReader reader = ClassFileReader.read(zipFile, qualifiedBinaryFileName);
       if (reader != null) {
         if (this.accessRuleSet == null) return new NameEnvironmentAnswer(reader, null);
         String fileNameWithoutExtension =
@@ -179,6 +184,8 @@ public class ClasspathJar extends CodenvyClasspathLocation {
             this.accessRuleSet.getViolatedRestriction(fileNameWithoutExtension.toCharArray()));
       }
     } catch (IOException | ClassFormatException e) { // treat as if class file is missing
+    } finally {
+      if (handle != null) JarHandlePool.getInstance().release(handle);
     }
     return null;
   }
@@ -204,13 +211,12 @@ public class ClasspathJar extends CodenvyClasspathLocation {
           System.out.println(
               "("
                   + Thread.currentThread()
-                  + ") [ClasspathJar.isPackage(String)] Creating ZipFile on "
+                  + ") [ClasspathJar.isPackage(String)] Reading packages of "
                   + this.zipFilename); //$NON-NLS-1$	//$NON-NLS-2$
         }
-        this.zipFile = new ZipFile(this.zipFilename);
-        this.closeZipFileAtEnd = true;
+        return JarHandlePool.getInstance().getPackages(this.zipFilename, lastModified());
       }
-      return findPackageSet(this);
+      return findPackageSet(this.zipFile);
     } catch (Exception e) {
       return new SimpleSet(); // assume for this build the zipFile is empty
     }
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.jdt.internal.core.builder;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.ZipFile;
+import org.eclipse.jdt.internal.compiler.util.SimpleSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of JAR files shared by all the {@link ClasspathJar}s of all the projects.
+ *
+ * <p>The same JAR, e.g. a Maven dependency, is usually on the classpath of many projects, so the
+ * pool keeps a single {@link ZipFile} and a single package set per JAR. Least recently used JARs
+ * are closed when more than {@value #MAX_OPEN_PROPERTY} JARs are open or when the open JARs have
+ * more than {@value #MAX_OPEN_ENTRIES_PROPERTY} entries in total, as the memory used by a JAR
+ * grows with the count of its entries. Closed JARs are opened again on demand. A JAR in use is
+ * closed only when it's released.
+ *
+ * <p>JARs and package sets are identified by the JAR path and modification time, so a changed JAR
+ * is never read through a stale handle. Handles and package sets of the previous versions of a JAR
+ * are dropped once the changed JAR is requested, a stale handle in use is closed when it's
+ * released.
+ */
+public class JarHandlePool {
+  static final String MAX_OPEN_PROPERTY = "che.jdt.jar.pool.max_open";
+  static final String MAX_OPEN_ENTRIES_PROPERTY = "che.jdt.jar.pool.max_open_entries";
+  static final String MAX_PACKAGE_SETS_PROPERTY = "che.jdt.jar.pool.max_package_sets";
+
+  private static final Logger LOG = LoggerFactory.getLogger(JarHandlePool.class);
+
+  private static final JarHandlePool INSTANCE =
+      new JarHandlePool(
+          Integer.getInteger(MAX_OPEN_PROPERTY, 256),
+          Integer.getInteger(MAX_OPEN_ENTRIES_PROPERTY, 1_000_000),
+          Integer.getInteger(MAX_PACKAGE_SETS_PROPERTY, 4096));
+
+  private final int maxOpen;
+  private final int maxOpenEntries;
+  /** Open JARs in access order */
+  private final LinkedHashMap<Key, Handle> handles = new LinkedHashMap<>(64, 0.75f, true);
+  /** Package sets in access order */
+  private final LinkedHashMap<Key, SimpleSet> packageSets;
+
+  private int openEntries;
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long packageSetHits;
+  private long packageSetMisses;
+
+  JarHandlePool(int maxOpen, int maxOpenEntries, int maxPackageSets) {
+    this.maxOpen = maxOpen;
+    this.maxOpenEntries = maxOpenEntries;
+    this.packageSets =
+        new LinkedHashMap<Key, SimpleSet>(64, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, SimpleSet> eldest) {
+            return size() > maxPackageSets;
+          }
+        };
+  }
+
+  public static JarHandlePool getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the open JAR at the given path, opens it if it isn't open yet. The returned handle must
+   * be {@link #release(Handle) released} once the JAR is read.
+   *
+   * @param path path of the JAR file
+   * @param lastModified modification time of the JAR file known to the caller
+   * @throws IOException if the JAR can't be opened
+   */
+  public Handle acquire(String path, long lastModified) throws IOException {
+    Key key = new Key(path, lastModified);
+    synchronized (this) {
+      Handle handle = handles.get(key);
+      if (handle != null) {
+        hits++;
+        handle.references++;
+        return handle;
+      }
+      misses++;
+    }
+    // opening reads the central directory of the JAR, so it's done without holding the lock
+    Handle opened = new Handle(new ZipFile(path));
+    Handle handle;
+    synchronized (this) {
+      handle = handles.get(key);
+      if (handle == null) {
+        removeStale(key);
+        handle = opened;
+        handles.put(key, handle);
+        openEntries += handle.entries;
+        evict();
+      }
+      handle.references++;
+    }
+    if (handle != opened) {
+      // the same JAR was opened concurrently
+      opened.close();
+    }
+    return handle;
+  }
+
+  /** Releases the JAR acquired with {@link #acquire(String, long)}. */
+  public synchronized void release(Handle handle) {
+    handle.references--;
+    if (handle.retired && handle.references == 0) {
+      handle.close();
+    }
+  }
+
+  /**
+   * Returns names of the packages of the JAR at the given path, the package names are read once
+   * and shared by all the callers.
+   *
+   * @param path path of the JAR file
+   * @param lastModified modification time of the JAR file known to the caller
+   * @throws IOException if the JAR can't be opened
+   */
+  public SimpleSet getPackages(String path, long lastModified) throws IOException {
+    Key key = new Key(path, lastModified);
+    synchronized (this) {
+      SimpleSet packages = packageSets.get(key);
+      if (packages != null) {
+        packageSetHits++;
+        return packages;
+      }
+      packageSetMisses++;
+    }
+    Handle handle = acquire(path, lastModified);
+    SimpleSet packages;
+    try {
+      packages = ClasspathJar.findPackageSet(handle.getZipFile());
+    } finally {
+      release(handle);
+    }
+    synchronized (this) {
+      packageSets.put(key, packages);
+    }
+    return packages;
+  }
+
+  /** Returns count of the open JAR files. */
+  public synchronized int getOpenCount() {
+    return handles.size();
+  }
+
+  /** Returns total count of entries of the open JAR files. */
+  public synchronized int getOpenEntries() {
+    return openEntries;
+  }
+
+  /** Returns count of JARs closed to stay within the limits. */
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  /** Returns the share of requests served by an already open JAR, from 0 to 1. */
+  public synchronized double getHitRate() {
+    return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+  }
+
+  /** Returns the share of package set requests served from the cache, from 0 to 1. */
+  public synchronized double getPackageSetHitRate() {
+    long requests = packageSetHits + packageSetMisses;
+    return requests == 0 ? 0 : (double) packageSetHits / requests;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format(
+        "JarHandlePool{open=%d, openEntries=%d, evictions=%d, hitRate=%.2f, packageSets=%d, "
+            + "packageSetHitRate=%.2f}",
+        handles.size(),
+        openEntries,
+        evictions,
+        getHitRate(),
+        packageSets.size(),
+        getPackageSetHitRate());
+  }
+
+  private void evict() {
+    Iterator<Handle> it = handles.values().iterator();
+    // the most recently opened JAR is always kept
+    while ((handles.size() > maxOpen || openEntries > maxOpenEntries) && handles.size() > 1) {
+      Handle eldest = it.next();
+      it.remove();
+      evictions++;
+      retire(eldest);
+    }
+    if (LOG.isDebugEnabled() && evictions > 0) {
+      LOG.debug("{}", this);
+    }
+  }
+
+  /** Drops handles and package sets of the other versions of the JAR with the given key. */
+  private void removeStale(Key key) {
+    Iterator<Map.Entry<Key, Handle>> it = handles.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Key, Handle> entry = it.next();
+      if (entry.getKey().isStaleFor(key)) {
+        it.remove();
+        retire(entry.getValue());
+      }
+    }
+    packageSets.keySet().removeIf(other -> other.isStaleFor(key));
+  }
+
+  /** Closes the handle removed from the pool or marks it to be closed once it's released. */
+  private void retire(Handle handle) {
+    openEntries -= handle.entries;
+    handle.retired = true;
+    if (handle.references == 0) {
+      handle.close();
+    }
+  }
+
+  /** Open JAR file. */
+  public static final class Handle {
+    private final ZipFile zipFile;
+    private final int entries;
+
+    private int references;
+    private boolean retired;
+
+    private Handle(ZipFile zipFile) {
+      this.zipFile = zipFile;
+      this.entries = zipFile.size();
+    }
+
+    public ZipFile getZipFile() {
+      return zipFile;
+    }
+
+    private void close() {
+      try {
+        zipFile.close();
+      } catch (IOException e) {
+        LOG.warn("Can't close {}. Cause: {}", zipFile.getName(), e.getMessage());
+      }
+    }
+  }
+
+  private static final class Key {
+    private final String path;
+    private final long lastModified;
+
+    private Key(String path, long lastModified) {
+      this.path = path;
+      this.lastModified = lastModified;
+    }
+
+    /** Tells whether this key identifies another version of the JAR identified by the given key. */
+    private boolean isStaleFor(Key key) {
+      return lastModified != key.lastModified && path.equals(key.path);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return lastModified == other.lastModified && path.equals(other.path);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, lastModified);
+    }
+  }
+}
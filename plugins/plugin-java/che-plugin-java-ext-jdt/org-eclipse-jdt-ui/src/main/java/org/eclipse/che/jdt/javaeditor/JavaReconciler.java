@@ -17,10 +17,14 @@ import static org.eclipse.che.jdt.javaeditor.JavaReconciler.Mode.ACTIVATED;
 import static org.eclipse.che.jdt.javaeditor.JavaReconciler.Mode.DEACTIVATED;
 import static org.eclipse.jdt.core.IJavaElement.COMPILATION_UNIT;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import javax.annotation.PreDestroy;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
@@ -43,6 +47,8 @@ import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IClasspathEntry;
@@ -59,6 +65,8 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.ASTProvider;
 import org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
@@ -75,14 +83,26 @@ public class JavaReconciler {
   private static final JavaModel JAVA_MODEL = JavaModelManager.getJavaModelManager().getJavaModel();
   private static final String RECONCILE_ERROR_METHOD = "event:java-reconcile-error";
   private static final String RECONCILE_STATE_CHANGED_METHOD = "event:java-reconcile-state-changed";
+  /** Delay of reconcile after an editor change, every following change postpones the reconcile */
+  private static final long RECONCILE_DELAY_MS = 300;
+  private static final int RECONCILE_FLAGS =
+      ICompilationUnit.FORCE_PROBLEM_DETECTION
+          | ICompilationUnit.ENABLE_STATEMENTS_RECOVERY
+          | ICompilationUnit.ENABLE_BINDINGS_RECOVERY;
 
   private final List<EventSubscriber> subscribers = new ArrayList<>(2);
+  /**
+   * Last reconciled working copy of every tracked file by the file path. The working copy is kept
+   * open while its AST is shared through {@link ASTProvider} with code assist and navigation.
+   */
+  private final Map<String, ICompilationUnit> reconciledWorkingCopies = new ConcurrentHashMap<>();
 
   private final EventService eventService;
   private final RequestTransmitter transmitter;
   private final ProjectManager projectManager;
   private final EditorWorkingCopyManager editorWorkingCopyManager;
   private final SemanticHighlightingReconciler semanticHighlighting;
+  private final ReconcileScheduler scheduler;
 
   private Mode mode = ACTIVATED;
 
@@ -98,6 +118,13 @@ public class JavaReconciler {
     this.transmitter = transmitter;
     this.projectManager = projectManager;
     this.editorWorkingCopyManager = editorWorkingCopyManager;
+    this.scheduler =
+        new ReconcileScheduler(
+            Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                    .setNameFormat("JavaReconciler-%d")
+                    .setDaemon(true)
+                    .build()));
 
     EventSubscriber<FileTrackingOperationEvent> fileOperationEventSubscriber =
         new EventSubscriber<FileTrackingOperationEvent>() {
@@ -123,36 +150,62 @@ public class JavaReconciler {
   @PreDestroy
   private void unsubscribe() {
     subscribers.forEach(eventService::unsubscribe);
+    scheduler.shutdown();
+    reconciledWorkingCopies.values().forEach(this::discardWorkingCopy);
+    reconciledWorkingCopies.clear();
   }
 
   public ReconcileResult reconcile(IJavaProject javaProject, String fqn) throws JavaModelException {
     IType type = getType(fqn, javaProject);
     ICompilationUnit compilationUnit = type.getCompilationUnit();
 
-    return reconcile(compilationUnit, javaProject);
+    return reconcile(compilationUnit, javaProject, null);
   }
 
-  private ReconcileResult reconcile(ICompilationUnit compilationUnit, IJavaProject javaProject)
+  /**
+   * Reconciles the compilation unit.
+   *
+   * @return result of reconcile or {@code null} if reconcile was canceled by the monitor
+   */
+  @Nullable
+  private ReconcileResult reconcile(
+      ICompilationUnit compilationUnit,
+      IJavaProject javaProject,
+      @Nullable IProgressMonitor monitor)
       throws JavaModelException {
     ICompilationUnit workingCopy = null;
+    boolean reconciled = false;
     List<HighlightedPosition> positions;
     String filePath = compilationUnit.getPath().toString();
 
     final ProblemRequestor problemRequestor = new ProblemRequestor();
     final WorkingCopyOwner wcOwner = createWorkingCopyOwner(problemRequestor);
+    final ASTProvider astProvider = JavaPlugin.getDefault().getASTProvider();
 
     try {
-      workingCopy = compilationUnit.getWorkingCopy(wcOwner, null);
+      workingCopy = compilationUnit.getWorkingCopy(wcOwner, monitor);
       synchronizeWorkingCopyContent(filePath, workingCopy);
       problemRequestor.reset();
 
-      CompilationUnit unit = workingCopy.reconcile(AST.JLS8, true, wcOwner, null);
-      positions = semanticHighlighting.reconcileSemanticHighlight(unit);
+      astProvider.aboutToBeReconciled(workingCopy);
+      CompilationUnit unit = null;
+      try {
+        unit = workingCopy.reconcile(AST.JLS8, RECONCILE_FLAGS, wcOwner, monitor);
+        if (monitor != null && monitor.isCanceled()) {
+          return null;
+        }
+        positions = semanticHighlighting.reconcileSemanticHighlight(unit);
+      } finally {
+        astProvider.reconciled(unit, workingCopy, monitor);
+      }
 
       if (workingCopy instanceof ClassFileWorkingCopy) {
         //we don't wont to show any errors from ".class" files
         problemRequestor.reset();
       }
+      reconciled = true;
+    } catch (OperationCanceledException e) {
+      return null;
     } catch (JavaModelException e) {
       LOG.error(
           format(
@@ -161,13 +214,10 @@ public class JavaReconciler {
           e);
       throw e;
     } finally {
-      if (workingCopy != null && workingCopy.isWorkingCopy()) {
-        try {
-          workingCopy.getBuffer().close();
-          workingCopy.discardWorkingCopy();
-        } catch (JavaModelException e) {
-          //ignore
-        }
+      if (reconciled) {
+        discardWorkingCopy(reconciledWorkingCopies.put(filePath, workingCopy));
+      } else {
+        discardWorkingCopy(workingCopy);
       }
     }
 
@@ -179,6 +229,17 @@ public class JavaReconciler {
         .withHighlightedPositions(positions);
   }
 
+  private void discardWorkingCopy(@Nullable ICompilationUnit workingCopy) {
+    if (workingCopy != null && workingCopy.isWorkingCopy()) {
+      try {
+        workingCopy.getBuffer().close();
+        workingCopy.discardWorkingCopy();
+      } catch (JavaModelException e) {
+        //ignore
+      }
+    }
+  }
+
   private void synchronizeWorkingCopyContent(String filePath, ICompilationUnit workingCopy)
       throws JavaModelException {
     EditorWorkingCopy editorWorkingCopy = editorWorkingCopyManager.getWorkingCopy(filePath);
@@ -203,7 +264,20 @@ public class JavaReconciler {
     String filePath = editorChanges.getFileLocation();
     String projectPath = editorChanges.getProjectPath();
 
-    reconcileAndTransmit(filePath, projectPath, endpointId);
+    scheduleReconcile(filePath, projectPath, endpointId, RECONCILE_DELAY_MS);
+  }
+
+  /**
+   * Schedules reconcile of the file and transmitting of its result to the endpoint. Reconcile of
+   * the same file for the same endpoint which is scheduled or running is canceled, as its result
+   * would be outdated.
+   */
+  private void scheduleReconcile(
+      String filePath, String projectPath, String endpointId, long delayMs) {
+    scheduler.schedule(
+        endpointId + '@' + filePath,
+        delayMs,
+        monitor -> reconcileAndTransmit(filePath, projectPath, endpointId, monitor));
   }
 
   private void onFileOperation(String endpointId, FileTrackingOperationDto operation) {
@@ -223,7 +297,13 @@ public class JavaReconciler {
               throw new NotFoundException("The project is not recognized for " + filePath);
             }
 
-            reconcileAndTransmit(filePath, projectPath, endpointId);
+            scheduleReconcile(filePath, projectPath, endpointId, 0);
+            break;
+          }
+
+        case STOP:
+          {
+            discardWorkingCopy(reconciledWorkingCopies.remove(operation.getPath()));
             break;
           }
 
@@ -259,7 +339,8 @@ public class JavaReconciler {
     }
   }
 
-  private void reconcileAndTransmit(String filePath, String projectPath, String endpointId) {
+  private void reconcileAndTransmit(
+      String filePath, String projectPath, String endpointId, IProgressMonitor monitor) {
     ICompilationUnit compilationUnit;
     try {
       compilationUnit = getCompilationUnit(filePath, projectPath);
@@ -271,7 +352,11 @@ public class JavaReconciler {
     }
 
     try {
-      ReconcileResult reconcileResult = reconcile(compilationUnit, getJavaProject(projectPath));
+      ReconcileResult reconcileResult =
+          reconcile(compilationUnit, getJavaProject(projectPath), monitor);
+      if (reconcileResult == null) {
+        return; // canceled by a newer reconcile
+      }
       transmitter
           .newRequest()
           .endpointId(endpointId)
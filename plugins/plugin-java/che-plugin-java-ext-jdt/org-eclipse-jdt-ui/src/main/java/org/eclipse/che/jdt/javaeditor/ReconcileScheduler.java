@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.jdt.javaeditor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+/**
+ * Runs reconciles in background after a delay. Scheduling of a reconcile cancels the scheduled or
+ * running reconcile with the same key, as its result would be outdated. A running reconcile is
+ * canceled through its progress monitor.
+ */
+public class ReconcileScheduler {
+  private final ScheduledExecutorService executor;
+  /** Scheduled or running reconciles by key */
+  private final Map<String, ScheduledReconcile> reconciles = new ConcurrentHashMap<>();
+
+  public ReconcileScheduler(ScheduledExecutorService executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Schedules the reconcile to be run after the given delay.
+   *
+   * @param key identifies the reconciled content, e.g. file and endpoint it's reconciled for
+   * @param delayMs delay of the reconcile in milliseconds
+   * @param reconcile reconcile which should stop once the given monitor is canceled
+   */
+  public void schedule(String key, long delayMs, Consumer<IProgressMonitor> reconcile) {
+    reconciles.compute(
+        key,
+        (k, previous) -> {
+          if (previous != null) {
+            previous.cancel();
+          }
+          final ScheduledReconcile next = new ScheduledReconcile();
+          next.future =
+              executor.schedule(
+                  () -> {
+                    try {
+                      reconcile.accept(next.monitor);
+                    } finally {
+                      reconciles.remove(k, next);
+                    }
+                  },
+                  delayMs,
+                  MILLISECONDS);
+          return next;
+        });
+  }
+
+  /** Cancels all the scheduled and running reconciles. */
+  public void shutdown() {
+    reconciles.values().forEach(ScheduledReconcile::cancel);
+    executor.shutdownNow();
+  }
+
+  private static class ScheduledReconcile {
+    private final IProgressMonitor monitor = new NullProgressMonitor();
+    private Future<?> future;
+
+    private void cancel() {
+      monitor.setCanceled(true);
+      if (future != null) {
+        future.cancel(false);
+      }
+    }
+  }
+}
@@ -54,8 +54,11 @@ import org.eclipse.jdt.internal.core.search.processing.IJob;
 import org.eclipse.jdt.internal.core.search.processing.JobManager;
 import org.eclipse.jdt.internal.core.util.Messages;
 import org.eclipse.jdt.internal.core.util.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class IndexManager extends JobManager implements IIndexConstants {
+  private static final Logger LOG = LoggerFactory.getLogger(IndexManager.class);
 
   public static final Integer SAVED_STATE = new Integer(0);
   public static final Integer UPDATING_STATE = new Integer(1);
@@ -91,12 +94,18 @@ public class IndexManager extends JobManager implements IIndexConstants {
   private SimpleLookupTable participantsContainers = null;
   private boolean participantUpdated = false;
   private String indexLocation;
+  // indexes of external JAR files are named after the JAR content
+  private final LibraryIndexStore libraryIndexStore;
+  // time when the libraries were requested to be indexed since the indexer was idle, 0 if none
+  private long librariesIndexingStart;
+  private int librariesRequested;
 
   public IndexManager(String indexLocation) {
     this.indexLocation = indexLocation;
     indexNamesMapFile = new File(getSavedIndexesDirectory(), "indexNamesMap.txt");
     savedIndexNamesFile = new File(getSavedIndexesDirectory(), "savedIndexNames.txt");
     participantIndexNamesFile = new File(getSavedIndexesDirectory(), "participantsIndexNames.txt");
+    libraryIndexStore = new LibraryIndexStore(getSavedIndexesDirectory());
   }
 
   public synchronized void aboutToUpdateIndex(IPath containerPath, Integer newIndexState) {
@@ -203,9 +212,12 @@ public class IndexManager extends JobManager implements IIndexConstants {
     IndexLocation indexLocation = (IndexLocation) this.indexLocations.get(containerPath);
     if (indexLocation == null) {
       String pathString = containerPath.toOSString();
-      CRC32 checksumCalculator = new CRC32();
-      checksumCalculator.update(pathString.getBytes());
-      String fileName = Long.toString(checksumCalculator.getValue()) + ".index"; //$NON-NLS-1$
+      String fileName = computeLibraryIndexName(containerPath);
+      if (fileName == null) {
+        CRC32 checksumCalculator = new CRC32();
+        checksumCalculator.update(pathString.getBytes());
+        fileName = Long.toString(checksumCalculator.getValue()) + ".index"; //$NON-NLS-1$
+      }
       if (JobManager.VERBOSE)
         Util.verbose(
             "-> index name for " + pathString + " is " + fileName); //$NON-NLS-1$ //$NON-NLS-2$
@@ -219,6 +231,25 @@ public class IndexManager extends JobManager implements IIndexConstants {
     return indexLocation;
   }
 
+  /*
+   * Returns the content based name of the index of the external JAR file at the given path, or null
+   * if the path doesn't denote an external JAR file. An index is reused by the JAR files with the
+   * same content, unless it's already used by a JAR at another path, as an index is bound to the
+   * path of its container while it's in memory.
+   */
+  private String computeLibraryIndexName(IPath containerPath) {
+    if (!(JavaModelManager.getTarget(containerPath, true) instanceof File)) return null;
+    String fileName = this.libraryIndexStore.getIndexName(containerPath.toFile());
+    if (fileName == null) return null;
+    File indexFile = new File(getSavedIndexesDirectory(), fileName);
+    IPath user = (IPath) this.indexLocations.keyForValue(new FileIndexLocation(indexFile));
+    if (user != null && !user.equals(containerPath)) return null;
+    getIndexStates(); // may clean up the index files, so copy the shared index afterwards
+    if (this.libraryIndexStore.copySharedIndex(indexFile) && JobManager.VERBOSE)
+      Util.verbose("-> copied shared index " + fileName); //$NON-NLS-1$
+    return fileName;
+  }
+
   public void deleteIndexFiles() {
     if (DEBUG) Util.verbose("Deleting index files"); //$NON-NLS-1$
     this.savedIndexNamesFile.delete(); // forget saved indexes & delete each index file
@@ -668,7 +699,15 @@ public class IndexManager extends JobManager implements IIndexConstants {
     //        }
 
     // check if the same request is not already in the queue
-    if (!isJobWaiting(request)) request(request);
+    if (!isJobWaiting(request)) {
+      synchronized (this) {
+        if (this.librariesIndexingStart == 0) {
+          this.librariesIndexingStart = System.currentTimeMillis();
+        }
+        this.librariesRequested++;
+      }
+      request(request);
+    }
   }
 
   synchronized boolean addIndex(IPath containerPath, IndexLocation indexFile) {
@@ -723,9 +762,23 @@ public class IndexManager extends JobManager implements IIndexConstants {
 
   /** No more job awaiting. */
   protected void notifyIdle(long idlingTime) {
+    logLibrariesIndexingTime(idlingTime);
     if (idlingTime > 1000 && this.needToSave) saveIndexes();
   }
 
+  private synchronized void logLibrariesIndexingTime(long idlingTime) {
+    if (this.librariesIndexingStart == 0) return;
+    long time = System.currentTimeMillis() - idlingTime - this.librariesIndexingStart;
+    LOG.info(
+        "Indexes of {} libraries are ready in {} ms, {} checksums computed, {} shared copied",
+        this.librariesRequested,
+        time,
+        this.libraryIndexStore.getComputedChecksums(),
+        this.libraryIndexStore.getCopiedIndexes());
+    this.librariesIndexingStart = 0;
+    this.librariesRequested = 0;
+  }
+
   /** Name of the background process */
   public String processName() {
     return Messages.process_name;
@@ -838,7 +891,9 @@ public class IndexManager extends JobManager implements IIndexConstants {
       indexFile.delete();
     }
     this.indexes.removeKey(indexLocation);
-    if (IS_MANAGING_PRODUCT_INDEXES_PROPERTY) {
+    if (IS_MANAGING_PRODUCT_INDEXES_PROPERTY
+        || this.indexStates.get(indexLocation) != REUSE_STATE) {
+      // the name of a library index depends on the library content which may have been changed
       this.indexLocations.removeKey(containerPath);
     }
     updateIndexState(indexLocation, null);
@@ -1033,6 +1088,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
       writeParticipantsIndexNamesFile();
       this.participantUpdated = false;
     }
+    this.libraryIndexStore.save();
     this.needToSave = !allSaved;
   }
 
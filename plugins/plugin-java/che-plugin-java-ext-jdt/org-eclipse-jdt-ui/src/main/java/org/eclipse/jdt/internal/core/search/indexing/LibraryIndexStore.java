@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Content addressed store of library indexes.
+ *
+ * <p>Index of a JAR file is named after the SHA-1 checksum of the JAR content instead of its path.
+ * So the index stays valid while the JAR is not changed, is reused when the JAR is moved or
+ * downloaded once again, and is rebuilt as soon as the JAR content changes, since the changed JAR
+ * gets the index with another name.
+ *
+ * <p>Indexes which are missing locally are copied from the read only directory shared between
+ * workspaces, if it is configured with the {@value #SHARED_INDEXES_DIRECTORY_PROPERTY} system
+ * property. The directory may be pre-populated with the indexes of the JDK and of commonly used
+ * libraries, e.g. by copying the index directory of a workspace.
+ *
+ * <p>Checksums are kept along with the size and the modification time of JAR files, so the JAR
+ * content is read only when the JAR has been changed since its checksum was computed.
+ */
+class LibraryIndexStore {
+  static final String SHARED_INDEXES_DIRECTORY_PROPERTY = "che.jdt.shared.index.dir";
+
+  private static final Logger LOG = LoggerFactory.getLogger(LibraryIndexStore.class);
+
+  private static final String CHECKSUMS_FILE = "libraryChecksums.txt";
+  private static final String INDEX_SUFFIX = ".index";
+
+  private final File indexesDirectory;
+  private final File sharedIndexesDirectory;
+  private final File checksumsFile;
+
+  /** Checksums of JAR files by their paths, loaded lazily */
+  private Map<String, Checksum> checksums;
+
+  private boolean checksumsChanged;
+  private int computed;
+  private int copied;
+
+  LibraryIndexStore(File indexesDirectory) {
+    this(indexesDirectory, System.getProperty(SHARED_INDEXES_DIRECTORY_PROPERTY));
+  }
+
+  LibraryIndexStore(File indexesDirectory, String sharedIndexesDirectory) {
+    this.indexesDirectory = indexesDirectory;
+    this.sharedIndexesDirectory =
+        sharedIndexesDirectory == null || sharedIndexesDirectory.isEmpty()
+            ? null
+            : new File(sharedIndexesDirectory);
+    this.checksumsFile = new File(indexesDirectory, CHECKSUMS_FILE);
+  }
+
+  /**
+   * Returns the name of the index file of the given JAR file, or {@code null} if the file is not
+   * a regular file or its checksum can't be computed.
+   */
+  synchronized String getIndexName(File library) {
+    if (!library.isFile()) {
+      return null;
+    }
+    long size = library.length();
+    long modified = library.lastModified();
+    String path = library.getAbsolutePath();
+    Checksum checksum = getChecksums().get(path);
+    if (checksum == null || checksum.size != size || checksum.modified != modified) {
+      try {
+        checksum = new Checksum(computeDigest(library), size, modified);
+      } catch (IOException e) {
+        LOG.warn("Can't compute checksum of {}. Cause: {}", path, e.getMessage());
+        return null;
+      }
+      checksums.put(path, checksum);
+      checksumsChanged = true;
+      computed++;
+    }
+    return checksum.digest + INDEX_SUFFIX;
+  }
+
+  /**
+   * Copies the index with the same name as the given index file from the shared directory, if the
+   * index file doesn't exist yet.
+   *
+   * @return {@code true} if the index was copied, {@code false} otherwise
+   */
+  synchronized boolean copySharedIndex(File indexFile) {
+    if (sharedIndexesDirectory == null || indexFile.exists()) {
+      return false;
+    }
+    File sharedIndex = new File(sharedIndexesDirectory, indexFile.getName());
+    if (!sharedIndex.isFile()) {
+      return false;
+    }
+    File tmp = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+    try {
+      Files.copy(sharedIndex.toPath(), tmp.toPath(), REPLACE_EXISTING);
+      // index must never be seen partially copied
+      Files.move(tmp.toPath(), indexFile.toPath(), ATOMIC_MOVE);
+      copied++;
+      return true;
+    } catch (IOException e) {
+      LOG.warn("Can't copy shared index {}. Cause: {}", sharedIndex, e.getMessage());
+      tmp.delete();
+      return false;
+    }
+  }
+
+  /** Returns count of checksums computed since the store was created. */
+  synchronized int getComputedChecksums() {
+    return computed;
+  }
+
+  /** Returns count of indexes copied from the shared directory since the store was created. */
+  synchronized int getCopiedIndexes() {
+    return copied;
+  }
+
+  /** Writes the checksums if they were changed, checksums of the deleted files are dropped. */
+  synchronized void save() {
+    if (!checksumsChanged) {
+      return;
+    }
+    checksums.keySet().removeIf(path -> !new File(path).isFile());
+    try (BufferedWriter writer = Files.newBufferedWriter(checksumsFile.toPath(), UTF_8)) {
+      for (Map.Entry<String, Checksum> entry : checksums.entrySet()) {
+        Checksum checksum = entry.getValue();
+        writer.write(checksum.digest + '\t' + checksum.size + '\t' + checksum.modified + '\t');
+        writer.write(entry.getKey());
+        writer.write('\n');
+      }
+      checksumsChanged = false;
+    } catch (IOException e) {
+      LOG.warn("Can't write library checksums. Cause: {}", e.getMessage());
+    }
+  }
+
+  private Map<String, Checksum> getChecksums() {
+    if (checksums != null) {
+      return checksums;
+    }
+    checksums = new HashMap<>();
+    if (!checksumsFile.isFile()) {
+      return checksums;
+    }
+    try {
+      List<String> lines = Files.readAllLines(checksumsFile.toPath(), UTF_8);
+      for (String line : lines) {
+        String[] parts = line.split("\t", 4);
+        if (parts.length == 4) {
+          checksums.put(
+              parts[3], new Checksum(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+        }
+      }
+    } catch (IOException | NumberFormatException e) {
+      // checksums are computed once again
+      LOG.warn("Can't read library checksums. Cause: {}", e.getMessage());
+      checksums.clear();
+    }
+    return checksums;
+  }
+
+  private static String computeDigest(File file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream in = Files.newInputStream(file.toPath())) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest()) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  private static class Checksum {
+    private final String digest;
+    private final long size;
+    private final long modified;
+
+    private Checksum(String digest, long size, long modified) {
+      this.digest = digest;
+      this.size = size;
+      this.modified = modified;
+    }
+  }
+}
@@ -9,13 +9,22 @@
  */
 package org.eclipse.jdt.internal.ui.javaeditor;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.che.jdt.dom.ASTNodes;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -33,8 +42,68 @@ public class ASTProvider {
   public static final boolean SHARED_BINDING_RECOVERY = true;
   private static final Logger LOG = LoggerFactory.getLogger(ASTProvider.class);
   private static final String DEBUG_PREFIX = "ASTProvider > "; //$NON-NLS-1$
+  /** System property with the maximum count of cached ASTs, zero disables caching. */
+  private static final String CACHE_SIZE_PROPERTY = "che.jdt.ast.cache.size";
+
+  private static final int DEFAULT_CACHE_SIZE = 8;
+
   private Object fReconcileLock = new Object();
   private CompilationUnit fAST;
+
+  /**
+   * ASTs of the recently reconciled or requested elements by handle identifier of the primary
+   * element and the source. Reconcile, code assist and navigation work with different working
+   * copies of the same compilation unit, while all of them have the content of the editor, so an
+   * AST built for one of them is shared with the others.
+   */
+  private final Map<String, CachedAST> fCache;
+
+  private final int fCacheSize;
+
+  /**
+   * Incremented on every change of the Java model which may outdate bindings of older ASTs.
+   * Changes of working copies which are not primary are ignored, as these working copies are only
+   * created and discarded by reconcile and code assist requests.
+   */
+  private final AtomicLong fModelStamp = new AtomicLong();
+
+  /** Model stamps of the elements which are being reconciled */
+  private final Map<ITypeRoot, Long> fReconcileStamps = new HashMap<>();
+
+  public ASTProvider() {
+    fCacheSize = Math.max(0, Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+    fCache =
+        new LinkedHashMap<String, CachedAST>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CachedAST> eldest) {
+            return size() > fCacheSize;
+          }
+        };
+    JavaCore.addElementChangedListener(
+        event -> {
+          if (affectsPrimaryElements(event.getDelta())) {
+            fModelStamp.incrementAndGet();
+          }
+        },
+        ElementChangedEvent.POST_CHANGE);
+  }
+
+  private static boolean affectsPrimaryElements(IJavaElementDelta delta) {
+    IJavaElement element = delta.getElement();
+    if (element instanceof ICompilationUnit && !((ICompilationUnit) element).isPrimary()) {
+      return false;
+    }
+    if (delta.getKind() != IJavaElementDelta.CHANGED
+        || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+      return true;
+    }
+    for (IJavaElementDelta child : delta.getAffectedChildren()) {
+      if (affectsPrimaryElements(child)) {
+        return true;
+      }
+    }
+    return false;
+  }
   /**
    * Tells whether this class is in debug mode.
    *
@@ -238,6 +307,12 @@ public class ASTProvider {
 
     CompilationUnit ast = null;
     try {
+      final String source = getCacheableSource(input);
+      ast = getCachedAST(input, source);
+      if (ast != null) {
+        return ast;
+      }
+      final long modelStamp = fModelStamp.get();
       ast = createAST(input, progressMonitor);
       if (progressMonitor != null && progressMonitor.isCanceled()) {
         ast = null;
@@ -249,6 +324,8 @@ public class ASTProvider {
                   + "Ignore created AST for: "
                   + input.getElementName()
                   + " - operation has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+      } else if (ast != null && source != null) {
+        cache(input, source, modelStamp, ast);
       }
     } finally {
       if (isActiveElement) {
@@ -271,7 +348,108 @@ public class ASTProvider {
   }
 
   /**
-   * Update internal structures after reconcile.
+   * Returns the AST of the element if it is cached for the current source of the element, the AST
+   * is never created by this method.
+   *
+   * @param input the Java element, must not be <code>null</code>
+   * @return the AST or <code>null</code> if there is no such AST in the cache
+   */
+  public CompilationUnit getCachedAST(ITypeRoot input) {
+    return getCachedAST(input, getCacheableSource(input));
+  }
+
+  /** Returns source of the element if its AST may be cached. */
+  private String getCacheableSource(ITypeRoot input) {
+    if (fCacheSize == 0) {
+      return null;
+    }
+    try {
+      return input.getSource();
+    } catch (JavaModelException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns cached AST of the element if it was created from the same source and the Java model
+   * didn't change since then.
+   */
+  private CompilationUnit getCachedAST(ITypeRoot input, String source) {
+    if (source == null) {
+      return null;
+    }
+    final String key = getCacheKey(input, source);
+    synchronized (fCache) {
+      final CachedAST cached = fCache.get(key);
+      if (cached == null) {
+        return null;
+      }
+      if (cached.modelStamp == fModelStamp.get()
+          && cached.source.equals(source)
+          && isOpen(cached.ast.getTypeRoot())) {
+        return cached.ast;
+      }
+      fCache.remove(key);
+    }
+    return null;
+  }
+
+  private void cache(ITypeRoot input, String source, long modelStamp, CompilationUnit ast) {
+    synchronized (fCache) {
+      fCache.put(getCacheKey(input, source), new CachedAST(source, modelStamp, ast));
+    }
+  }
+
+  /** Key of the AST which doesn't depend on the owner of the working copy. */
+  private static String getCacheKey(ITypeRoot input, String source) {
+    final IJavaElement primary = input.getPrimaryElement();
+    return primary.getHandleIdentifier() + '@' + source.length() + ':' + source.hashCode();
+  }
+
+  /**
+   * Tells whether the element the AST was built for is usable by clients which resolve elements
+   * or read the buffer of the AST root. Discarded working copies are reopened from the file and
+   * may have a different content.
+   */
+  private static boolean isOpen(ITypeRoot typeRoot) {
+    if (typeRoot instanceof ICompilationUnit && !((ICompilationUnit) typeRoot).isPrimary()) {
+      return typeRoot.isOpen();
+    }
+    return true;
+  }
+
+  /** AST with the source and the state of the Java model it was created for. */
+  private static class CachedAST {
+    private final String source;
+    private final long modelStamp;
+    private final CompilationUnit ast;
+
+    private CachedAST(String source, long modelStamp, CompilationUnit ast) {
+      this.source = source;
+      this.modelStamp = modelStamp;
+      this.ast = ast;
+    }
+  }
+
+  /**
+   * Informs that reconciling for the given element is about to be started. Changes of the Java
+   * model since this moment outdate the AST created by the reconcile.
+   *
+   * @param javaElement the Java element which is going to be reconciled
+   * @see #reconciled(CompilationUnit, ITypeRoot, IProgressMonitor)
+   */
+  public void aboutToBeReconciled(ITypeRoot javaElement) {
+    if (javaElement == null) {
+      return;
+    }
+    synchronized (fReconcileLock) {
+      fReconcileStamps.put(javaElement, fModelStamp.get());
+    }
+  }
+
+  /**
+   * Update internal structures after reconcile. The AST of the reconciled element is cached, so
+   * following code assist and navigation requests for the same content reuse it.
    *
    * @param ast the compilation unit AST or <code>null</code> if the working copy was consistent or
    *     reconciliation has been cancelled
@@ -280,25 +458,27 @@ public class ASTProvider {
    * @see org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener#reconciled(CompilationUnit,
    *     boolean, IProgressMonitor)
    */
-  void reconciled(CompilationUnit ast, ITypeRoot javaElement, IProgressMonitor progressMonitor) {
-    //        if (DEBUG)
-    //            System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "reconciled: " + toString(javaElement) + ", AST: " + toString(ast)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-    //
-    //        synchronized (fReconcileLock) {
-    //            fIsReconciling= false;
-    //            if (javaElement == null || !javaElement.equals(fReconcilingJavaElement)) {
-    //
-    //                if (DEBUG)
-    //                    System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "  ignoring AST of out-dated editor"); //$NON-NLS-1$ //$NON-NLS-2$
-    //
-    //                // Signal - threads might wait for wrong element
-    //                synchronized (fWaitLock) {
-    //                    fWaitLock.notifyAll();
-    //                }
-    //
-    //                return;
-    //            }
-    //            cache(ast, javaElement);
-    //        }
+  public void reconciled(
+      CompilationUnit ast, ITypeRoot javaElement, IProgressMonitor progressMonitor) {
+    if (javaElement == null) {
+      return;
+    }
+    final Long modelStamp;
+    synchronized (fReconcileLock) {
+      modelStamp = fReconcileStamps.remove(javaElement);
+    }
+    if (modelStamp == null
+        || ast == null
+        || (progressMonitor != null && progressMonitor.isCanceled())) {
+      return;
+    }
+    final String source = getCacheableSource(javaElement);
+    if (source == null) {
+      return;
+    }
+
+    //mark as unmodifiable, the AST is shared with other clients
+    ASTNodes.setFlagsToAST(ast, ASTNode.PROTECT);
+    cache(javaElement, source, modelStamp, ast);
   }
 }
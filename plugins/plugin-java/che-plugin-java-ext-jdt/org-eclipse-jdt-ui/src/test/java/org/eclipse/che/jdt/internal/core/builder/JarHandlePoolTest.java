@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.jdt.internal.core.builder;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.jdt.internal.compiler.util.SimpleSet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JarHandlePoolTest {
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private String first;
+  private String second;
+
+  @Before
+  public void setUp() throws Exception {
+    first = createJar("first.jar", "org/first/A.class").getPath();
+    second = createJar("second.jar", "org/second/B.class", "org/second/C.class").getPath();
+  }
+
+  @Test
+  public void shouldShareOpenJarBetweenCallers() throws Exception {
+    JarHandlePool pool = new JarHandlePool(10, 100, 10);
+
+    JarHandlePool.Handle handle = pool.acquire(first, 1);
+    JarHandlePool.Handle shared = pool.acquire(first, 1);
+
+    assertSame(handle, shared);
+    assertEquals(1, pool.getOpenCount());
+    assertEquals(1, pool.getOpenEntries());
+    assertEquals(0.5, pool.getHitRate(), 0);
+  }
+
+  @Test
+  public void shouldKeepReleasedJarOpenUntilItIsEvicted() throws Exception {
+    JarHandlePool pool = new JarHandlePool(10, 100, 10);
+
+    JarHandlePool.Handle handle = pool.acquire(first, 1);
+    pool.release(handle);
+
+    assertTrue(isOpen(handle.getZipFile()));
+    assertSame(handle, pool.acquire(first, 1));
+  }
+
+  @Test
+  public void shouldCloseLeastRecentlyUsedJarWhenTooManyJarsAreOpen() throws Exception {
+    JarHandlePool pool = new JarHandlePool(1, 100, 10);
+    JarHandlePool.Handle handle = pool.acquire(first, 1);
+    pool.release(handle);
+
+    pool.acquire(second, 1);
+
+    assertFalse(isOpen(handle.getZipFile()));
+    assertEquals(1, pool.getOpenCount());
+    assertEquals(2, pool.getOpenEntries());
+    assertEquals(1, pool.getEvictions());
+  }
+
+  @Test
+  public void shouldCloseJarWhenOpenJarsHaveTooManyEntries() throws Exception {
+    JarHandlePool pool = new JarHandlePool(10, 2, 10);
+    JarHandlePool.Handle handle = pool.acquire(first, 1);
+    pool.release(handle);
+
+    pool.acquire(second, 1);
+
+    assertFalse(isOpen(handle.getZipFile()));
+    assertEquals(1, pool.getEvictions());
+  }
+
+  @Test
+  public void shouldCloseEvictedJarInUseOnlyWhenItIsReleased() throws Exception {
+    JarHandlePool pool = new JarHandlePool(1, 100, 10);
+    JarHandlePool.Handle handle = pool.acquire(first, 1);
+    pool.acquire(first, 1);
+
+    pool.acquire(second, 1);
+    pool.release(handle);
+
+    assertTrue(isOpen(handle.getZipFile()));
+
+    pool.release(handle);
+
+    assertFalse(isOpen(handle.getZipFile()));
+  }
+
+  @Test
+  public void shouldReopenChangedJarAndCloseStaleHandle() throws Exception {
+    JarHandlePool pool = new JarHandlePool(10, 100, 10);
+    JarHandlePool.Handle stale = pool.acquire(first, 1);
+    pool.release(stale);
+
+    JarHandlePool.Handle handle = pool.acquire(first, 2);
+
+    assertNotSame(stale, handle);
+    assertFalse(isOpen(stale.getZipFile()));
+    assertEquals(1, pool.getOpenCount());
+    assertEquals(1, pool.getOpenEntries());
+    assertEquals(0, pool.getEvictions());
+  }
+
+  @Test
+  public void shouldCloseStaleHandleInUseOnlyWhenItIsReleased() throws Exception {
+    JarHandlePool pool = new JarHandlePool(10, 100, 10);
+    JarHandlePool.Handle stale = pool.acquire(first, 1);
+
+    pool.acquire(first, 2);
+
+    assertTrue(isOpen(stale.getZipFile()));
+    assertEquals(1, pool.getOpenCount());
+
+    pool.release(stale);
+
+    assertFalse(isOpen(stale.getZipFile()));
+  }
+
+  @Test
+  public void shouldReadPackagesOnceAndReadThemAgainWhenJarIsChanged() throws Exception {
+    JarHandlePool pool = new JarHandlePool(10, 100, 10);
+
+    SimpleSet packages = pool.getPackages(first, 1);
+
+    assertSame(packages, pool.getPackages(first, 1));
+    assertTrue(packages.includes("org/first"));
+    assertEquals(0.5, pool.getPackageSetHitRate(), 0);
+
+    // the open JAR is replaced rather than rewritten in place, as a build tool does
+    File changedJar = createJar("changed.jar", "org/changed/A.class");
+    Files.move(changedJar.toPath(), Paths.get(first), REPLACE_EXISTING);
+    SimpleSet changed = pool.getPackages(first, 2);
+
+    assertTrue(changed.includes("org/changed"));
+    assertFalse(changed.includes("org/first"));
+  }
+
+  private File createJar(String name, String... entries) throws Exception {
+    File jar = new File(folder.getRoot(), name);
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+      for (String entry : entries) {
+        out.putNextEntry(new ZipEntry(entry));
+        out.write(new byte[] {0});
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private static boolean isOpen(ZipFile zipFile) {
+    try {
+      zipFile.size();
+      return true;
+    } catch (IllegalStateException e) {
+      return false;
+    }
+  }
+}
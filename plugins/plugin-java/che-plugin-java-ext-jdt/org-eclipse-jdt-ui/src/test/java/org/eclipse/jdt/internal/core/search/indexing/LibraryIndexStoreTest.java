@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LibraryIndexStoreTest {
+  /** SHA-1 checksum of "library content" */
+  private static final String INDEX_NAME = "4a86cfbc2233b48633eceb315f673d601c54f317.index";
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private File indexes;
+  private File shared;
+  private File library;
+
+  @Before
+  public void setUp() throws Exception {
+    indexes = folder.newFolder("indexes");
+    shared = folder.newFolder("shared");
+    library = write(new File(folder.getRoot(), "library.jar"), "library content");
+  }
+
+  @Test
+  public void shouldNameIndexAfterChecksumOfLibraryContent() throws Exception {
+    LibraryIndexStore store = new LibraryIndexStore(indexes, null);
+    File moved = write(new File(folder.newFolder("moved"), "library.jar"), "library content");
+
+    assertEquals(INDEX_NAME, store.getIndexName(library));
+    assertEquals(INDEX_NAME, store.getIndexName(moved));
+  }
+
+  @Test
+  public void shouldNotNameIndexOfMissingLibrary() throws Exception {
+    LibraryIndexStore store = new LibraryIndexStore(indexes, null);
+
+    assertNull(store.getIndexName(new File(folder.getRoot(), "missing.jar")));
+    assertNull(store.getIndexName(folder.getRoot()));
+  }
+
+  @Test
+  public void shouldReuseChecksumOfUnchangedLibrary() throws Exception {
+    LibraryIndexStore store = new LibraryIndexStore(indexes, null);
+
+    store.getIndexName(library);
+    store.getIndexName(library);
+
+    assertEquals(1, store.getComputedChecksums());
+  }
+
+  @Test
+  public void shouldReuseSavedChecksumOfUnchangedLibrary() throws Exception {
+    LibraryIndexStore store = new LibraryIndexStore(indexes, null);
+    store.getIndexName(library);
+    store.save();
+
+    LibraryIndexStore restarted = new LibraryIndexStore(indexes, null);
+
+    assertEquals(INDEX_NAME, restarted.getIndexName(library));
+    assertEquals(0, restarted.getComputedChecksums());
+  }
+
+  @Test
+  public void shouldRenameIndexWhenLibraryIsChanged() throws Exception {
+    LibraryIndexStore store = new LibraryIndexStore(indexes, null);
+    store.getIndexName(library);
+    store.save();
+
+    write(library, "changed library content");
+    library.setLastModified(library.lastModified() + 1000);
+    LibraryIndexStore restarted = new LibraryIndexStore(indexes, null);
+
+    assertFalse(INDEX_NAME.equals(restarted.getIndexName(library)));
+    assertEquals(1, restarted.getComputedChecksums());
+  }
+
+  @Test
+  public void shouldCopyMissingIndexFromSharedDirectory() throws Exception {
+    write(new File(shared, INDEX_NAME), "index");
+    LibraryIndexStore store = new LibraryIndexStore(indexes, shared.getPath());
+    File index = new File(indexes, store.getIndexName(library));
+
+    assertTrue(store.copySharedIndex(index));
+    assertEquals("index", new String(Files.readAllBytes(index.toPath()), UTF_8));
+    assertFalse(new File(indexes, INDEX_NAME + ".tmp").exists());
+    assertEquals(1, store.getCopiedIndexes());
+  }
+
+  @Test
+  public void shouldNotCopyIndexWhichExistsLocally() throws Exception {
+    write(new File(shared, INDEX_NAME), "index");
+    File index = write(new File(indexes, INDEX_NAME), "local index");
+    LibraryIndexStore store = new LibraryIndexStore(indexes, shared.getPath());
+
+    assertFalse(store.copySharedIndex(index));
+    assertEquals("local index", new String(Files.readAllBytes(index.toPath()), UTF_8));
+  }
+
+  @Test
+  public void shouldNotCopyIndexWhichIsNotShared() throws Exception {
+    LibraryIndexStore store = new LibraryIndexStore(indexes, shared.getPath());
+
+    assertFalse(store.copySharedIndex(new File(indexes, INDEX_NAME)));
+    assertEquals(0, store.getCopiedIndexes());
+  }
+
+  @Test
+  public void shouldNotCopyIndexWhenSharedDirectoryIsNotConfigured() throws Exception {
+    write(new File(shared, INDEX_NAME), "index");
+    LibraryIndexStore store = new LibraryIndexStore(indexes, "");
+
+    assertFalse(store.copySharedIndex(new File(indexes, INDEX_NAME)));
+  }
+
+  private static File write(File file, String content) throws Exception {
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+}
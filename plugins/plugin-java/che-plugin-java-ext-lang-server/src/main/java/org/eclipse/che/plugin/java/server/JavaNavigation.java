@@ -61,6 +61,10 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.internal.core.JarEntryDirectory;
 import org.eclipse.jdt.internal.core.JarEntryFile;
 import org.eclipse.jdt.internal.core.JarEntryResource;
@@ -69,6 +73,7 @@ import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.JavaModelStatus;
 import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -201,13 +206,15 @@ public class JavaNavigation {
       codeAssist = type.getCompilationUnit();
     }
 
-    IJavaElement[] elements = null;
-    if (codeAssist != null) {
-      elements = codeAssist.codeSelect(offset, 0);
+    if (codeAssist instanceof ICompilationUnit) {
+      originalElement = findElementInCachedAST((ICompilationUnit) codeAssist, offset);
     }
 
-    if (elements != null && elements.length > 0) {
-      originalElement = elements[0];
+    if (originalElement == null && codeAssist != null) {
+      IJavaElement[] elements = codeAssist.codeSelect(offset, 0);
+      if (elements != null && elements.length > 0) {
+        originalElement = elements[0];
+      }
     }
     IJavaElement element = originalElement;
     while (element != null) {
@@ -224,6 +231,28 @@ public class JavaNavigation {
     return null;
   }
 
+  /**
+   * Resolves the element referenced at the offset by the AST which was already built for the
+   * current content of the unit by reconcile or code assist.
+   *
+   * @return the element or {@code null} if there is no such AST or the name at the offset is not
+   *     resolved
+   */
+  private IJavaElement findElementInCachedAST(ICompilationUnit unit, int offset) {
+    org.eclipse.jdt.core.dom.CompilationUnit ast =
+        JavaPlugin.getDefault().getASTProvider().getCachedAST(unit);
+    if (ast == null) {
+      return null;
+    }
+
+    ASTNode node = NodeFinder.perform(ast, offset, 0);
+    if (!(node instanceof Name)) {
+      return null;
+    }
+    IBinding binding = ((Name) node).resolveBinding();
+    return binding != null ? binding.getJavaElement() : null;
+  }
+
   public List<Jar> getProjectDependecyJars(IJavaProject project) throws JavaModelException {
     List<Jar> jars = new ArrayList<>();
     for (IPackageFragmentRoot fragmentRoot : project.getAllPackageFragmentRoots()) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.java.server.che;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.eclipse.che.jdt.javaeditor.ReconcileScheduler;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReconcileSchedulerTest {
+  private static final long DELAY_MS = 200;
+
+  private ReconcileScheduler scheduler;
+  private List<String> reconciled;
+
+  @Before
+  public void setUp() throws Exception {
+    scheduler = new ReconcileScheduler(Executors.newSingleThreadScheduledExecutor());
+    reconciled = new CopyOnWriteArrayList<>();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    scheduler.shutdown();
+  }
+
+  @Test
+  public void shouldRunOnlyLastOfReconcilesScheduledWithinDelay() throws Exception {
+    CountDownLatch done = new CountDownLatch(1);
+
+    scheduler.schedule("file", DELAY_MS, monitor -> reconciled.add("first"));
+    scheduler.schedule("file", DELAY_MS, monitor -> reconciled.add("second"));
+    scheduler.schedule(
+        "file",
+        DELAY_MS,
+        monitor -> {
+          reconciled.add("third");
+          done.countDown();
+        });
+
+    assertThat(done.await(5, SECONDS)).isTrue();
+    Thread.sleep(DELAY_MS);
+    assertThat(reconciled).containsOnly("third");
+  }
+
+  @Test
+  public void shouldRunReconcilesScheduledWithDifferentKeys() throws Exception {
+    CountDownLatch done = new CountDownLatch(2);
+
+    scheduler.schedule(
+        "first",
+        DELAY_MS,
+        monitor -> {
+          reconciled.add("first");
+          done.countDown();
+        });
+    scheduler.schedule(
+        "second",
+        DELAY_MS,
+        monitor -> {
+          reconciled.add("second");
+          done.countDown();
+        });
+
+    assertThat(done.await(5, SECONDS)).isTrue();
+    assertThat(reconciled).containsOnly("first", "second");
+  }
+
+  @Test
+  public void shouldCancelMonitorOfRunningReconcileWhenNewOneIsScheduled() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch canceled = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(1);
+
+    scheduler.schedule(
+        "file",
+        0,
+        monitor -> {
+          started.countDown();
+          if (awaitCanceled(monitor)) {
+            canceled.countDown();
+          }
+        });
+    assertThat(started.await(5, SECONDS)).isTrue();
+    scheduler.schedule("file", 0, monitor -> done.countDown());
+
+    assertThat(canceled.await(5, SECONDS)).isTrue();
+    assertThat(done.await(5, SECONDS)).isTrue();
+  }
+
+  private static boolean awaitCanceled(IProgressMonitor monitor) {
+    for (int i = 0; i < 500 && !monitor.isCanceled(); i++) {
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return monitor.isCanceled();
+  }
+}
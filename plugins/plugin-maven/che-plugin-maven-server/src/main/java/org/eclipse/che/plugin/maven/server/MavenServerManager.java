@@ -10,6 +10,8 @@
  */
 package org.eclipse.che.plugin.maven.server;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -20,8 +22,22 @@ import java.rmi.RemoteException;
 import java.rmi.server.UnicastRemoteObject;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.commons.lang.execution.CommandLine;
 import org.eclipse.che.commons.lang.execution.JavaParameters;
 import org.eclipse.che.commons.lang.execution.ProcessExecutor;
@@ -35,37 +51,86 @@ import org.eclipse.che.maven.server.MavenServerLogger;
 import org.eclipse.che.maven.server.MavenSettings;
 import org.eclipse.che.maven.server.MavenTerminal;
 import org.eclipse.che.maven.server.ProfileApplicationResult;
+import org.eclipse.che.plugin.maven.server.rmi.RmiCallStatistics;
 import org.eclipse.che.plugin.maven.server.rmi.RmiClient;
 import org.eclipse.che.plugin.maven.server.rmi.RmiObjectWrapper;
 import org.eclipse.che.rmi.RmiObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** @author Evgen Vidolob */
+/**
+ * Manages external Maven server processes.
+ *
+ * <p>Requests are routed to the least loaded of the configured count of processes, where the load
+ * of a process is the count of the maven servers created in it and of the requests it performs.
+ * Once the manager is started, the processes are launched in background so the first requests
+ * don't wait for a cold JVM, and they are periodically pinged, a process which doesn't respond is
+ * restarted. Each process is started and checked in its own thread, so a slow process doesn't
+ * delay the others, and requests are routed without waiting for the processes being started.
+ *
+ * @author Evgen Vidolob
+ */
 @Singleton
-public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
+public class MavenServerManager {
   private static final Logger LOG = LoggerFactory.getLogger(MavenServerManager.class);
   private static final String MAVEN_SERVER_MAIN = "org.eclipse.che.maven.server.MavenServerMain";
-
-  private RmiClient<MavenRemoteServer> client;
+  private static final long PING_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  private final RmiClient<MavenRemoteServer> client;
+  private final List<ServerProcess> processes;
+  private final String heapSize;
+  private final int healthCheckPeriod;
+  private final long pingTimeout;
+  private final RmiCallStatistics callStatistics = new RmiCallStatistics();
+  private final AtomicLong restarts = new AtomicLong();
   private RmiLogger rmiLogger = new RmiLogger();
   private RmiMavenServerDownloadListener rmiDownloadListener = new RmiMavenServerDownloadListener();
   private boolean loggerExported;
   private boolean listenerExported;
   private String mavenServerPath;
   private File localRepository;
+  private ScheduledExecutorService healthChecker;
+  private ExecutorService checkExecutor;
+
+  public MavenServerManager(String mavenServerPath) {
+    this(mavenServerPath, 1, "512m", 0);
+  }
 
+  /**
+   * @param mavenServerPath path to the directory with maven server jars
+   * @param processCount count of maven server processes
+   * @param heapSize maximum heap size of each process, e.g. {@code 512m}
+   * @param healthCheckPeriod period of the processes health checks in seconds, when it isn't
+   *     positive the processes are started once and are not checked
+   */
   @Inject
-  public MavenServerManager(@Named("che.maven.server.path") String mavenServerPath) {
+  public MavenServerManager(
+      @Named("che.maven.server.path") String mavenServerPath,
+      @Named("che.maven.server.processes") int processCount,
+      @Named("che.maven.server.heap") String heapSize,
+      @Named("che.maven.server.health_check_period_sec") int healthCheckPeriod) {
+    this(mavenServerPath, processCount, heapSize, healthCheckPeriod, PING_TIMEOUT_MILLIS, null);
+  }
+
+  @VisibleForTesting
+  MavenServerManager(
+      String mavenServerPath,
+      int processCount,
+      String heapSize,
+      int healthCheckPeriod,
+      long pingTimeout,
+      RmiClient<MavenRemoteServer> client) {
     this.mavenServerPath = mavenServerPath;
+    this.heapSize = heapSize;
+    this.healthCheckPeriod = healthCheckPeriod;
+    this.pingTimeout = pingTimeout;
 
-    client =
-        new RmiClient<MavenRemoteServer>(MavenRemoteServer.class) {
-          @Override
-          protected ProcessExecutor getExecutor() {
-            return createExecutor();
-          }
-        };
+    this.client = client != null ? client : createClient();
+
+    processes = new ArrayList<>();
+    for (int i = 0; i < Math.max(1, processCount); i++) {
+      processes.add(new ServerProcess(i));
+    }
   }
 
   private static void addDirToClasspath(List<String> classPath, File dir) {
@@ -84,6 +149,15 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
     }
   }
 
+  private RmiClient<MavenRemoteServer> createClient() {
+    return new RmiClient<MavenRemoteServer>(MavenRemoteServer.class) {
+      @Override
+      protected ProcessExecutor getExecutor() {
+        return createExecutor();
+      }
+    };
+  }
+
   private ProcessExecutor createExecutor() {
     return () -> {
       JavaParameters parameters = buildMavenServerParameters();
@@ -92,8 +166,29 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
     };
   }
 
+  /** Starts the maven server processes in background and schedules their health checks. */
+  @PostConstruct
+  public void start() {
+    ThreadFactory threadFactory =
+        new ThreadFactoryBuilder()
+            .setNameFormat("Maven Server Checker - %d")
+            .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+            .setDaemon(true)
+            .build();
+    healthChecker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    checkExecutor = Executors.newCachedThreadPool(threadFactory);
+    if (healthCheckPeriod > 0) {
+      healthChecker.scheduleWithFixedDelay(
+          this::checkProcesses, 0, healthCheckPeriod, TimeUnit.SECONDS);
+    } else {
+      healthChecker.execute(this::checkProcesses);
+    }
+  }
+
   public MavenServerWrapper createMavenServer() {
     return new MavenServerWrapper() {
+      private ServerProcess process;
+
       @Override
       protected MavenServer create() throws RemoteException {
         MavenSettings mavenSettings = new MavenSettings();
@@ -108,7 +203,28 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
         if (localRepository != null) {
           mavenSettings.setLocalRepository(localRepository);
         }
-        return MavenServerManager.this.getOrCreateWrappedObject().createServer(mavenSettings);
+        releaseProcess();
+        process = selectProcess();
+        process.load.incrementAndGet();
+        return process.getServer().createServer(mavenSettings);
+      }
+
+      @Override
+      protected synchronized void cleanUp() {
+        super.cleanUp();
+        releaseProcess();
+      }
+
+      @Override
+      protected void onCallCompleted(long durationNanos, boolean failed) {
+        callStatistics.record(durationNanos, failed);
+      }
+
+      private synchronized void releaseProcess() {
+        if (process != null) {
+          process.load.decrementAndGet();
+          process = null;
+        }
       }
     };
   }
@@ -123,7 +239,7 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
   }
 
   public MavenModel interpolateModel(MavenModel model, File projectDir) {
-    return perform(() -> getOrCreateWrappedObject().interpolateModel(model, projectDir));
+    return perform(server -> server.interpolateModel(model, projectDir));
   }
 
   public ProfileApplicationResult applyProfiles(
@@ -132,25 +248,22 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
       MavenExplicitProfiles explicitProfiles,
       Collection<String> alwaysOnProfiles) {
     return perform(
-        () ->
-            getOrCreateWrappedObject()
-                .applyProfiles(model, projectDir, explicitProfiles, alwaysOnProfiles));
+        server -> server.applyProfiles(model, projectDir, explicitProfiles, alwaysOnProfiles));
   }
 
   @PreDestroy
   public void shutdown() {
+    if (healthChecker != null) {
+      healthChecker.shutdownNow();
+      checkExecutor.shutdownNow();
+    }
     client.stopAll(false);
-    cleanUp();
+    processes.forEach(ServerProcess::stop);
+    unexportCallbacks();
+    LOG.info("Maven server processes restarted {} times, {}", restarts.get(), callStatistics);
   }
 
-  @Override
-  protected MavenRemoteServer create() throws RemoteException {
-    MavenRemoteServer server;
-    try {
-      server = client.acquire(this, "");
-    } catch (Exception e) {
-      throw new RemoteException("Can't start maven server", e);
-    }
+  private synchronized void exportCallbacks() throws RemoteException {
     if (!loggerExported) {
       Remote loggerRemote = UnicastRemoteObject.exportObject(rmiLogger, 0);
       if (!(loggerExported = loggerRemote != null)) {
@@ -163,16 +276,9 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
         throw new RemoteException("Can't export download listener");
       }
     }
-
-    server.configure(rmiLogger, rmiDownloadListener);
-
-    return server;
   }
 
-  @Override
-  protected synchronized void cleanUp() {
-    super.cleanUp();
-
+  private synchronized void unexportCallbacks() {
     if (loggerExported) {
       try {
         UnicastRemoteObject.unexportObject(rmiLogger, true);
@@ -216,26 +322,162 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
 
     parameters.getClassPath().addAll(classPath);
 
-    parameters.getVmParameters().add("-Xmx512m");
+    parameters.getVmParameters().add("-Xmx" + heapSize);
 
     return parameters;
   }
 
-  private <T> T perform(RunnableRemoteWithResult<T> runnable) {
+  /**
+   * Starts the processes which are not started yet and restarts the not responding ones. Each
+   * process is checked in its own thread, a process which is still being checked is skipped.
+   */
+  private void checkProcesses() {
+    for (ServerProcess process : processes) {
+      if (process.checking.compareAndSet(false, true)) {
+        checkExecutor.execute(
+            () -> {
+              try {
+                process.check();
+              } finally {
+                process.checking.set(false);
+              }
+            });
+      }
+    }
+    LOG.debug("Maven server processes restarted {} times, {}", restarts.get(), callStatistics);
+  }
+
+  private ServerProcess selectProcess() {
+    return processes
+        .stream()
+        .min(
+            Comparator.comparingInt((ServerProcess process) -> process.load.get())
+                .thenComparing(process -> !process.isStarted()))
+        .get();
+  }
+
+  private <T> T perform(RemoteCall<T> call) {
     RemoteException exception = null;
     for (int i = 0; i < 2; i++) {
+      ServerProcess process = selectProcess();
+      process.load.incrementAndGet();
+      long start = System.nanoTime();
       try {
-        return runnable.perform();
+        T result = call.perform(process.getServer());
+        callStatistics.record(System.nanoTime() - start, false);
+        return result;
       } catch (RemoteException e) {
+        callStatistics.record(System.nanoTime() - start, true);
         exception = e;
-        onError();
+        process.stop();
+      } finally {
+        process.load.decrementAndGet();
       }
     }
     throw new RuntimeException(exception);
   }
 
-  private interface RunnableRemoteWithResult<T> {
-    T perform() throws RemoteException;
+  private interface RemoteCall<T> {
+    T perform(MavenRemoteServer server) throws RemoteException;
+  }
+
+  /** Maven server process, started on demand and started again after failures. */
+  private class ServerProcess extends RmiObjectWrapper<MavenRemoteServer> {
+    private final int index;
+    private final AtomicInteger load = new AtomicInteger();
+    private final AtomicBoolean checking = new AtomicBoolean();
+    /** Started remote server, read without taking the lock held while the process starts */
+    private volatile MavenRemoteServer server;
+
+    private ServerProcess(int index) {
+      this.index = index;
+    }
+
+    @Override
+    protected MavenRemoteServer create() throws RemoteException {
+      MavenRemoteServer server;
+      try {
+        server = client.acquire(this, "");
+      } catch (Exception e) {
+        throw new RemoteException("Can't start maven server", e);
+      }
+      exportCallbacks();
+      server.configure(rmiLogger, rmiDownloadListener);
+
+      return server;
+    }
+
+    @Override
+    protected void wrappedCreated() throws RemoteException {
+      server = getWrapped();
+    }
+
+    @Override
+    protected synchronized void cleanUp() {
+      server = null;
+      super.cleanUp();
+    }
+
+    private MavenRemoteServer getServer() throws RemoteException {
+      return getOrCreateWrappedObject();
+    }
+
+    private boolean isStarted() {
+      return server != null;
+    }
+
+    private void check() {
+      if (!isStarted()) {
+        try {
+          getServer();
+        } catch (RemoteException e) {
+          LOG.warn("Can't start maven server process {}. Cause: {}", index, e.getMessage());
+        }
+      } else if (!isResponding()) {
+        LOG.warn("Maven server process {} doesn't respond, restarting it", index);
+        restarts.incrementAndGet();
+        restart();
+      }
+    }
+
+    private boolean isResponding() {
+      MavenRemoteServer server = this.server;
+      if (server == null) {
+        return false;
+      }
+      Future<?> ping =
+          checkExecutor.submit(
+              () -> {
+                server.ping();
+                return null;
+              });
+      try {
+        ping.get(pingTimeout, TimeUnit.MILLISECONDS);
+        return true;
+      } catch (ExecutionException | TimeoutException e) {
+        ping.cancel(true);
+        return false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return true;
+      }
+    }
+
+    /** Forgets the remote server, so it's started again on demand. */
+    private void stop() {
+      onError();
+    }
+
+    /** Destroys the process and starts a new one. */
+    private void restart() {
+      stop();
+      client.stop(this, "");
+      try {
+        getServer();
+      } catch (RemoteException e) {
+        LOG.warn("Can't restart maven server process {}. Cause: {}", index, e.getMessage());
+      }
+    }
   }
 
   private class RmiLogger extends RmiObject implements MavenServerLogger {
@@ -121,12 +121,24 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
     return perform(() -> getOrCreateWrappedObject().getLocalRepository());
   }
 
+  /**
+   * Invoked after each remote call made by this wrapper.
+   *
+   * @param durationNanos duration of the call in nanoseconds
+   * @param failed whether the call failed with a remote exception
+   */
+  protected void onCallCompleted(long durationNanos, boolean failed) {}
+
   private <T> T perform(RunnableRemoteWithResult<T> runnable) {
     RemoteException exception = null;
     for (int i = 0; i < 2; i++) {
+      long start = System.nanoTime();
       try {
-        return runnable.perform();
+        T result = runnable.perform();
+        onCallCompleted(System.nanoTime() - start, false);
+        return result;
       } catch (RemoteException e) {
+        onCallCompleted(System.nanoTime() - start, true);
         exception = e;
         onError();
       }
@@ -135,17 +147,11 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
   }
 
   private void perform(RunnableRemote runnable) {
-    RemoteException exception = null;
-    for (int i = 0; i < 2; i++) {
-      try {
-        runnable.perform();
-        return;
-      } catch (RemoteException e) {
-        exception = e;
-        onError();
-      }
-    }
-    throw new RuntimeException(exception);
+    perform(
+        () -> {
+          runnable.perform();
+          return null;
+        });
   }
 
   public void dispose() {
@@ -159,6 +165,7 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
       }
     }
     uncustomize();
+    cleanUp();
   }
 
   public void reset() {
@@ -12,22 +12,29 @@ package org.eclipse.che.plugin.maven.server;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 /**
- * Manages and cache MavenServerWrapper instances
+ * Manages and cache MavenServerWrapper instances.
+ *
+ * <p>Several wrappers of the same type may be used at the same time, e.g. when projects are
+ * resolved in parallel, so up to {@value #MAX_IDLE_SERVERS} released wrappers of each type are kept
+ * for reuse.
  *
  * @author Evgen Vidolob
  */
 @Singleton
 public class MavenWrapperManager {
+  private static final int MAX_IDLE_SERVERS = 4;
 
   private final MavenServerManager serverManager;
-  private final Map<ServerType, MavenServerWrapper> cache = new HashMap<>();
-  private final Set<MavenServerWrapper> usedServers = new HashSet<>();
+  private final Map<ServerType, Deque<MavenServerWrapper>> idleServers =
+      new EnumMap<>(ServerType.class);
+  private final Map<MavenServerWrapper, ServerType> usedServers = new HashMap<>();
 
   @Inject
   public MavenWrapperManager(MavenServerManager serverManager) {
@@ -35,30 +42,29 @@ public class MavenWrapperManager {
   }
 
   public synchronized MavenServerWrapper getMavenServer(ServerType type) {
-    MavenServerWrapper wrapper = cache.get(type);
+    MavenServerWrapper wrapper = getIdleServers(type).pollFirst();
     if (wrapper == null) {
       wrapper = serverManager.createMavenServer();
-      cache.put(type, wrapper);
-    }
-
-    if (usedServers.contains(wrapper)) {
-      //need to warn here
-      return serverManager.createMavenServer();
     }
-
-    usedServers.add(wrapper);
+    usedServers.put(wrapper, type);
     return wrapper;
   }
 
   public synchronized void release(MavenServerWrapper wrapper) {
-    if (usedServers.contains(wrapper)) {
+    ServerType type = usedServers.remove(wrapper);
+    Deque<MavenServerWrapper> idle = type == null ? null : getIdleServers(type);
+    if (idle != null && idle.size() < MAX_IDLE_SERVERS) {
       wrapper.reset();
-      usedServers.remove(wrapper);
+      idle.addFirst(wrapper);
     } else {
       wrapper.dispose();
     }
   }
 
+  private Deque<MavenServerWrapper> getIdleServers(ServerType type) {
+    return idleServers.computeIfAbsent(type, t -> new ArrayDeque<>());
+  }
+
   public enum ServerType {
     RESOLVE,
     DOWNLOAD
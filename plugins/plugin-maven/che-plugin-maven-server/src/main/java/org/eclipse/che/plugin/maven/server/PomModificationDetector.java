@@ -20,19 +20,23 @@ import javax.annotation.PreDestroy;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.project.shared.dto.event.PomModifiedEventDto;
 import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelCache;
 
 public class PomModificationDetector {
   private static final String POM_XML = "pom.xml";
 
   private final FileWatcherManager manager;
   private final EventService eventService;
+  private final MavenModelCache modelCache;
 
   private int id;
 
   @Inject
-  public PomModificationDetector(EventService eventService, FileWatcherManager manager) {
+  public PomModificationDetector(
+      EventService eventService, FileWatcherManager manager, MavenModelCache modelCache) {
     this.eventService = eventService;
     this.manager = manager;
+    this.modelCache = modelCache;
   }
 
   @PostConstruct
@@ -41,8 +45,11 @@ public class PomModificationDetector {
         manager.registerByMatcher(
             it -> !isDirectory(it) && POM_XML.equals(it.getFileName().toString()),
             EMPTY_CONSUMER,
-            it -> eventService.publish(newDto(PomModifiedEventDto.class).withPath(it)),
-            EMPTY_CONSUMER);
+            it -> {
+              modelCache.invalidate(it);
+              eventService.publish(newDto(PomModifiedEventDto.class).withPath(it));
+            },
+            modelCache::invalidate);
   }
 
   @PreDestroy
@@ -11,7 +11,9 @@
 package org.eclipse.che.plugin.maven.server.core;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -21,27 +23,61 @@ import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** @author Evgen Vidolob */
+/**
+ * Executes Maven tasks one by one in a single thread, while the projects of a single task may be
+ * resolved in parallel by the {@link #getResolveExecutor() resolve executor}.
+ *
+ * @author Evgen Vidolob
+ */
 @Singleton
 public class MavenExecutorService {
 
   private static final Logger LOG = LoggerFactory.getLogger(MavenExecutorService.class);
 
+  private static final int MAX_DEFAULT_RESOLVE_THREADS = 4;
+
   private final ExecutorService service;
+  private final ExecutorService resolveService;
 
   public MavenExecutorService() {
+    this(0);
+  }
+
+  /**
+   * @param resolveThreads maximum count of projects resolved in parallel, when it isn't positive
+   *     the count of available CPUs is used, but not more than {@value MAX_DEFAULT_RESOLVE_THREADS}
+   */
+  @Inject
+  public MavenExecutorService(@Named("che.maven.resolve.max_parallel") int resolveThreads) {
     ThreadFactory threadFactory =
         new ThreadFactoryBuilder()
             .setNameFormat("Maven Executor - %d")
             .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
             .build();
     service = Executors.newFixedThreadPool(1, threadFactory);
+
+    if (resolveThreads <= 0) {
+      resolveThreads =
+          Math.min(MAX_DEFAULT_RESOLVE_THREADS, Runtime.getRuntime().availableProcessors());
+    }
+    ThreadFactory resolveThreadFactory =
+        new ThreadFactoryBuilder()
+            .setNameFormat("Maven Resolver - %d")
+            .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+            .setDaemon(true)
+            .build();
+    resolveService = Executors.newFixedThreadPool(resolveThreads, resolveThreadFactory);
   }
 
   public void submit(Runnable task) {
     service.execute(task);
   }
 
+  /** Returns executor which resolves projects in parallel. */
+  public ExecutorService getResolveExecutor() {
+    return resolveService;
+  }
+
   @PreDestroy
   public void shutdown() throws InterruptedException {
     // Tell threads to finish off.
@@ -59,5 +95,7 @@ public class MavenExecutorService {
       // Preserve interrupt status
       Thread.currentThread().interrupt();
     }
+    // tasks are terminated, so nothing waits for the projects being resolved
+    resolveService.shutdownNow();
   }
 }
@@ -13,12 +13,15 @@ package org.eclipse.che.plugin.maven.server.core;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import java.io.File;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -35,8 +38,10 @@ import org.eclipse.che.maven.server.MavenTerminal;
 import org.eclipse.che.plugin.maven.server.MavenServerManager;
 import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
 import org.eclipse.che.plugin.maven.server.MavenWrapperManager;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelCache;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProjectModifications;
+import org.eclipse.che.plugin.maven.server.core.project.PomChange;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
 
@@ -64,6 +69,7 @@ public class MavenProjectManager {
   private final MavenTerminal terminal;
   private final MavenProgressNotifier mavenNotifier;
   private final Provider<IWorkspace> workspaceProvider;
+  private final MavenModelCache modelCache;
 
   private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
   private final Lock readLock = readWriteLock.readLock();
@@ -77,12 +83,14 @@ public class MavenProjectManager {
       MavenServerManager serverManager,
       MavenTerminal terminal,
       MavenProgressNotifier mavenNotifier,
-      EclipseWorkspaceProvider workspaceProvider) {
+      EclipseWorkspaceProvider workspaceProvider,
+      MavenModelCache modelCache) {
     this.wrapperManager = wrapperManager;
     this.serverManager = serverManager;
     this.terminal = terminal;
     this.mavenNotifier = mavenNotifier;
     this.workspaceProvider = workspaceProvider;
+    this.modelCache = modelCache;
     mavenWorkspaceCache = new MavenWorkspaceCache();
     keyToProjectMap = new HashMap<>();
     projectToMavenProjectMap = new HashMap<>();
@@ -114,14 +122,30 @@ public class MavenProjectManager {
   }
 
   public void resolveMavenProject(IProject project, MavenProject mavenProject) {
+    List<File> poms = getPomHierarchy(mavenProject);
+    MavenWorkspaceCache workspaceCache = copyWorkspaceCache();
+    MavenProjectModifications modifications =
+        mavenProject.resolveFromCache(modelCache, poms, workspaceCache);
+    if (modifications != null) {
+      dispatcher.projectResolved(mavenProject, modifications);
+      return;
+    }
+
     MavenServerWrapper mavenServer =
         wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
     try {
 
       mavenNotifier.setText("Resolving project: " + mavenProject.getName());
-      mavenServer.customize(copyWorkspaceCache(), terminal, mavenNotifier, false, true);
-      MavenProjectModifications modifications =
-          mavenProject.resolve(project, mavenServer, serverManager);
+      mavenServer.customize(workspaceCache, terminal, mavenNotifier, false, true);
+      modifications =
+          mavenProject.resolve(
+              project,
+              mavenServer,
+              serverManager,
+              modelCache,
+              poms,
+              workspaceCache,
+              () -> getDependencyPoms(mavenProject));
       dispatcher.projectResolved(mavenProject, modifications);
 
     } finally {
@@ -129,12 +153,84 @@ public class MavenProjectManager {
     }
   }
 
+  /** Returns pom.xml of the given project followed by pom.xml files of its workspace parents. */
+  private List<File> getPomHierarchy(MavenProject mavenProject) {
+    List<File> poms = new ArrayList<>();
+    Set<MavenProject> visited = new HashSet<>();
+    readLock.lock();
+    try {
+      MavenProject current = mavenProject;
+      while (current != null && visited.add(current)) {
+        poms.add(current.getPomFile());
+        MavenKey parentKey = current.getParentKey();
+        current = parentKey == null ? null : keyToProjectMap.get(parentKey);
+      }
+    } finally {
+      readLock.unlock();
+    }
+    return poms;
+  }
+
+  /**
+   * Returns pom.xml files of the workspace modules the given project depends on, directly or
+   * transitively, followed by pom.xml files of their workspace parents.
+   */
+  private List<File> getDependencyPoms(MavenProject mavenProject) {
+    Set<File> poms = new LinkedHashSet<>();
+    Set<MavenProject> visited = new HashSet<>();
+    visited.add(mavenProject);
+    Deque<MavenProject> queue = new LinkedList<>();
+    readLock.lock();
+    try {
+      addWorkspaceDependencies(mavenProject, queue);
+      while (!queue.isEmpty()) {
+        MavenProject dependency = queue.poll();
+        if (visited.add(dependency)) {
+          poms.add(dependency.getPomFile());
+          MavenKey parentKey = dependency.getParentKey();
+          MavenProject parent = parentKey == null ? null : keyToProjectMap.get(parentKey);
+          while (parent != null && poms.add(parent.getPomFile())) {
+            parentKey = parent.getParentKey();
+            parent = parentKey == null ? null : keyToProjectMap.get(parentKey);
+          }
+          addWorkspaceDependencies(dependency, queue);
+        }
+      }
+    } finally {
+      readLock.unlock();
+    }
+    return new ArrayList<>(poms);
+  }
+
+  private void addWorkspaceDependencies(MavenProject mavenProject, Deque<MavenProject> queue) {
+    for (MavenArtifact artifact : mavenProject.getDependencies()) {
+      MavenProject dependency =
+          keyToProjectMap.get(
+              new MavenKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion()));
+      if (dependency != null) {
+        queue.add(dependency);
+      }
+    }
+  }
+
   public void update(List<IProject> projects, boolean recursive) {
+    update(projects, recursive, true);
+  }
+
+  /**
+   * Updates the given projects.
+   *
+   * @param projects projects to update
+   * @param recursive whether modules of the projects should be updated too
+   * @param force whether the projects should be treated as entirely changed, otherwise only the
+   *     actual {@link MavenProjectModifications#getPomChanges() pom.xml changes} are reported
+   */
+  public void update(List<IProject> projects, boolean recursive, boolean force) {
     if (projects.isEmpty()) {
       return;
     }
     mavenNotifier.start();
-    UpdateState state = new UpdateState();
+    UpdateState state = new UpdateState(force);
     Deque<MavenProject> stack = new LinkedList<>();
     for (IProject project : projects) {
       MavenProject mavenProject = findMavenProject(project);
@@ -438,6 +534,100 @@ public class MavenProjectManager {
     }
   }
 
+  /**
+   * Returns projects which must be resolved after the given update. These are the updated projects
+   * whose pom.xml was changed in a way that may change their resolved model, the projects
+   * inheriting such pom.xml files and the projects depending on the projects whose dependencies
+   * may have changed.
+   *
+   * @param updated updated projects with their modifications
+   * @param removed removed projects
+   * @see PomChange
+   */
+  public Set<MavenProject> findProjectsToResolve(
+      Map<MavenProject, MavenProjectModifications> updated, List<MavenProject> removed) {
+    readLock.lock();
+    try {
+      Set<MavenProject> result = new HashSet<>();
+      Set<MavenProject> changedArtifacts = new HashSet<>(removed);
+      for (Map.Entry<MavenProject, MavenProjectModifications> entry : updated.entrySet()) {
+        MavenProject project = entry.getKey();
+        Set<PomChange> changes = entry.getValue().getPomChanges();
+        if (changes.stream().anyMatch(PomChange::affectsProject)) {
+          result.add(project);
+        }
+        boolean affectsDependents = changes.stream().anyMatch(PomChange::affectsDependents);
+        if (affectsDependents) {
+          changedArtifacts.add(project);
+        }
+        if (changes.stream().anyMatch(PomChange::affectsInheritors)) {
+          List<MavenProject> inheritors = findInheritors(project);
+          result.addAll(inheritors);
+          if (affectsDependents) {
+            changedArtifacts.addAll(inheritors);
+          }
+        }
+      }
+      for (MavenProject project : removed) {
+        List<MavenProject> inheritors = findInheritors(project);
+        result.addAll(inheritors);
+        changedArtifacts.addAll(inheritors);
+      }
+
+      // dependencies of the dependents change as well, so their dependents are resolved too
+      Deque<MavenProject> queue = new LinkedList<>(changedArtifacts);
+      while (!queue.isEmpty()) {
+        MavenKey key = queue.poll().getMavenKey();
+        if (key == null) {
+          continue;
+        }
+        for (MavenProject project : projectToMavenProjectMap.values()) {
+          if (!changedArtifacts.contains(project) && dependsOn(project, key)) {
+            changedArtifacts.add(project);
+            result.add(project);
+            queue.add(project);
+          }
+        }
+      }
+      result.removeAll(removed);
+      return result;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /** Returns projects inheriting the given project directly or through other projects. */
+  private List<MavenProject> findInheritors(MavenProject parent) {
+    List<MavenProject> result = new ArrayList<>();
+    Set<MavenKey> visited = new HashSet<>();
+    Deque<MavenKey> queue = new LinkedList<>();
+    queue.add(parent.getMavenKey());
+    while (!queue.isEmpty()) {
+      MavenKey parentKey = queue.poll();
+      if (parentKey == null || !visited.add(parentKey)) {
+        continue;
+      }
+      for (MavenProject project : projectToMavenProjectMap.values()) {
+        if (project != parent && Objects.equals(project.getParentKey(), parentKey)) {
+          result.add(project);
+          queue.add(project.getMavenKey());
+        }
+      }
+    }
+    return result;
+  }
+
+  private boolean dependsOn(MavenProject project, MavenKey key) {
+    for (MavenArtifact artifact : project.getDependencies()) {
+      if (Objects.equals(key.getGroupId(), artifact.getGroupId())
+          && Objects.equals(key.getArtifactId(), artifact.getArtifactId())
+          && Objects.equals(key.getVersion(), artifact.getVersion())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public List<MavenProject> findDependentProjects(List<MavenProject> projects) {
     readLock.lock();
     try {
@@ -532,7 +722,20 @@ public class MavenProjectManager {
 
     Set<MavenProject> removedProjects = new HashSet<>();
 
+    private final boolean force;
+
+    UpdateState() {
+      this(false);
+    }
+
+    UpdateState(boolean force) {
+      this.force = force;
+    }
+
     public void addUpdate(MavenProject mavenProject, MavenProjectModifications modifications) {
+      if (force) {
+        modifications.setPomChanges(EnumSet.allOf(PomChange.class));
+      }
       removedProjects.remove(mavenProject);
       projectWithModification.put(mavenProject, modifications);
     }
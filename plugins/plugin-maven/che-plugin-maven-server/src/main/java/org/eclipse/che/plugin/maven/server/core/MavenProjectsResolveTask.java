@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.core;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves several Maven projects in parallel.
+ *
+ * <p>A project is resolved after the projects of the same task it depends on, i.e. after its parent
+ * and the modules whose artifacts it uses, so independent modules of a reactor are resolved at the
+ * same time while the dependent ones wait for their dependencies. When the remaining projects
+ * depend on each other cyclically, they are resolved in no particular order.
+ */
+public class MavenProjectsResolveTask implements MavenProjectTask {
+  private static final Logger LOG = LoggerFactory.getLogger(MavenProjectsResolveTask.class);
+
+  private final Collection<MavenProject> projects;
+  private final MavenProjectManager projectManager;
+  private final ExecutorService executor;
+  private final MavenProgressNotifier notifier;
+  private final Consumer<MavenProject> afterResolve;
+
+  public MavenProjectsResolveTask(
+      Collection<MavenProject> projects,
+      MavenProjectManager projectManager,
+      ExecutorService executor,
+      MavenProgressNotifier notifier,
+      Consumer<MavenProject> afterResolve) {
+    this.projects = projects;
+    this.projectManager = projectManager;
+    this.executor = executor;
+    this.notifier = notifier;
+    this.afterResolve = afterResolve;
+  }
+
+  @Override
+  public void perform() {
+    Map<MavenProject, Set<MavenProject>> dependencies = getDependencies(projects);
+    CompletionService<MavenProject> completionService = new ExecutorCompletionService<>(executor);
+    Set<MavenProject> pending = new LinkedHashSet<>(projects);
+    Set<MavenProject> resolved = new HashSet<>();
+    int running = 0;
+    while (!pending.isEmpty() || running > 0) {
+      List<MavenProject> ready =
+          pending
+              .stream()
+              .filter(project -> resolved.containsAll(dependencies.get(project)))
+              .collect(Collectors.toList());
+      if (ready.isEmpty() && running == 0) {
+        LOG.warn("Cyclic dependencies between projects {}", pending);
+        ready.addAll(pending);
+      }
+      for (MavenProject project : ready) {
+        pending.remove(project);
+        completionService.submit(() -> resolve(project));
+        running++;
+      }
+
+      try {
+        resolved.add(completionService.take().get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException e) {
+        // never happens as resolve errors are logged
+        LOG.error(e.getMessage(), e);
+      }
+      running--;
+      notifier.setPercent((double) resolved.size() / projects.size());
+    }
+  }
+
+  private MavenProject resolve(MavenProject project) {
+    try {
+      new MavenProjectResolveTask(project, projectManager, () -> afterResolve.accept(project))
+          .perform();
+    } catch (Throwable throwable) {
+      LOG.error("Can't resolve project " + project.getName(), throwable);
+    }
+    return project;
+  }
+
+  /** Returns projects of the given collection each project depends on. */
+  @VisibleForTesting
+  static Map<MavenProject, Set<MavenProject>> getDependencies(Collection<MavenProject> projects) {
+    Map<MavenKey, MavenProject> projectsByKey = new HashMap<>();
+    for (MavenProject project : projects) {
+      projectsByKey.put(project.getMavenKey(), project);
+    }
+
+    Map<MavenProject, Set<MavenProject>> dependencies = new HashMap<>();
+    for (MavenProject project : projects) {
+      Set<MavenProject> projectDependencies = new HashSet<>();
+      if (project.getParentKey() != null) {
+        MavenProject parent = projectsByKey.get(project.getParentKey());
+        if (parent != null) {
+          projectDependencies.add(parent);
+        }
+      }
+      for (MavenArtifact artifact : project.getDependencies()) {
+        MavenKey key =
+            new MavenKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
+        MavenProject dependency = projectsByKey.get(key);
+        if (dependency != null) {
+          projectDependencies.add(dependency);
+        }
+      }
+      projectDependencies.remove(project);
+      dependencies.put(project, projectDependencies);
+    }
+    return dependencies;
+  }
+}
@@ -16,7 +16,7 @@ import static org.eclipse.che.plugin.maven.shared.MavenAttributes.MAVEN_ID;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -63,6 +63,8 @@ public class MavenWorkspace {
   private final MavenProjectManager manager;
   private final Provider<ProjectRegistry> projectRegistryProvider;
   private final ClasspathManager classpathManager;
+  private final MavenExecutorService executorService;
+  private final MavenProgressNotifier notifier;
 
   private MavenTaskExecutor resolveExecutor;
   private MavenTaskExecutor classPathExecutor;
@@ -81,6 +83,8 @@ public class MavenWorkspace {
     this.projectRegistryProvider = projectRegistryProvider;
     this.classpathManager = classpathManager;
     this.manager = manager;
+    this.executorService = executorService;
+    this.notifier = notifier;
     resolveExecutor = new MavenTaskExecutor(executorService, notifier);
     eventService.subscribe(
         new EventSubscriber<ProjectDeletedEvent>() {
@@ -104,12 +108,7 @@ public class MavenWorkspace {
             removeProjects(removed);
             createNewProjects(updated.keySet());
 
-            List<MavenProject> allChangedProjects =
-                new ArrayList<>(updated.keySet().size() + removed.size());
-            allChangedProjects.addAll(updated.keySet());
-            allChangedProjects.addAll(removed);
-            List<MavenProject> needResolve = manager.findDependentProjects(allChangedProjects);
-            needResolve.addAll(updated.keySet());
+            Set<MavenProject> needResolve = manager.findProjectsToResolve(updated, removed);
 
             List<String> updatedPaths =
                 updated
@@ -135,7 +134,7 @@ public class MavenWorkspace {
         });
   }
 
-  private void addResolveProjects(List<MavenProject> needResolve) {
+  private void addResolveProjects(Collection<MavenProject> needResolve) {
     projectsToResolve.addAll(needResolve);
   }
 
@@ -167,27 +166,41 @@ public class MavenWorkspace {
         });
   }
 
+  /** Updates and resolves the given projects with their modules and dependent projects. */
   public void update(List<IProject> projects) {
     manager.update(projects, true);
     runResolve();
   }
 
+  /**
+   * Updates the given projects with their modules after their pom.xml files were changed. Only the
+   * projects affected by the changes are resolved.
+   *
+   * @see MavenProjectManager#findProjectsToResolve(Map, List)
+   */
+  public void updateChanged(List<IProject> projects) {
+    manager.update(projects, true, false);
+    runResolve();
+  }
+
   private void runResolve() {
     //TODO synchronise on projectsToResolve change
     Set<MavenProject> needResolve = new HashSet<>(projectsToResolve);
     projectsToResolve.clear();
-
-    for (MavenProject mavenProject : needResolve) {
-
-      resolveExecutor.submitTask(
-          new MavenProjectResolveTask(
-              mavenProject,
-              manager,
-              () -> {
-                addSourcesFromBuildHelperPlugin(mavenProject);
-                classpathManager.updateClasspath(mavenProject);
-              }));
+    if (needResolve.isEmpty()) {
+      return;
     }
+
+    resolveExecutor.submitTask(
+        new MavenProjectsResolveTask(
+            needResolve,
+            manager,
+            executorService.getResolveExecutor(),
+            notifier,
+            mavenProject -> {
+              addSourcesFromBuildHelperPlugin(mavenProject);
+              classpathManager.updateClasspath(mavenProject);
+            }));
   }
 
   private void updateJavaProject(MavenProject project) {
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenConstants;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of resolved Maven models.
+ *
+ * <p>After a workspace restart most of the projects are resolved by the Maven server to exactly
+ * the same models as before. So a successfully resolved model is stored on disk along with the
+ * fingerprint of the resolution inputs: contents of the project POM and of its parent POMs from
+ * the workspace, of the POMs of the workspace modules the resolved project depends on, directly or
+ * transitively, requested profiles, Maven settings and the workspace modules the parent and the
+ * dependencies of the resolved model map to. The stored model is used instead of resolving the
+ * project while the fingerprint matches and all the resolved dependencies are still in the local
+ * repository.
+ */
+@Singleton
+public class MavenModelCache {
+  private static final Logger LOG = LoggerFactory.getLogger(MavenModelCache.class);
+
+  private final File directory;
+  private final List<File> settingsFiles;
+
+  @Inject
+  public MavenModelCache(@Named("che.workspace.metadata") String wsMetadata) {
+    this(Paths.get(System.getProperty("user.home"), wsMetadata, "maven", "models").toFile());
+  }
+
+  MavenModelCache(File directory) {
+    this.directory = directory;
+    this.settingsFiles = new ArrayList<>();
+    settingsFiles.add(new File(System.getProperty("user.home"), ".m2/settings.xml"));
+    String mavenHome = System.getenv("M2_HOME");
+    if (mavenHome != null) {
+      settingsFiles.add(new File(mavenHome, "conf/settings.xml"));
+    }
+  }
+
+  /**
+   * Returns the stored result of the project resolution or {@code null} if there is no result for
+   * the given inputs.
+   *
+   * @param pomPath workspace path of the project POM
+   * @param poms the project POM followed by its parent POMs
+   * @param activeProfiles profiles explicitly activated for the resolution
+   * @param inactiveProfiles profiles explicitly deactivated for the resolution
+   * @param workspaceCache the workspace modules the project would be resolved against
+   */
+  public MavenModelReaderResult get(
+      String pomPath,
+      List<File> poms,
+      List<String> activeProfiles,
+      List<String> inactiveProfiles,
+      MavenWorkspaceCache workspaceCache) {
+    File file = getEntryFile(pomPath);
+    if (!file.isFile()) {
+      return null;
+    }
+    Entry entry;
+    try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(file.toPath()))) {
+      entry = (Entry) in.readObject();
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      LOG.debug("Can't read cached model of {}. Cause: {}", pomPath, e.getMessage());
+      file.delete();
+      return null;
+    }
+    List<File> dependencyPoms = entry.dependencyPoms.stream().map(File::new).collect(toList());
+    String fingerprint =
+        computeFingerprint(
+            poms, dependencyPoms, activeProfiles, inactiveProfiles, workspaceCache, entry.model);
+    if (fingerprint == null || !fingerprint.equals(entry.fingerprint)) {
+      return null;
+    }
+    for (MavenArtifact dependency : entry.model.getDependencies()) {
+      File dependencyFile = dependency.getFile();
+      if (dependency.isResolved() && dependencyFile != null && !dependencyFile.exists()) {
+        return null;
+      }
+    }
+    return new MavenModelReaderResult(
+        entry.model,
+        entry.activeProfiles,
+        entry.inactiveProfiles,
+        new ArrayList<>(),
+        new HashSet<>(entry.unresolvedArtifacts));
+  }
+
+  /**
+   * Stores the result of the project resolution, results with problems are not stored as the
+   * problems may be temporary.
+   *
+   * @param dependencyPoms POMs of the workspace modules the resolved project depends on, with their
+   *     parent POMs
+   * @param workspaceCache the workspace modules the project was resolved against
+   * @see #get(String, List, List, List, MavenWorkspaceCache)
+   */
+  public void put(
+      String pomPath,
+      List<File> poms,
+      List<File> dependencyPoms,
+      List<String> activeProfiles,
+      List<String> inactiveProfiles,
+      MavenWorkspaceCache workspaceCache,
+      MavenModelReaderResult result) {
+    File file = getEntryFile(pomPath);
+    String fingerprint =
+        computeFingerprint(
+            poms,
+            dependencyPoms,
+            activeProfiles,
+            inactiveProfiles,
+            workspaceCache,
+            result.getMavenModel());
+    if (fingerprint == null
+        || !result.getProblems().isEmpty()
+        || result.getActiveProfiles() == null
+        || result.getInactiveProfiles() == null) {
+      file.delete();
+      return;
+    }
+    Entry entry = new Entry();
+    entry.fingerprint = fingerprint;
+    entry.dependencyPoms = dependencyPoms.stream().map(File::getPath).collect(toList());
+    entry.model = result.getMavenModel();
+    entry.activeProfiles = new ArrayList<>(result.getActiveProfiles());
+    entry.inactiveProfiles = new ArrayList<>(result.getInactiveProfiles());
+    entry.unresolvedArtifacts = new HashSet<>(result.getUnresolvedArtifacts());
+
+    File tmp = new File(directory, file.getName() + ".tmp");
+    try {
+      Files.createDirectories(directory.toPath());
+      try (OutputStream out = Files.newOutputStream(tmp.toPath());
+          ObjectOutputStream objects = new ObjectOutputStream(out)) {
+        objects.writeObject(entry);
+      }
+      Files.move(tmp.toPath(), file.toPath(), REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn("Can't cache model of {}. Cause: {}", pomPath, e.getMessage());
+      tmp.delete();
+    }
+  }
+
+  /** Removes the stored result of the resolution of the project with the given POM. */
+  public void invalidate(String pomPath) {
+    getEntryFile(pomPath).delete();
+  }
+
+  private File getEntryFile(String pomPath) {
+    MessageDigest digest = newDigest();
+    digest.update(pomPath.getBytes(UTF_8));
+    return new File(directory, toHex(digest.digest()) + ".model");
+  }
+
+  private String computeFingerprint(
+      List<File> poms,
+      List<File> dependencyPoms,
+      List<String> activeProfiles,
+      List<String> inactiveProfiles,
+      MavenWorkspaceCache workspaceCache,
+      MavenModel model) {
+    MessageDigest digest = newDigest();
+    try {
+      for (File pom : poms) {
+        update(digest, pom);
+      }
+      for (File pom : dependencyPoms) {
+        update(digest, pom);
+      }
+      for (File settings : settingsFiles) {
+        update(digest, settings);
+      }
+    } catch (IOException e) {
+      LOG.debug("Can't compute fingerprint of {}. Cause: {}", poms, e.getMessage());
+      return null;
+    }
+    digest.update(String.valueOf(activeProfiles).getBytes(UTF_8));
+    digest.update(String.valueOf(inactiveProfiles).getBytes(UTF_8));
+    if (model.getParent() != null) {
+      update(digest, workspaceCache, model.getParent().getMavenKey());
+    }
+    for (MavenArtifact dependency : model.getDependencies()) {
+      update(
+          digest,
+          workspaceCache,
+          new MavenKey(
+              dependency.getGroupId(), dependency.getArtifactId(), dependency.getBaseVersion()));
+    }
+    return toHex(digest.digest());
+  }
+
+  /**
+   * Adds the workspace module the given key maps to, so the model is resolved again once the module
+   * providing the key is added to or removed from the workspace.
+   */
+  private static void update(
+      MessageDigest digest, MavenWorkspaceCache workspaceCache, MavenKey key) {
+    MavenWorkspaceCache.Entry entry = workspaceCache.findEntry(key);
+    String module = entry == null ? "-" : entry.getFile(MavenConstants.POM_EXTENSION).getPath();
+    digest.update((key + "=" + module + '\n').getBytes(UTF_8));
+  }
+
+  private static void update(MessageDigest digest, File file) throws IOException {
+    digest.update(file.getAbsolutePath().getBytes(UTF_8));
+    if (!file.isFile()) {
+      digest.update((byte) 0);
+      return;
+    }
+    byte[] buffer = new byte[8192];
+    try (InputStream in = Files.newInputStream(file.toPath())) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  private static class Entry implements Serializable {
+    private static final long serialVersionUID = 3L;
+
+    private String fingerprint;
+    private List<String> dependencyPoms;
+    private MavenModel model;
+    private List<String> activeProfiles;
+    private List<String> inactiveProfiles;
+    private Set<MavenKey> unresolvedArtifacts;
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.eclipse.che.commons.lang.PathUtil;
 import org.eclipse.che.maven.data.MavenArtifact;
@@ -34,6 +35,7 @@ import org.eclipse.che.maven.data.MavenProfile;
 import org.eclipse.che.maven.data.MavenProjectProblem;
 import org.eclipse.che.maven.data.MavenRemoteRepository;
 import org.eclipse.che.maven.data.MavenResource;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
 import org.eclipse.che.plugin.maven.server.MavenServerManager;
 import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
 import org.eclipse.core.resources.IFile;
@@ -49,6 +51,7 @@ public class MavenProject {
   private final IProject project;
   private final IWorkspace workspace;
   private volatile Info info = new Info();
+  private volatile Map<PomChange, String> pomFingerprints;
 
   public MavenProject(IProject project, IWorkspace workspace) {
     this.project = project;
@@ -184,17 +187,69 @@ public class MavenProject {
    */
   public MavenProjectModifications resolve(
       IProject project, MavenServerWrapper mavenServer, MavenServerManager serverManager) {
-    MavenModelReader reader = new MavenModelReader();
+    return resolve(project, mavenServer, serverManager, null, null, null, null);
+  }
 
+  /**
+   * Invoke maven to build project model and stores the model in the cache.
+   *
+   * @param project to resolve
+   * @param mavenServer the maven server
+   * @param cache the cache of resolved models, may be {@code null}
+   * @param poms pom.xml of the project followed by pom.xml files of its parents
+   * @param workspaceCache the workspace modules the maven server resolves the project against
+   * @param dependencyPoms supplies pom.xml files of the workspace modules the project depends on
+   *     once the project is resolved
+   * @return the modification types that applied to this project
+   */
+  public MavenProjectModifications resolve(
+      IProject project,
+      MavenServerWrapper mavenServer,
+      MavenServerManager serverManager,
+      MavenModelCache cache,
+      List<File> poms,
+      MavenWorkspaceCache workspaceCache,
+      Supplier<List<File>> dependencyPoms) {
+    List<String> activeProfiles = info.activeProfiles;
+    List<String> inactiveProfiles = info.inactiveProfiles;
     MavenModelReaderResult modelReaderResult =
-        reader.resolveMavenProject(
-            getPom(project),
-            mavenServer,
-            info.activeProfiles,
-            info.inactiveProfiles,
-            serverManager);
+        new MavenModelReader()
+            .resolveMavenProject(
+                getPom(project), mavenServer, activeProfiles, inactiveProfiles, serverManager);
+    MavenProjectModifications modifications =
+        setModel(modelReaderResult, modelReaderResult.getProblems().isEmpty(), false);
+    if (cache != null) {
+      cache.put(
+          getPomPath(),
+          poms,
+          dependencyPoms.get(),
+          activeProfiles,
+          inactiveProfiles,
+          workspaceCache,
+          modelReaderResult);
+    }
 
-    return setModel(modelReaderResult, modelReaderResult.getProblems().isEmpty(), false);
+    return modifications;
+  }
+
+  /**
+   * Builds project model from the cache of resolved models.
+   *
+   * @param cache the cache of resolved models
+   * @param poms pom.xml of the project followed by pom.xml files of its parents
+   * @param workspaceCache the workspace modules the project would be resolved against
+   * @return the modification types that applied to this project or {@code null} if the cache
+   *     doesn't contain the model for the current state of the project
+   */
+  public MavenProjectModifications resolveFromCache(
+      MavenModelCache cache, List<File> poms, MavenWorkspaceCache workspaceCache) {
+    MavenModelReaderResult modelReaderResult =
+        cache.get(
+            getPomPath(), poms, info.activeProfiles, info.inactiveProfiles, workspaceCache);
+    if (modelReaderResult == null) {
+      return null;
+    }
+    return setModel(modelReaderResult, true, false);
   }
 
   public MavenProjectModifications read(MavenServerManager manager) {
@@ -203,7 +258,16 @@ public class MavenProject {
 
   public MavenProjectModifications read(IProject project, MavenServerManager serverManager) {
     MavenModelReader reader = new MavenModelReader();
-    return setModel(reader.readMavenProject(getPom(project), serverManager), false, true);
+    File pom = getPom(project);
+    Map<PomChange, String> newFingerprints =
+        pom == null ? null : PomChangeAnalyzer.fingerprint(pom);
+    Set<PomChange> pomChanges = PomChangeAnalyzer.analyze(pomFingerprints, newFingerprints);
+    pomFingerprints = newFingerprints;
+
+    MavenProjectModifications modifications =
+        setModel(reader.readMavenProject(pom, serverManager), false, true);
+    modifications.setPomChanges(pomChanges);
+    return modifications;
   }
 
   private MavenProjectModifications setModel(
@@ -10,6 +10,9 @@
  */
 package org.eclipse.che.plugin.maven.server.core.project;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Data class, contains maven modifications that applying during project update
  *
@@ -20,6 +23,7 @@ public class MavenProjectModifications {
   private boolean sources;
   private boolean dependencies;
   private boolean plugins;
+  private Set<PomChange> pomChanges = EnumSet.noneOf(PomChange.class);
 
   public boolean isPackaging() {
     return packaging;
@@ -53,6 +57,16 @@ public class MavenProjectModifications {
     this.plugins = plugins;
   }
 
+  /** Returns changes made to pom.xml of the project since it was read last time. */
+  public Set<PomChange> getPomChanges() {
+    return pomChanges;
+  }
+
+  public void setPomChanges(Set<PomChange> pomChanges) {
+    this.pomChanges = EnumSet.noneOf(PomChange.class);
+    this.pomChanges.addAll(pomChanges);
+  }
+
   public MavenProjectModifications addChanges(MavenProjectModifications newMod) {
     if (newMod != null) {
       MavenProjectModifications result = new MavenProjectModifications();
@@ -60,6 +74,8 @@ public class MavenProjectModifications {
       result.sources = this.sources | newMod.sources;
       result.dependencies = this.dependencies | newMod.dependencies;
       result.plugins = this.plugins | newMod.plugins;
+      result.pomChanges.addAll(this.pomChanges);
+      result.pomChanges.addAll(newMod.pomChanges);
       return result;
     }
     return this;
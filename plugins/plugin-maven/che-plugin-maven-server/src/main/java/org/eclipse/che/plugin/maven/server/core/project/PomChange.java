@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.core.project;
+
+/**
+ * Kind of a pom.xml change, defines which projects must be resolved once again after the change.
+ *
+ * @see PomChangeAnalyzer
+ */
+public enum PomChange {
+  /** Coordinates, packaging or parent of the project. */
+  COORDINATES(true, true, true),
+  /** Dependencies of the project. */
+  DEPENDENCIES(true, true, true),
+  /** Dependency management section. */
+  DEPENDENCY_MANAGEMENT(true, true, true),
+  /** Properties of the project. */
+  PROPERTIES(true, true, true),
+  /** Profiles, they may change any part of the model. */
+  PROFILES(true, true, true),
+  /** Repositories and plugin repositories. */
+  REPOSITORIES(true, true, false),
+  /** Build plugins, extensions and the rest of the build configuration. */
+  BUILD(true, true, false),
+  /** Source and resource directories. */
+  SOURCES(false, true, false),
+  /** Modules of the project, added and removed modules are updated on their own. */
+  MODULES(false, false, false),
+  /** Anything else, e.g. name, description or SCM of the project. */
+  OTHER(false, false, false);
+
+  private final boolean affectsProject;
+  private final boolean affectsInheritors;
+  private final boolean affectsDependents;
+
+  PomChange(boolean affectsProject, boolean affectsInheritors, boolean affectsDependents) {
+    this.affectsProject = affectsProject;
+    this.affectsInheritors = affectsInheritors;
+    this.affectsDependents = affectsDependents;
+  }
+
+  /** Returns {@code true} if the changed project must be resolved once again. */
+  public boolean affectsProject() {
+    return affectsProject;
+  }
+
+  /** Returns {@code true} if projects inheriting the changed pom.xml must be resolved again. */
+  public boolean affectsInheritors() {
+    return affectsInheritors;
+  }
+
+  /**
+   * Returns {@code true} if the change may change dependencies of the project, so projects
+   * depending on its artifact must be resolved once again.
+   */
+  public boolean affectsDependents() {
+    return affectsDependents;
+  }
+}
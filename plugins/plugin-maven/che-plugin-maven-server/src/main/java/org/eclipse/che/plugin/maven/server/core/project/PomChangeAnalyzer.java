@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.che.commons.xml.Attribute;
+import org.eclipse.che.commons.xml.Element;
+import org.eclipse.che.commons.xml.XMLTree;
+import org.eclipse.che.commons.xml.XMLTreeException;
+
+/**
+ * Finds out what kind of changes were made to a pom.xml.
+ *
+ * <p>Each section of a pom.xml is reduced to a fingerprint, i.e. a checksum of its elements, text
+ * and attributes with formatting and comments left out. Changes are found by comparing the
+ * fingerprints of the previous and of the current pom.xml, so only the fingerprints are kept
+ * between updates instead of the whole model.
+ *
+ * @see PomChange
+ */
+public final class PomChangeAnalyzer {
+
+  private PomChangeAnalyzer() {}
+
+  /**
+   * Returns fingerprints of the sections of the given pom.xml or {@code null} if the pom.xml can't
+   * be read.
+   */
+  public static Map<PomChange, String> fingerprint(File pom) {
+    XMLTree tree;
+    try {
+      tree = XMLTree.from(pom);
+    } catch (IOException | XMLTreeException e) {
+      return null;
+    }
+
+    Map<PomChange, StringBuilder> sections = new EnumMap<>(PomChange.class);
+    for (Element element : tree.getRoot().getChildren()) {
+      if ("build".equals(element.getName())) {
+        for (Element buildElement : element.getChildren()) {
+          append(sections, getBuildChange(buildElement.getName()), buildElement);
+        }
+      } else {
+        append(sections, getChange(element.getName()), element);
+      }
+    }
+
+    Map<PomChange, String> fingerprints = new EnumMap<>(PomChange.class);
+    for (Map.Entry<PomChange, StringBuilder> section : sections.entrySet()) {
+      fingerprints.put(section.getKey(), digest(section.getValue()));
+    }
+    return fingerprints;
+  }
+
+  /**
+   * Returns changes between the pom.xml fingerprints, all kinds of changes are returned if any of
+   * the fingerprints is unknown.
+   *
+   * @param oldFingerprints fingerprints of the previous pom.xml, may be {@code null}
+   * @param newFingerprints fingerprints of the current pom.xml, may be {@code null}
+   */
+  public static Set<PomChange> analyze(
+      Map<PomChange, String> oldFingerprints, Map<PomChange, String> newFingerprints) {
+    if (oldFingerprints == null || newFingerprints == null) {
+      return EnumSet.allOf(PomChange.class);
+    }
+    Set<PomChange> changes = EnumSet.noneOf(PomChange.class);
+    for (PomChange change : PomChange.values()) {
+      if (!Objects.equals(oldFingerprints.get(change), newFingerprints.get(change))) {
+        changes.add(change);
+      }
+    }
+    return changes;
+  }
+
+  private static PomChange getChange(String name) {
+    switch (name) {
+      case "groupId":
+      case "artifactId":
+      case "version":
+      case "packaging":
+      case "parent":
+        return PomChange.COORDINATES;
+      case "dependencies":
+        return PomChange.DEPENDENCIES;
+      case "dependencyManagement":
+        return PomChange.DEPENDENCY_MANAGEMENT;
+      case "properties":
+        return PomChange.PROPERTIES;
+      case "profiles":
+        return PomChange.PROFILES;
+      case "repositories":
+      case "pluginRepositories":
+        return PomChange.REPOSITORIES;
+      case "modules":
+        return PomChange.MODULES;
+      default:
+        return PomChange.OTHER;
+    }
+  }
+
+  private static PomChange getBuildChange(String name) {
+    switch (name) {
+      case "sourceDirectory":
+      case "testSourceDirectory":
+      case "scriptSourceDirectory":
+      case "resources":
+      case "testResources":
+        return PomChange.SOURCES;
+      default:
+        return PomChange.BUILD;
+    }
+  }
+
+  private static void append(
+      Map<PomChange, StringBuilder> sections, PomChange change, Element element) {
+    append(sections.computeIfAbsent(change, key -> new StringBuilder()), element);
+  }
+
+  private static void append(StringBuilder builder, Element element) {
+    builder.append('<').append(element.getName());
+    for (Attribute attribute : element.getAttributes()) {
+      builder.append(' ').append(attribute.getName()).append('=').append(attribute.getValue());
+    }
+    builder.append('>');
+    if (element.hasChildren()) {
+      for (Element child : element.getChildren()) {
+        append(builder, child);
+      }
+    } else {
+      builder.append(element.getText().trim());
+    }
+    builder.append("</>");
+  }
+
+  private static String digest(CharSequence content) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+    byte[] bytes = digest.digest(content.toString().getBytes(UTF_8));
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+}
@@ -51,6 +51,8 @@ public class MavenValueProvider extends ReadonlyValueProvider {
 
   private MavenProjectManager mavenProjectManager;
   private FolderEntry projectFolder;
+  /** Model of pom.xml read for the first attribute which is not provided by maven project */
+  private Model model;
 
   protected MavenValueProvider(MavenProjectManager mavenProjectManager, FolderEntry projectFolder) {
     this.mavenProjectManager = mavenProjectManager;
@@ -132,7 +134,9 @@ public class MavenValueProvider extends ReadonlyValueProvider {
   private List<String> readFromPom(String attributeName)
       throws ServerException, ForbiddenException, IOException, XMLTreeException,
           ValueStorageException {
-    final Model model = readModel(projectFolder);
+    if (model == null) {
+      model = readModel(projectFolder);
+    }
     switch (attributeName) {
       case ARTIFACT_ID:
         return singletonList(model.getArtifactId());
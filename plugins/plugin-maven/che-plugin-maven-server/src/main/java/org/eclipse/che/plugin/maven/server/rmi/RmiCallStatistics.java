@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.rmi;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/** Count, failures and latency of remote calls. */
+public class RmiCallStatistics {
+  private long calls;
+  private long failures;
+  private long totalNanos;
+  private long maxNanos;
+
+  /**
+   * Records a completed remote call.
+   *
+   * @param durationNanos duration of the call in nanoseconds
+   * @param failed whether the call failed with a remote exception
+   */
+  public synchronized void record(long durationNanos, boolean failed) {
+    calls++;
+    if (failed) {
+      failures++;
+    }
+    totalNanos += durationNanos;
+    maxNanos = Math.max(maxNanos, durationNanos);
+  }
+
+  /** Returns count of recorded calls. */
+  public synchronized long getCalls() {
+    return calls;
+  }
+
+  /** Returns count of recorded calls failed with a remote exception. */
+  public synchronized long getFailures() {
+    return failures;
+  }
+
+  /** Returns average duration of the recorded calls in milliseconds. */
+  public synchronized double getAverageMillis() {
+    return calls == 0 ? 0 : (double) totalNanos / calls / NANOSECONDS.convert(1, MILLISECONDS);
+  }
+
+  /** Returns duration of the longest recorded call in milliseconds. */
+  public synchronized long getMaxMillis() {
+    return NANOSECONDS.toMillis(maxNanos);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format(
+        "RmiCallStatistics{calls=%d, failures=%d, averageMillis=%.1f, maxMillis=%d}",
+        calls, failures, getAverageMillis(), getMaxMillis());
+  }
+}
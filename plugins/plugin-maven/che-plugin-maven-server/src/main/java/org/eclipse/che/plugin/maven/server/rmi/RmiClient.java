@@ -237,6 +237,17 @@ public abstract class RmiClient<Remote> {
     return info != null;
   }
 
+  /** Destroys the process started for the given target and parameter, if there is one. */
+  public void stop(Object target, Object param) {
+    ProcessInfo info;
+    synchronized (infoMap) {
+      info = infoMap.get(Pair.of(target, param));
+    }
+    if (info != null && info.processHandler != null) {
+      info.processHandler.destroyProcess();
+    }
+  }
+
   public void stopAll(boolean wait) {
     List<ProcessInfo> processList;
     synchronized (infoMap) {
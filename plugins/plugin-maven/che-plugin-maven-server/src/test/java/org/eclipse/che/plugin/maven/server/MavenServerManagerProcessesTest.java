@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.rmi.RemoteException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.server.MavenRemoteServer;
+import org.eclipse.che.maven.server.MavenServer;
+import org.eclipse.che.plugin.maven.server.rmi.RmiClient;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests routing and health checks of the {@link MavenServerManager} processes. */
+public class MavenServerManagerProcessesTest {
+  private static final int TIMEOUT = 5_000;
+  private static final File PROJECT_DIR = new File("project");
+
+  private final MavenModel model = new MavenModel();
+
+  private RmiClient<MavenRemoteServer> client;
+  private MavenRemoteServer first;
+  private MavenRemoteServer second;
+  private MavenServerManager manager;
+  private ExecutorService executor;
+
+  @BeforeMethod
+  @SuppressWarnings("unchecked")
+  public void setUp() throws Exception {
+    client = mock(RmiClient.class);
+    first = mock(MavenRemoteServer.class);
+    second = mock(MavenRemoteServer.class);
+    when(client.acquire(any(), anyString())).thenReturn(first, second);
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    executor.shutdownNow();
+    if (manager != null) {
+      manager.shutdown();
+    }
+  }
+
+  @Test(timeOut = TIMEOUT)
+  public void shouldRouteCallToLeastLoadedProcess() throws Exception {
+    manager = newManager(2, 0);
+    CountDownLatch callStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(first.interpolateModel(model, PROJECT_DIR))
+        .thenAnswer(
+            invocation -> {
+              callStarted.countDown();
+              release.await();
+              return model;
+            });
+    Future<MavenModel> blocked =
+        executor.submit(() -> manager.interpolateModel(model, PROJECT_DIR));
+    callStarted.await();
+
+    manager.interpolateModel(model, PROJECT_DIR);
+    verify(second).interpolateModel(model, PROJECT_DIR);
+
+    release.countDown();
+    blocked.get();
+    manager.interpolateModel(model, PROJECT_DIR);
+    verify(first, times(2)).interpolateModel(model, PROJECT_DIR);
+  }
+
+  @Test(timeOut = TIMEOUT)
+  public void shouldRetryFailedCallOnStartedProcess() throws Exception {
+    manager = newManager(2, 0);
+    CountDownLatch callStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(first.interpolateModel(model, PROJECT_DIR))
+        .thenAnswer(
+            invocation -> {
+              callStarted.countDown();
+              release.await();
+              return model;
+            })
+        .thenThrow(new RemoteException("process is gone"));
+    Future<MavenModel> blocked =
+        executor.submit(() -> manager.interpolateModel(model, PROJECT_DIR));
+    callStarted.await();
+    manager.interpolateModel(model, PROJECT_DIR);
+    release.countDown();
+    blocked.get();
+
+    manager.interpolateModel(model, PROJECT_DIR);
+
+    // the failed process is not started again as the other one is started and idle
+    verify(second, times(2)).interpolateModel(model, PROJECT_DIR);
+    verify(client, times(2)).acquire(any(), anyString());
+  }
+
+  @Test(timeOut = TIMEOUT)
+  public void shouldCountMavenServersBoundToProcessAsItsLoad() throws Exception {
+    manager = newManager(2, 0);
+    when(first.createServer(any())).thenReturn(mock(MavenServer.class));
+    MavenServerWrapper wrapper = manager.createMavenServer();
+    wrapper.getLocalRepository();
+
+    manager.interpolateModel(model, PROJECT_DIR);
+    verify(second).interpolateModel(model, PROJECT_DIR);
+
+    wrapper.dispose();
+    manager.interpolateModel(model, PROJECT_DIR);
+    verify(first).interpolateModel(model, PROJECT_DIR);
+  }
+
+  @Test
+  public void shouldStartProcessesInParallel() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger acquired = new AtomicInteger();
+    when(client.acquire(any(), anyString()))
+        .thenAnswer(
+            invocation -> {
+              if (acquired.getAndIncrement() == 0) {
+                release.await();
+                return first;
+              }
+              return second;
+            });
+    manager = newManager(2, 0);
+
+    manager.start();
+
+    try {
+      verify(second, timeout(TIMEOUT)).configure(any(), any());
+    } finally {
+      release.countDown();
+    }
+    verify(first, timeout(TIMEOUT)).configure(any(), any());
+  }
+
+  @Test
+  public void shouldRestartProcessWhichDoesNotRespondToPing() throws Exception {
+    doAnswer(
+            invocation -> {
+              new CountDownLatch(1).await();
+              return null;
+            })
+        .when(first)
+        .ping();
+    manager = newManager(1, 1);
+
+    manager.start();
+
+    verify(client, timeout(TIMEOUT)).stop(any(), eq(""));
+    verify(second, timeout(TIMEOUT)).configure(any(), any());
+  }
+
+  @Test
+  public void shouldNotRestartRespondingProcess() throws Exception {
+    manager = newManager(1, 1);
+
+    manager.start();
+
+    verify(first, timeout(TIMEOUT).atLeast(2)).ping();
+    verify(client, never()).stop(any(), any());
+    verify(client).acquire(any(), anyString());
+  }
+
+  private MavenServerManager newManager(int processes, int healthCheckPeriod) {
+    return new MavenServerManager(
+        "maven-server", processes, "512m", healthCheckPeriod, 100, client);
+  }
+}
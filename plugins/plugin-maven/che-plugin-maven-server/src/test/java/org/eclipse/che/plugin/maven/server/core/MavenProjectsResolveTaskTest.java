@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.core;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.testng.annotations.Test;
+
+/** Tests for {@link MavenProjectsResolveTask}. */
+public class MavenProjectsResolveTaskTest {
+
+  @Test
+  public void shouldDependOnParentAndModuleArtifacts() {
+    MavenProject parent = project("parent", null, emptyList());
+    MavenProject api = project("api", "parent", emptyList());
+    MavenProject impl = project("impl", "parent", asList(artifact("api"), artifact("junit")));
+
+    Map<MavenProject, Set<MavenProject>> dependencies =
+        MavenProjectsResolveTask.getDependencies(asList(parent, api, impl));
+
+    assertEquals(dependencies.get(parent), emptySet());
+    assertEquals(dependencies.get(api), singleton(parent));
+    assertEquals(dependencies.get(impl), ImmutableSet.of(parent, api));
+  }
+
+  @Test
+  public void shouldIgnoreProjectsWhichAreNotResolved() {
+    MavenProject api = project("api", "parent", emptyList());
+    MavenProject impl = project("impl", "parent", singletonList(artifact("api")));
+
+    Map<MavenProject, Set<MavenProject>> dependencies =
+        MavenProjectsResolveTask.getDependencies(singletonList(impl));
+
+    assertEquals(dependencies.get(impl), emptySet());
+    assertEquals(
+        MavenProjectsResolveTask.getDependencies(asList(api, impl)).get(impl), singleton(api));
+  }
+
+  private static MavenProject project(
+      String artifactId, String parentId, List<MavenArtifact> dependencies) {
+    MavenProject project = mock(MavenProject.class);
+    when(project.getMavenKey()).thenReturn(new MavenKey("org.test", artifactId, "1.0"));
+    if (parentId != null) {
+      when(project.getParentKey()).thenReturn(new MavenKey("org.test", parentId, "1.0"));
+    }
+    when(project.getDependencies()).thenReturn(dependencies);
+    return project;
+  }
+
+  private static MavenArtifact artifact(String artifactId) {
+    MavenArtifact artifact = mock(MavenArtifact.class);
+    when(artifact.getGroupId()).thenReturn("org.test");
+    when(artifact.getArtifactId()).thenReturn(artifactId);
+    when(artifact.getVersion()).thenReturn("1.0");
+    return artifact;
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.data.MavenProjectProblem;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class MavenModelCacheTest {
+  private static final String POM_PATH = "/impl/pom.xml";
+
+  private File directory;
+  private File parentPom;
+  private File implPom;
+  private File apiPom;
+  private MavenWorkspaceCache workspaceCache;
+  private MavenModelCache cache;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("maven-models").toFile();
+    parentPom = createPom("pom.xml", "parent");
+    implPom = createPom("impl-pom.xml", "impl");
+    apiPom = createPom("api-pom.xml", "api");
+    workspaceCache = new MavenWorkspaceCache();
+    cache = new MavenModelCache(new File(directory, "cache"));
+  }
+
+  @AfterMethod
+  public void tearDown() throws Exception {
+    IoUtil.deleteRecursive(directory);
+  }
+
+  @Test
+  public void shouldReturnCachedModelWhileInputsAreUnchanged() throws Exception {
+    put(singletonList(apiPom), newResult());
+
+    MavenModelReaderResult result = get(singletonList("dev"));
+
+    assertNotNull(result);
+    assertEquals(result.getMavenModel().getMavenKey(), new MavenKey("org.test", "impl", "1.0"));
+    assertEquals(result.getActiveProfiles(), singletonList("dev"));
+  }
+
+  @Test
+  public void shouldNotReturnModelWhenThereIsNoCachedModel() throws Exception {
+    assertNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldNotReturnModelWhenProjectPomIsChanged() throws Exception {
+    put(singletonList(apiPom), newResult());
+
+    write(implPom, "<project><artifactId>impl</artifactId><version>2.0</version></project>");
+
+    assertNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldNotReturnModelWhenParentPomIsChanged() throws Exception {
+    put(singletonList(apiPom), newResult());
+
+    write(parentPom, "<project><artifactId>parent</artifactId><modules/></project>");
+
+    assertNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldNotReturnModelWhenPomOfDependencyModuleIsChanged() throws Exception {
+    put(singletonList(apiPom), newResult());
+
+    write(apiPom, "<project><artifactId>api</artifactId><dependencies/></project>");
+
+    assertNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldNotReturnModelWhenProfilesAreChanged() throws Exception {
+    put(singletonList(apiPom), newResult());
+
+    assertNull(get(asList("dev", "test")));
+  }
+
+  @Test
+  public void shouldNotReturnModelWhenResolvedDependencyIsRemoved() throws Exception {
+    File jar = new File(directory, "junit.jar");
+    write(jar, "jar");
+    MavenModelReaderResult result = newResult();
+    result.getMavenModel().setDependencies(singletonList(newArtifact(jar)));
+    put(singletonList(apiPom), result);
+
+    jar.delete();
+
+    assertNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldNotReturnModelWhenModuleProvidingDependencyIsAddedToWorkspace()
+      throws Exception {
+    File jar = new File(directory, "junit.jar");
+    write(jar, "jar");
+    MavenModelReaderResult result = newResult();
+    result.getMavenModel().setDependencies(singletonList(newArtifact(jar)));
+    put(singletonList(apiPom), result);
+
+    workspaceCache.put(new MavenKey("junit", "junit", "4.12"), createPom("junit.xml", "junit"));
+
+    assertNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldNotReturnModelWhenModuleProvidingDependencyIsRemovedFromWorkspace()
+      throws Exception {
+    MavenKey junitKey = new MavenKey("junit", "junit", "4.12");
+    workspaceCache.put(junitKey, createPom("junit.xml", "junit"));
+    MavenModelReaderResult result = newResult();
+    result.getMavenModel().setDependencies(singletonList(newArtifact(null)));
+    put(singletonList(apiPom), result);
+
+    workspaceCache.invalidate(junitKey);
+
+    assertNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldReturnModelWhenUnrelatedModuleIsAddedToWorkspace() throws Exception {
+    put(singletonList(apiPom), newResult());
+
+    workspaceCache.put(new MavenKey("org.test", "other", "1.0"), createPom("other.xml", "other"));
+
+    assertNotNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldNotReturnModelAfterInvalidation() throws Exception {
+    put(singletonList(apiPom), newResult());
+
+    cache.invalidate(POM_PATH);
+
+    assertNull(get(singletonList("dev")));
+  }
+
+  @Test
+  public void shouldNotCacheResultWithProblems() throws Exception {
+    MavenModelReaderResult result =
+        new MavenModelReaderResult(
+            newModel(),
+            singletonList("dev"),
+            emptyList(),
+            singletonList(MavenProjectProblem.newStructureProblem(POM_PATH, "error")),
+            emptySet());
+
+    put(singletonList(apiPom), result);
+
+    assertNull(get(singletonList("dev")));
+  }
+
+  private void put(List<File> dependencyPoms, MavenModelReaderResult result) {
+    cache.put(
+        POM_PATH,
+        asList(implPom, parentPom),
+        dependencyPoms,
+        singletonList("dev"),
+        emptyList(),
+        workspaceCache,
+        result);
+  }
+
+  private MavenModelReaderResult get(List<String> activeProfiles) {
+    return cache.get(
+        POM_PATH, asList(implPom, parentPom), activeProfiles, emptyList(), workspaceCache);
+  }
+
+  private MavenModelReaderResult newResult() {
+    return new MavenModelReaderResult(
+        newModel(), singletonList("dev"), emptyList(), new ArrayList<>(), emptySet());
+  }
+
+  private MavenModel newModel() {
+    MavenModel model = new MavenModel();
+    model.setMavenKey(new MavenKey("org.test", "impl", "1.0"));
+    return model;
+  }
+
+  private MavenArtifact newArtifact(File file) {
+    return new MavenArtifact(
+        "junit",
+        "junit",
+        "4.12",
+        "4.12",
+        "jar",
+        null,
+        "test",
+        false,
+        "jar",
+        file,
+        directory,
+        true,
+        false);
+  }
+
+  private File createPom(String name, String artifactId) throws Exception {
+    File pom = new File(directory, name);
+    write(pom, "<project><artifactId>" + artifactId + "</artifactId></project>");
+    return pom;
+  }
+
+  private void write(File file, String content) throws Exception {
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+  }
+}
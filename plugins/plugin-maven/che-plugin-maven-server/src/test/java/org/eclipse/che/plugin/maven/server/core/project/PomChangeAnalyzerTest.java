@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PomChangeAnalyzerTest {
+  private File directory;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("pom-changes").toFile();
+  }
+
+  @AfterMethod
+  public void tearDown() throws Exception {
+    for (File file : directory.listFiles()) {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  @Test
+  public void sameContentShouldHaveNoChanges() throws Exception {
+    String pom = readResource("/multimoduleProject/test/pom.xml");
+
+    assertTrue(analyze(pom, pom).isEmpty());
+  }
+
+  @Test
+  public void formattingAndCommentsShouldBeIgnored() throws Exception {
+    String pom = readResource("/multimoduleProject/test/pom.xml");
+    String reformatted =
+        pom.replace("    <dependencies>", "<!-- dependencies -->\n<dependencies>")
+            .replace("<version>4.10</version>", "<version>\n  4.10\n</version>");
+
+    assertTrue(analyze(pom, reformatted).isEmpty());
+  }
+
+  @Test
+  public void dependencyVersionChangeShouldBeClassified() throws Exception {
+    String pom = readResource("/multimoduleProject/test/pom.xml");
+    String changed = pom.replace("<version>4.10</version>", "<version>4.12</version>");
+
+    assertEquals(analyze(pom, changed), EnumSet.of(PomChange.DEPENDENCIES));
+  }
+
+  @Test
+  public void sourceDirectoryChangeShouldBeClassified() throws Exception {
+    String pom = readResource("/multimoduleProject/test/pom.xml");
+    String changed = pom.replace("src/main/java", "src/main/generated");
+
+    assertEquals(analyze(pom, changed), EnumSet.of(PomChange.SOURCES));
+  }
+
+  @Test
+  public void pluginChangeShouldBeClassified() throws Exception {
+    String pom = readResource("/multimoduleProject/test/pom.xml");
+    String changed =
+        pom.replace(
+            "</build>",
+            "<plugins><plugin><artifactId>maven-compiler-plugin</artifactId></plugin></plugins>"
+                + "</build>");
+
+    assertEquals(analyze(pom, changed), EnumSet.of(PomChange.BUILD));
+  }
+
+  @Test
+  public void parentVersionChangeShouldBeClassified() throws Exception {
+    String pom = readResource("/multimoduleProject/test/pom.xml");
+    String changed = pom.replace("1.0.0-TEST-SNAPSHOT", "1.0.1-TEST-SNAPSHOT");
+
+    assertEquals(analyze(pom, changed), EnumSet.of(PomChange.COORDINATES));
+  }
+
+  @Test
+  public void moduleAndNameChangesShouldBeClassified() throws Exception {
+    String pom = readResource("/multimoduleProject/pom.xml");
+    String changed =
+        pom.replace("<module>test</module>", "<module>test</module><module>other</module>")
+            .replace("<packaging>pom</packaging>", "<packaging>pom</packaging><name>Parent</name>");
+
+    assertEquals(analyze(pom, changed), EnumSet.of(PomChange.MODULES, PomChange.OTHER));
+  }
+
+  @Test
+  public void propertiesChangeShouldBeClassified() throws Exception {
+    String pom = readResource("/multimoduleProject/pom.xml");
+    String changed =
+        pom.replace(
+            "<modules>", "<properties><junit.version>4.12</junit.version></properties><modules>");
+
+    assertEquals(analyze(pom, changed), EnumSet.of(PomChange.PROPERTIES));
+  }
+
+  @Test
+  public void profileChangeShouldBeClassified() throws Exception {
+    String pom = readResource("/multi-module-with-profiles/pom.xml");
+    String changed = pom.replace("<module>module2</module>", "");
+
+    assertEquals(analyze(pom, changed), EnumSet.of(PomChange.PROFILES));
+  }
+
+  @Test
+  public void allChangesShouldBeReturnedForUnknownFingerprints() throws Exception {
+    File pom = write("pom.xml", readResource("/multimoduleProject/pom.xml"));
+    Map<PomChange, String> fingerprints = PomChangeAnalyzer.fingerprint(pom);
+
+    assertNotNull(fingerprints);
+    assertEquals(PomChangeAnalyzer.analyze(null, fingerprints), EnumSet.allOf(PomChange.class));
+    assertEquals(PomChangeAnalyzer.analyze(fingerprints, null), EnumSet.allOf(PomChange.class));
+  }
+
+  @Test
+  public void malformedPomShouldHaveNoFingerprints() throws Exception {
+    File pom = write("pom.xml", "<project><artifactId>broken</project>");
+
+    assertNull(PomChangeAnalyzer.fingerprint(pom));
+  }
+
+  private Set<PomChange> analyze(String oldPom, String newPom) throws Exception {
+    Map<PomChange, String> oldFingerprints = PomChangeAnalyzer.fingerprint(write("old", oldPom));
+    Map<PomChange, String> newFingerprints = PomChangeAnalyzer.fingerprint(write("new", newPom));
+    return PomChangeAnalyzer.analyze(oldFingerprints, newFingerprints);
+  }
+
+  private File write(String name, String content) throws Exception {
+    File file = new File(directory, name);
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+
+  private static String readResource(String path) throws Exception {
+    return new String(
+        Files.readAllBytes(Paths.get(PomChangeAnalyzerTest.class.getResource(path).toURI())),
+        UTF_8);
+  }
+}
@@ -10,14 +10,19 @@
  */
 package org.eclipse.che.plugin.maven.server.rmi;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import org.eclipse.che.maven.data.MavenConstants;
 import org.eclipse.che.maven.data.MavenKey;
 import org.eclipse.che.plugin.maven.server.MavenServerManager;
@@ -26,8 +31,10 @@ import org.eclipse.che.plugin.maven.server.core.EclipseWorkspaceProvider;
 import org.eclipse.che.plugin.maven.server.core.MavenProjectListener;
 import org.eclipse.che.plugin.maven.server.core.MavenProjectManager;
 import org.eclipse.che.plugin.maven.server.core.MavenTerminalImpl;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelCache;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProjectModifications;
+import org.eclipse.che.plugin.maven.server.core.project.PomChange;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
@@ -76,7 +83,8 @@ public class MavenProjectManagerTest {
             manager,
             new MavenTerminalImpl(),
             new MavenServerManagerTest.MyMavenServerProgressNotifier(),
-            workspaceProvider);
+            workspaceProvider,
+            mock(MavenModelCache.class));
     when(workspaceProvider.get()).thenReturn(workspace);
     when(workspace.getRoot()).thenReturn(workspaceRoot);
   }
@@ -170,9 +178,76 @@ public class MavenProjectManagerTest {
 
   @Test
   public void testUpdateMultimoduleProject() throws Exception {
+    updateMultimoduleProject(mock(IProject.class), mock(IProject.class));
+
+    MavenProject mavenProject = new MavenProject(project, workspace);
+    mavenProject.read(project, manager);
+    MavenKey mavenKey = mavenProject.getMavenKey();
+    assertThat(mavenKey).isNotNull();
+    verify(listener).projectUpdated(mapArgument.capture(), any());
+  }
+
+  @Test
+  public void testNoProjectsToResolveAfterModulesChange() throws Exception {
+    updateMultimoduleProject(mock(IProject.class), mock(IProject.class));
+    MavenProject parent = projectManager.findMavenProject(project);
+
+    Set<MavenProject> toResolve =
+        projectManager.findProjectsToResolve(
+            singletonMap(parent, modifications(PomChange.MODULES, PomChange.OTHER)), emptyList());
+
+    assertThat(toResolve).isEmpty();
+  }
+
+  @Test
+  public void testInheritorsToResolveAfterParentPropertiesChange() throws Exception {
+    IProject testProject = mock(IProject.class);
+    IProject subModuleProject = mock(IProject.class);
+    updateMultimoduleProject(testProject, subModuleProject);
+    MavenProject parent = projectManager.findMavenProject(project);
+
+    Set<MavenProject> toResolve =
+        projectManager.findProjectsToResolve(
+            singletonMap(parent, modifications(PomChange.PROPERTIES)), emptyList());
+
+    assertThat(toResolve)
+        .containsOnly(
+            parent,
+            projectManager.findMavenProject(testProject),
+            projectManager.findMavenProject(subModuleProject));
+  }
+
+  @Test
+  public void testDependentsToResolveAfterModuleDependenciesChange() throws Exception {
     IProject testProject = mock(IProject.class);
-    IFile testPom = mock(IFile.class);
     IProject subModuleProject = mock(IProject.class);
+    updateMultimoduleProject(testProject, subModuleProject);
+    MavenProject subModule = projectManager.findMavenProject(subModuleProject);
+
+    Set<MavenProject> toResolve =
+        projectManager.findProjectsToResolve(
+            singletonMap(subModule, modifications(PomChange.DEPENDENCIES)), emptyList());
+
+    // the test module depends on the sub module, the parent only aggregates it
+    assertThat(toResolve).containsOnly(subModule, projectManager.findMavenProject(testProject));
+  }
+
+  @Test
+  public void testOnlyModuleToResolveAfterModuleBuildChange() throws Exception {
+    IProject testProject = mock(IProject.class);
+    IProject subModuleProject = mock(IProject.class);
+    updateMultimoduleProject(testProject, subModuleProject);
+    MavenProject subModule = projectManager.findMavenProject(subModuleProject);
+
+    Set<MavenProject> toResolve =
+        projectManager.findProjectsToResolve(
+            singletonMap(subModule, modifications(PomChange.BUILD)), emptyList());
+
+    assertThat(toResolve).containsOnly(subModule);
+  }
+
+  private void updateMultimoduleProject(IProject testProject, IProject subModuleProject) {
+    IFile testPom = mock(IFile.class);
     IFile subPom = mock(IFile.class);
     IFile testFile = mock(IFile.class);
 
@@ -213,12 +288,12 @@ public class MavenProjectManagerTest {
     when(testFile.exists()).thenReturn(false);
 
     projectManager.addListener(listener);
-    MavenProject mavenProject = new MavenProject(project, workspace);
-    mavenProject.read(project, manager);
-    MavenKey mavenKey = mavenProject.getMavenKey();
-    assertThat(mavenKey).isNotNull();
-
     projectManager.update(Collections.singletonList(project), true);
-    verify(listener).projectUpdated(mapArgument.capture(), any());
+  }
+
+  private static MavenProjectModifications modifications(PomChange... changes) {
+    MavenProjectModifications modifications = new MavenProjectModifications();
+    modifications.setPomChanges(EnumSet.copyOf(Arrays.asList(changes)));
+    return modifications;
   }
 }
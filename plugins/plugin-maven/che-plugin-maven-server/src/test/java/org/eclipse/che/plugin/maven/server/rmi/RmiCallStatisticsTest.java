@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.maven.server.rmi;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+public class RmiCallStatisticsTest {
+
+  @Test
+  public void testEmptyStatistics() throws Exception {
+    RmiCallStatistics statistics = new RmiCallStatistics();
+
+    assertThat(statistics.getCalls()).isEqualTo(0);
+    assertThat(statistics.getFailures()).isEqualTo(0);
+    assertThat(statistics.getAverageMillis()).isEqualTo(0);
+    assertThat(statistics.getMaxMillis()).isEqualTo(0);
+  }
+
+  @Test
+  public void testCallsAreRecorded() throws Exception {
+    RmiCallStatistics statistics = new RmiCallStatistics();
+
+    statistics.record(MILLISECONDS.toNanos(10), false);
+    statistics.record(MILLISECONDS.toNanos(30), true);
+    statistics.record(MILLISECONDS.toNanos(20), false);
+
+    assertThat(statistics.getCalls()).isEqualTo(3);
+    assertThat(statistics.getFailures()).isEqualTo(1);
+    assertThat(statistics.getAverageMillis()).isEqualTo(20);
+    assertThat(statistics.getMaxMillis()).isEqualTo(30);
+  }
+}
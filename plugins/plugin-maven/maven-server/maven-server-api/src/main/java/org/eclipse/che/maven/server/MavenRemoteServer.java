@@ -38,4 +38,7 @@ public interface MavenRemoteServer extends Remote {
       MavenExplicitProfiles explicitProfiles,
       Collection<String> alwaysOnProfiles)
       throws RemoteException;
+
+  /** Does nothing, used to check that the maven server is alive and responds. */
+  void ping() throws RemoteException;
 }
@@ -66,6 +66,9 @@ public class MavenRemoteServerImpl extends MavenRmiObject implements MavenRemote
     }
   }
 
+  @Override
+  public void ping() throws RemoteException {}
+
   @Override
   public void unreferenced() {
     System.exit(0);
@@ -24,6 +24,7 @@ import org.eclipse.che.api.testing.server.framework.TestRunner;
 import org.eclipse.che.api.testing.shared.TestDetectionContext;
 import org.eclipse.che.api.testing.shared.TestExecutionContext;
 import org.eclipse.che.api.testing.shared.TestPosition;
+import org.eclipse.che.commons.lang.execution.ProcessHandler;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -225,6 +226,12 @@ public abstract class AbstractJavaTestRunner implements TestRunner {
             javaProject, context.getFilePath(), methodAnnotation, classAnnotation);
       case SET:
         return convertClassesPathsToFqns(context.getListOfTestClasses(), javaProject);
+      case AFFECTED:
+        return javaTestFinder.findClassesAffectedBy(
+            javaProject,
+            findChangedCompilationUnits(context.getListOfTestClasses(), javaProject),
+            methodAnnotation,
+            classAnnotation);
       case PROJECT:
         return javaTestFinder.findClassesInProject(javaProject, methodAnnotation, classAnnotation);
       case CURSOR_POSITION:
@@ -236,6 +243,15 @@ public abstract class AbstractJavaTestRunner implements TestRunner {
     return emptyList();
   }
 
+  /** Destroys processes which are started but not passed to the caller yet. */
+  protected void destroyProcesses(List<ProcessHandler> processHandlers) {
+    for (ProcessHandler processHandler : processHandlers) {
+      // destroying of not started process is postponed until it is started
+      processHandler.startNotify();
+      processHandler.destroyProcess();
+    }
+  }
+
   @Override
   public int getDebugPort() {
     return debugPort;
@@ -279,4 +295,24 @@ public abstract class AbstractJavaTestRunner implements TestRunner {
 
     return result;
   }
+
+  private List<ICompilationUnit> findChangedCompilationUnits(
+      List<String> changedFiles, IJavaProject javaProject) {
+    if (changedFiles == null) {
+      return emptyList();
+    }
+    List<ICompilationUnit> result = new ArrayList<>(changedFiles.size());
+    for (String filePath : changedFiles) {
+      if (!filePath.endsWith(".java")) {
+        continue;
+      }
+      try {
+        result.add(findCompilationUnitByPath(javaProject, filePath));
+      } catch (RuntimeException e) {
+        // file is removed or is not in a source folder
+        LOG.debug("Can't find compilation unit of changed file {}", filePath);
+      }
+    }
+    return result;
+  }
 }
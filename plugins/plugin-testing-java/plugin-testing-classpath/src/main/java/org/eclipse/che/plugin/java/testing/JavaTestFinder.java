@@ -10,45 +10,40 @@
  */
 package org.eclipse.che.plugin.java.testing;
 
-import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 import com.google.inject.Singleton;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import org.eclipse.core.runtime.CoreException;
+import javax.inject.Inject;
 import org.eclipse.core.runtime.Path;
-import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IAnnotation;
-import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
-import org.eclipse.jdt.core.IPackageFragmentRoot;
-import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
-import org.eclipse.jdt.core.search.IJavaSearchScope;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.SearchParticipant;
-import org.eclipse.jdt.core.search.SearchPattern;
-import org.eclipse.jdt.core.search.SearchRequestor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Class which finds test classes and test methods for java test frameworks. */
+/**
+ * Class which finds test classes and test methods for java test frameworks. Test classes of
+ * containers are looked up in the {@link JavaTestIndex}.
+ */
 @Singleton
 public class JavaTestFinder {
   private static final Logger LOG = LoggerFactory.getLogger(JavaTestFinder.class);
 
+  private final JavaTestIndex testIndex;
+
+  @Inject
+  public JavaTestFinder(JavaTestIndex testIndex) {
+    this.testIndex = testIndex;
+  }
+
   /**
    * Finds test method related to the cursor position.
    *
@@ -106,7 +101,7 @@ public class JavaTestFinder {
     }
     return packageFragment == null
         ? emptyList()
-        : findClassesInContainer(packageFragment, testMethodAnnotation, testClassAnnotation);
+        : testIndex.getTestClasses(packageFragment, testMethodAnnotation, testClassAnnotation);
   }
 
   /**
@@ -119,7 +114,25 @@ public class JavaTestFinder {
    */
   public List<String> findClassesInProject(
       IJavaProject project, String testMethodAnnotation, String testClassAnnotation) {
-    return findClassesInContainer(project, testMethodAnnotation, testClassAnnotation);
+    return testIndex.getTestClasses(project, testMethodAnnotation, testClassAnnotation);
+  }
+
+  /**
+   * Finds test classes which may be affected by changes of the given compilation units.
+   *
+   * @param project java project
+   * @param changed changed compilation units
+   * @param testMethodAnnotation java annotation which describes test method in the test framework
+   * @param testClassAnnotation java annotation which describes test class in the test framework
+   * @return list of test classes which should be ran.
+   */
+  public List<String> findClassesAffectedBy(
+      IJavaProject project,
+      List<ICompilationUnit> changed,
+      String testMethodAnnotation,
+      String testClassAnnotation) {
+    return testIndex.getAffectedTestClasses(
+        project, changed, testMethodAnnotation, testClassAnnotation);
   }
 
   /**
@@ -172,96 +185,4 @@ public class JavaTestFinder {
     }
     return false;
   }
-
-  private List<String> findClassesInContainer(
-      IJavaElement container, String testMethodAnnotation, String testClassAnnotation) {
-    List<String> result = new LinkedList<>();
-    IRegion region = getRegion(container);
-    try {
-      ITypeHierarchy hierarchy = JavaCore.newTypeHierarchy(region, null, null);
-      IType[] allClasses = hierarchy.getAllClasses();
-
-      // search for all types with references to RunWith and Test and all subclasses
-      HashSet<IType> candidates = new HashSet<>(allClasses.length);
-      SearchRequestor requestor = new AnnotationSearchRequestor(hierarchy, candidates);
-
-      IJavaSearchScope scope =
-          SearchEngine.createJavaSearchScope(allClasses, IJavaSearchScope.SOURCES);
-      int matchRule = SearchPattern.R_CASE_SENSITIVE;
-
-      SearchPattern testPattern =
-          SearchPattern.createPattern(
-              testMethodAnnotation,
-              IJavaSearchConstants.ANNOTATION_TYPE,
-              IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE,
-              matchRule);
-
-      SearchPattern runWithPattern =
-          isNullOrEmpty(testClassAnnotation)
-              ? testPattern
-              : SearchPattern.createPattern(
-                  testClassAnnotation,
-                  IJavaSearchConstants.ANNOTATION_TYPE,
-                  IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE,
-                  matchRule);
-
-      SearchPattern annotationsPattern = SearchPattern.createOrPattern(runWithPattern, testPattern);
-      SearchParticipant[] searchParticipants =
-          new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
-      new SearchEngine().search(annotationsPattern, searchParticipants, scope, requestor, null);
-
-      // find all classes in the region
-      for (IType candidate : candidates) {
-        if (isAccessibleClass(candidate)
-            && !Flags.isAbstract(candidate.getFlags())
-            && region.contains(candidate)) {
-          result.add(candidate.getFullyQualifiedName());
-        }
-      }
-    } catch (CoreException e) {
-
-      LOG.info("Can't build project hierarchy.", e);
-    }
-
-    return result;
-  }
-
-  private IRegion getRegion(IJavaElement element) {
-    IRegion result = JavaCore.newRegion();
-    if (element.getElementType() == IJavaElement.JAVA_PROJECT) {
-      //for projects only add the contained source folders
-      try {
-        IPackageFragmentRoot[] packageFragmentRoots =
-            ((IJavaProject) element).getPackageFragmentRoots();
-        for (IPackageFragmentRoot packageFragmentRoot : packageFragmentRoots) {
-          if (!packageFragmentRoot.isArchive()) {
-            result.add(packageFragmentRoot);
-          }
-        }
-      } catch (JavaModelException e) {
-        LOG.info("Can't read source folders.", e);
-      }
-    } else {
-      result.add(element);
-    }
-    return result;
-  }
-
-  private static boolean isAccessibleClass(IType type) throws JavaModelException {
-    int flags = type.getFlags();
-    if (Flags.isInterface(flags)) {
-      return false;
-    }
-    IJavaElement parent = type.getParent();
-    while (true) {
-      if (parent instanceof ICompilationUnit || parent instanceof IClassFile) {
-        return true;
-      }
-      if (!(parent instanceof IType) || !Flags.isStatic(flags) || !Flags.isPublic(flags)) {
-        return false;
-      }
-      flags = ((IType) parent).getFlags();
-      parent = parent.getParent();
-    }
-  }
 }
@@ -0,0 +1,589 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.java.testing;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IRegion;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of test classes declared in the source folders of java projects.
+ *
+ * <p>Project is searched for test classes once, on the first request, the found classes are
+ * recorded per compilation unit. After that the index is kept up to date from java element deltas:
+ * only added and changed compilation units are scanned again on the next request. If test classes
+ * declared in an existing compilation unit change, the subclasses of those classes may change too,
+ * so the project is searched again. Project is also searched again when its classpath changes.
+ *
+ * <p>Each test framework is indexed separately as test classes are recognized by the framework
+ * annotations.
+ */
+@Singleton
+public class JavaTestIndex implements IElementChangedListener {
+  private static final Logger LOG = LoggerFactory.getLogger(JavaTestIndex.class);
+
+  /** Project name -> (framework annotations -> test classes of the project) */
+  private final Map<String, Map<Annotations, ProjectTests>> projects = new ConcurrentHashMap<>();
+
+  public JavaTestIndex() {
+    JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+  }
+
+  @PreDestroy
+  public void stop() {
+    JavaCore.removeElementChangedListener(this);
+  }
+
+  /**
+   * Returns test classes declared in the given java element.
+   *
+   * @param container java project, package fragment root, package fragment or compilation unit
+   * @param testMethodAnnotation java annotation which describes test method in the test framework
+   * @param testClassAnnotation java annotation which describes test class in the test framework
+   * @return fully qualified names of test classes which can be ran
+   */
+  public List<String> getTestClasses(
+      IJavaElement container, String testMethodAnnotation, String testClassAnnotation) {
+    List<String> result = new LinkedList<>();
+    ProjectTests tests =
+        getProjectTests(container.getJavaProject(), testMethodAnnotation, testClassAnnotation);
+    synchronized (tests) {
+      tests.update();
+      for (Map.Entry<ICompilationUnit, List<TestClass>> entry : tests.classes.entrySet()) {
+        if (isInside(entry.getKey(), container)) {
+          for (TestClass testClass : entry.getValue()) {
+            if (testClass.runnable) {
+              result.add(testClass.fqn);
+            }
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns test classes which may be affected by changes of the given compilation units. These are
+   * the test classes declared in the changed compilation units and the test classes which depend
+   * on them directly or through other classes of the project.
+   *
+   * @param project java project
+   * @param changed changed compilation units
+   * @param testMethodAnnotation java annotation which describes test method in the test framework
+   * @param testClassAnnotation java annotation which describes test class in the test framework
+   * @return fully qualified names of test classes which can be ran
+   */
+  public List<String> getAffectedTestClasses(
+      IJavaProject project,
+      Collection<ICompilationUnit> changed,
+      String testMethodAnnotation,
+      String testClassAnnotation) {
+    Map<ICompilationUnit, List<TestClass>> classes;
+    ProjectTests tests = getProjectTests(project, testMethodAnnotation, testClassAnnotation);
+    synchronized (tests) {
+      tests.update();
+      classes = new HashMap<>(tests.classes);
+    }
+
+    List<String> result = new LinkedList<>();
+    if (classes.isEmpty() || changed.isEmpty()) {
+      return result;
+    }
+    for (ICompilationUnit compilationUnit : findDependentCompilationUnits(project, changed)) {
+      List<TestClass> testClasses = classes.get(compilationUnit);
+      if (testClasses != null) {
+        for (TestClass testClass : testClasses) {
+          if (testClass.runnable) {
+            result.add(testClass.fqn);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void elementChanged(ElementChangedEvent event) {
+    try {
+      processDelta(event.getDelta());
+    } catch (RuntimeException e) {
+      LOG.error("Can't update index of test classes.", e);
+    }
+  }
+
+  private ProjectTests getProjectTests(
+      IJavaProject project, String testMethodAnnotation, String testClassAnnotation) {
+    Annotations annotations = new Annotations(testMethodAnnotation, testClassAnnotation);
+    return projects
+        .computeIfAbsent(project.getElementName(), name -> new ConcurrentHashMap<>())
+        .computeIfAbsent(annotations, key -> new ProjectTests(project, key));
+  }
+
+  private void processDelta(IJavaElementDelta delta) {
+    IJavaElement element = delta.getElement();
+    switch (element.getElementType()) {
+      case IJavaElement.JAVA_MODEL:
+        processChildren(delta);
+        break;
+      case IJavaElement.JAVA_PROJECT:
+        String projectName = element.getElementName();
+        if (delta.getKind() == IJavaElementDelta.REMOVED
+            || (delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0) {
+          projects.remove(projectName);
+        } else if ((delta.getFlags()
+                & (IJavaElementDelta.F_CLASSPATH_CHANGED
+                    | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED))
+            != 0) {
+          invalidate(projectName);
+        } else if (projects.containsKey(projectName)) {
+          processChildren(delta);
+        }
+        break;
+      case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+        if (((IPackageFragmentRoot) element).isArchive()) {
+          break;
+        }
+        if (delta.getKind() != IJavaElementDelta.CHANGED) {
+          invalidate(element.getJavaProject().getElementName());
+        } else {
+          processChildren(delta);
+        }
+        break;
+      case IJavaElement.PACKAGE_FRAGMENT:
+        processChildren(delta);
+        break;
+      case IJavaElement.COMPILATION_UNIT:
+        ICompilationUnit compilationUnit = (ICompilationUnit) element;
+        if (compilationUnit.isWorkingCopy()
+            && delta.getKind() == IJavaElementDelta.CHANGED
+            && (delta.getFlags() & IJavaElementDelta.F_PRIMARY_RESOURCE) == 0) {
+          // working copy is not saved yet
+          break;
+        }
+        Map<Annotations, ProjectTests> projectTests =
+            projects.get(element.getJavaProject().getElementName());
+        if (projectTests != null) {
+          for (ProjectTests tests : projectTests.values()) {
+            tests.changed(compilationUnit.getPrimary(), delta.getKind());
+          }
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void processChildren(IJavaElementDelta delta) {
+    for (IJavaElementDelta child : delta.getAffectedChildren()) {
+      processDelta(child);
+    }
+  }
+
+  private void invalidate(String projectName) {
+    Map<Annotations, ProjectTests> projectTests = projects.get(projectName);
+    if (projectTests != null) {
+      for (ProjectTests tests : projectTests.values()) {
+        tests.indexed = false;
+      }
+    }
+  }
+
+  /**
+   * Finds compilation units which depend on the given ones: the given compilation units and the
+   * source compilation units of the project which reference types declared in them transitively.
+   */
+  private Set<ICompilationUnit> findDependentCompilationUnits(
+      IJavaProject project, Collection<ICompilationUnit> changed) {
+    Set<ICompilationUnit> result = new HashSet<>();
+    List<IType> types = new ArrayList<>();
+    for (ICompilationUnit compilationUnit : changed) {
+      if (result.add(compilationUnit.getPrimary())) {
+        addTypes(compilationUnit, types);
+      }
+    }
+
+    IJavaSearchScope scope =
+        SearchEngine.createJavaSearchScope(new IJavaElement[] {project}, IJavaSearchScope.SOURCES);
+    SearchParticipant[] participants =
+        new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
+    while (!types.isEmpty()) {
+      SearchPattern pattern = null;
+      for (IType type : types) {
+        SearchPattern typePattern =
+            SearchPattern.createPattern(type, IJavaSearchConstants.REFERENCES);
+        pattern =
+            pattern == null ? typePattern : SearchPattern.createOrPattern(pattern, typePattern);
+      }
+      List<IType> referencing = new ArrayList<>();
+      SearchRequestor requestor =
+          new SearchRequestor() {
+            @Override
+            public void acceptSearchMatch(SearchMatch match) {
+              if (match.getElement() instanceof IJavaElement) {
+                ICompilationUnit compilationUnit =
+                    (ICompilationUnit)
+                        ((IJavaElement) match.getElement())
+                            .getAncestor(IJavaElement.COMPILATION_UNIT);
+                if (compilationUnit != null && result.add(compilationUnit.getPrimary())) {
+                  addTypes(compilationUnit, referencing);
+                }
+              }
+            }
+          };
+      try {
+        new SearchEngine().search(pattern, participants, scope, requestor, null);
+      } catch (CoreException e) {
+        LOG.info("Can't search for references.", e);
+        break;
+      }
+      types = referencing;
+    }
+    return result;
+  }
+
+  private static void addTypes(ICompilationUnit compilationUnit, List<IType> types) {
+    try {
+      for (IType type : compilationUnit.getAllTypes()) {
+        types.add(type);
+      }
+    } catch (JavaModelException e) {
+      LOG.debug("Can't read types of compilation unit.", e);
+    }
+  }
+
+  private static boolean isInside(ICompilationUnit compilationUnit, IJavaElement container) {
+    return container.equals(compilationUnit.getAncestor(container.getElementType()));
+  }
+
+  private static boolean isAccessibleClass(IType type) throws JavaModelException {
+    int flags = type.getFlags();
+    if (Flags.isInterface(flags)) {
+      return false;
+    }
+    IJavaElement parent = type.getParent();
+    while (true) {
+      if (parent instanceof ICompilationUnit || parent instanceof IClassFile) {
+        return true;
+      }
+      if (!(parent instanceof IType) || !Flags.isStatic(flags) || !Flags.isPublic(flags)) {
+        return false;
+      }
+      flags = ((IType) parent).getFlags();
+      parent = parent.getParent();
+    }
+  }
+
+  private static IRegion getSourceRegion(IJavaProject project) {
+    IRegion result = JavaCore.newRegion();
+    try {
+      for (IPackageFragmentRoot packageFragmentRoot : project.getPackageFragmentRoots()) {
+        if (!packageFragmentRoot.isArchive()) {
+          result.add(packageFragmentRoot);
+        }
+      }
+    } catch (JavaModelException e) {
+      LOG.info("Can't read source folders.", e);
+    }
+    return result;
+  }
+
+  /** Test framework annotations. */
+  private static final class Annotations {
+    private final String testMethodAnnotation;
+    private final String testClassAnnotation;
+
+    private Annotations(String testMethodAnnotation, String testClassAnnotation) {
+      this.testMethodAnnotation = testMethodAnnotation;
+      this.testClassAnnotation = testClassAnnotation;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Annotations)) {
+        return false;
+      }
+      Annotations other = (Annotations) obj;
+      return Objects.equals(testMethodAnnotation, other.testMethodAnnotation)
+          && Objects.equals(testClassAnnotation, other.testClassAnnotation);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(testMethodAnnotation, testClassAnnotation);
+    }
+  }
+
+  /** Test class or abstract class which has test methods, subclasses of which are tests. */
+  private static final class TestClass {
+    private final String fqn;
+    private final boolean runnable;
+
+    private TestClass(String fqn, boolean runnable) {
+      this.fqn = fqn;
+      this.runnable = runnable;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof TestClass)) {
+        return false;
+      }
+      TestClass other = (TestClass) obj;
+      return runnable == other.runnable && fqn.equals(other.fqn);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(fqn, runnable);
+    }
+  }
+
+  /**
+   * Test classes of a project. Access to the recorded classes must be synchronized on the instance,
+   * changes are recorded from the delta processing thread without locking.
+   */
+  private static final class ProjectTests {
+    private final IJavaProject project;
+    private final Annotations annotations;
+    /** Compilation unit -> test classes declared in it */
+    private final Map<ICompilationUnit, List<TestClass>> classes = new HashMap<>();
+    /** Compilation unit -> kind of the change ({@link IJavaElementDelta#ADDED} etc.) */
+    private final Map<ICompilationUnit, Integer> changes = new ConcurrentHashMap<>();
+
+    private volatile boolean indexed;
+
+    private ProjectTests(IJavaProject project, Annotations annotations) {
+      this.project = project;
+      this.annotations = annotations;
+    }
+
+    /** Records change of the compilation unit, it is scanned on the next request. */
+    private void changed(ICompilationUnit compilationUnit, int kind) {
+      changes.merge(
+          compilationUnit,
+          kind,
+          (previous, next) -> {
+            if (previous == IJavaElementDelta.ADDED && next == IJavaElementDelta.CHANGED) {
+              return IJavaElementDelta.ADDED;
+            }
+            if (previous == IJavaElementDelta.REMOVED && next == IJavaElementDelta.ADDED) {
+              return IJavaElementDelta.CHANGED;
+            }
+            return next;
+          });
+    }
+
+    /** Applies the recorded changes, searches the whole project when they can't be applied. */
+    private void update() {
+      if (indexed && applyChanges()) {
+        return;
+      }
+      changes.clear();
+      indexed = true;
+      search();
+    }
+
+    /** Returns false when test classes of other compilation units may be affected by changes. */
+    private boolean applyChanges() {
+      for (ICompilationUnit compilationUnit : new ArrayList<>(changes.keySet())) {
+        int kind = changes.remove(compilationUnit);
+        List<TestClass> previous = classes.remove(compilationUnit);
+        if (kind == IJavaElementDelta.REMOVED) {
+          if (previous != null) {
+            return false;
+          }
+          continue;
+        }
+        List<TestClass> current;
+        try {
+          current = scan(compilationUnit);
+        } catch (JavaModelException e) {
+          LOG.debug("Can't scan compilation unit for tests.", e);
+          return false;
+        }
+        if (!current.isEmpty()) {
+          classes.put(compilationUnit, current);
+        }
+        if (kind == IJavaElementDelta.CHANGED
+            && !new HashSet<>(current)
+                .equals(previous == null ? new HashSet<>() : new HashSet<>(previous))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Finds the types of the compilation unit which are annotated with test annotations or extend
+     * known test classes.
+     */
+    private List<TestClass> scan(ICompilationUnit compilationUnit) throws JavaModelException {
+      List<TestClass> result = new ArrayList<>();
+      if (!compilationUnit.exists()) {
+        return result;
+      }
+      Set<String> known = new HashSet<>();
+      for (List<TestClass> testClasses : classes.values()) {
+        for (TestClass testClass : testClasses) {
+          known.add(testClass.fqn);
+        }
+      }
+      for (IType type : compilationUnit.getAllTypes()) {
+        if (isAnnotated(type) || extendsAny(type, known)) {
+          result.add(new TestClass(type.getFullyQualifiedName(), isRunnable(type)));
+        }
+      }
+      return result;
+    }
+
+    private boolean isAnnotated(IType type) throws JavaModelException {
+      if (!isNullOrEmpty(annotations.testClassAnnotation)
+          && hasAnnotation(type, type, annotations.testClassAnnotation)) {
+        return true;
+      }
+      for (IMethod method : type.getMethods()) {
+        if (hasAnnotation(type, method, annotations.testMethodAnnotation)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean hasAnnotation(IType type, IAnnotatable element, String annotationFqn)
+        throws JavaModelException {
+      for (IAnnotation annotation : element.getAnnotations()) {
+        String[][] resolved = type.resolveType(annotation.getElementName());
+        if (resolved != null) {
+          for (String[] name : resolved) {
+            String fqn = name[0].isEmpty() ? name[1] : name[0] + '.' + name[1];
+            if (annotationFqn.equals(fqn)) {
+              return true;
+            }
+          }
+        }
+      }
+      return false;
+    }
+
+    private static boolean extendsAny(IType type, Set<String> known) throws JavaModelException {
+      if (known.isEmpty() || type.getSuperclassName() == null) {
+        return false;
+      }
+      ITypeHierarchy hierarchy = type.newSupertypeHierarchy(null);
+      for (IType superclass : hierarchy.getAllSuperclasses(type)) {
+        if (known.contains(superclass.getFullyQualifiedName())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isRunnable(IType type) throws JavaModelException {
+      return isAccessibleClass(type) && !Flags.isAbstract(type.getFlags());
+    }
+
+    /** Searches all source folders of the project for test classes. */
+    private void search() {
+      classes.clear();
+      IRegion region = getSourceRegion(project);
+      try {
+        ITypeHierarchy hierarchy = JavaCore.newTypeHierarchy(region, null, null);
+        IType[] allClasses = hierarchy.getAllClasses();
+
+        // search for all types with references to RunWith and Test and all subclasses
+        HashSet<IType> candidates = new HashSet<>(allClasses.length);
+        SearchRequestor requestor = new AnnotationSearchRequestor(hierarchy, candidates);
+
+        IJavaSearchScope scope =
+            SearchEngine.createJavaSearchScope(allClasses, IJavaSearchScope.SOURCES);
+        int matchRule = SearchPattern.R_CASE_SENSITIVE;
+
+        SearchPattern testPattern =
+            SearchPattern.createPattern(
+                annotations.testMethodAnnotation,
+                IJavaSearchConstants.ANNOTATION_TYPE,
+                IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE,
+                matchRule);
+
+        SearchPattern runWithPattern =
+            isNullOrEmpty(annotations.testClassAnnotation)
+                ? testPattern
+                : SearchPattern.createPattern(
+                    annotations.testClassAnnotation,
+                    IJavaSearchConstants.ANNOTATION_TYPE,
+                    IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE,
+                    matchRule);
+
+        SearchPattern annotationsPattern =
+            SearchPattern.createOrPattern(runWithPattern, testPattern);
+        SearchParticipant[] searchParticipants =
+            new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
+        new SearchEngine().search(annotationsPattern, searchParticipants, scope, requestor, null);
+
+        for (IType candidate : candidates) {
+          ICompilationUnit compilationUnit = candidate.getCompilationUnit();
+          if (compilationUnit != null && region.contains(candidate)) {
+            classes
+                .computeIfAbsent(compilationUnit.getPrimary(), cu -> new ArrayList<>())
+                .add(new TestClass(candidate.getFullyQualifiedName(), isRunnable(candidate)));
+          }
+        }
+      } catch (CoreException e) {
+        indexed = false;
+        LOG.info("Can't build project hierarchy.", e);
+      }
+    }
+  }
+}
@@ -10,11 +10,14 @@
  */
 package org.eclipse.che.plugin.testing.junit.server.junit4;
 
+import static java.util.Collections.emptyList;
+
 import com.google.inject.name.Named;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
+import org.eclipse.che.api.testing.server.framework.TestShards;
 import org.eclipse.che.api.testing.shared.TestExecutionContext;
 import org.eclipse.che.commons.lang.execution.CommandLine;
 import org.eclipse.che.commons.lang.execution.ExecutionException;
@@ -58,12 +61,33 @@ public class JUnit4TestRunner extends AbstractJavaTestRunner {
 
   @Override
   public ProcessHandler execute(TestExecutionContext context) {
+    List<ProcessHandler> processHandlers = execute(context, 1);
+    return processHandlers.isEmpty() ? null : processHandlers.get(0);
+  }
+
+  @Override
+  public List<ProcessHandler> execute(TestExecutionContext context, int maxProcesses) {
     IJavaProject javaProject = getJavaProject(context.getProjectPath());
-    if (javaProject.exists()) {
-      return startTestProcess(javaProject, context);
+    if (!javaProject.exists()) {
+      return emptyList();
     }
 
-    return null;
+    List<String> suite =
+        findTests(
+            context,
+            javaProject,
+            JavaTestAnnotations.JUNIT4X_TEST.getName(),
+            JavaTestAnnotations.JUNIT4X_RUN_WITH.getName());
+    List<ProcessHandler> processHandlers = new ArrayList<>();
+    for (List<String> shard : TestShards.split(suite, maxProcesses)) {
+      ProcessHandler processHandler = startTestProcess(javaProject, context, shard);
+      if (processHandler == null) {
+        destroyProcesses(processHandlers);
+        return emptyList();
+      }
+      processHandlers.add(processHandler);
+    }
+    return processHandlers;
   }
 
   @Override
@@ -94,7 +118,8 @@ public class JUnit4TestRunner extends AbstractJavaTestRunner {
     }
   }
 
-  private ProcessHandler startTestProcess(IJavaProject javaProject, TestExecutionContext context) {
+  private ProcessHandler startTestProcess(
+      IJavaProject javaProject, TestExecutionContext context, List<String> suite) {
     JavaParameters parameters = new JavaParameters();
     parameters.setJavaExecutable(System.getProperty("java.home") + "/bin/java");
     parameters.setMainClassName(MAIN_CLASS_NAME);
@@ -106,12 +131,6 @@ public class JUnit4TestRunner extends AbstractJavaTestRunner {
     classPath.add(ClasspathUtil.getJarPathForClass(CheJUnitCoreRunner.class));
     parameters.getClassPath().addAll(classPath);
 
-    List<String> suite =
-        findTests(
-            context,
-            javaProject,
-            JavaTestAnnotations.JUNIT4X_TEST.getName(),
-            JavaTestAnnotations.JUNIT4X_RUN_WITH.getName());
     for (String element : suite) {
       parameters.getParametersList().add(element);
     }
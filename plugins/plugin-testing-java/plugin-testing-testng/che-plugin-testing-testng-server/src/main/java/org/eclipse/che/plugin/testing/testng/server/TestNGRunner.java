@@ -11,6 +11,7 @@
 package org.eclipse.che.plugin.testing.testng.server;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
@@ -18,6 +19,8 @@ import com.beust.jcommander.JCommander;
 import com.google.inject.name.Named;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,6 +31,7 @@ import javax.inject.Inject;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import org.eclipse.che.api.testing.server.framework.TestShards;
 import org.eclipse.che.api.testing.shared.TestExecutionContext;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.lang.execution.CommandLine;
@@ -75,16 +79,41 @@ public class TestNGRunner extends AbstractJavaTestRunner {
   @Override
   @Nullable
   public ProcessHandler execute(TestExecutionContext context) {
+    List<ProcessHandler> processHandlers = execute(context, 1);
+    return processHandlers.isEmpty() ? null : processHandlers.get(0);
+  }
+
+  @Override
+  public List<ProcessHandler> execute(TestExecutionContext context, int maxProcesses) {
     IJavaProject javaProject = getJavaProject(context.getProjectPath());
-    if (javaProject.exists()) {
-      return startTestProcess(javaProject, context);
+    if (!javaProject.exists()) {
+      return emptyList();
     }
 
-    return null;
+    List<File> suiteFiles = createSuites(context, javaProject, maxProcesses);
+    String outputDirectory = getOutputDirectory(javaProject);
+    List<ProcessHandler> processHandlers = new ArrayList<>(suiteFiles.size());
+    for (int i = 0; i < suiteFiles.size(); i++) {
+      ProcessHandler processHandler =
+          startTestProcess(
+              javaProject,
+              context,
+              suiteFiles.get(i),
+              suiteFiles.size() == 1 ? outputDirectory : outputDirectory + "/shard-" + i);
+      if (processHandler == null) {
+        destroyProcesses(processHandlers);
+        return emptyList();
+      }
+      processHandlers.add(processHandler);
+    }
+    return processHandlers;
   }
 
-  private ProcessHandler startTestProcess(IJavaProject javaProject, TestExecutionContext context) {
-    File suiteFile = createSuite(context, javaProject);
+  private ProcessHandler startTestProcess(
+      IJavaProject javaProject,
+      TestExecutionContext context,
+      File suiteFile,
+      String outputDirectory) {
     if (suiteFile == null) {
       throw new RuntimeException("Can't create TestNG suite xml file.");
     }
@@ -92,7 +121,6 @@ public class TestNGRunner extends AbstractJavaTestRunner {
     JavaParameters parameters = new JavaParameters();
     parameters.setJavaExecutable(System.getProperty("java.home") + "/bin/java");
     parameters.setMainClassName("org.testng.CheTestNGLauncher");
-    String outputDirectory = getOutputDirectory(javaProject);
     parameters.getParametersList().add("-d", outputDirectory);
     parameters.setWorkingDirectory(workspacePath + javaProject.getPath());
     List<String> classPath = new ArrayList<>();
@@ -120,21 +148,48 @@ public class TestNGRunner extends AbstractJavaTestRunner {
     return null;
   }
 
-  private File createSuite(TestExecutionContext context, IJavaProject javaProject) {
+  /** Creates suite file per process, test classes are split between the processes. */
+  private List<File> createSuites(
+      TestExecutionContext context, IJavaProject javaProject, int maxProcesses) {
+    String suitePath = System.getProperty(JAVA_IO_TMPDIR);
     String filePath = context.getFilePath();
     if (!isNullOrEmpty(filePath) && filePath.endsWith(".xml")) {
       String path =
           filePath.substring(javaProject.getPath().toString().length(), filePath.length());
       IFile file = javaProject.getProject().getFile(path);
-      return suiteUtil.writeSuite(System.getProperty(JAVA_IO_TMPDIR), file);
+      return singletonList(suiteUtil.writeSuite(suitePath, file));
     }
     List<String> testSuite =
         findTests(context, javaProject, JavaTestAnnotations.TESTNG_TEST.getName(), "");
 
-    Map<String, List<String>> classes = buildTestNgSuite(testSuite, context);
-
-    return suiteUtil.writeSuite(
-        System.getProperty(JAVA_IO_TMPDIR), javaProject.getElementName(), classes);
+    List<List<String>> shards = TestShards.split(testSuite, maxProcesses);
+    if (shards.size() == 1) {
+      return singletonList(
+          suiteUtil.writeSuite(
+              suitePath, javaProject.getElementName(), buildTestNgSuite(testSuite, context)));
+    }
+    List<File> suiteFiles = new ArrayList<>(shards.size());
+    for (int i = 0; i < shards.size(); i++) {
+      File shardPath;
+      try {
+        // unique directory, so concurrent runs don't overwrite suite files of each other
+        shardPath =
+            Files.createTempDirectory(Paths.get(suitePath), "che-testng-shard-" + i + "-").toFile();
+      } catch (IOException e) {
+        throw new RuntimeException("Can't create directory for TestNG suite xml file", e);
+      }
+      shardPath.deleteOnExit();
+      File suiteFile =
+          suiteUtil.writeSuite(
+              shardPath.getPath(),
+              javaProject.getElementName(),
+              buildTestNgSuite(shards.get(i), context));
+      if (suiteFile != null) {
+        suiteFile.deleteOnExit();
+      }
+      suiteFiles.add(suiteFile);
+    }
+    return suiteFiles;
   }
 
   private Map<String, List<String>> buildTestNgSuite(
@@ -144,6 +199,7 @@ public class TestNGRunner extends AbstractJavaTestRunner {
       case FOLDER:
       case SET:
       case PROJECT:
+      case AFFECTED:
         return createContainerSuite(tests);
       case CURSOR_POSITION:
         return createMethodSuite(tests);
@@ -23,7 +23,9 @@ import org.eclipse.che.api.core.model.project.type.Value;
 import org.eclipse.che.api.project.server.RegisteredProject;
 import org.eclipse.che.api.testing.shared.TestDetectionContext;
 import org.eclipse.che.api.testing.shared.TestPosition;
+import org.eclipse.che.plugin.java.testing.JavaTestAnnotations;
 import org.eclipse.che.plugin.java.testing.JavaTestFinder;
+import org.eclipse.che.plugin.java.testing.JavaTestIndex;
 import org.eclipse.che.plugin.testing.testng.server.TestNGRunner;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -38,13 +40,15 @@ import org.testng.annotations.Test;
 public class TestNGTestDiscoveryTest extends BaseTest {
 
   private IJavaProject javaProject;
+  private JavaTestIndex testIndex;
   private JavaTestFinder testNGTestFinder;
   private IPackageFragment packageFragment;
 
   @BeforeMethod
   public void setUp() throws Exception {
     javaProject = createJavaProject("testDiscovery", "bin");
-    testNGTestFinder = new JavaTestFinder();
+    testIndex = new JavaTestIndex();
+    testNGTestFinder = new JavaTestFinder(testIndex);
     IPackageFragmentRoot packageFragmentRoot = addSourceContainer(javaProject, "src", "bin");
     javaProject.setRawClasspath(getTestNgClassPath("/testDiscovery/src"), null);
 
@@ -57,6 +61,7 @@ public class TestNGTestDiscoveryTest extends BaseTest {
 
   @AfterMethod
   public void tearDown() throws Exception {
+    testIndex.stop();
     if (javaProject != null) {
       TestSetUpUtil.delete(javaProject);
     }
@@ -196,6 +201,117 @@ public class TestNGTestDiscoveryTest extends BaseTest {
     assertThat(testPositions).isNotNull().isEmpty();
   }
 
+  @Test
+  public void testFindClassesInProjectAfterAddingTestClass() throws Exception {
+    packageFragment.createCompilationUnit("A.java", testClass("A"), false, null);
+
+    assertThat(findClassesInProject()).containsOnly("test.A");
+
+    packageFragment.createCompilationUnit("B.java", testClass("B"), false, null);
+
+    assertThat(findClassesInProject()).containsOnly("test.A", "test.B");
+  }
+
+  @Test
+  public void testFindClassesInProjectAfterRemovingTestMethod() throws Exception {
+    packageFragment.createCompilationUnit("A.java", testClass("A"), false, null);
+    ICompilationUnit compilationUnit =
+        packageFragment.createCompilationUnit("B.java", testClass("B"), false, null);
+
+    assertThat(findClassesInProject()).containsOnly("test.A", "test.B");
+
+    compilationUnit.getBuffer().setContents("package test;\npublic class B {\n}\n");
+    compilationUnit.save(null, true);
+
+    assertThat(findClassesInProject()).containsOnly("test.A");
+  }
+
+  @Test
+  public void testFindSubclassesOfAbstractTestClass() throws Exception {
+    StringBuffer buf = new StringBuffer();
+    buf.append("package test;\n");
+    buf.append("import org.testng.annotations.Test;\n");
+    buf.append("public abstract class Base {\n");
+    buf.append("    @Test\n");
+    buf.append("    public void foo() {\n");
+    buf.append("    }\n");
+    buf.append("}\n");
+    packageFragment.createCompilationUnit("Base.java", buf.toString(), false, null);
+    packageFragment.createCompilationUnit(
+        "A.java", "package test;\npublic class A extends Base {\n}\n", false, null);
+
+    assertThat(findClassesInProject()).containsOnly("test.A");
+
+    packageFragment.createCompilationUnit(
+        "B.java", "package test;\npublic class B extends Base {\n}\n", false, null);
+
+    assertThat(findClassesInProject()).containsOnly("test.A", "test.B");
+  }
+
+  @Test
+  public void testFindClassesAffectedByChangedProductionClass() throws Exception {
+    ICompilationUnit service =
+        packageFragment.createCompilationUnit(
+            "Service.java", "package test;\npublic class Service {\n}\n", false, null);
+    packageFragment.createCompilationUnit(
+        "Helper.java",
+        "package test;\npublic class Helper {\n    Service service;\n}\n",
+        false,
+        null);
+    packageFragment.createCompilationUnit(
+        "A.java", testClass("A", "    Helper helper;\n"), false, null);
+    packageFragment.createCompilationUnit(
+        "B.java", testClass("B", "    Service service;\n"), false, null);
+    packageFragment.createCompilationUnit("C.java", testClass("C"), false, null);
+
+    service.getBuffer().setContents("package test;\npublic class Service {\n    int state;\n}\n");
+    service.save(null, true);
+
+    assertThat(findClassesAffectedBy(service)).containsOnly("test.A", "test.B");
+  }
+
+  @Test
+  public void testFindClassesAffectedByChangedTestClass() throws Exception {
+    packageFragment.createCompilationUnit(
+        "Service.java", "package test;\npublic class Service {\n}\n", false, null);
+    ICompilationUnit testA =
+        packageFragment.createCompilationUnit(
+            "A.java", testClass("A", "    Service service;\n"), false, null);
+    packageFragment.createCompilationUnit("B.java", testClass("B"), false, null);
+
+    assertThat(findClassesAffectedBy(testA)).containsOnly("test.A");
+  }
+
+  private List<String> findClassesAffectedBy(ICompilationUnit changed) {
+    return testNGTestFinder.findClassesAffectedBy(
+        javaProject,
+        Collections.singletonList(changed),
+        JavaTestAnnotations.TESTNG_TEST.getName(),
+        "");
+  }
+
+  private List<String> findClassesInProject() {
+    return testNGTestFinder.findClassesInProject(
+        javaProject, JavaTestAnnotations.TESTNG_TEST.getName(), "");
+  }
+
+  private static String testClass(String name) {
+    return testClass(name, "");
+  }
+
+  private static String testClass(String name, String fields) {
+    StringBuffer buf = new StringBuffer();
+    buf.append("package test;\n");
+    buf.append("import org.testng.annotations.Test;\n");
+    buf.append("public class ").append(name).append(" {\n");
+    buf.append(fields);
+    buf.append("    @Test\n");
+    buf.append("    public void foo() {\n");
+    buf.append("    }\n");
+    buf.append("}\n");
+    return buf.toString();
+  }
+
   private static class MockTestDetectionContext implements TestDetectionContext {
 
     private String projectPath;
@@ -47,6 +47,13 @@ public interface ThreadStateDto extends ThreadState {
 
   ThreadStateDto withFrames(List<StackFrameDumpDto> frames);
 
+  @Override
+  int getFramesCount();
+
+  void setFramesCount(int framesCount);
+
+  ThreadStateDto withFramesCount(int framesCount);
+
   @Override
   ThreadStatus getStatus();
 
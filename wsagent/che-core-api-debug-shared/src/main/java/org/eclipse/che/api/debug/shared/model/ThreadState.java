@@ -26,9 +26,12 @@ public interface ThreadState {
   @Nullable
   String getGroupName();
 
-  /** Returns list of frames of the thread. */
+  /** Returns list of frames of the thread, it is empty when only the count of frames is known. */
   List<? extends StackFrameDump> getFrames();
 
+  /** Returns count of frames of the thread. */
+  int getFramesCount();
+
   /** Returns thread status. */
   ThreadStatus getStatus();
 
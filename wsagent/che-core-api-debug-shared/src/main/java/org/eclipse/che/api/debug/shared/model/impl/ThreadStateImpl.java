@@ -23,6 +23,7 @@ public class ThreadStateImpl implements ThreadState {
   private final ThreadStatus status;
   private final boolean isSuspended;
   private final List<? extends StackFrameDump> frames;
+  private final int framesCount;
   private final long id;
 
   public ThreadStateImpl(
@@ -32,10 +33,22 @@ public class ThreadStateImpl implements ThreadState {
       ThreadStatus status,
       boolean isSuspended,
       List<? extends StackFrameDump> frames) {
+    this(id, name, groupName, status, isSuspended, frames.size(), frames);
+  }
+
+  public ThreadStateImpl(
+      long id,
+      String name,
+      String groupName,
+      ThreadStatus status,
+      boolean isSuspended,
+      int framesCount,
+      List<? extends StackFrameDump> frames) {
     this.name = name;
     this.groupName = groupName;
     this.status = status;
     this.isSuspended = isSuspended;
+    this.framesCount = framesCount;
     this.frames = frames;
     this.id = id;
   }
@@ -70,6 +83,11 @@ public class ThreadStateImpl implements ThreadState {
     return frames;
   }
 
+  @Override
+  public int getFramesCount() {
+    return framesCount;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -80,12 +98,13 @@ public class ThreadStateImpl implements ThreadState {
         && Objects.equal(name, that.name)
         && Objects.equal(groupName, that.groupName)
         && status == that.status
+        && framesCount == that.framesCount
         && Objects.equal(frames, that.frames);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(name, groupName, status, isSuspended, frames, id);
+    return Objects.hashCode(name, groupName, status, isSuspended, framesCount, frames, id);
   }
 
   @Override
@@ -101,6 +120,8 @@ public class ThreadStateImpl implements ThreadState {
         + status
         + ", isSuspended="
         + isSuspended
+        + ", framesCount="
+        + framesCount
         + ", frames="
         + frames
         + ", id="
@@ -10,6 +10,7 @@
  */
 package org.eclipse.che.api.debugger.server;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.eclipse.che.api.debug.shared.model.Breakpoint;
@@ -244,6 +245,41 @@ public interface Debugger {
     return Collections.emptyList();
   }
 
+  /**
+   * Gets states of all threads. Frames of the threads may be omitted, then only {@link
+   * ThreadState#getFramesCount()} is provided and frames are fetched with {@link
+   * #getStackFrames(long, int, int)}.
+   *
+   * @return snapshot of the state of all threads
+   * @throws DebuggerException if any error occur
+   */
+  default List<ThreadState> getThreads() throws DebuggerException {
+    return getThreadDump();
+  }
+
+  /**
+   * Gets a range of frames of the thread. Frames don't contain values of variables and fields, they
+   * are fetched with {@link #getStackFrameDump(long, int)}.
+   *
+   * @param threadId the unique thread id {@link ThreadState#getId()}
+   * @param start index of the first frame to return, the top frame has index 0
+   * @param count maximum number of frames to return
+   * @return frames of the thread, empty list if the thread has no frames in the range
+   * @throws DebuggerException if the thread is not found or any other error occur
+   */
+  default List<? extends StackFrameDump> getStackFrames(long threadId, int start, int count)
+      throws DebuggerException {
+    for (ThreadState threadState : getThreadDump()) {
+      if (threadState.getId() == threadId) {
+        List<? extends StackFrameDump> frames = threadState.getFrames();
+        int from = Math.min(start, frames.size());
+        int to = (int) Math.min((long) from + count, frames.size());
+        return new ArrayList<>(frames.subList(from, to));
+      }
+    }
+    throw new DebuggerException("Thread " + threadId + " not found.");
+  }
+
   /** Is used to send back any events to client. */
   interface DebuggerCallback {
     void onEvent(DebuggerEvent event);
@@ -197,6 +197,35 @@ public class DebuggerService {
     return threadStates.stream().map(DtoConverter::asDto).collect(Collectors.toList());
   }
 
+  @GET
+  @Path("{id}/threads")
+  @Produces(MediaType.APPLICATION_JSON)
+  public List<ThreadStateDto> getThreads(@PathParam("id") String sessionId)
+      throws DebuggerException {
+    List<ThreadState> threadStates = debuggerManager.getDebugger(sessionId).getThreads();
+    return threadStates.stream().map(DtoConverter::asDto).collect(Collectors.toList());
+  }
+
+  @GET
+  @Path("{id}/threads/{thread}/frames")
+  @Produces(MediaType.APPLICATION_JSON)
+  public List<StackFrameDumpDto> getStackFrames(
+      @PathParam("id") String sessionId,
+      @PathParam("thread") long threadId,
+      @QueryParam("start") @DefaultValue("0") int start,
+      @QueryParam("count") @DefaultValue("" + Integer.MAX_VALUE) int count)
+      throws DebuggerException {
+    if (start < 0 || count < 0) {
+      throw new DebuggerException("Start and count of frames must not be negative.");
+    }
+    return debuggerManager
+        .getDebugger(sessionId)
+        .getStackFrames(threadId, start, count)
+        .stream()
+        .map(DtoConverter::asDto)
+        .collect(Collectors.toList());
+  }
+
   @GET
   @Path("{id}/value")
   @Produces(MediaType.APPLICATION_JSON)
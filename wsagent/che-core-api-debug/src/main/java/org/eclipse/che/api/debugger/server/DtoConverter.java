@@ -194,6 +194,7 @@ public final class DtoConverter {
         .withGroupName(threadState.getGroupName())
         .withSuspended(threadState.isSuspended())
         .withStatus(threadState.getStatus())
+        .withFramesCount(threadState.getFramesCount())
         .withFrames(threads);
   }
 
@@ -16,8 +16,11 @@ import com.google.common.annotations.VisibleForTesting;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.PathMatcher;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -39,13 +42,30 @@ public class LanguageServerFileWatcher {
 
   private final FileWatcherManager watcherManager;
 
-  private CopyOnWriteArrayList<Integer> watcherIds = new CopyOnWriteArrayList<>();
+  /** Ids of the watchers registered for each initialized server. */
+  private final Map<LanguageServer, List<Integer>> watcherIds = new ConcurrentHashMap<>();
 
   @Inject
   public LanguageServerFileWatcher(
       FileWatcherManager watcherManager, ServerInitializer serverInitializer) {
     this.watcherManager = watcherManager;
-    serverInitializer.addObserver(this::onServerInitialized);
+    serverInitializer.addObserver(
+        new ServerInitializerObserver() {
+          @Override
+          public void onServerInitialized(
+              LanguageServerLauncher launcher,
+              LanguageServer server,
+              ServerCapabilities capabilities,
+              String projectPath) {
+            LanguageServerFileWatcher.this.onServerInitialized(launcher, server);
+          }
+
+          @Override
+          public void onServerShutdown(
+              LanguageServerLauncher launcher, LanguageServer server, String projectPath) {
+            removeWatchers(server);
+          }
+        });
   }
 
   private void send(LanguageServer server, String filePath, FileChangeType changeType) {
@@ -58,18 +78,24 @@ public class LanguageServerFileWatcher {
   @PreDestroy
   @VisibleForTesting
   public void removeAllWatchers() {
-    for (Integer watcherId : watcherIds) {
-      watcherManager.unRegisterByMatcher(watcherId);
+    for (LanguageServer server : watcherIds.keySet()) {
+      removeWatchers(server);
+    }
+  }
+
+  private void removeWatchers(LanguageServer server) {
+    List<Integer> serverWatcherIds = watcherIds.remove(server);
+    if (serverWatcherIds != null) {
+      for (Integer watcherId : serverWatcherIds) {
+        watcherManager.unRegisterByMatcher(watcherId);
+      }
     }
   }
 
-  private void onServerInitialized(
-      LanguageServerLauncher launcher,
-      LanguageServer server,
-      ServerCapabilities capabilities,
-      String projectPath) {
+  private void onServerInitialized(LanguageServerLauncher launcher, LanguageServer server) {
     LanguageServerDescription description = launcher.getDescription();
     FileSystem fileSystem = FileSystems.getDefault();
+    List<Integer> serverWatcherIds = new ArrayList<>();
     for (String pattern : description.getFileWatchPatterns()) {
       PathMatcher matcher = fileSystem.getPathMatcher(pattern);
       int watcherId =
@@ -79,7 +105,8 @@ public class LanguageServerFileWatcher {
               s -> send(server, s, FileChangeType.Changed),
               s -> send(server, s, FileChangeType.Deleted));
 
-      watcherIds.add(watcherId);
+      serverWatcherIds.add(watcherId);
     }
+    watcherIds.put(server, serverWatcherIds);
   }
 }
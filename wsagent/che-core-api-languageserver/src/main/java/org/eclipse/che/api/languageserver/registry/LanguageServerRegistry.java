@@ -41,4 +41,20 @@ public interface LanguageServerRegistry {
   ServerCapabilities getCapabilities(String fileUri) throws LanguageServerException;
 
   InitializedLanguageServer getServer(String id);
+
+  /**
+   * Notifies that the document is opened in an editor, servers applicable to it are kept running
+   * until it is closed.
+   *
+   * @param fileUri uri of the opened document
+   * @throws LanguageServerException when project of the document can't be found
+   */
+  void documentOpened(String fileUri) throws LanguageServerException;
+
+  /**
+   * Notifies that the document is closed in an editor.
+   *
+   * @param fileUri uri of the closed document
+   */
+  void documentClosed(String fileUri);
 }
@@ -10,9 +10,14 @@
  */
 package org.eclipse.che.api.languageserver.registry;
 
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +25,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -33,6 +43,8 @@ import org.eclipse.che.api.languageserver.shared.model.LanguageDescription;
 import org.eclipse.che.api.project.server.FolderEntry;
 import org.eclipse.che.api.project.server.ProjectManager;
 import org.eclipse.che.api.project.server.VirtualFileEntry;
+import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.MessageParams;
 import org.eclipse.lsp4j.MessageType;
 import org.eclipse.lsp4j.ServerCapabilities;
@@ -40,6 +52,18 @@ import org.eclipse.lsp4j.services.LanguageServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Launches language servers per project and keeps track of initialized ones.
+ *
+ * <p>Initialized servers of a project are kept in an immutable list which is replaced on each
+ * change, so looking up servers for a file doesn't need any locking. Concurrent requests which
+ * need the same server to be launched share the launching.
+ *
+ * <p>Servers which are not used for the configured time are shut down to reclaim memory, they are
+ * launched again when a file of their language is opened next time. Servers applicable to a
+ * document which is open in an editor are never shut down, because the editor would not re-open
+ * the document on a relaunched server and would lose its language features.
+ */
 @Singleton
 public class LanguageServerRegistryImpl implements LanguageServerRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(LanguageServerRegistryImpl.class);
@@ -48,14 +72,26 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry {
   private final AtomicInteger serverId = new AtomicInteger();
 
   /** Started {@link LanguageServer} by project. */
-  private final Map<String, List<LanguageServerLauncher>> launchedServers;
+  private final Map<
+          String, Map<LanguageServerLauncher, CompletableFuture<InitializedLanguageServer>>>
+      launchedServers;
 
+  /** Initialized {@link LanguageServer} by project, lists are replaced instead of modifying. */
   private final Map<String, List<InitializedLanguageServer>> initializedServers;
 
+  /** Server id -> time of the last request to the server. */
+  private final Map<String, Long> lastUsageTime;
+  /** Uri of the document open in an editor -> path of its project. */
+  private final Map<String, String> openDocuments;
+  /** Compiled path regular expressions of the document filters. */
+  private final Map<String, Pattern> pathPatterns;
+
   private final Provider<ProjectManager> projectManagerProvider;
   private final ServerInitializer initializer;
   private EventService eventService;
   private CheLanguageClientFactory clientFactory;
+  private final long idleTimeoutMillis;
+  private final ScheduledExecutorService idleServersTerminator;
 
   @Inject
   public LanguageServerRegistryImpl(
@@ -64,15 +100,33 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry {
       Provider<ProjectManager> projectManagerProvider,
       ServerInitializer initializer,
       EventService eventService,
-      CheLanguageClientFactory clientFactory) {
+      CheLanguageClientFactory clientFactory,
+      @Named("che.languageserver.idle_timeout_min") long idleTimeoutMinutes) {
     this.languages = new ArrayList<>(languages);
     this.launchers = new ArrayList<>(languageServerLaunchers);
     this.projectManagerProvider = projectManagerProvider;
     this.initializer = initializer;
     this.eventService = eventService;
     this.clientFactory = clientFactory;
-    this.launchedServers = new HashMap<>();
-    this.initializedServers = new HashMap<>();
+    this.launchedServers = new ConcurrentHashMap<>();
+    this.initializedServers = new ConcurrentHashMap<>();
+    this.lastUsageTime = new ConcurrentHashMap<>();
+    this.openDocuments = new ConcurrentHashMap<>();
+    this.pathPatterns = new ConcurrentHashMap<>();
+    this.idleTimeoutMillis = MINUTES.toMillis(idleTimeoutMinutes);
+    if (idleTimeoutMinutes > 0) {
+      long period = Math.max(1, idleTimeoutMinutes / 2);
+      idleServersTerminator =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder()
+                  .setNameFormat("LanguageServerIdleTerminator")
+                  .setDaemon(true)
+                  .build());
+      idleServersTerminator.scheduleWithFixedDelay(
+          this::shutdownIdleServers, period, period, MINUTES);
+    } else {
+      idleServersTerminator = null;
+    }
   }
 
   private LanguageDescription findLanguage(String path) {
@@ -109,80 +163,92 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry {
     if (projectPath == null) {
       return null;
     }
-    List<LanguageServerLauncher> requiredToLaunch = findLaunchers(projectPath, fileUri);
-    // launchers is the set of things we need to have initialized
-
-    for (LanguageServerLauncher launcher : new ArrayList<>(requiredToLaunch)) {
-      synchronized (initializedServers) {
-        List<LanguageServerLauncher> servers =
-            launchedServers.computeIfAbsent(projectPath, k -> new ArrayList<>());
-
-        if (!servers.contains(launcher)) {
-          servers.add(launcher);
-          String id = String.valueOf(serverId.incrementAndGet());
-          initializer
-              .initialize(launcher, clientFactory.create(id), projectPath)
-              .thenAccept(
-                  pair -> {
-                    synchronized (initializedServers) {
-                      List<InitializedLanguageServer> initialized =
-                          initializedServers.computeIfAbsent(projectPath, k -> new ArrayList<>());
-                      initialized.add(
-                          new InitializedLanguageServer(id, pair.first, pair.second, launcher));
-                      requiredToLaunch.remove(launcher);
-                      initializedServers.notifyAll();
-                    }
-                  })
-              .exceptionally(
-                  t -> {
-                    eventService.publish(
-                        new MessageParams(
-                            MessageType.Error,
-                            "Failed to initialized LS "
-                                + launcher.getDescription().getId()
-                                + ": "
-                                + t.getMessage()));
-                    LOG.error("Error launching language server " + launcher, t);
-                    synchronized (initializedServers) {
-                      requiredToLaunch.remove(launcher);
-                      servers.remove(launcher);
-                      initializedServers.notifyAll();
-                    }
-                    return null;
-                  });
+    Map<LanguageServerLauncher, CompletableFuture<InitializedLanguageServer>> projectServers =
+        launchedServers.computeIfAbsent(projectPath, k -> new ConcurrentHashMap<>());
+
+    List<CompletableFuture<InitializedLanguageServer>> required = new ArrayList<>();
+    for (LanguageServerLauncher launcher : findLaunchers(projectPath, fileUri)) {
+      CompletableFuture<InitializedLanguageServer> server = projectServers.get(launcher);
+      if (server == null) {
+        CompletableFuture<InitializedLanguageServer> launching = new CompletableFuture<>();
+        server = projectServers.putIfAbsent(launcher, launching);
+        if (server == null) {
+          server = launching;
+          launch(projectPath, launcher, launching, projectServers);
         }
       }
+      required.add(server);
     }
 
     // now wait for all launchers to arrive at initialized
     // eventually, all launchers will either fail or succeed, regardless of
-    // which request thread started them. Thus the loop below will
-    // end.
-    synchronized (initializedServers) {
-      List<InitializedLanguageServer> initForProject = initializedServers.get(projectPath);
-      if (initForProject != null) {
-        for (InitializedLanguageServer initialized : initForProject) {
-          requiredToLaunch.remove(initialized.getLauncher());
-        }
-      }
-      while (!requiredToLaunch.isEmpty()) {
-        try {
-          initializedServers.wait();
-          initForProject = initializedServers.get(projectPath);
-          if (initForProject != null) {
-            for (InitializedLanguageServer initialized : initForProject) {
-              requiredToLaunch.remove(initialized.getLauncher());
-            }
-          }
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          return null;
-        }
+    // which request thread started them.
+    for (CompletableFuture<InitializedLanguageServer> server : required) {
+      try {
+        server.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      } catch (ExecutionException e) {
+        // failure is already reported by the thread which launched the server
       }
     }
     return getCapabilities(fileUri);
   }
 
+  private void launch(
+      String projectPath,
+      LanguageServerLauncher launcher,
+      CompletableFuture<InitializedLanguageServer> launching,
+      Map<LanguageServerLauncher, CompletableFuture<InitializedLanguageServer>> projectServers) {
+    String id = String.valueOf(serverId.incrementAndGet());
+    CompletableFuture<Pair<LanguageServer, InitializeResult>> initializing;
+    try {
+      initializing = initializer.initialize(launcher, clientFactory.create(id), projectPath);
+    } catch (LanguageServerException e) {
+      onLaunchFailed(launcher, launching, projectServers, e);
+      return;
+    }
+    initializing
+        .thenAccept(
+            pair -> {
+              InitializedLanguageServer server =
+                  new InitializedLanguageServer(id, pair.first, pair.second, launcher);
+              lastUsageTime.put(id, System.currentTimeMillis());
+              initializedServers.compute(
+                  projectPath,
+                  (p, servers) -> {
+                    List<InitializedLanguageServer> updated =
+                        servers == null ? new ArrayList<>() : new ArrayList<>(servers);
+                    updated.add(server);
+                    return Collections.unmodifiableList(updated);
+                  });
+              launching.complete(server);
+            })
+        .exceptionally(
+            t -> {
+              onLaunchFailed(launcher, launching, projectServers, t);
+              return null;
+            });
+  }
+
+  private void onLaunchFailed(
+      LanguageServerLauncher launcher,
+      CompletableFuture<InitializedLanguageServer> launching,
+      Map<LanguageServerLauncher, CompletableFuture<InitializedLanguageServer>> projectServers,
+      Throwable t) {
+    eventService.publish(
+        new MessageParams(
+            MessageType.Error,
+            "Failed to initialized LS "
+                + launcher.getDescription().getId()
+                + ": "
+                + t.getMessage()));
+    LOG.error("Error launching language server " + launcher, t);
+    projectServers.remove(launcher, launching);
+    launching.completeExceptionally(t);
+  }
+
   private List<LanguageServerLauncher> findLaunchers(String projectPath, String fileUri) {
     LanguageDescription language = findLanguage(fileUri);
     if (language == null) {
@@ -241,24 +307,17 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry {
 
     Map<Integer, List<InitializedLanguageServer>> result = new HashMap<>();
 
-    List<InitializedLanguageServer> servers = null;
-    synchronized (initializedServers) {
-      List<InitializedLanguageServer> list = initializedServers.get(projectPath);
-      if (list == null) {
-        return Collections.emptyList();
-      }
-      servers = new ArrayList<InitializedLanguageServer>(list);
+    List<InitializedLanguageServer> servers = initializedServers.get(projectPath);
+    if (servers == null) {
+      return Collections.emptyList();
     }
+    long now = System.currentTimeMillis();
     for (InitializedLanguageServer server : servers) {
       int score =
           matchScore(server.getLauncher().getDescription(), fileUri, language.getLanguageId());
       if (score > 0) {
-        List<InitializedLanguageServer> list = result.get(score);
-        if (list == null) {
-          list = new ArrayList<>();
-          result.put(score, list);
-        }
-        list.add(server);
+        result.computeIfAbsent(score, k -> new ArrayList<>()).add(server);
+        lastUsageTime.put(server.getId(), now);
       }
     }
     // sort lists highest score first
@@ -291,7 +350,7 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry {
         if (pattern.equals(path)) {
           return 10;
         }
-        Pattern regex = Pattern.compile(pattern);
+        Pattern regex = pathPatterns.computeIfAbsent(pattern, Pattern::compile);
         if (regex.matcher(path).matches()) {
           match = Math.max(match, 5);
         }
@@ -328,27 +387,99 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry {
 
   @PreDestroy
   protected void shutdown() {
-    List<LanguageServer> allServers;
-    synchronized (initializedServers) {
-      allServers =
-          initializedServers
-              .values()
-              .stream()
-              .flatMap(l -> l.stream())
-              .map(s -> s.getServer())
-              .collect(Collectors.toList());
+    if (idleServersTerminator != null) {
+      idleServersTerminator.shutdownNow();
     }
+    List<LanguageServer> allServers =
+        initializedServers
+            .values()
+            .stream()
+            .flatMap(l -> l.stream())
+            .map(s -> s.getServer())
+            .collect(Collectors.toList());
     for (LanguageServer server : allServers) {
       server.shutdown();
       server.exit();
     }
   }
 
+  @Override
+  public void documentOpened(String fileUri) throws LanguageServerException {
+    String projectPath = extractProjectPath(fileUri);
+    if (projectPath != null) {
+      openDocuments.put(fileUri, projectPath);
+    }
+  }
+
+  @Override
+  public void documentClosed(String fileUri) {
+    openDocuments.remove(fileUri);
+  }
+
+  /** Shuts down servers which haven't received requests for longer than the idle timeout. */
+  private void shutdownIdleServers() {
+    shutdownServersIdleSince(System.currentTimeMillis() - idleTimeoutMillis);
+  }
+
+  @VisibleForTesting
+  void shutdownServersIdleSince(long idleSince) {
+    for (Map.Entry<String, List<InitializedLanguageServer>> entry : initializedServers.entrySet()) {
+      String projectPath = entry.getKey();
+      for (InitializedLanguageServer server : entry.getValue()) {
+        if (lastUsageTime.getOrDefault(server.getId(), 0L) < idleSince
+            && !hasOpenDocuments(projectPath, server)) {
+          LOG.info(
+              "Shutting down idle language server '{}' of project '{}'",
+              server.getLauncher().getDescription().getId(),
+              projectPath);
+          remove(projectPath, server);
+          try {
+            initializer.shutdown(server.getLauncher(), server.getServer(), projectPath);
+          } catch (RuntimeException e) {
+            LOG.error("Error shutting down language server " + server.getLauncher(), e);
+          }
+        }
+      }
+    }
+  }
+
+  private boolean hasOpenDocuments(String projectPath, InitializedLanguageServer server) {
+    for (Map.Entry<String, String> document : openDocuments.entrySet()) {
+      String uri = document.getKey();
+      LanguageDescription language = findLanguage(uri);
+      if (projectPath.equals(document.getValue()) && language != null) {
+        int score =
+            matchScore(server.getLauncher().getDescription(), uri, language.getLanguageId());
+        if (score > 0) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private void remove(String projectPath, InitializedLanguageServer server) {
+    initializedServers.computeIfPresent(
+        projectPath,
+        (p, servers) -> {
+          List<InitializedLanguageServer> updated = new ArrayList<>(servers);
+          updated.remove(server);
+          return updated.isEmpty() ? null : Collections.unmodifiableList(updated);
+        });
+    Map<LanguageServerLauncher, CompletableFuture<InitializedLanguageServer>> projectServers =
+        launchedServers.get(projectPath);
+    if (projectServers != null) {
+      projectServers.remove(server.getLauncher());
+    }
+    lastUsageTime.remove(server.getId());
+  }
+
   @Override
   public InitializedLanguageServer getServer(String id) {
     for (List<InitializedLanguageServer> list : initializedServers.values()) {
       for (InitializedLanguageServer initializedLanguageServer : list) {
         if (initializedLanguageServer.getId().equals(id)) {
+          lastUsageTime.put(id, System.currentTimeMillis());
           return initializedLanguageServer;
         }
       }
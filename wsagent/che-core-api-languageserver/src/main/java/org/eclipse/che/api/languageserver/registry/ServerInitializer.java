@@ -32,4 +32,14 @@ public interface ServerInitializer extends ServerInitializerObservable {
   CompletableFuture<Pair<LanguageServer, InitializeResult>> initialize(
       LanguageServerLauncher launcher, LanguageClient client, String projectPath)
       throws LanguageServerException;
+
+  /**
+   * Shuts down the {@link LanguageServer} initialized by {@link #initialize} and notifies the
+   * observers, callbacks registered for the server are removed.
+   *
+   * @param launcher the launcher which launched the server
+   * @param server the server to shut down
+   * @param projectPath the path of the project the server was launched for
+   */
+  void shutdown(LanguageServerLauncher launcher, LanguageServer server, String projectPath);
 }
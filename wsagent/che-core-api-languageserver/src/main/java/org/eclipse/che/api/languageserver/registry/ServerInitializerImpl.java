@@ -12,9 +12,8 @@ package org.eclipse.che.api.languageserver.registry;
 
 import com.google.inject.Singleton;
 import java.lang.management.ManagementFactory;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.eclipse.che.api.languageserver.exception.LanguageServerException;
 import org.eclipse.che.api.languageserver.launcher.LanguageServerLauncher;
 import org.eclipse.che.api.languageserver.service.LanguageServiceUtils;
@@ -61,7 +60,8 @@ public class ServerInitializerImpl implements ServerInitializer {
 
   public static ClientCapabilities CLIENT_CAPABILITIES;
 
-  private final List<ServerInitializerObserver> observers = new ArrayList<>();
+  private final CopyOnWriteArrayList<ServerInitializerObserver> observers =
+      new CopyOnWriteArrayList<>();
 
   private static int getProcessId() {
     String name = ManagementFactory.getRuntimeMXBean().getName();
@@ -132,13 +132,28 @@ public class ServerInitializerImpl implements ServerInitializer {
     return result;
   }
 
+  @Override
+  public void shutdown(LanguageServerLauncher launcher, LanguageServer server, String projectPath) {
+    observers.forEach(observer -> observer.onServerShutdown(launcher, server, projectPath));
+    unregisterCallbacks(server);
+    server.shutdown();
+    server.exit();
+  }
+
   protected void registerCallbacks(LanguageServer server, LanguageServerLauncher launcher) {
     if (server instanceof ServerInitializerObserver) {
-      addObserver((ServerInitializerObserver) server);
+      observers.addIfAbsent((ServerInitializerObserver) server);
     }
 
+    // launcher is the same for every server it launches, so it is registered only once
     if (launcher instanceof ServerInitializerObserver) {
-      addObserver((ServerInitializerObserver) launcher);
+      observers.addIfAbsent((ServerInitializerObserver) launcher);
+    }
+  }
+
+  protected void unregisterCallbacks(LanguageServer server) {
+    if (server instanceof ServerInitializerObserver) {
+      removeObserver((ServerInitializerObserver) server);
     }
   }
 
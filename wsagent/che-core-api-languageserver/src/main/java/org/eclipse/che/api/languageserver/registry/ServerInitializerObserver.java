@@ -30,4 +30,15 @@ public interface ServerInitializerObserver {
       LanguageServer server,
       ServerCapabilities capabilities,
       String projectPath);
+
+  /**
+   * Notifies observers when server is shut down by the registry, so they can release everything
+   * they have registered for it in {@link #onServerInitialized}.
+   *
+   * @param launcher the launcher which launched the server
+   * @param server the {@link LanguageServer} being shut down
+   * @param projectPath the path of the project the server was launched for
+   */
+  default void onServerShutdown(
+      LanguageServerLauncher launcher, LanguageServer server, String projectPath) {}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.languageserver.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules document changes sent to language servers.
+ *
+ * <p>Changes of a document received within a short period are coalesced into a single
+ * notification which contains all of them in order, full content change supersedes all the
+ * previous changes. Pending changes of a document are sent before any request related to the
+ * document, so language servers never answer requests against outdated content.
+ *
+ * <p>Requests which depend on the caret position (completion, hover etc.) are outdated as soon as
+ * the document changes, so they are cancelled on the next change of the document.
+ */
+@Singleton
+public class DocumentChangeScheduler {
+  private static final Logger LOG = LoggerFactory.getLogger(DocumentChangeScheduler.class);
+
+  private static final long COALESCE_DELAY_MS = 50;
+
+  /** Document uri -> changes which are not sent to language servers yet */
+  private final Map<String, PendingChanges> pendingChanges = new ConcurrentHashMap<>();
+  /** Document uri -> requests which become outdated on the next change of the document */
+  private final Map<String, Set<CompletableFuture<?>>> requests = new ConcurrentHashMap<>();
+
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("DocumentChangeScheduler")
+              .setDaemon(true)
+              .build());
+
+  /**
+   * Schedules change of the document, cancels requests which target the previous version of the
+   * document.
+   *
+   * @param uri uri of the changed document
+   * @param params document change
+   * @param sender sends changes to language servers
+   */
+  public void didChange(
+      String uri,
+      DidChangeTextDocumentParams params,
+      Consumer<DidChangeTextDocumentParams> sender) {
+    cancelRequests(uri);
+    pendingChanges.compute(
+        uri,
+        (u, pending) -> {
+          if (pending == null) {
+            executor.schedule(() -> flush(u), COALESCE_DELAY_MS, MILLISECONDS);
+            return new PendingChanges(params, sender);
+          }
+          pending.merge(params);
+          return pending;
+        });
+  }
+
+  /**
+   * Sends pending changes of the document to language servers, returns when the changes are sent.
+   *
+   * @param uri uri of the document
+   */
+  public void flush(String uri) {
+    pendingChanges.computeIfPresent(
+        uri,
+        (u, pending) -> {
+          try {
+            pending.send();
+          } catch (RuntimeException e) {
+            LOG.error("Error trying to process textDocument/didChange", e);
+          }
+          return null;
+        });
+  }
+
+  /**
+   * Registers request which becomes outdated and is cancelled on the next change of the document.
+   *
+   * @param uri uri of the document the request is related to
+   * @param request request to language server
+   * @return given request
+   */
+  public <T> CompletableFuture<T> track(String uri, CompletableFuture<T> request) {
+    Set<CompletableFuture<?>> documentRequests =
+        requests.computeIfAbsent(uri, u -> ConcurrentHashMap.newKeySet());
+    documentRequests.add(request);
+    request.whenComplete((result, error) -> documentRequests.remove(request));
+    return request;
+  }
+
+  /**
+   * Sends pending changes and cancels requests related to the closed document.
+   *
+   * @param uri uri of the closed document
+   */
+  public void didClose(String uri) {
+    flush(uri);
+    cancelRequests(uri);
+    requests.remove(uri);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void cancelRequests(String uri) {
+    Set<CompletableFuture<?>> documentRequests = requests.get(uri);
+    if (documentRequests != null) {
+      for (CompletableFuture<?> request : documentRequests) {
+        request.cancel(true);
+      }
+    }
+  }
+
+  private static class PendingChanges {
+    private final DidChangeTextDocumentParams params;
+    private final Consumer<DidChangeTextDocumentParams> sender;
+
+    PendingChanges(
+        DidChangeTextDocumentParams params, Consumer<DidChangeTextDocumentParams> sender) {
+      this.params = params;
+      this.sender = sender;
+    }
+
+    void merge(DidChangeTextDocumentParams next) {
+      List<TextDocumentContentChangeEvent> changes = new ArrayList<>(params.getContentChanges());
+      for (TextDocumentContentChangeEvent change : next.getContentChanges()) {
+        if (change.getRange() == null) {
+          // full content of the document, previous changes are not needed anymore
+          changes.clear();
+        }
+        changes.add(change);
+      }
+      params.setContentChanges(changes);
+      params.setTextDocument(next.getTextDocument());
+    }
+
+    void send() {
+      sender.accept(params);
+    }
+  }
+}
@@ -103,12 +103,16 @@ public class TextDocumentService {
 
   private final LanguageServerRegistry languageServerRegistry;
   private final RequestHandlerConfigurator requestHandler;
+  private final DocumentChangeScheduler documentChangeScheduler;
 
   @Inject
   public TextDocumentService(
-      LanguageServerRegistry languageServerRegistry, RequestHandlerConfigurator requestHandler) {
+      LanguageServerRegistry languageServerRegistry,
+      RequestHandlerConfigurator requestHandler,
+      DocumentChangeScheduler documentChangeScheduler) {
     this.languageServerRegistry = languageServerRegistry;
     this.requestHandler = requestHandler;
+    this.documentChangeScheduler = documentChangeScheduler;
   }
 
   @PostConstruct
@@ -168,6 +172,7 @@ public class TextDocumentService {
     TextDocumentIdentifier textDocument = params.getTextDocument();
     String uri = prefixURI(textDocument.getUri());
     textDocument.setUri(uri);
+    documentChangeScheduler.flush(uri);
     List<CommandDto> result = new ArrayList<>();
     try {
       List<InitializedLanguageServer> servers =
@@ -212,6 +217,7 @@ public class TextDocumentService {
       String uri = prefixURI(textDocument.getUri());
       textDocument.setUri(uri);
       textDocumentPositionParams.setUri(prefixURI(textDocumentPositionParams.getUri()));
+      documentChangeScheduler.flush(uri);
       ExtendedCompletionListDto[] result = new ExtendedCompletionListDto[1];
 
       LSOperation<Collection<InitializedLanguageServer>, ExtendedCompletionListDto> op =
@@ -249,10 +255,12 @@ public class TextDocumentService {
                               @Override
                               public CompletableFuture<Either<List<CompletionItem>, CompletionList>>
                                   start(InitializedLanguageServer element) {
-                                return element
-                                    .getServer()
-                                    .getTextDocumentService()
-                                    .completion(textDocumentPositionParams);
+                                return documentChangeScheduler.track(
+                                    uri,
+                                    element
+                                        .getServer()
+                                        .getTextDocumentService()
+                                        .completion(textDocumentPositionParams));
                               }
 
                               @Override
@@ -278,7 +286,7 @@ public class TextDocumentService {
                                 return false;
                               }
                             };
-                    OperationUtil.doInParallel(element, op2, 30000);
+                    OperationUtil.doInParallel(element, op2, 5000);
 
                     return res;
                   });
@@ -302,6 +310,7 @@ public class TextDocumentService {
   private List<SymbolInformationDto> documentSymbol(DocumentSymbolParams documentSymbolParams) {
     String uri = prefixURI(documentSymbolParams.getTextDocument().getUri());
     documentSymbolParams.getTextDocument().setUri(uri);
+    documentChangeScheduler.flush(uri);
     List<SymbolInformationDto> result = new ArrayList<>();
     try {
       List<InitializedLanguageServer> servers =
@@ -351,6 +360,7 @@ public class TextDocumentService {
   private List<LocationDto> references(ReferenceParams referenceParams) {
     String uri = prefixURI(referenceParams.getTextDocument().getUri());
     referenceParams.getTextDocument().setUri(uri);
+    documentChangeScheduler.flush(uri);
     List<LocationDto> result = new ArrayList<>();
     try {
       List<InitializedLanguageServer> servers =
@@ -396,6 +406,7 @@ public class TextDocumentService {
   private List<LocationDto> definition(TextDocumentPositionParams textDocumentPositionParams) {
     String uri = prefixURI(textDocumentPositionParams.getTextDocument().getUri());
     textDocumentPositionParams.getTextDocument().setUri(uri);
+    documentChangeScheduler.flush(uri);
     try {
       List<InitializedLanguageServer> servers =
           languageServerRegistry
@@ -467,6 +478,7 @@ public class TextDocumentService {
     String uri = prefixURI(positionParams.getTextDocument().getUri());
     positionParams.getTextDocument().setUri(uri);
     positionParams.setUri(prefixURI(positionParams.getUri()));
+    documentChangeScheduler.flush(uri);
     HoverDto result = new HoverDto();
     result.setContents(new ArrayList<>());
     try {
@@ -488,7 +500,8 @@ public class TextDocumentService {
 
             @Override
             public CompletableFuture<Hover> start(InitializedLanguageServer element) {
-              return element.getServer().getTextDocumentService().hover(positionParams);
+              return documentChangeScheduler.track(
+                  uri, element.getServer().getTextDocumentService().hover(positionParams));
             }
 
             @Override
@@ -511,6 +524,7 @@ public class TextDocumentService {
     String uri = prefixURI(positionParams.getTextDocument().getUri());
     positionParams.getTextDocument().setUri(uri);
     positionParams.setUri(prefixURI(positionParams.getUri()));
+    documentChangeScheduler.flush(uri);
     SignatureHelpDto[] result = new SignatureHelpDto[1];
     try {
       List<InitializedLanguageServer> servers =
@@ -530,7 +544,8 @@ public class TextDocumentService {
 
             @Override
             public CompletableFuture<SignatureHelp> start(InitializedLanguageServer element) {
-              return element.getServer().getTextDocumentService().signatureHelp(positionParams);
+              return documentChangeScheduler.track(
+                  uri, element.getServer().getTextDocumentService().signatureHelp(positionParams));
             }
 
             @Override
@@ -553,6 +568,7 @@ public class TextDocumentService {
     try {
       String uri = prefixURI(documentFormattingParams.getTextDocument().getUri());
       documentFormattingParams.getTextDocument().setUri(uri);
+      documentChangeScheduler.flush(uri);
       InitializedLanguageServer server =
           languageServerRegistry
               .getApplicableLanguageServers(uri)
@@ -590,6 +606,7 @@ public class TextDocumentService {
     try {
       String uri = prefixURI(documentRangeFormattingParams.getTextDocument().getUri());
       documentRangeFormattingParams.getTextDocument().setUri(uri);
+      documentChangeScheduler.flush(uri);
       InitializedLanguageServer server =
           languageServerRegistry
               .getApplicableLanguageServers(uri)
@@ -623,6 +640,7 @@ public class TextDocumentService {
     try {
       String uri = prefixURI(documentOnTypeFormattingParams.getTextDocument().getUri());
       documentOnTypeFormattingParams.getTextDocument().setUri(uri);
+      documentChangeScheduler.flush(uri);
       InitializedLanguageServer server =
           languageServerRegistry
               .getApplicableLanguageServers(uri)
@@ -656,15 +674,18 @@ public class TextDocumentService {
       String uri = prefixURI(didChangeTextDocumentParams.getTextDocument().getUri());
       didChangeTextDocumentParams.getTextDocument().setUri(uri);
       didChangeTextDocumentParams.setUri(prefixURI(didChangeTextDocumentParams.getUri()));
-      languageServerRegistry
-          .getApplicableLanguageServers(uri)
-          .stream()
-          .flatMap(Collection::stream)
-          .map(InitializedLanguageServer::getServer)
-          .forEach(
-              server -> {
-                server.getTextDocumentService().didChange(didChangeTextDocumentParams);
-              });
+      List<InitializedLanguageServer> servers =
+          languageServerRegistry
+              .getApplicableLanguageServers(uri)
+              .stream()
+              .flatMap(Collection::stream)
+              .collect(Collectors.toList());
+      documentChangeScheduler.didChange(
+          uri,
+          didChangeTextDocumentParams,
+          params ->
+              servers.forEach(
+                  server -> server.getServer().getTextDocumentService().didChange(params)));
     } catch (LanguageServerException e) {
       LOG.error("Error trying to process textDocument/didChange", e);
     }
@@ -674,6 +695,7 @@ public class TextDocumentService {
     try {
       String uri = prefixURI(openTextDocumentParams.getTextDocument().getUri());
       openTextDocumentParams.getTextDocument().setUri(uri);
+      languageServerRegistry.documentOpened(uri);
       languageServerRegistry
           .getApplicableLanguageServers(uri)
           .stream()
@@ -692,6 +714,8 @@ public class TextDocumentService {
     try {
       String uri = prefixURI(didCloseTextDocumentParams.getTextDocument().getUri());
       didCloseTextDocumentParams.getTextDocument().setUri(uri);
+      documentChangeScheduler.didClose(uri);
+      languageServerRegistry.documentClosed(uri);
       languageServerRegistry
           .getApplicableLanguageServers(uri)
           .stream()
@@ -710,6 +734,7 @@ public class TextDocumentService {
     try {
       String uri = prefixURI(didSaveTextDocumentParams.getTextDocument().getUri());
       didSaveTextDocumentParams.getTextDocument().setUri(uri);
+      documentChangeScheduler.flush(uri);
       languageServerRegistry
           .getApplicableLanguageServers(uri)
           .stream()
@@ -729,6 +754,7 @@ public class TextDocumentService {
     try {
       String uri = prefixURI(textDocumentPositionParams.getTextDocument().getUri());
       textDocumentPositionParams.getTextDocument().setUri(uri);
+      documentChangeScheduler.flush(uri);
       @SuppressWarnings("unchecked")
       List<DocumentHighlightDto>[] result = new List[1];
       LSOperation<Collection<InitializedLanguageServer>, List<DocumentHighlightDto>> op =
@@ -761,10 +787,12 @@ public class TextDocumentService {
                           @Override
                           public CompletableFuture<List<? extends DocumentHighlight>> start(
                               InitializedLanguageServer element) {
-                            return element
-                                .getServer()
-                                .getTextDocumentService()
-                                .documentHighlight(textDocumentPositionParams);
+                            return documentChangeScheduler.track(
+                                uri,
+                                element
+                                    .getServer()
+                                    .getTextDocumentService()
+                                    .documentHighlight(textDocumentPositionParams));
                           }
 
                           @Override
@@ -775,7 +803,7 @@ public class TextDocumentService {
                             return false;
                           }
                         };
-                    OperationUtil.doInParallel(element, op2, 10000);
+                    OperationUtil.doInParallel(element, op2, 5000);
 
                     return res;
                   });
@@ -803,6 +831,7 @@ public class TextDocumentService {
   private RenameResultDto rename(RenameParams renameParams) {
     String uri = prefixURI(renameParams.getTextDocument().getUri());
     renameParams.getTextDocument().setUri(uri);
+    documentChangeScheduler.flush(uri);
     Map<String, ExtendedWorkspaceEdit> edits = new ConcurrentHashMap<>();
     try {
       List<InitializedLanguageServer> servers =
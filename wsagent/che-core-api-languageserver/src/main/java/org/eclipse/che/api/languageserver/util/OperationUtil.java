@@ -10,13 +10,16 @@
  */
 package org.eclipse.che.api.languageserver.util;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,26 +28,33 @@ public class OperationUtil {
 
   /**
    * Execute the given operation on each element of the collection in sequence. Stops as soon as
-   * {@link LSOperation#canDo(Object)} returns true.
+   * {@link LSOperation#handleResult(Object, Object)} returns true or the timeout is exceeded.
    *
    * @param collection
    * @param op
-   * @param timeoutMillis
+   * @param timeoutMillis time given to all the operations
    */
   public static <C, R> void doInSequence(
       Collection<C> collection, LSOperation<C, R> op, long timeoutMillis) {
     long endTime = System.currentTimeMillis() + timeoutMillis;
     for (C element : collection) {
       if (op.canDo(element)) {
+        long remaining = endTime - System.currentTimeMillis();
+        if (remaining <= 0) {
+          LOG.debug("Operation is not completed within {} ms", timeoutMillis);
+          return;
+        }
         CompletableFuture<R> future = op.start(element);
         try {
-          R result = future.get(Math.max(endTime - timeoutMillis, 1), TimeUnit.MILLISECONDS);
+          R result = future.get(remaining, MILLISECONDS);
           if (op.handleResult(element, result)) {
             return;
           }
         } catch (InterruptedException e) {
           LOG.info("Thread interrupted", e);
+          future.cancel(true);
           Thread.currentThread().interrupt();
+          return;
         } catch (ExecutionException e) {
           LOG.info("Exception occurred in op", e);
         } catch (TimeoutException e) {
@@ -55,65 +65,69 @@ public class OperationUtil {
   }
 
   /**
-   * Executes the given operation in parallel for each element in the collection. Failures in any of
-   * the operations are ignored.
+   * Executes the given operation in parallel for each element in the collection. Results are
+   * handled one at a time as soon as they arrive. Operations which are not completed within the
+   * timeout are cancelled, which makes language servers receive cancel requests for them, and
+   * results received after that are ignored. Failures in any of the operations are ignored.
    *
    * @param collection
    * @param op
-   * @param timeoutMillis
+   * @param timeoutMillis time given to all the operations
    */
   public static <C, R> void doInParallel(
       Collection<C> collection, LSOperation<C, R> op, long timeoutMillis) {
+    long endTime = System.currentTimeMillis() + timeoutMillis;
     Object lock = new Object();
-    List<CompletableFuture<?>> pendingResponses = new ArrayList<>();
+    AtomicBoolean completed = new AtomicBoolean();
+    List<CompletableFuture<R>> requests = new ArrayList<>();
+    List<CompletableFuture<?>> handled = new ArrayList<>();
 
     for (C element : collection) {
       if (op.canDo(element)) {
+        long start = System.currentTimeMillis();
         CompletableFuture<R> future = op.start(element);
-        synchronized (lock) {
-          pendingResponses.add(future);
-          lock.notifyAll();
-        }
-        future
-            .thenAccept(
-                result -> {
-                  synchronized (lock) {
-                    if (!future.isCancelled()) {
-                      op.handleResult(element, result);
-                      pendingResponses.remove(future);
-                      lock.notifyAll();
+        requests.add(future);
+        handled.add(
+            future.handle(
+                (result, error) -> {
+                  if (error != null) {
+                    if (!(error instanceof CancellationException)) {
+                      LOG.info("Exception occurred in request", error);
                     }
+                    return null;
                   }
-                })
-            .exceptionally(
-                (t) -> {
-                  LOG.info("Exception occurred in request", t);
+                  LOG.debug(
+                      "Request to {} completed in {} ms",
+                      element,
+                      System.currentTimeMillis() - start);
                   synchronized (lock) {
-                    pendingResponses.remove(future);
-                    lock.notifyAll();
+                    if (!completed.get()) {
+                      op.handleResult(element, result);
+                    }
                   }
                   return null;
-                });
+                }));
       }
     }
 
-    long endTime = System.currentTimeMillis() + 5000;
-
     try {
-      synchronized (lock) {
-        while (System.currentTimeMillis() < endTime && pendingResponses.size() > 0) {
-          lock.wait(endTime - System.currentTimeMillis());
-        }
-      }
+      CompletableFuture.allOf(handled.toArray(new CompletableFuture<?>[handled.size()]))
+          .get(Math.max(endTime - System.currentTimeMillis(), 0), MILLISECONDS);
     } catch (InterruptedException e) {
       LOG.info("Thread interrupted", e);
       Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LOG.info("Exception occurred in op", e);
+    } catch (TimeoutException e) {
+      LOG.debug("Not all the requests are completed within {} ms", timeoutMillis);
     }
     synchronized (lock) {
-      for (CompletableFuture<?> pending : new ArrayList<>(pendingResponses)) {
-        pending.cancel(true);
+      completed.set(true);
+    }
+    for (CompletableFuture<R> request : requests) {
+      if (!request.isDone()) {
+        request.cancel(true);
       }
-      lock.notifyAll();
     }
   }
 }
@@ -12,6 +12,7 @@ package org.eclipse.che.api.languageserver;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertTrue;
@@ -110,4 +111,34 @@ public class LanguageServerFileWatcherTest {
 
     verify(workspaceService).didChangeWatchedFiles(any());
   }
+
+  @Test
+  public void testRemoveFileWatchersOfShutDownServer() throws Exception {
+    ArgumentCaptor<ServerInitializerObserver> argumentCaptor =
+        ArgumentCaptor.forClass(ServerInitializerObserver.class);
+    watcher = new LanguageServerFileWatcher(watcherManager, initializer);
+    verify(initializer).addObserver(argumentCaptor.capture());
+    ServerInitializerObserver value = argumentCaptor.getValue();
+
+    LanguageServerDescription description =
+        new LanguageServerDescription(
+            "foo",
+            Collections.singletonList("bar"),
+            Collections.emptyList(),
+            Collections.singletonList("glob:*.foo"));
+    when(launcher.getDescription()).thenReturn(description);
+    when(watcherManager.registerByMatcher(any(), any(), any(), any())).thenReturn(42);
+    LanguageServer otherServer = mock(LanguageServer.class);
+
+    value.onServerInitialized(launcher, server, null, null);
+    value.onServerInitialized(launcher, otherServer, null, null);
+    value.onServerShutdown(launcher, server, null);
+
+    verify(watcherManager).unRegisterByMatcher(42);
+
+    watcher.removeAllWatchers();
+    watcher = null;
+
+    verify(watcherManager, times(2)).unRegisterByMatcher(42);
+  }
 }
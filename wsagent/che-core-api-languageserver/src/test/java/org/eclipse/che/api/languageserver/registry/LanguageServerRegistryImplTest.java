@@ -14,15 +14,24 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 import com.google.inject.Provider;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eclipse.che.api.languageserver.exception.LanguageServerException;
 import org.eclipse.che.api.languageserver.launcher.LanguageServerLauncher;
 import org.eclipse.che.api.languageserver.shared.model.LanguageDescription;
@@ -100,7 +109,8 @@ public class LanguageServerRegistryImplTest {
                 pmp,
                 initializer,
                 null,
-                clientFactory) {
+                clientFactory,
+                -1) {
               @Override
               protected String extractProjectPath(String filePath) throws LanguageServerException {
                 return PROJECT_PATH;
@@ -124,4 +134,78 @@ public class LanguageServerRegistryImplTest {
     verify(initializer)
         .initialize(eq(languageServerLauncher), any(LanguageClient.class), eq(PROJECT_PATH));
   }
+
+  @Test
+  public void shouldShutDownIdleServerAndLaunchItAgainOnNextInitialize() throws Exception {
+    registry.initialize(PREFIX + FILE_PATH);
+
+    registry.shutdownServersIdleSince(Long.MAX_VALUE);
+
+    verify(initializer).shutdown(languageServerLauncher, languageServer, PROJECT_PATH);
+    assertTrue(registry.getApplicableLanguageServers(PREFIX + FILE_PATH).isEmpty());
+
+    ServerCapabilities cap = registry.initialize(PREFIX + FILE_PATH);
+
+    assertEquals(cap, serverCapabilities);
+    assertEquals(registry.getApplicableLanguageServers(PREFIX + FILE_PATH).size(), 1);
+    verify(initializer, times(2))
+        .initialize(eq(languageServerLauncher), any(LanguageClient.class), eq(PROJECT_PATH));
+  }
+
+  @Test
+  public void shouldNotShutDownServerWhichIsNotIdle() throws Exception {
+    registry.initialize(PREFIX + FILE_PATH);
+
+    registry.shutdownServersIdleSince(0);
+
+    verify(initializer, never()).shutdown(any(), any(), anyString());
+  }
+
+  @Test
+  public void shouldNotShutDownIdleServerOfOpenDocumentUntilItIsClosed() throws Exception {
+    registry.initialize(PREFIX + FILE_PATH);
+    registry.documentOpened(PREFIX + FILE_PATH);
+
+    registry.shutdownServersIdleSince(Long.MAX_VALUE);
+
+    verify(initializer, never()).shutdown(any(), any(), anyString());
+
+    registry.documentClosed(PREFIX + FILE_PATH);
+    registry.shutdownServersIdleSince(Long.MAX_VALUE);
+
+    verify(initializer).shutdown(languageServerLauncher, languageServer, PROJECT_PATH);
+  }
+
+  @Test
+  public void shouldLaunchServerOnceOnConcurrentInitialize() throws Exception {
+    CompletableFuture<Pair<LanguageServer, InitializeResult>> initializing =
+        new CompletableFuture<>();
+    CountDownLatch launchLatch = new CountDownLatch(1);
+    when(initializer.initialize(
+            any(LanguageServerLauncher.class), any(LanguageClient.class), anyString()))
+        .thenAnswer(
+            invocation -> {
+              launchLatch.countDown();
+              return initializing;
+            });
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<ServerCapabilities>> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> registry.initialize(PREFIX + FILE_PATH)));
+      }
+      launchLatch.await();
+      initializing.complete(Pair.of(languageServer, initializeResult));
+      for (Future<ServerCapabilities> result : results) {
+        assertEquals(result.get(), serverCapabilities);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(initializer)
+        .initialize(eq(languageServerLauncher), any(LanguageClient.class), eq(PROJECT_PATH));
+    assertEquals(registry.getApplicableLanguageServers(PREFIX + FILE_PATH).get(0).size(), 1);
+  }
 }
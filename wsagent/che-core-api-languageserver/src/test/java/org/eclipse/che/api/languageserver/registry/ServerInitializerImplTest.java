@@ -14,8 +14,10 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -74,4 +76,34 @@ public class ServerInitializerImplTest {
     verify(observer, timeout(2000))
         .onServerInitialized(eq(launcher), eq(server), any(ServerCapabilities.class), eq("/path"));
   }
+
+  @Test
+  public void shutdownShouldNotifyObserversAndStopServer() throws Exception {
+    initializer.addObserver(observer);
+
+    initializer.shutdown(launcher, server, "/path");
+
+    verify(observer).onServerShutdown(launcher, server, "/path");
+    verify(server).shutdown();
+    verify(server).exit();
+  }
+
+  @Test
+  public void shouldNotifyObserverOfLauncherOnceWhenServerIsLaunchedAgain() throws Exception {
+    ObservingLauncher observingLauncher = mock(ObservingLauncher.class);
+    when(server.initialize(any(InitializeParams.class))).thenReturn(completableFuture);
+    when(observingLauncher.launch(anyString(), any())).thenReturn(server);
+    when(observingLauncher.getDescription()).thenReturn(serverDescription);
+    when(serverDescription.getId()).thenReturn("launcherId");
+
+    initializer.initialize(observingLauncher, null, "/path").get();
+    initializer.shutdown(observingLauncher, server, "/path");
+    initializer.initialize(observingLauncher, null, "/path").get();
+
+    verify(observingLauncher, times(2))
+        .onServerInitialized(
+            eq(observingLauncher), eq(server), any(ServerCapabilities.class), eq("/path"));
+  }
+
+  private interface ObservingLauncher extends LanguageServerLauncher, ServerInitializerObserver {}
 }
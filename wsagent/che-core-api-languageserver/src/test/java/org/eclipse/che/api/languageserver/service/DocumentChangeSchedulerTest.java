@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.languageserver.service;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link DocumentChangeScheduler}. */
+public class DocumentChangeSchedulerTest {
+  private static final String URI = "file:///projects/test/Test.java";
+
+  private DocumentChangeScheduler scheduler;
+  private List<DidChangeTextDocumentParams> sent;
+
+  @BeforeMethod
+  public void setUp() {
+    scheduler = new DocumentChangeScheduler();
+    sent = new ArrayList<>();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  public void shouldSendCoalescedIncrementalChangesOnFlush() {
+    scheduler.didChange(URI, change(1, incremental(0, "a")), sent::add);
+    scheduler.didChange(URI, change(2, incremental(1, "b")), sent::add);
+
+    scheduler.flush(URI);
+
+    assertEquals(sent.size(), 1);
+    DidChangeTextDocumentParams params = sent.get(0);
+    assertEquals(params.getTextDocument().getVersion(), Integer.valueOf(2));
+    assertEquals(params.getContentChanges().size(), 2);
+    assertEquals(params.getContentChanges().get(0).getText(), "a");
+    assertEquals(params.getContentChanges().get(1).getText(), "b");
+  }
+
+  @Test
+  public void shouldKeepOnlyChangesAfterFullContentChange() {
+    scheduler.didChange(URI, change(1, incremental(0, "a")), sent::add);
+    scheduler.didChange(URI, change(2, full("full")), sent::add);
+    scheduler.didChange(URI, change(3, incremental(4, "c")), sent::add);
+
+    scheduler.flush(URI);
+
+    assertEquals(sent.size(), 1);
+    List<TextDocumentContentChangeEvent> changes = sent.get(0).getContentChanges();
+    assertEquals(changes.size(), 2);
+    assertEquals(changes.get(0).getText(), "full");
+    assertEquals(changes.get(1).getText(), "c");
+  }
+
+  @Test
+  public void shouldNotSendAnythingWhenNoChangesArePending() {
+    scheduler.didChange(URI, change(1, incremental(0, "a")), sent::add);
+    scheduler.flush(URI);
+    scheduler.flush(URI);
+
+    assertEquals(sent.size(), 1);
+  }
+
+  @Test
+  public void shouldCancelTrackedRequestsOnDocumentChange() {
+    CompletableFuture<Object> pending = scheduler.track(URI, new CompletableFuture<>());
+    CompletableFuture<Object> completed = scheduler.track(URI, new CompletableFuture<>());
+    completed.complete("result");
+
+    scheduler.didChange(URI, change(1, incremental(0, "a")), sent::add);
+
+    assertTrue(pending.isCancelled());
+    assertFalse(completed.isCancelled());
+  }
+
+  @Test
+  public void shouldSendPendingChangesAndCancelRequestsOnClose() {
+    CompletableFuture<Object> pending = scheduler.track(URI, new CompletableFuture<>());
+    scheduler.didChange(URI, change(1, incremental(0, "a")), sent::add);
+    CompletableFuture<Object> afterChange = scheduler.track(URI, new CompletableFuture<>());
+
+    scheduler.didClose(URI);
+
+    assertEquals(sent.size(), 1);
+    assertTrue(pending.isCancelled());
+    assertTrue(afterChange.isCancelled());
+  }
+
+  private static DidChangeTextDocumentParams change(
+      int version, TextDocumentContentChangeEvent change) {
+    VersionedTextDocumentIdentifier document = new VersionedTextDocumentIdentifier();
+    document.setUri(URI);
+    document.setVersion(version);
+    DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+    params.setTextDocument(document);
+    params.setContentChanges(Collections.singletonList(change));
+    return params;
+  }
+
+  private static TextDocumentContentChangeEvent incremental(int character, String text) {
+    TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent();
+    change.setRange(new Range(new Position(0, character), new Position(0, character)));
+    change.setText(text);
+    return change;
+  }
+
+  private static TextDocumentContentChangeEvent full(String text) {
+    TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent();
+    change.setText(text);
+    return change;
+  }
+}
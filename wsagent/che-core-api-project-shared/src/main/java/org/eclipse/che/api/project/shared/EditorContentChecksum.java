@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.shared;
+
+/**
+ * Checksum of editor content which is used to verify that a working copy on server side is in sync
+ * with the editor content after applying editor changes. It is computed in the same way by the
+ * IDE and by the workspace agent.
+ */
+public final class EditorContentChecksum {
+
+  /**
+   * Returns checksum of the given content: its length and the same hash as {@link
+   * String#hashCode()} would return, computed without copying the content to a string.
+   */
+  public static String of(CharSequence content) {
+    int hash = 0;
+    for (int i = 0; i < content.length(); i++) {
+      hash = 31 * hash + content.charAt(i);
+    }
+    return content.length() + ":" + hash;
+  }
+
+  private EditorContentChecksum() {}
+}
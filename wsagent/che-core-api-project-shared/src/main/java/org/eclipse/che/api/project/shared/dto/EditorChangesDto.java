@@ -53,10 +53,23 @@ public interface EditorChangesDto {
 
   EditorChangesDto withRemovedCharCount(int removedCharCount);
 
+  /**
+   * Returns {@link org.eclipse.che.api.project.shared.EditorContentChecksum checksum} of the editor
+   * content after this change or {@code null} when the content is not verified.
+   */
+  String getContentChecksum();
+
+  EditorChangesDto withContentChecksum(String contentChecksum);
+
   enum Type {
     /** Identifies an insert operation. */
     INSERT,
     /** Identifies an remove operation. */
     REMOVE,
+    /**
+     * Identifies replacing of the whole content with the text of the change, it is used to
+     * synchronize a working copy which is out of sync with the editor content.
+     */
+    REPLACE_ALL,
   }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.shared.dto;
+
+import java.util.List;
+import java.util.Map;
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Compact representation of a project tree. Items of the tree are stored column-wise: the item with
+ * index {@code i} is described by the {@code i}-th elements of {@link #getNames()}, {@link
+ * #getParents()}, {@link #getTypes()} and {@link #getVcsStatuses()}.
+ *
+ * <p>A parent item always precedes its children. Items which parent index is {@code -1} are
+ * top-level items, their names are paths relative to the requested folder, empty name denotes the
+ * requested folder itself. Path of any other item is the path of its parent followed by a slash and
+ * its name.
+ *
+ * <p>Links of the items are not included, they are built by the client from {@link
+ * #getLinkTemplates()}.
+ */
+@DTO
+public interface ProjectTreeDto {
+  /** Path of the requested folder. */
+  String getPath();
+
+  ProjectTreeDto withPath(String path);
+
+  /** Revision of the tree, it may be sent in the next request to get only the changes. */
+  long getRevision();
+
+  ProjectTreeDto withRevision(long revision);
+
+  /**
+   * Whether only changes made after the requested revision are returned. In this case top-level
+   * items are folders which children were changed and they are followed by all their current
+   * children, while paths of the deleted items are listed in {@link #getRemoved()}.
+   */
+  boolean isIncremental();
+
+  ProjectTreeDto withIncremental(boolean incremental);
+
+  /** Names of the items. */
+  List<String> getNames();
+
+  ProjectTreeDto withNames(List<String> names);
+
+  /** Indexes of the parent items, {@code -1} for top-level items. */
+  List<Integer> getParents();
+
+  ProjectTreeDto withParents(List<Integer> parents);
+
+  /** Types of the items: {@code file}, {@code folder} or {@code project}. */
+  List<String> getTypes();
+
+  ProjectTreeDto withTypes(List<String> types);
+
+  /** VCS statuses of the items, empty string if the item has no status, e.g. a folder. */
+  List<String> getVcsStatuses();
+
+  ProjectTreeDto withVcsStatuses(List<String> vcsStatuses);
+
+  /** Paths of the items which were deleted since the requested revision. */
+  List<String> getRemoved();
+
+  ProjectTreeDto withRemoved(List<String> removed);
+
+  /**
+   * Link relation to link template. Template is an URL relative to the workspace agent API which
+   * contains the {@code {path}} placeholder to be replaced by the absolute path of an item.
+   */
+  Map<String, String> getLinkTemplates();
+
+  ProjectTreeDto withLinkTemplates(Map<String, String> linkTemplates);
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/** Request of the compact project tree, see {@link ProjectTreeDto}. */
+@DTO
+public interface ProjectTreeRequestDto {
+  /** Path of the folder which tree is requested. */
+  String getPath();
+
+  ProjectTreeRequestDto withPath(String path);
+
+  /** Depth of the tree, negative value means the whole tree. */
+  int getDepth();
+
+  ProjectTreeRequestDto withDepth(int depth);
+
+  /** Whether files are included in addition to folders. */
+  boolean isIncludeFiles();
+
+  ProjectTreeRequestDto withIncludeFiles(boolean includeFiles);
+
+  /**
+   * Revision of the tree which is already loaded by the client, zero if there is no such tree.
+   * When it is set, only changes made after the revision are returned if it is possible.
+   */
+  long getSinceRevision();
+
+  ProjectTreeRequestDto withSinceRevision(long sinceRevision);
+}
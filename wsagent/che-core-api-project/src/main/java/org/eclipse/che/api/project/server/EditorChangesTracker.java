@@ -23,6 +23,7 @@ import org.eclipse.che.api.project.shared.dto.EditorChangesDto;
 @Singleton
 public class EditorChangesTracker {
   private static final String INCOMING_METHOD = "track:editor-content-changes";
+  private static final String INCOMING_BATCH_METHOD = "track:editor-content-changes-batch";
 
   private EditorWorkingCopyManager editorWorkingCopyManager;
 
@@ -43,5 +44,14 @@ public class EditorChangesTracker {
               editorWorkingCopyManager.onEditorContentUpdated(endpointId, changes);
               return true;
             });
+
+    configurator
+        .newConfiguration()
+        .methodName(INCOMING_BATCH_METHOD)
+        .paramsAsListOfDto(EditorChangesDto.class)
+        .resultAsBoolean()
+        .withFunction(
+            (endpointId, changes) ->
+                editorWorkingCopyManager.onEditorContentUpdated(endpointId, changes));
   }
 }
@@ -10,27 +10,33 @@
  */
 package org.eclipse.che.api.project.server;
 
+import static com.google.common.base.Strings.nullToEmpty;
 import static java.lang.String.format;
 import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.INSERT;
 import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.REMOVE;
+import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.REPLACE_ALL;
 
 import com.google.common.io.ByteStreams;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.project.shared.EditorContentChecksum;
 import org.eclipse.che.api.project.shared.dto.EditorChangesDto;
 
 /**
  * In-memory implementation of working copy for opened editor on client.
  *
+ * <p>Content is kept as a mutable text buffer, so editor changes are applied in place without
+ * decoding and encoding the whole content on each change. When a change comes with the checksum of
+ * the editor content, the content of the working copy is verified against it after the change.
+ *
  * @author Roman Nikitenko
  */
 public class EditorWorkingCopy {
   private String path;
   private String projectPath;
-  private byte[] content;
+  private StringBuilder content;
 
   /**
    * Creates a working copy for opened editor on client.
@@ -42,7 +48,7 @@ public class EditorWorkingCopy {
   public EditorWorkingCopy(String path, String projectPath, byte[] content) {
     this.path = path;
     this.projectPath = projectPath;
-    this.content = Arrays.copyOf(content, content.length);
+    this.content = new StringBuilder(new String(content));
   }
 
   /**
@@ -51,10 +57,7 @@ public class EditorWorkingCopy {
    * @return content ot the working copy
    */
   public byte[] getContentAsBytes() {
-    if (content == null) {
-      content = new byte[0];
-    }
-    return Arrays.copyOf(content, content.length);
+    return getContentAsString().getBytes();
   }
 
   /**
@@ -62,8 +65,8 @@ public class EditorWorkingCopy {
    *
    * @return content ot the working copy
    */
-  public String getContentAsString() {
-    return new String(getContentAsBytes());
+  public synchronized String getContentAsString() {
+    return content.toString();
   }
 
   /**
@@ -82,8 +85,7 @@ public class EditorWorkingCopy {
    * @return current working copy after updating content
    */
   EditorWorkingCopy updateContent(byte[] content) {
-    this.content = content;
-    return this;
+    return updateContent(new String(content));
   }
 
   /**
@@ -92,8 +94,8 @@ public class EditorWorkingCopy {
    * @param content content
    * @return current working copy after updating content
    */
-  EditorWorkingCopy updateContent(String content) {
-    updateContent(content.getBytes());
+  synchronized EditorWorkingCopy updateContent(String content) {
+    this.content = new StringBuilder(content);
     return this;
   }
 
@@ -119,28 +121,35 @@ public class EditorWorkingCopy {
    * Updates content of the working copy by applying editor content changes.
    *
    * @param changes contains editor content changes
+   * @throws IllegalArgumentException if changes don't fit the content of the working copy or the
+   *     content doesn't match the checksum of the changes, it means that working copy is out of
+   *     sync with editor content
    */
-  void applyChanges(EditorChangesDto changes) {
-    synchronized (this) {
-      String text = changes.getText();
-      int offset = changes.getOffset();
-      int removedCharCount = changes.getRemovedCharCount();
-
-      String newContent = null;
-      String oldContent = getContentAsString();
-      EditorChangesDto.Type type = changes.getType();
-      if (type == INSERT) {
-        newContent = new StringBuilder(oldContent).insert(offset, text).toString();
-      }
-
-      if (type == REMOVE && removedCharCount > 0) {
-        newContent =
-            new StringBuilder(oldContent).delete(offset, offset + removedCharCount).toString();
-      }
-
-      if (newContent != null) {
-        updateContent(newContent);
-      }
+  synchronized void applyChanges(EditorChangesDto changes) {
+    final int offset = changes.getOffset();
+    final EditorChangesDto.Type type = changes.getType();
+    if (type == INSERT) {
+      checkRange(offset, 0);
+      content.insert(offset, changes.getText());
+    } else if (type == REMOVE && changes.getRemovedCharCount() > 0) {
+      checkRange(offset, changes.getRemovedCharCount());
+      content.delete(offset, offset + changes.getRemovedCharCount());
+    } else if (type == REPLACE_ALL) {
+      content = new StringBuilder(nullToEmpty(changes.getText()));
+    }
+    final String expectedChecksum = changes.getContentChecksum();
+    if (expectedChecksum != null && !expectedChecksum.equals(EditorContentChecksum.of(content))) {
+      throw new IllegalArgumentException(
+          format("Content of the working copy '%s' doesn't match the editor content", path));
+    }
+  }
+
+  private void checkRange(int offset, int length) {
+    if (offset < 0 || offset + length > content.length()) {
+      throw new IllegalArgumentException(
+          format(
+              "Change at offset %d with length %d is out of the working copy '%s' content range",
+              offset, length, path));
     }
   }
 
@@ -16,9 +16,10 @@ import static org.eclipse.che.api.project.shared.Constants.CHE_DIR;
 
 import com.google.common.hash.Hashing;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -55,7 +56,7 @@ public class EditorWorkingCopyManager {
   private RequestTransmitter transmitter;
   private EventSubscriber<FileTrackingOperationEvent> fileOperationEventSubscriber;
 
-  private final Map<String, EditorWorkingCopy> workingCopiesStorage = new HashMap<>();
+  private final Map<String, EditorWorkingCopy> workingCopiesStorage = new ConcurrentHashMap<>();
 
   @Inject
   public EditorWorkingCopyManager(
@@ -90,22 +91,8 @@ public class EditorWorkingCopyManager {
   }
 
   void onEditorContentUpdated(String endpointId, EditorChangesDto changes) {
-    String filePath = changes.getFileLocation();
-    String projectPath = changes.getProjectPath();
-
     try {
-      if (filePath.isEmpty() || projectPath.isEmpty()) {
-        throw new NotFoundException("Paths for file and project should be defined");
-      }
-
-      EditorWorkingCopy workingCopy = workingCopiesStorage.get(filePath);
-      if (workingCopy == null) {
-        workingCopy = createWorkingCopy(filePath);
-      }
-
-      workingCopy.applyChanges(changes);
-      eventService.publish(new EditorWorkingCopyUpdatedEvent(endpointId, changes));
-
+      applyChanges(endpointId, changes);
     } catch (IOException | ForbiddenException | ConflictException | ServerException e) {
       String errorMessage = "Can not handle editor changes: " + e.getLocalizedMessage();
 
@@ -121,6 +108,68 @@ public class EditorWorkingCopyManager {
     }
   }
 
+  /**
+   * Applies the batch of editor changes in the order they were made on client side, so a series of
+   * edits is synchronized with a single request. Changes which follow a failed one are skipped as
+   * they can't be applied to the working copy consistently.
+   *
+   * @return {@code false} if the changes conflict with the content of the working copy, the client
+   *     should send the whole editor content with a {@link EditorChangesDto.Type#REPLACE_ALL}
+   *     change then, otherwise {@code true}
+   */
+  boolean onEditorContentUpdated(String endpointId, List<EditorChangesDto> changes) {
+    for (EditorChangesDto change : changes) {
+      try {
+        applyChanges(endpointId, change);
+      } catch (ConflictException e) {
+        // the client recovers by sending the whole content, so it is not reported as an error
+        LOG.debug("Editor changes conflict with the working copy: {}", e.getLocalizedMessage());
+        return false;
+      } catch (IOException | ForbiddenException | ServerException e) {
+        String errorMessage = "Can not handle editor changes: " + e.getLocalizedMessage();
+
+        LOG.error(errorMessage);
+
+        transmitError(500, errorMessage, endpointId);
+        return true;
+      } catch (NotFoundException e) {
+        String errorMessage = "Can not handle editor changes: " + e.getLocalizedMessage();
+
+        LOG.error(errorMessage);
+
+        transmitError(400, errorMessage, endpointId);
+        return true;
+      }
+    }
+    return true;
+  }
+
+  private void applyChanges(String endpointId, EditorChangesDto changes)
+      throws NotFoundException, ServerException, ConflictException, ForbiddenException,
+          IOException {
+    String filePath = changes.getFileLocation();
+    String projectPath = changes.getProjectPath();
+
+    if (filePath.isEmpty() || projectPath.isEmpty()) {
+      throw new NotFoundException("Paths for file and project should be defined");
+    }
+
+    EditorWorkingCopy workingCopy = workingCopiesStorage.get(filePath);
+    if (workingCopy == null) {
+      workingCopy = createWorkingCopy(filePath);
+    }
+
+    try {
+      workingCopy.applyChanges(changes);
+    } catch (IllegalArgumentException e) {
+      // working copy is out of sync with editor content, drop it so it is created from
+      // the file content again, otherwise all the following changes would be corrupted
+      workingCopiesStorage.remove(filePath, workingCopy);
+      throw new ConflictException(e.getMessage());
+    }
+    eventService.publish(new EditorWorkingCopyUpdatedEvent(endpointId, changes));
+  }
+
   private void onFileOperation(String endpointId, FileTrackingOperationDto operation) {
     try {
       FileTrackingOperationDto.Type type = operation.getType();
@@ -257,9 +306,9 @@ public class EditorWorkingCopyManager {
 
     EditorWorkingCopy workingCopy =
         new EditorWorkingCopy(workingCopyPath, projectPath, file.contentAsBytes());
-    workingCopiesStorage.put(filePath, workingCopy);
+    EditorWorkingCopy existing = workingCopiesStorage.putIfAbsent(filePath, workingCopy);
 
-    return workingCopy;
+    return existing != null ? existing : workingCopy;
   }
 
   private void createPersistentWorkingCopy(String originalFilePath)
@@ -99,6 +99,7 @@ public class ProjectApiModule extends AbstractModule {
     bind(FileWatcherNotificationHandler.class).to(DefaultFileWatcherNotificationHandler.class);
 
     bind(EditorChangesTracker.class).asEagerSingleton();
+    bind(ProjectTreeService.class).asEagerSingleton();
     bind(EditorWorkingCopyManager.class).asEagerSingleton();
     bind(FileWatcherIgnoreFileTracker.class).asEagerSingleton();
 
@@ -125,7 +125,7 @@ public class ProjectManager {
     rootProjcetOperationSetId =
         fileWatcherManager.registerByPath(
             rootPath,
-            EMPTY_CONSUMER,
+            createdPath -> projectRegistry.rootChanged(),
             EMPTY_CONSUMER,
             projectPath -> {
               try {
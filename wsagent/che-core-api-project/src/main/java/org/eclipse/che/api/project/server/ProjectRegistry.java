@@ -10,11 +10,19 @@
  */
 package org.eclipse.che.api.project.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -34,6 +42,7 @@ import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.VirtualFileSystemProvider;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +55,15 @@ import org.slf4j.LoggerFactory;
 public class ProjectRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ProjectRegistry.class);
 
-  private final Map<String, RegisteredProject> projects;
+  /**
+   * Modification time of a folder may be stored with a coarse (up to a second) precision, so a
+   * listing which started within this period after the last modification may miss folders created
+   * in the same period.
+   */
+  private static final long MODIFICATION_TIME_PRECISION_MS = 1000;
+
+  /** Projects sorted by path, so projects under a folder form a continuous range of keys */
+  private final NavigableMap<String, RegisteredProject> projects;
   private final WorkspaceProjectsSyncer workspaceHolder;
   private final VirtualFileSystem vfs;
   private final ProjectTypeRegistry projectTypeRegistry;
@@ -56,6 +73,13 @@ public class ProjectRegistry {
 
   private boolean initialized;
 
+  /** Whether the root folder was changed since it was listed last time */
+  private volatile boolean rootChanged = true;
+  /** Modification time of the root folder at the moment it was listed last time */
+  private volatile long rootModified;
+  /** Time at which the root folder was listed last time */
+  private volatile long rootScanned;
+
   @Inject
   public ProjectRegistry(
       WorkspaceProjectsSyncer workspaceHolder,
@@ -65,7 +89,7 @@ public class ProjectRegistry {
       EventService eventService)
       throws ServerException {
     this.eventService = eventService;
-    this.projects = new ConcurrentHashMap<>();
+    this.projects = new ConcurrentSkipListMap<>();
     this.workspaceHolder = workspaceHolder;
     this.vfs = vfsProvider.getVirtualFileSystem();
     this.projectTypeRegistry = projectTypeRegistry;
@@ -92,12 +116,7 @@ public class ProjectRegistry {
 
     initialized = true;
 
-    for (RegisteredProject project : projects.values()) {
-      // only for projects with sources
-      if (project.getBaseFolder() != null) {
-        fireInitHandlers(project);
-      }
-    }
+    fireInitHandlers();
   }
 
   /** @return all the registered projects */
@@ -130,13 +149,13 @@ public class ProjectRegistry {
 
     initUnconfiguredFolders();
 
-    final Path root = Path.of(absolutizePath(parentPath));
+    String prefix = absolutizePath(parentPath);
+    if (!prefix.endsWith("/")) {
+      prefix = prefix.concat("/");
+    }
 
-    return projects
-        .keySet()
-        .stream()
-        .filter(key -> Path.of(key).isChild(root))
-        .collect(Collectors.toList());
+    return new ArrayList<>(
+        projects.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet());
   }
 
   /**
@@ -146,25 +165,30 @@ public class ProjectRegistry {
   public RegisteredProject getParentProject(String path) {
     checkInitializationState();
 
-    // return this if a project
-    if (getProject(path) != null) {
-      return getProject(path);
-    }
+    initUnconfiguredFolders();
 
-    // otherwise try to find matched parent
-    Path test;
-    while ((test = Path.of(path).getParent()) != null) {
+    // return this if a project, otherwise try to find matched parent
+    Path test = Path.of(absolutizePath(path));
+    while (test != null) {
       final RegisteredProject project = projects.get(test.toString());
       if (project != null) {
         return project;
       }
 
-      path = test.toString();
+      test = test.getParent();
     }
 
     return null;
   }
 
+  /**
+   * Notifies the registry that entries of the workspace root folder were created or deleted, so
+   * unconfigured folders have to be looked up again on the next access to the registry.
+   */
+  void rootChanged() {
+    rootChanged = true;
+  }
+
   /**
    * Creates RegisteredProject and caches it.
    *
@@ -197,6 +221,8 @@ public class ProjectRegistry {
     List<RegisteredProject> removed = new ArrayList<>();
     Optional.ofNullable(projects.remove(path)).ifPresent(removed::add);
     getProjects(path).forEach(p -> Optional.ofNullable(projects.remove(p)).ifPresent(removed::add));
+    // folders of removed projects which still exist on root become unconfigured projects
+    rootChanged();
 
     removed.forEach(
         registeredProject ->
@@ -309,6 +335,7 @@ public class ProjectRegistry {
     } else if (newType.equals(type)) {
       if (project.isDetected()) {
         projects.remove(project.getPath());
+        rootChanged();
         return null;
       }
 
@@ -337,8 +364,35 @@ public class ProjectRegistry {
     return (path.startsWith("/")) ? path : "/".concat(path);
   }
 
-  /** Try to initialize projects from unconfigured folders on root. */
+  /**
+   * Try to initialize projects from unconfigured folders on root. The root folder is listed only
+   * when it was changed since the previous listing, which is detected by file watcher events and
+   * by modification time of the root folder.
+   */
   private void initUnconfiguredFolders() {
+    if (!isRootScanRequired()) {
+      return;
+    }
+    synchronized (root) {
+      if (isRootScanRequired()) {
+        scanRoot();
+      }
+    }
+  }
+
+  private boolean isRootScanRequired() {
+    if (rootChanged) {
+      return true;
+    }
+    final long modified = root.getVirtualFile().getLastModificationDate();
+    return modified != rootModified || rootScanned - modified <= MODIFICATION_TIME_PRECISION_MS;
+  }
+
+  private void scanRoot() {
+    // reset state before listing, so changes made during listing cause one more listing
+    rootChanged = false;
+    rootModified = root.getVirtualFile().getLastModificationDate();
+    rootScanned = System.currentTimeMillis();
     try {
       for (FolderEntry folder : root.getChildFolders()) {
         //.che folder is reserved for internal use
@@ -352,6 +406,102 @@ public class ProjectRegistry {
     }
   }
 
+  /**
+   * Fires init handlers of all the projects with sources. Projects are initialized concurrently,
+   * but a project is initialized only after its parent project is initialized. Projects which are
+   * registered by init handlers of other projects (e.g. modules) are initialized as well.
+   */
+  private void fireInitHandlers()
+      throws ForbiddenException, ConflictException, NotFoundException, ServerException {
+    final long start = System.currentTimeMillis();
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("ProjectRegistry-InitThread-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+    final Map<String, CompletableFuture<Void>> inits = new HashMap<>();
+    final List<Exception> failures = new CopyOnWriteArrayList<>();
+    try {
+      List<RegisteredProject> pending = getNotInitializedProjects(inits.keySet());
+      while (!pending.isEmpty()) {
+        // projects are sorted by path, so a parent project is scheduled before its children
+        for (RegisteredProject project : pending) {
+          inits.put(
+              project.getPath(),
+              getParentInit(inits, project.getPath())
+                  .thenRunAsync(() -> fireInitHandlers(project, failures), executor));
+        }
+        CompletableFuture.allOf(inits.values().toArray(new CompletableFuture[0])).join();
+        pending = getNotInitializedProjects(inits.keySet());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    LOG.info(
+        "Initialization of {} projects took {} ms",
+        inits.size(),
+        System.currentTimeMillis() - start);
+
+    if (!failures.isEmpty()) {
+      rethrow(failures.get(0));
+    }
+  }
+
+  private void fireInitHandlers(RegisteredProject project, List<Exception> failures) {
+    final long start = System.currentTimeMillis();
+    try {
+      fireInitHandlers(project);
+    } catch (Exception e) {
+      failures.add(e);
+    }
+    LOG.info(
+        "Initialization of project '{}' took {} ms",
+        project.getPath(),
+        System.currentTimeMillis() - start);
+  }
+
+  /** Returns projects with sources which init handlers are not fired yet, sorted by path. */
+  private List<RegisteredProject> getNotInitializedProjects(Set<String> initialized) {
+    return projects
+        .values()
+        .stream()
+        .filter(p -> p.getBaseFolder() != null && !initialized.contains(p.getPath()))
+        .collect(Collectors.toList());
+  }
+
+  /** Returns initialization of the closest parent project or completed future if there is none. */
+  private static CompletableFuture<Void> getParentInit(
+      Map<String, CompletableFuture<Void>> inits, String path) {
+    Path parent = Path.of(path).getParent();
+    while (parent != null) {
+      final CompletableFuture<Void> init = inits.get(parent.toString());
+      if (init != null) {
+        return init;
+      }
+      parent = parent.getParent();
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private static void rethrow(Exception e)
+      throws ForbiddenException, ConflictException, NotFoundException, ServerException {
+    if (e instanceof ForbiddenException) {
+      throw (ForbiddenException) e;
+    } else if (e instanceof ConflictException) {
+      throw (ConflictException) e;
+    } else if (e instanceof NotFoundException) {
+      throw (NotFoundException) e;
+    } else if (e instanceof ServerException) {
+      throw (ServerException) e;
+    } else if (e instanceof RuntimeException) {
+      throw (RuntimeException) e;
+    }
+    throw new ServerException(e.getLocalizedMessage(), e);
+  }
+
   /**
    * Fires init handlers for all the project types of incoming project.
    *
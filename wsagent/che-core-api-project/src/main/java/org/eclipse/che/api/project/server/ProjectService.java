@@ -50,6 +50,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.apache.commons.fileupload.FileItem;
 import org.apache.tika.Tika;
@@ -557,16 +558,29 @@ public class ProjectService extends Service {
   @GET
   @Path("/file/{path:.*}")
   public Response getFile(
-      @ApiParam(value = "Path to a file", required = true) @PathParam("path") String path)
-      throws IOException, NotFoundException, ForbiddenException, ServerException {
+      @ApiParam(value = "Path to a file", required = true) @PathParam("path") String path,
+      @ApiParam(value = "Position in the file the content is read from")
+          @DefaultValue("0")
+          @QueryParam("offset")
+          long offset,
+      @ApiParam(value = "Max number of bytes to read, the whole content is read if not specified")
+          @DefaultValue("-1")
+          @QueryParam("length")
+          long length)
+      throws IOException, NotFoundException, ForbiddenException, ServerException,
+          BadRequestException {
+    if (offset < 0) {
+      throw new BadRequestException("Offset must not be negative");
+    }
     final FileEntry file = projectManager.asFile(path);
     if (file == null) {
       throw new NotFoundException("File not found for " + path);
     }
-    return Response.ok()
-        .entity(file.getInputStream())
-        .type(getTIKA().detect(file.getName()))
-        .build();
+    final InputStream content =
+        offset == 0 && length < 0
+            ? file.getInputStream()
+            : file.getVirtualFile().getContent(offset, length);
+    return Response.ok().entity(content).type(getTIKA().detect(file.getName())).build();
   }
 
   @PUT
@@ -823,7 +837,7 @@ public class ProjectService extends Service {
     @ApiResponse(code = 404, message = "Not found"),
     @ApiResponse(code = 500, message = "Internal Server Error")
   })
-  public InputStream exportZip(
+  public Response exportZip(
       @ApiParam(value = "Path to resource to be exported") @PathParam("path") String path)
       throws NotFoundException, ForbiddenException, ServerException {
 
@@ -833,7 +847,17 @@ public class ProjectService extends Service {
       throw new NotFoundException("Folder not found " + path);
     }
 
-    return folder.getVirtualFile().zip();
+    // archive is written directly to the response, so it is never stored on the disk
+    final VirtualFile virtualFile = folder.getVirtualFile();
+    final StreamingOutput zip =
+        output -> {
+          try {
+            virtualFile.zip(output);
+          } catch (ForbiddenException | ServerException e) {
+            throw new IOException(e.getLocalizedMessage(), e);
+          }
+        };
+    return Response.ok(zip, ExtMediaType.APPLICATION_ZIP).build();
   }
 
   @GET
@@ -937,9 +961,11 @@ public class ProjectService extends Service {
       throw new NotFoundException("Folder " + path + " was not found");
     }
 
+    // VCS status of the whole tree is injected at once, not per folder
     return newDto(TreeElement.class)
         .withNode(injectFolderLinks(asDto(folder)))
-        .withChildren(getTree(folder, depth, includeFiles));
+        .withChildren(
+            vcsStatusInjector.injectVcsStatusTreeElements(getTree(folder, depth, includeFiles)));
   }
 
   @GET
@@ -1147,7 +1173,7 @@ public class ProjectService extends Service {
       }
     }
 
-    return vcsStatusInjector.injectVcsStatusTreeElements(nodes);
+    return nodes;
   }
 
   /* --------------------------------------------------------------------------- */
@@ -10,6 +10,8 @@
  */
 package org.eclipse.che.api.project.server;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -100,47 +102,77 @@ public class ProjectServiceVcsStatusInjector {
 
   /**
    * Find related VCS provider and set VCS status of {@link TreeElement} file to it's attributes to
-   * each item of the given list, if VCS provider is present.
+   * each item of the given list and their children, if VCS provider is present. VCS provider of a
+   * project is asked once for all the files of the project.
    *
    * @param treeElements list of {@link TreeElement} files to update
    */
   List<TreeElement> injectVcsStatusTreeElements(List<TreeElement> treeElements)
       throws ServerException, NotFoundException {
-    Optional<TreeElement> treeElementOptional =
-        treeElements
-            .stream()
-            .filter(treeElement -> "file".equals(treeElement.getNode().getType()))
-            .findAny();
-    if (treeElementOptional.isPresent()) {
-      String project = normalizeProjectPath(treeElementOptional.get().getNode().getProject());
-      Optional<VcsStatusProvider> vcsStatusProviderOptional = getVcsStatusProvider(project);
-      if (vcsStatusProviderOptional.isPresent()) {
-        List<String> treeElementFiles =
-            treeElements
-                .stream()
-                .filter(treeElement -> "file".equals(treeElement.getNode().getType()))
-                .map(treeElement -> normalizeFilePath(treeElement.getNode().getPath()))
-                .collect(Collectors.toList());
-        Map<String, VcsStatusProvider.VcsStatus> status =
-            vcsStatusProviderOptional.get().getStatus(project, treeElementFiles);
+    final List<ItemReference> files = new ArrayList<>();
+    collectFiles(treeElements, files);
+    if (files.isEmpty()) {
+      return treeElements;
+    }
 
-        treeElements
-            .stream()
-            .filter(itemReference -> "file".equals(itemReference.getNode().getType()))
-            .forEach(
-                itemReference -> {
-                  Map<String, String> attributes =
-                      new HashMap<>(itemReference.getNode().getAttributes());
-                  attributes.put(
-                      "vcs.status", status.get(itemReference.getNode().getPath()).toString());
-                  itemReference.getNode().setAttributes(attributes);
-                });
+    final Map<String, VcsStatusProvider.VcsStatus> status =
+        getVcsStatuses(files.stream().map(ItemReference::getPath).collect(Collectors.toList()));
+    for (ItemReference file : files) {
+      VcsStatusProvider.VcsStatus fileStatus = status.get(file.getPath());
+      if (fileStatus != null) {
+        Map<String, String> attributes = new HashMap<>(file.getAttributes());
+        attributes.put("vcs.status", fileStatus.toString());
+        file.setAttributes(attributes);
       }
     }
 
     return treeElements;
   }
 
+  /**
+   * Returns VCS statuses of the given files. Files are grouped by project, so VCS provider of a
+   * project is asked once for all the files of the project.
+   *
+   * @param files absolute paths of files
+   * @return map with absolute file path as a key and it's status as a value, files of projects
+   *     without VCS provider are not included
+   */
+  Map<String, VcsStatusProvider.VcsStatus> getVcsStatuses(Collection<String> files)
+      throws ServerException, NotFoundException {
+    final Map<String, List<String>> projectFiles = new HashMap<>();
+    for (String file : files) {
+      String normalizedPath = normalizeProjectPath(file);
+      int separator = normalizedPath.indexOf('/');
+      if (separator > 0) {
+        projectFiles
+            .computeIfAbsent(normalizedPath.substring(0, separator), project -> new ArrayList<>())
+            .add(normalizedPath.substring(separator + 1));
+      }
+    }
+
+    final Map<String, VcsStatusProvider.VcsStatus> status = new HashMap<>();
+    for (Map.Entry<String, List<String>> entry : projectFiles.entrySet()) {
+      Optional<VcsStatusProvider> vcsStatusProviderOptional = getVcsStatusProvider(entry.getKey());
+      if (vcsStatusProviderOptional.isPresent()) {
+        status.putAll(vcsStatusProviderOptional.get().getStatus(entry.getKey(), entry.getValue()));
+      }
+    }
+    return status;
+  }
+
+  private void collectFiles(List<TreeElement> treeElements, List<ItemReference> files) {
+    if (treeElements == null) {
+      return;
+    }
+    for (TreeElement treeElement : treeElements) {
+      if ("file".equals(treeElement.getNode().getType())) {
+        files.add(treeElement.getNode());
+      } else {
+        collectFiles(treeElement.getChildren(), files);
+      }
+    }
+  }
+
   private String normalizeFilePath(String filePath) {
     String normalizedPath = filePath.startsWith("/") ? filePath.substring(1) : filePath;
     return normalizedPath.substring(normalizedPath.indexOf("/") + 1);
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import static org.eclipse.che.api.vfs.watcher.FileWatcherManager.EMPTY_CONSUMER;
+
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+
+/**
+ * Tracks creation and deletion of files and folders, so clients which already loaded a project
+ * tree may request only the changes of the tree. Every change increments the revision of the tree,
+ * only the latest {@link #MAX_CHANGES} changes are kept.
+ */
+@Singleton
+public class ProjectTreeChanges {
+  private static final int MAX_CHANGES = 10_000;
+
+  private final FileWatcherManager fileWatcherManager;
+  private final Deque<Change> changes = new ArrayDeque<>();
+
+  /** Revision of the tree, zero is reserved for clients which have no tree */
+  private long revision = 1;
+  /** The earliest revision starting from which all the changes are kept */
+  private long firstRevision = 1;
+
+  private int watcherId;
+
+  @Inject
+  public ProjectTreeChanges(FileWatcherManager fileWatcherManager) {
+    this.fileWatcherManager = fileWatcherManager;
+  }
+
+  @PostConstruct
+  public void startWatching() {
+    watcherId =
+        fileWatcherManager.registerByMatcher(
+            it -> Files.isDirectory(it),
+            path -> add(path, false),
+            EMPTY_CONSUMER,
+            path -> add(path, true));
+  }
+
+  @PreDestroy
+  public void stopWatching() {
+    fileWatcherManager.unRegisterByMatcher(watcherId);
+  }
+
+  /** Returns current revision of the tree. */
+  public synchronized long getRevision() {
+    return revision;
+  }
+
+  /**
+   * Returns changes made after the given revision.
+   *
+   * @param since revision of the tree known by a client
+   * @return changes in the order they were made or {@code null} if the changes are not kept
+   */
+  public synchronized List<Change> getChangesSince(long since) {
+    if (since < firstRevision || since > revision) {
+      return null;
+    }
+    final List<Change> result = new ArrayList<>((int) (revision - since));
+    for (Change change : changes) {
+      if (change.revision > since) {
+        result.add(change);
+      }
+    }
+    return result;
+  }
+
+  synchronized void add(String path, boolean deleted) {
+    changes.addLast(new Change(++revision, path, deleted));
+    if (changes.size() > MAX_CHANGES) {
+      firstRevision = changes.removeFirst().revision;
+    }
+  }
+
+  /** Creation or deletion of a file or a folder. */
+  public static class Change {
+    private final long revision;
+    private final String path;
+    private final boolean deleted;
+
+    private Change(long revision, String path, boolean deleted) {
+      this.revision = revision;
+      this.path = path;
+      this.deleted = deleted;
+    }
+
+    /** Returns absolute path of the created or deleted item. */
+    public String getPath() {
+      return path;
+    }
+
+    /** Returns {@code true} if the item was deleted and {@code false} if it was created. */
+    public boolean isDeleted() {
+      return deleted;
+    }
+  }
+}
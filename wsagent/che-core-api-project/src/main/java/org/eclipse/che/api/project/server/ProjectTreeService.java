@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CHILDREN;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_DELETE;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_GET_CONTENT;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_TREE;
+import static org.eclipse.che.api.project.shared.Constants.LINK_REL_UPDATE_CONTENT;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
+import org.eclipse.che.api.project.shared.dto.ProjectTreeDto;
+import org.eclipse.che.api.project.shared.dto.ProjectTreeRequestDto;
+import org.eclipse.che.api.vfs.Path;
+
+/**
+ * Provides project tree in compact form over JSON-RPC, see {@link ProjectTreeDto}. Unlike {@link
+ * ProjectService#getTree(String, int, boolean)} it doesn't include links of every item and may
+ * return only the changes of the tree made after the revision which is already loaded by a client.
+ */
+@Singleton
+public class ProjectTreeService {
+  private static final String INCOMING_METHOD = "project/tree";
+
+  /** Links of tree items relative to the workspace agent API, the same as {@link ProjectService} */
+  private static final Map<String, String> LINK_TEMPLATES =
+      ImmutableMap.of(
+          LINK_REL_GET_CONTENT, "/project/file{path}",
+          LINK_REL_UPDATE_CONTENT, "/project/file{path}",
+          LINK_REL_DELETE, "/project{path}",
+          LINK_REL_CHILDREN, "/project/children{path}",
+          LINK_REL_TREE, "/project/tree{path}");
+
+  private final ProjectManager projectManager;
+  private final ProjectServiceVcsStatusInjector vcsStatusInjector;
+  private final ProjectTreeChanges treeChanges;
+
+  @Inject
+  public ProjectTreeService(
+      ProjectManager projectManager,
+      ProjectServiceVcsStatusInjector vcsStatusInjector,
+      ProjectTreeChanges treeChanges) {
+    this.projectManager = projectManager;
+    this.vcsStatusInjector = vcsStatusInjector;
+    this.treeChanges = treeChanges;
+  }
+
+  @Inject
+  public void configureHandler(RequestHandlerConfigurator configurator) {
+    configurator
+        .newConfiguration()
+        .methodName(INCOMING_METHOD)
+        .paramsAsDto(ProjectTreeRequestDto.class)
+        .resultAsDto(ProjectTreeDto.class)
+        .withFunction(this::getTree);
+  }
+
+  public ProjectTreeDto getTree(ProjectTreeRequestDto request) {
+    try {
+      return getTree(
+          request.getPath(),
+          request.getDepth(),
+          request.isIncludeFiles(),
+          request.getSinceRevision());
+    } catch (ServerException | NotFoundException e) {
+      throw new JsonRpcException(-27000, e.getMessage());
+    }
+  }
+
+  /**
+   * Returns the tree of the folder.
+   *
+   * @param path path of the folder
+   * @param depth depth of the tree, negative value means the whole tree
+   * @param includeFiles whether files are included in addition to folders
+   * @param sinceRevision revision of the tree loaded by a client or zero
+   * @return changes made after the given revision if they are known, otherwise the whole tree
+   */
+  public ProjectTreeDto getTree(String path, int depth, boolean includeFiles, long sinceRevision)
+      throws ServerException, NotFoundException {
+    final FolderEntry folder = projectManager.asFolder(path);
+    if (folder == null) {
+      throw new NotFoundException("Folder " + path + " was not found");
+    }
+
+    // revision is taken before reading the tree, so changes made while reading are sent next time
+    final long revision = treeChanges.getRevision();
+    final List<ProjectTreeChanges.Change> changes =
+        sinceRevision > 0 ? treeChanges.getChangesSince(sinceRevision) : null;
+
+    final Path folderPath = folder.getPath();
+    final Items items = new Items(includeFiles);
+    final Set<String> removed = new LinkedHashSet<>();
+    if (changes == null) {
+      items.addChildren(folder, -1, depth);
+    } else {
+      // sorted, so a changed folder precedes its changed sub-folders
+      final Set<String> changedFolders = new TreeSet<>();
+      for (ProjectTreeChanges.Change change : changes) {
+        final Path changedPath = Path.of(change.getPath());
+        if (!changedPath.isChild(folderPath)) {
+          continue;
+        }
+        if (change.isDeleted()) {
+          removed.add(change.getPath());
+        }
+        changedFolders.add(changedPath.getParent().toString());
+      }
+      final String prefix = folderPath.isRoot() ? "/" : folderPath + "/";
+      for (String changedFolder : changedFolders) {
+        final VirtualFileEntry entry = projectManager.asVirtualFileEntry(changedFolder);
+        if (entry != null && entry.isFolder()) {
+          final String name =
+              changedFolder.startsWith(prefix) ? changedFolder.substring(prefix.length()) : "";
+          final int index = items.add(name, entry, -1);
+          items.addChildren((FolderEntry) entry, index, 1);
+        }
+      }
+      // item may be deleted and then created again
+      removed.removeIf(removedPath -> items.paths.contains(removedPath));
+    }
+
+    return newDto(ProjectTreeDto.class)
+        .withPath(folderPath.toString())
+        .withRevision(revision)
+        .withIncremental(changes != null)
+        .withNames(items.names)
+        .withParents(items.parents)
+        .withTypes(items.types)
+        .withVcsStatuses(items.getVcsStatuses())
+        .withRemoved(new ArrayList<>(removed))
+        .withLinkTemplates(LINK_TEMPLATES);
+  }
+
+  /** Columns of the tree items. */
+  private class Items {
+    private final boolean includeFiles;
+    private final List<String> names = new ArrayList<>();
+    private final List<Integer> parents = new ArrayList<>();
+    private final List<String> types = new ArrayList<>();
+    /** Absolute paths of the items */
+    private final List<String> paths = new ArrayList<>();
+
+    private Items(boolean includeFiles) {
+      this.includeFiles = includeFiles;
+    }
+
+    private int add(String name, VirtualFileEntry entry, int parent) {
+      names.add(name);
+      parents.add(parent);
+      if (entry.isFile()) {
+        types.add("file");
+      } else {
+        types.add(((FolderEntry) entry).isProject() ? "project" : "folder");
+      }
+      paths.add(entry.getPath().toString());
+      return names.size() - 1;
+    }
+
+    private void addChildren(FolderEntry folder, int parent, int depth) throws ServerException {
+      if (depth == 0) {
+        return;
+      }
+      final List<? extends VirtualFileEntry> children =
+          includeFiles ? folder.getChildFoldersFiles() : folder.getChildFolders();
+      for (VirtualFileEntry child : children) {
+        final int index = add(child.getName(), child, parent);
+        if (child.isFolder()) {
+          addChildren((FolderEntry) child, index, depth - 1);
+        }
+      }
+    }
+
+    /** Returns VCS statuses of all the files, VCS providers are asked once per project. */
+    private List<String> getVcsStatuses() throws ServerException, NotFoundException {
+      final List<String> files = new ArrayList<>();
+      for (int i = 0; i < paths.size(); i++) {
+        if ("file".equals(types.get(i))) {
+          files.add(paths.get(i));
+        }
+      }
+      final Map<String, VcsStatusProvider.VcsStatus> status =
+          vcsStatusInjector.getVcsStatuses(files);
+
+      final List<String> statuses = new ArrayList<>(paths.size());
+      for (String itemPath : paths) {
+        final VcsStatusProvider.VcsStatus itemStatus = status.get(itemPath);
+        statuses.add(itemStatus == null ? "" : itemStatus.toString());
+      }
+      return statuses;
+    }
+  }
+}
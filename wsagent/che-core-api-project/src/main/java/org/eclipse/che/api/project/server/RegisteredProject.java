@@ -30,6 +30,7 @@ import org.eclipse.che.api.project.server.type.AttributeValue;
 import org.eclipse.che.api.project.server.type.ProjectTypeDef;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
 import org.eclipse.che.api.project.server.type.ValueProvider;
+import org.eclipse.che.api.project.server.type.ValueProviderFactory;
 import org.eclipse.che.api.project.server.type.ValueStorageException;
 import org.eclipse.che.api.project.server.type.Variable;
 import org.eclipse.che.api.vfs.Path;
@@ -51,6 +52,11 @@ public class RegisteredProject implements ProjectConfig {
   private boolean detected;
   private final ProjectTypes types;
 
+  /** Whether values of the attributes are evaluated */
+  private volatile boolean attributesInitialized;
+  /** Whether attributes are being initialized, value providers may access the project itself */
+  private boolean attributesInitializing;
+
   /**
    * Either root folder or config can be null, in this case Project is configured with problem.
    *
@@ -111,8 +117,24 @@ public class RegisteredProject implements ProjectConfig {
     // 2. init transient (implicit, like git) project types.
     types.addTransient(folder);
 
-    // 3. initialize attributes
-    initAttributes();
+    // 3. attributes are initialized on first access, as value providers may be expensive
+  }
+
+  /** Initializes project attributes if they are not initialized yet. */
+  private void ensureAttributesInitialized() {
+    if (!attributesInitialized) {
+      synchronized (this) {
+        if (!attributesInitialized && !attributesInitializing) {
+          attributesInitializing = true;
+          try {
+            initAttributes();
+            attributesInitialized = true;
+          } finally {
+            attributesInitializing = false;
+          }
+        }
+      }
+    }
   }
 
   /**
@@ -120,6 +142,8 @@ public class RegisteredProject implements ProjectConfig {
    * 13 will be added when a value for some attribute is not initialized
    */
   private void initAttributes() {
+    // single value provider per factory, so it may reuse data read for other attributes
+    final Map<ValueProviderFactory, ValueProvider> valueProviders = new HashMap<>();
 
     // we take only defined attributes, others ignored
     for (Map.Entry<String, Attribute> entry : types.getAttributeDefs().entrySet()) {
@@ -138,7 +162,8 @@ public class RegisteredProject implements ProjectConfig {
         if (variable.isValueProvided()) {
 
           final ValueProvider valueProvider =
-              variable.getValueProviderFactory().newInstance(folder);
+              valueProviders.computeIfAbsent(
+                  variable.getValueProviderFactory(), factory -> factory.newInstance(folder));
 
           if (folder != null) {
 
@@ -198,6 +223,7 @@ public class RegisteredProject implements ProjectConfig {
 
   /** @return attributes as name / Value Map */
   public Map<String, Value> getAttributeEntries() {
+    ensureAttributesInitialized();
     return attributes;
   }
 
@@ -229,6 +255,7 @@ public class RegisteredProject implements ProjectConfig {
 
   /** @return problems in case if root or config is null (project is not synced) */
   public List<ProjectProblem> getProblems() {
+    ensureAttributesInitialized();
     return problems;
   }
 
@@ -236,7 +263,7 @@ public class RegisteredProject implements ProjectConfig {
   public String getProblemsStr() {
     StringBuilder builder = new StringBuilder();
     int i = 0;
-    for (ProjectProblem prb : problems) {
+    for (ProjectProblem prb : getProblems()) {
       builder.append("[").append(i++).append("] : ").append(prb.getMessage()).append("\n");
     }
     return builder.toString();
@@ -10,6 +10,7 @@
  */
 package org.eclipse.che.api.vfs;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -50,4 +51,18 @@ public abstract class Archiver {
    */
   public abstract void extract(InputStream compressedInput, boolean overwrite, int stripNumber)
       throws IOException, ForbiddenException, ConflictException, ServerException;
+
+  /**
+   * Opens content of the file which is being compressed. Files which are backed by {@link
+   * java.io.File} are read directly from the disk, so large files are not copied to temporary files
+   * before they are written to the archive.
+   */
+  protected InputStream openContent(VirtualFile file)
+      throws IOException, ForbiddenException, ServerException {
+    final java.io.File ioFile = file.toIoFile();
+    if (ioFile != null) {
+      return new FileInputStream(ioFile);
+    }
+    return file.getContent();
+  }
 }
@@ -95,6 +95,22 @@ public interface VirtualFile extends Comparable<VirtualFile> {
    */
   InputStream getContent() throws ForbiddenException, ServerException;
 
+  /**
+   * Gets part of content of the file. Useful for reading slices of large files without fetching
+   * the whole content.
+   *
+   * @param offset position in the file the content is read from, if it is greater than length of
+   *     the file then empty content is returned
+   * @param length max number of bytes to read, if it is negative then content is read up to the
+   *     end of the file
+   * @return part of content of the file
+   * @throws ForbiddenException if this item is not a file
+   * @throws ServerException if other error occurs
+   * @throws IllegalArgumentException if {@code offset} is negative
+   * @see #isFile()
+   */
+  InputStream getContent(long offset, long length) throws ForbiddenException, ServerException;
+
   /**
    * Gets content of the file as bytes.
    *
@@ -482,6 +498,16 @@ public interface VirtualFile extends Comparable<VirtualFile> {
    */
   InputStream zip() throws ForbiddenException, ServerException;
 
+  /**
+   * Writes content of folder denoted by this VirtualFile as zip archive to the given output. Unlike
+   * {@link #zip()} the archive isn't buffered, it's produced while the output consumes it.
+   *
+   * @param output output for zipped content of folder denoted by this VirtualFile
+   * @throws ForbiddenException if this item does not denote a folder
+   * @throws ServerException if other error occurs
+   */
+  void zip(OutputStream output) throws ForbiddenException, ServerException;
+
   /**
    * Extracts zip archive to the folder denoted by this VirtualFile.
    *
@@ -510,6 +536,16 @@ public interface VirtualFile extends Comparable<VirtualFile> {
    */
   InputStream tar() throws ForbiddenException, ServerException;
 
+  /**
+   * Writes content of folder denoted by this VirtualFile as TAR archive to the given output. Unlike
+   * {@link #tar()} the archive isn't buffered, it's produced while the output consumes it.
+   *
+   * @param output output for content of folder denoted by this VirtualFile as TAR archive
+   * @throws ForbiddenException if this item does not denote a folder
+   * @throws ServerException if other error occurs
+   */
+  void tar(OutputStream output) throws ForbiddenException, ServerException;
+
   /**
    * Extracts tar archive to the folder denoted by this VirtualFile.
    *
@@ -72,7 +72,7 @@ public class ZipArchiver extends Archiver {
       if (virtualFile.isFolder()) {
         zipEntry.setTime(0);
       } else {
-        try (InputStream content = virtualFile.getContent()) {
+        try (InputStream content = openContent(virtualFile)) {
           ByteStreams.copy(content, zipOutputStream);
         }
         zipEntry.setTime(virtualFile.getLastModificationDate());
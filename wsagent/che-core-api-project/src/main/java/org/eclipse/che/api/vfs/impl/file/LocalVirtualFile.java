@@ -107,6 +107,12 @@ public class LocalVirtualFile implements VirtualFile {
     return fileSystem.getContent(this);
   }
 
+  @Override
+  public InputStream getContent(long offset, long length)
+      throws ForbiddenException, ServerException {
+    return fileSystem.getContent(this, offset, length);
+  }
+
   @Override
   public byte[] getContentAsBytes() throws ForbiddenException, ServerException {
     if (getLength() > MAX_BUFFER_SIZE) {
@@ -270,6 +276,11 @@ public class LocalVirtualFile implements VirtualFile {
     return fileSystem.zip(this);
   }
 
+  @Override
+  public void zip(OutputStream output) throws ForbiddenException, ServerException {
+    fileSystem.zip(this, output);
+  }
+
   @Override
   public void unzip(InputStream zipped, boolean overwrite, int stripNumber)
       throws ForbiddenException, ConflictException, ServerException {
@@ -281,6 +292,11 @@ public class LocalVirtualFile implements VirtualFile {
     return fileSystem.tar(this);
   }
 
+  @Override
+  public void tar(OutputStream output) throws ForbiddenException, ServerException {
+    fileSystem.tar(this, output);
+  }
+
   @Override
   public void untar(InputStream tarArchive, boolean overwrite, int stripNumber)
       throws ForbiddenException, ConflictException, ServerException {
@@ -10,6 +10,7 @@
  */
 package org.eclipse.che.api.vfs.impl.file;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Lists.newArrayListWithCapacity;
@@ -27,7 +28,6 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
-import com.google.common.io.Files;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
@@ -40,7 +40,10 @@ import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -511,19 +514,44 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
   }
 
   InputStream getContent(LocalVirtualFile virtualFile) throws ForbiddenException, ServerException {
+    return getContent(virtualFile, 0, -1);
+  }
+
+  /**
+   * Gets part of content of the file. Content up to {@link #MAX_BUFFER_SIZE} bytes is read into
+   * memory, larger content is copied to a temporary file to be able release the file lock before
+   * leaving this method.
+   */
+  InputStream getContent(LocalVirtualFile virtualFile, long offset, long length)
+      throws ForbiddenException, ServerException {
+    checkArgument(offset >= 0, "Offset must not be negative");
     if (virtualFile.isFile()) {
       final PathLockFactory.PathLock lock =
           pathLockFactory.getLock(virtualFile.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
       File spoolFile = null;
-      try {
-        final File ioFile = virtualFile.toIoFile();
-        final long fileLength = ioFile.length();
-        if (fileLength <= MAX_BUFFER_SIZE) {
-          return new ByteArrayInputStream(Files.toByteArray(ioFile));
+      try (FileChannel channel =
+          FileChannel.open(virtualFile.toIoFile().toPath(), StandardOpenOption.READ)) {
+        final long size = channel.size();
+        final long start = Math.min(offset, size);
+        final long count = length < 0 ? size - start : Math.min(length, size - start);
+        if (count <= MAX_BUFFER_SIZE) {
+          final ByteBuffer buffer = ByteBuffer.allocate((int) count);
+          while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) != -1) {
+            // read until buffer is full or end of file is reached
+          }
+          return new ByteArrayInputStream(buffer.array(), 0, buffer.position());
         }
-        // Copy this file to be able release the file lock before leave this method.
         spoolFile = File.createTempFile("spool_file", null);
-        Files.copy(ioFile, spoolFile);
+        try (FileChannel spool = FileChannel.open(spoolFile.toPath(), StandardOpenOption.WRITE)) {
+          long transferred = 0;
+          while (transferred < count) {
+            long bytes = channel.transferTo(start + transferred, count - transferred, spool);
+            if (bytes <= 0) {
+              break;
+            }
+            transferred += bytes;
+          }
+        }
         return new DeleteOnCloseFileInputStream(spoolFile);
       } catch (IOException e) {
         if (spoolFile != null) {
@@ -614,10 +642,14 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     return File.createTempFile(prefix, suffix, vfsDir);
   }
 
+  /**
+   * Writes content to the file in place, so the content is written once, file watchers see the
+   * update as a single modification, and links, owner and permissions of the file are kept.
+   */
   private void doUpdateContent(LocalVirtualFile virtualFile, InputStream content)
       throws ServerException {
-    try {
-      Files.write(ByteStreams.toByteArray(content), virtualFile.toIoFile());
+    try (FileOutputStream output = new FileOutputStream(virtualFile.toIoFile())) {
+      ByteStreams.copy(content, output);
     } catch (IOException e) {
       String errorMessage = String.format("Unable set content of '%s'", virtualFile.getPath());
       LOG.error(errorMessage + "\n" + e.getMessage(), e);
@@ -679,16 +711,12 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
   }
 
   InputStream zip(LocalVirtualFile folder) throws ForbiddenException, ServerException {
-    if (archiverFactory == null)
-      throw new ServerException(
-          "VFS: Could not create zip archiver. Archiver Factory is not properly configured (is null)");
+    return compress(createExportArchiver(folder, "zip", "zip"));
+  }
 
-    if (folder.isFolder()) {
-      return compress(archiverFactory.createArchiver(folder, "zip"));
-    } else {
-      throw new ForbiddenException(
-          String.format("Unable export to zip. Item '%s' is not a folder", folder.getPath()));
-    }
+  void zip(LocalVirtualFile folder, OutputStream output)
+      throws ForbiddenException, ServerException {
+    compress(createExportArchiver(folder, "zip", "zip"), output);
   }
 
   void unzip(LocalVirtualFile parent, InputStream zipped, boolean overwrite, int stripNumber)
@@ -707,17 +735,12 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
   }
 
   InputStream tar(LocalVirtualFile folder) throws ForbiddenException, ServerException {
-    if (archiverFactory == null)
-      throw new ServerException(
-          "VFS: Could not create tar archiver. Archiver Factory is not properly configured (is null)");
+    return compress(createExportArchiver(folder, "tar", "tar archive"));
+  }
 
-    if (folder.isFolder()) {
-      return compress(archiverFactory.createArchiver(folder, "tar"));
-    } else {
-      throw new ForbiddenException(
-          String.format(
-              "Unable export to tar archive. Item '%s' is not a folder", folder.getPath()));
-    }
+  void tar(LocalVirtualFile folder, OutputStream output)
+      throws ForbiddenException, ServerException {
+    compress(createExportArchiver(folder, "tar", "tar archive"), output);
   }
 
   void untar(LocalVirtualFile parent, InputStream tarArchive, boolean overwrite, int stripNumber)
@@ -735,6 +758,22 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
   }
 
+  private Archiver createExportArchiver(LocalVirtualFile folder, String type, String typeName)
+      throws ForbiddenException, ServerException {
+    if (archiverFactory == null)
+      throw new ServerException(
+          "VFS: Could not create "
+              + type
+              + " archiver. Archiver Factory is not properly configured (is null)");
+
+    if (!folder.isFolder()) {
+      throw new ForbiddenException(
+          String.format(
+              "Unable export to %s. Item '%s' is not a folder", typeName, folder.getPath()));
+    }
+    return archiverFactory.createArchiver(folder, type);
+  }
+
   private InputStream compress(Archiver archiver) throws ForbiddenException, ServerException {
     File archive = null;
     try {
@@ -751,6 +790,14 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
   }
 
+  private void compress(Archiver archiver, OutputStream output) throws ServerException {
+    try {
+      archiver.compress(output, dotGitFilter());
+    } catch (IOException e) {
+      throw new ServerException(e.getMessage(), e);
+    }
+  }
+
   private void extract(
       Archiver archiver, InputStream compressed, boolean overwrite, int stripNumber)
       throws ConflictException, ServerException, ForbiddenException {
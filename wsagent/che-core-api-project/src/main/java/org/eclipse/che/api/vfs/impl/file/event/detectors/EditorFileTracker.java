@@ -10,22 +10,27 @@
  */
 package org.eclipse.che.api.vfs.impl.file.event.detectors;
 
-import static com.google.common.io.Files.hash;
 import static java.nio.charset.Charset.defaultCharset;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.HashMap;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
@@ -54,6 +59,11 @@ import org.slf4j.Logger;
  *   <li>MOVE - tells that file that is being tracked should be moved (renamed)
  * </ul>
  *
+ * <p>A file is watched once no matter how many endpoints track it, so on modification its state is
+ * computed once and shared between the endpoints. The content hash is recomputed only when size,
+ * modification time or identity of the file differ from the previously seen ones. Updates are
+ * collected for a short time and sent to each endpoint with a single request.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
@@ -61,9 +71,21 @@ public class EditorFileTracker {
   private static final Logger LOG = getLogger(EditorFileTracker.class);
 
   private static final String OUTGOING_METHOD = "event:file-state-changed";
+  private static final String OUTGOING_BATCH_METHOD = "event:file-state-changed-batch";
+
+  private static final long NOTIFICATION_DELAY_MS = 200;
+  private static final long DELETE_CHECK_DELAY_MS = 1_000;
+  /** File systems may store modification time with a second granularity */
+  private static final long MODIFICATION_TIME_GRANULARITY_MS = 1_000;
 
-  private final Map<String, String> hashRegistry = new HashMap<>();
-  private final Map<String, Integer> watchIdRegistry = new HashMap<>();
+  private static final String EMPTY_HASH =
+      Hashing.md5().hashString("", defaultCharset()).toString();
+
+  /** Path -> tracked file */
+  private final Map<String, TrackedFile> trackedFiles = new ConcurrentHashMap<>();
+  /** Endpoint id -> (path -> update), updates which are not sent to the endpoint yet */
+  private final Map<String, Map<String, FileStateUpdateDto>> pendingUpdates =
+      new ConcurrentHashMap<>();
 
   private final RequestTransmitter transmitter;
   private final FileWatcherManager fileWatcherManager;
@@ -71,6 +93,7 @@ public class EditorFileTracker {
   private File root;
   private final EventService eventService;
   private final EventSubscriber<FileTrackingOperationEvent> fileOperationEventSubscriber;
+  private final ScheduledExecutorService executor;
 
   @Inject
   public EditorFileTracker(
@@ -84,6 +107,9 @@ public class EditorFileTracker {
     this.transmitter = transmitter;
     this.vfsProvider = vfsProvider;
     this.eventService = eventService;
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("EditorFileTracker").setDaemon(true).build());
 
     fileOperationEventSubscriber =
         new EventSubscriber<FileTrackingOperationEvent>() {
@@ -105,19 +131,9 @@ public class EditorFileTracker {
     switch (type) {
       case START:
         {
-          String key = path + endpointId;
-          LOG.debug("Received file tracking operation START trigger key : {}", key);
-          if (watchIdRegistry.containsKey(key)) {
-            LOG.debug("Already registered {}", key);
-            return;
-          }
-          int id =
-              fileWatcherManager.registerByPath(
-                  path,
-                  getCreateConsumer(endpointId, path),
-                  getModifyConsumer(endpointId, path),
-                  getDeleteConsumer(endpointId, path));
-          watchIdRegistry.put(key, id);
+          LOG.debug("Received file tracking operation START trigger key : {}", path + endpointId);
+
+          track(path, endpointId);
 
           break;
         }
@@ -125,10 +141,7 @@ public class EditorFileTracker {
         {
           LOG.debug("Received file tracking operation STOP trigger.");
 
-          Integer id = watchIdRegistry.remove(path + endpointId);
-          if (id != null) {
-            fileWatcherManager.unRegisterByPath(id);
-          }
+          untrack(path, endpointId);
 
           break;
         }
@@ -152,18 +165,8 @@ public class EditorFileTracker {
         {
           LOG.debug("Received file tracking operation MOVE trigger.");
 
-          Integer oldId = watchIdRegistry.remove(oldPath + endpointId);
-          if (oldId != null) {
-            fileWatcherManager.unRegisterByPath(oldId);
-          }
-
-          int newId =
-              fileWatcherManager.registerByPath(
-                  path,
-                  getCreateConsumer(endpointId, path),
-                  getModifyConsumer(endpointId, path),
-                  getDeleteConsumer(endpointId, path));
-          watchIdRegistry.put(path + endpointId, newId);
+          untrack(oldPath, endpointId);
+          track(path, endpointId);
 
           break;
         }
@@ -176,70 +179,191 @@ public class EditorFileTracker {
     }
   }
 
-  private Consumer<String> getCreateConsumer(String endpointId, String path) {
+  private void track(String path, String endpointId) {
+    trackedFiles.compute(
+        path,
+        (p, tracked) -> {
+          if (tracked == null) {
+            tracked =
+                new TrackedFile(
+                    fileWatcherManager.registerByPath(
+                        p, getCreateConsumer(p), getModifyConsumer(p), getDeleteConsumer(p)));
+          } else if (tracked.endpoints.contains(endpointId)) {
+            LOG.debug("Already registered {}", p + endpointId);
+          }
+          tracked.endpoints.add(endpointId);
+          return tracked;
+        });
+  }
+
+  private void untrack(String path, String endpointId) {
+    trackedFiles.computeIfPresent(
+        path,
+        (p, tracked) -> {
+          tracked.endpoints.remove(endpointId);
+          if (tracked.endpoints.isEmpty()) {
+            fileWatcherManager.unRegisterByPath(tracked.watchId);
+            return null;
+          }
+          return tracked;
+        });
+  }
+
+  private Consumer<String> getCreateConsumer(String path) {
     // for case when file is updated through recreation
-    return getModifyConsumer(endpointId, path);
+    return getModifyConsumer(path);
   }
 
-  private Consumer<String> getModifyConsumer(String endpointId, String path) {
+  private Consumer<String> getModifyConsumer(String path) {
     return it -> {
-      String newHash = hashFile(path);
-      String oldHash = hashRegistry.getOrDefault(path + endpointId, null);
-
-      if (Objects.equals(newHash, oldHash)) {
+      TrackedFile tracked = trackedFiles.get(path);
+      if (tracked == null) {
         return;
       }
 
-      hashRegistry.put(path + endpointId, newHash);
+      String newHash;
+      synchronized (tracked) {
+        FileState oldState = tracked.state;
+        FileState newState = readState(path, oldState);
+        if (newState == null) {
+          return;
+        }
+        tracked.state = newState;
+        if (oldState != null && Objects.equals(oldState.hash, newState.hash)) {
+          return;
+        }
+        newHash = newState.hash;
+      }
 
       FileStateUpdateDto params =
           newDto(FileStateUpdateDto.class).withPath(path).withType(MODIFIED).withHashCode(newHash);
-      transmitter
-          .newRequest()
-          .endpointId(endpointId)
-          .methodName(OUTGOING_METHOD)
-          .paramsAsDto(params)
-          .sendAndSkipResult();
+      tracked.endpoints.forEach(endpointId -> enqueue(endpointId, params));
     };
   }
 
-  private Consumer<String> getDeleteConsumer(String endpointId, String path) {
+  private Consumer<String> getDeleteConsumer(String path) {
     return it ->
-        new Timer()
-            .schedule(
-                new TimerTask() {
-                  @Override
-                  public void run() {
-                    if (!Files.exists(FileWatcherUtils.toNormalPath(root.toPath(), it))) {
-                      hashRegistry.remove(path + endpointId);
-                      FileStateUpdateDto params =
-                          newDto(FileStateUpdateDto.class).withPath(path).withType(DELETED);
-                      transmitter
-                          .newRequest()
-                          .endpointId(endpointId)
-                          .methodName(OUTGOING_METHOD)
-                          .paramsAsDto(params)
-                          .sendAndSkipResult();
-                    }
-                  }
-                },
-                1_000L);
+        executor.schedule(
+            () -> {
+              if (Files.exists(FileWatcherUtils.toNormalPath(root.toPath(), it))) {
+                return;
+              }
+              TrackedFile tracked = trackedFiles.get(path);
+              if (tracked == null) {
+                return;
+              }
+              synchronized (tracked) {
+                tracked.state = null;
+              }
+              FileStateUpdateDto params =
+                  newDto(FileStateUpdateDto.class).withPath(path).withType(DELETED);
+              tracked.endpoints.forEach(endpointId -> enqueue(endpointId, params));
+            },
+            DELETE_CHECK_DELAY_MS,
+            MILLISECONDS);
   }
 
-  private String hashFile(String path) {
+  /**
+   * Reads the current state of the file. The hash of the previous state is reused when size,
+   * modification time and identity of the file are unchanged and the file wasn't modified shortly
+   * before the previous state was read, otherwise content of the file is hashed.
+   *
+   * @return state of the file or {@code null} if it can't be read
+   */
+  private FileState readState(String path, FileState previous) {
     try {
       VirtualFile file = vfsProvider.getVirtualFileSystem().getRoot().getChild(Path.of(path));
-      return file == null
-          ? Hashing.md5().hashString("", defaultCharset()).toString()
-          : hash(file.toIoFile(), Hashing.md5()).toString();
+      if (file == null) {
+        return new FileState(-1, -1, null, EMPTY_HASH, System.currentTimeMillis());
+      }
+
+      File ioFile = file.toIoFile();
+      long now = System.currentTimeMillis();
+      BasicFileAttributes attributes =
+          Files.readAttributes(ioFile.toPath(), BasicFileAttributes.class);
+      long modified = attributes.lastModifiedTime().toMillis();
+      if (previous != null
+          && previous.size == attributes.size()
+          && previous.modified == modified
+          && Objects.equals(previous.fileKey, attributes.fileKey())
+          && modified < previous.readTime - MODIFICATION_TIME_GRANULARITY_MS) {
+        return previous;
+      }
+
+      String hash = com.google.common.io.Files.hash(ioFile, Hashing.md5()).toString();
+      return new FileState(attributes.size(), modified, attributes.fileKey(), hash, now);
     } catch (ServerException | IOException e) {
       LOG.error("Error trying to read {} file and broadcast it", path, e);
     }
     return null;
   }
 
+  /** Adds update to the pending ones of the endpoint, the latest update of a path wins. */
+  private void enqueue(String endpointId, FileStateUpdateDto update) {
+    pendingUpdates.compute(
+        endpointId,
+        (id, updates) -> {
+          if (updates == null) {
+            updates = new LinkedHashMap<>();
+            executor.schedule(() -> flush(id), NOTIFICATION_DELAY_MS, MILLISECONDS);
+          }
+          updates.put(update.getPath(), update);
+          return updates;
+        });
+  }
+
+  private void flush(String endpointId) {
+    Map<String, FileStateUpdateDto> updates = pendingUpdates.remove(endpointId);
+    if (updates == null || updates.isEmpty()) {
+      return;
+    }
+
+    if (updates.size() == 1) {
+      transmitter
+          .newRequest()
+          .endpointId(endpointId)
+          .methodName(OUTGOING_METHOD)
+          .paramsAsDto(updates.values().iterator().next())
+          .sendAndSkipResult();
+    } else {
+      transmitter
+          .newRequest()
+          .endpointId(endpointId)
+          .methodName(OUTGOING_BATCH_METHOD)
+          .paramsAsListOfDto(new ArrayList<>(updates.values()))
+          .sendAndSkipResult();
+    }
+  }
+
   @PreDestroy
   private void unsubscribe() {
     eventService.unsubscribe(fileOperationEventSubscriber);
+    executor.shutdownNow();
+  }
+
+  private static class TrackedFile {
+    final int watchId;
+    final Set<String> endpoints = ConcurrentHashMap.newKeySet();
+    FileState state;
+
+    TrackedFile(int watchId) {
+      this.watchId = watchId;
+    }
+  }
+
+  private static class FileState {
+    final long size;
+    final long modified;
+    final Object fileKey;
+    final String hash;
+    final long readTime;
+
+    FileState(long size, long modified, Object fileKey, String hash, long readTime) {
+      this.size = size;
+      this.modified = modified;
+      this.fileKey = fileKey;
+      this.hash = hash;
+      this.readTime = readTime;
+    }
   }
 }
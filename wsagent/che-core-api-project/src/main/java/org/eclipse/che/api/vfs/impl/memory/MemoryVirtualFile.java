@@ -10,6 +10,7 @@
  */
 package org.eclipse.che.api.vfs.impl.memory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newHashMap;
 import static java.util.Collections.singletonMap;
@@ -301,6 +302,16 @@ public class MemoryVirtualFile implements VirtualFile {
     return new ByteArrayInputStream(getContentAsBytes());
   }
 
+  @Override
+  public InputStream getContent(long offset, long length) throws ForbiddenException {
+    checkArgument(offset >= 0, "Offset must not be negative");
+    final byte[] bytes = getContentAsBytes();
+    final int start = (int) Math.min(offset, bytes.length);
+    final int count =
+        length < 0 ? bytes.length - start : (int) Math.min(length, bytes.length - start);
+    return new ByteArrayInputStream(bytes, start, count);
+  }
+
   @Override
   public byte[] getContentAsBytes() throws ForbiddenException {
     checkExistence();
@@ -665,6 +676,18 @@ public class MemoryVirtualFile implements VirtualFile {
     }
   }
 
+  @Override
+  public void zip(OutputStream output) throws ForbiddenException, ServerException {
+    checkExistence();
+
+    if (isFolder()) {
+      compress(fileSystem.getArchiverFactory().createArchiver(this, "zip"), output);
+    } else {
+      throw new ForbiddenException(
+          String.format("Unable export to zip. Item '%s' is not a folder", getPath()));
+    }
+  }
+
   @Override
   public void unzip(InputStream zipped, boolean overwrite, int stripNumber)
       throws ForbiddenException, ServerException, ConflictException {
@@ -695,6 +718,18 @@ public class MemoryVirtualFile implements VirtualFile {
     }
   }
 
+  @Override
+  public void tar(OutputStream output) throws ForbiddenException, ServerException {
+    checkExistence();
+
+    if (isFolder()) {
+      compress(fileSystem.getArchiverFactory().createArchiver(this, "tar"), output);
+    } else {
+      throw new ForbiddenException(
+          String.format("Unable export to tar archive. Item '%s' is not a folder", getPath()));
+    }
+  }
+
   @Override
   public void untar(InputStream tarArchive, boolean overwrite, int stripNumber)
       throws ForbiddenException, ConflictException, ServerException {
@@ -714,10 +749,14 @@ public class MemoryVirtualFile implements VirtualFile {
   }
 
   private InputStream compress(Archiver archiver) throws ForbiddenException, ServerException {
+    ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+    compress(archiver, byteOut);
+    return new ByteArrayInputStream(byteOut.toByteArray());
+  }
+
+  private void compress(Archiver archiver, OutputStream output) throws ServerException {
     try {
-      ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-      archiver.compress(byteOut);
-      return new ByteArrayInputStream(byteOut.toByteArray());
+      archiver.compress(output);
     } catch (IOException e) {
       throw new ServerException(e.getMessage(), e);
     }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.INSERT;
+import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.REPLACE_ALL;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import javax.inject.Provider;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.shared.EditorContentChecksum;
+import org.eclipse.che.api.project.shared.dto.EditorChangesDto;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link EditorWorkingCopyManager}. */
+@Listeners(MockitoTestNGListener.class)
+public class EditorWorkingCopyManagerTest {
+  private static final String ENDPOINT_ID = "endpoint";
+  private static final String FILE_PATH = "/project/file.txt";
+  private static final String PROJECT_PATH = "/project";
+
+  @Mock private Provider<ProjectManager> projectManagerProvider;
+  @Mock private ProjectManager projectManager;
+  @Mock private FileEntry file;
+  @Mock private EventService eventService;
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RequestTransmitter transmitter;
+
+  private EditorWorkingCopyManager manager;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    when(projectManagerProvider.get()).thenReturn(projectManager);
+    when(projectManager.asFile(FILE_PATH)).thenReturn(file);
+    when(file.getProject()).thenReturn(PROJECT_PATH);
+    when(file.contentAsBytes()).thenReturn("hello".getBytes());
+
+    manager = new EditorWorkingCopyManager(projectManagerProvider, eventService, transmitter);
+  }
+
+  @Test
+  public void shouldApplyBatchOfChangesInOrder() throws Exception {
+    boolean inSync =
+        manager.onEditorContentUpdated(
+            ENDPOINT_ID,
+            asList(
+                insert(5, " world"),
+                insert(11, "!").withContentChecksum(EditorContentChecksum.of("hello world!"))));
+
+    assertTrue(inSync);
+    assertEquals(manager.getWorkingCopy(FILE_PATH).getContentAsString(), "hello world!");
+    verify(transmitter, never()).newRequest();
+  }
+
+  @Test
+  public void shouldRejectConflictingChangeAndRecreateWorkingCopyFromFile() throws Exception {
+    manager.onEditorContentUpdated(ENDPOINT_ID, insert(5, " world"));
+    EditorWorkingCopy outOfSync = manager.getWorkingCopy(FILE_PATH);
+
+    boolean inSync =
+        manager.onEditorContentUpdated(
+            ENDPOINT_ID,
+            asList(
+                insert(11, "!").withContentChecksum(EditorContentChecksum.of("hello there!")),
+                insert(0, "skipped ")));
+
+    assertFalse(inSync);
+    verify(transmitter, never()).newRequest();
+    assertNull(manager.getWorkingCopy(FILE_PATH));
+
+    manager.onEditorContentUpdated(ENDPOINT_ID, insert(5, "!"));
+
+    EditorWorkingCopy recreated = manager.getWorkingCopy(FILE_PATH);
+    assertNotSame(recreated, outOfSync);
+    assertEquals(recreated.getContentAsString(), "hello!");
+  }
+
+  @Test
+  public void shouldResynchronizeWorkingCopyWithWholeContentAfterChecksumMismatch()
+      throws Exception {
+    manager.onEditorContentUpdated(ENDPOINT_ID, insert(5, " world"));
+
+    // the editor content is "hello there!" while the working copy has "hello world"
+    boolean inSync =
+        manager.onEditorContentUpdated(
+            ENDPOINT_ID,
+            singletonList(
+                insert(11, "!").withContentChecksum(EditorContentChecksum.of("hello there!"))));
+    assertFalse(inSync);
+
+    inSync =
+        manager.onEditorContentUpdated(ENDPOINT_ID, singletonList(replaceAll("hello there!")));
+    assertTrue(inSync);
+    assertEquals(manager.getWorkingCopy(FILE_PATH).getContentAsString(), "hello there!");
+
+    String editorContent = "oh, hello there!";
+    inSync =
+        manager.onEditorContentUpdated(
+            ENDPOINT_ID,
+            singletonList(
+                insert(0, "oh, ").withContentChecksum(EditorContentChecksum.of(editorContent))));
+    assertTrue(inSync);
+    assertEquals(manager.getWorkingCopy(FILE_PATH).getContentAsString(), editorContent);
+    verify(transmitter, never()).newRequest();
+  }
+
+  @Test
+  public void shouldRejectChangeOutOfWorkingCopyContent() throws Exception {
+    manager.onEditorContentUpdated(ENDPOINT_ID, insert(42, "!"));
+
+    verify(transmitter).newRequest();
+    assertNull(manager.getWorkingCopy(FILE_PATH));
+  }
+
+  private static EditorChangesDto insert(int offset, String text) {
+    return DtoFactory.newDto(EditorChangesDto.class)
+        .withFileLocation(FILE_PATH)
+        .withProjectPath(PROJECT_PATH)
+        .withType(INSERT)
+        .withOffset(offset)
+        .withText(text)
+        .withLength(text.length());
+  }
+
+  private static EditorChangesDto replaceAll(String content) {
+    return DtoFactory.newDto(EditorChangesDto.class)
+        .withFileLocation(FILE_PATH)
+        .withProjectPath(PROJECT_PATH)
+        .withType(REPLACE_ALL)
+        .withText(content)
+        .withContentChecksum(EditorContentChecksum.of(content));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.INSERT;
+import static org.eclipse.che.api.project.shared.dto.EditorChangesDto.Type.REMOVE;
+import static org.testng.Assert.assertEquals;
+
+import org.eclipse.che.api.project.shared.EditorContentChecksum;
+import org.eclipse.che.api.project.shared.dto.EditorChangesDto;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link EditorWorkingCopy}. */
+public class EditorWorkingCopyTest {
+  private EditorWorkingCopy workingCopy;
+
+  @BeforeMethod
+  public void setUp() {
+    workingCopy = new EditorWorkingCopy("project.file.txt", "/project", "hello world".getBytes());
+  }
+
+  @Test
+  public void shouldApplyInsertAndRemoveChangesInPlace() {
+    workingCopy.applyChanges(insert(5, ", big"));
+    workingCopy.applyChanges(remove(0, 7));
+    workingCopy.applyChanges(insert(0, "a "));
+
+    assertEquals(workingCopy.getContentAsString(), "a big world");
+  }
+
+  @Test
+  public void shouldAcceptChangeWhichMatchesChecksumOfEditorContent() {
+    workingCopy.applyChanges(
+        insert(11, "!").withContentChecksum(EditorContentChecksum.of("hello world!")));
+
+    assertEquals(workingCopy.getContentAsString(), "hello world!");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldRejectChangeWhichDoesNotMatchChecksumOfEditorContent() {
+    workingCopy.applyChanges(
+        insert(11, "!").withContentChecksum(EditorContentChecksum.of("hello world?")));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldRejectInsertOutOfContentRange() {
+    workingCopy.applyChanges(insert(12, "!"));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldRejectRemoveOutOfContentRange() {
+    workingCopy.applyChanges(remove(6, 6));
+  }
+
+  @Test
+  public void checksumShouldBeEqualForStringAndBufferWithTheSameContent() {
+    assertEquals(
+        EditorContentChecksum.of(new StringBuilder("hello world")),
+        EditorContentChecksum.of("hello world"));
+    assertEquals(EditorContentChecksum.of("hello world"), "11:" + "hello world".hashCode());
+  }
+
+  private static EditorChangesDto insert(int offset, String text) {
+    return DtoFactory.newDto(EditorChangesDto.class)
+        .withType(INSERT)
+        .withOffset(offset)
+        .withText(text)
+        .withLength(text.length());
+  }
+
+  private static EditorChangesDto remove(int offset, int length) {
+    return DtoFactory.newDto(EditorChangesDto.class)
+        .withType(REMOVE)
+        .withOffset(offset)
+        .withRemovedCharCount(length);
+  }
+}
@@ -10,6 +10,9 @@
  */
 package org.eclipse.che.api.project.server;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
@@ -19,8 +22,10 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
+import org.eclipse.che.api.project.server.handlers.ProjectInitHandler;
 import org.eclipse.che.api.project.server.type.BaseProjectType;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
@@ -200,6 +205,56 @@ public class ProjectManagerReadTest extends WsAgentTestBase {
 
   }
 
+  @Test
+  public void testInitParentProjectBeforeChild() throws Exception {
+
+    List<String> initialized = new CopyOnWriteArrayList<>();
+    ProjectTypeRegistry projectTypeRegistry = new ProjectTypeRegistry(new HashSet<>());
+    projectTypeRegistry.registerProjectType(new PT1());
+    ProjectHandlerRegistry handlerRegistry =
+        new ProjectHandlerRegistry(
+            singleton(
+                new ProjectInitHandler() {
+                  @Override
+                  public String getProjectType() {
+                    return "primary1";
+                  }
+
+                  @Override
+                  public void onProjectInitialized(
+                      ProjectRegistry registry, FolderEntry projectFolder) {
+                    initialized.add(projectFolder.getPath().toString());
+                  }
+                }));
+
+    new ProjectRegistry(
+            workspaceHolder, vfsProvider, projectTypeRegistry, handlerRegistry, eventService)
+        .initProjects();
+
+    assertEquals(asList("/normal", "/normal/module"), initialized);
+  }
+
+  @Test
+  public void testChildProjects() throws Exception {
+
+    assertEquals(singletonList("/normal/module"), projectRegistry.getProjects("/normal"));
+    assertEquals(singletonList("/normal/module"), projectRegistry.getProjects("normal/"));
+    assertEquals(4, projectRegistry.getProjects("/").size());
+    assertTrue(projectRegistry.getProjects("/norm").isEmpty());
+  }
+
+  @Test
+  public void testDetectFolderCreatedAfterLookup() throws Exception {
+
+    assertNull(projectRegistry.getProject("/created"));
+
+    new File(root, "/created").mkdir();
+    projectRegistry.rootChanged();
+
+    assertEquals(1, projectRegistry.getProject("/created").getProblems().size());
+    assertEquals(5, projectRegistry.getProjects().size());
+  }
+
   @Test
   public void testSerializeProject() throws Exception {
     ProjectConfig config = DtoConverter.asDto(pm.getProject("/fromConfig"));
@@ -58,6 +58,7 @@ import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import javax.ws.rs.core.Application;
 import org.eclipse.che.api.core.ConflictException;
@@ -1798,6 +1799,7 @@ public class ProjectServiceTest {
         .getBaseFolder()
         .createFolder("a/b")
         .createFile("test.txt", "hello".getBytes(Charset.defaultCharset()));
+    ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
     ContainerResponse response =
         launcher.service(
             GET,
@@ -1805,9 +1807,18 @@ public class ProjectServiceTest {
             "http://localhost:8080/api",
             null,
             null,
+            writer,
             null);
     assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
     assertEquals(response.getContentType().toString(), ExtMediaType.APPLICATION_ZIP);
+    Map<String, String> entries = new HashMap<>();
+    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(writer.getBody()))) {
+      ZipEntry entry;
+      while ((entry = zip.getNextEntry()) != null) {
+        entries.put(entry.getName(), new String(ByteStreams.toByteArray(zip)));
+      }
+    }
+    assertEquals(entries.get("a/b/test.txt"), "hello");
   }
 
   @Test
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/** Tests for {@link ProjectTreeChanges} */
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectTreeChangesTest {
+
+  @Mock FileWatcherManager fileWatcherManager;
+
+  ProjectTreeChanges treeChanges;
+
+  @Before
+  public void setUp() throws Exception {
+    treeChanges = new ProjectTreeChanges(fileWatcherManager);
+  }
+
+  @Test
+  public void shouldTrackCreatedAndDeletedItems() throws Exception {
+    ArgumentCaptor<Consumer> create = ArgumentCaptor.forClass(Consumer.class);
+    ArgumentCaptor<Consumer> delete = ArgumentCaptor.forClass(Consumer.class);
+    treeChanges.startWatching();
+    verify(fileWatcherManager).registerByMatcher(any(), create.capture(), any(), delete.capture());
+    long revision = treeChanges.getRevision();
+
+    create.getValue().accept("/project/file");
+    delete.getValue().accept("/project/folder");
+
+    List<ProjectTreeChanges.Change> changes = treeChanges.getChangesSince(revision);
+    assertEquals(revision + 2, treeChanges.getRevision());
+    assertEquals(2, changes.size());
+    assertEquals("/project/file", changes.get(0).getPath());
+    assertFalse(changes.get(0).isDeleted());
+    assertEquals("/project/folder", changes.get(1).getPath());
+    assertTrue(changes.get(1).isDeleted());
+  }
+
+  @Test
+  public void shouldReturnOnlyChangesAfterRevision() throws Exception {
+    treeChanges.add("/project/a", false);
+    long revision = treeChanges.getRevision();
+    treeChanges.add("/project/b", false);
+
+    List<ProjectTreeChanges.Change> changes = treeChanges.getChangesSince(revision);
+    assertEquals(1, changes.size());
+    assertEquals("/project/b", changes.get(0).getPath());
+    assertTrue(treeChanges.getChangesSince(treeChanges.getRevision()).isEmpty());
+  }
+
+  @Test
+  public void shouldNotReturnChangesOfUnknownRevision() throws Exception {
+    assertNull(treeChanges.getChangesSince(0));
+    assertNull(treeChanges.getChangesSince(treeChanges.getRevision() + 1));
+  }
+}
@@ -12,7 +12,12 @@ package org.eclipse.che.api.vfs.impl.file;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -36,7 +41,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -411,6 +423,91 @@ public class LocalVirtualFileTest {
     assertEquals(DEFAULT_CONTENT, new String(bytes));
   }
 
+  @Test
+  public void getsPartOfContentAsStream() throws Exception {
+    VirtualFile root = getRoot();
+    VirtualFile file = root.createFile(generateFileName(), DEFAULT_CONTENT);
+
+    byte[] bytes;
+    try (InputStream content = file.getContent(3, 5)) {
+      bytes = ByteStreams.toByteArray(content);
+    }
+
+    assertEquals(DEFAULT_CONTENT.substring(3, 8), new String(bytes));
+  }
+
+  @Test
+  public void getsPartOfContentOfLargeFileUpToEndOfFile() throws Exception {
+    VirtualFile root = getRoot();
+    byte[] largeContent = new byte[LocalVirtualFileSystem.MAX_BUFFER_SIZE * 2];
+    Arrays.fill(largeContent, (byte) 'a');
+    largeContent[largeContent.length - 1] = 'b';
+    VirtualFile file = root.createFile(generateFileName(), largeContent);
+
+    byte[] bytes;
+    try (InputStream content = file.getContent(10, -1)) {
+      bytes = ByteStreams.toByteArray(content);
+    }
+
+    assertArrayEquals(Arrays.copyOfRange(largeContent, 10, largeContent.length), bytes);
+  }
+
+  @Test
+  public void keepsReadingPreviousContentWhenFileIsUpdatedWhileReading() throws Exception {
+    VirtualFile root = getRoot();
+    byte[] largeContent = new byte[LocalVirtualFileSystem.MAX_BUFFER_SIZE * 2];
+    Arrays.fill(largeContent, (byte) 'a');
+    VirtualFile file = root.createFile(generateFileName(), largeContent);
+
+    byte[] bytes;
+    try (InputStream content = file.getContent()) {
+      file.updateContent(DEFAULT_CONTENT);
+      bytes = ByteStreams.toByteArray(content);
+    }
+
+    assertArrayEquals(largeContent, bytes);
+    assertionHelper.assertThatIoFileHasContent(file.getPath(), DEFAULT_CONTENT_BYTES);
+  }
+
+  @Test
+  public void updatesContentInPlaceSoWatchersSeeModification() throws Exception {
+    VirtualFile root = getRoot();
+    VirtualFile file = root.createFile(generateFileName(), DEFAULT_CONTENT);
+
+    Set<String> events = new HashSet<>();
+    try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+      testDirectory.toPath().register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+
+      file.updateContent("updated content");
+
+      WatchKey key;
+      while ((key = watchService.poll(3, SECONDS)) != null) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+          events.add(event.context() + ":" + event.kind().name());
+        }
+        key.reset();
+      }
+    }
+
+    // no temporary files are created next to the file
+    assertEquals(newHashSet(file.getName() + ":" + ENTRY_MODIFY.name()), events);
+    assertionHelper.assertThatIoFileHasContent(file.getPath(), "updated content".getBytes());
+  }
+
+  @Test
+  public void updatesContentOfSymbolicLinkTarget() throws Exception {
+    VirtualFile root = getRoot();
+    VirtualFile target = root.createFile(generateFileName(), DEFAULT_CONTENT);
+    String linkName = generateFileName();
+    java.nio.file.Path link = new File(testDirectory, linkName).toPath();
+    Files.createSymbolicLink(link, new File(testDirectory, target.getName()).toPath());
+
+    root.getChild(Path.of(linkName)).updateContent("updated content");
+
+    assertTrue(Files.isSymbolicLink(link));
+    assertionHelper.assertThatIoFileHasContent(target.getPath(), "updated content".getBytes());
+  }
+
   @Test
   public void getsContentAsBytes() throws Exception {
     VirtualFile root = getRoot();
@@ -1432,6 +1529,26 @@ public class LocalVirtualFileTest {
     verify(archiver).compress(any(OutputStream.class), any(VirtualFileFilter.class));
   }
 
+  @Test
+  public void compressesFolderToZipArchiveWrittenToOutput() throws Exception {
+    VirtualFile folder = getRoot().createFolder(generateFolderName());
+    Archiver archiver = mock(Archiver.class);
+    when(archiverFactory.createArchiver(eq(folder), eq("zip"))).thenReturn(archiver);
+    OutputStream output = new ByteArrayOutputStream();
+    folder.zip(output);
+    verify(archiver).compress(eq(output), any(VirtualFileFilter.class));
+  }
+
+  @Test
+  public void failsZipFileToOutput() throws Exception {
+    VirtualFile root = getRoot();
+    VirtualFile file = root.createFile(generateFileName(), DEFAULT_CONTENT);
+
+    thrown.expect(ForbiddenException.class);
+
+    file.zip(new ByteArrayOutputStream());
+  }
+
   @Test
   public void failsZipFile() throws Exception {
     VirtualFile root = getRoot();
@@ -51,7 +51,9 @@ public interface TestExecutionContext {
 
   /**
    * returns a list with paths of the test files relative to the project. The list should be
-   * initialized when value of {@link ContextType} is {@link ContextType.SET}
+   * initialized when value of {@link ContextType} is {@link ContextType.SET}. When value of {@link
+   * ContextType} is {@link ContextType.AFFECTED} the list contains paths of the changed files, tests
+   * which may be affected by the changes are executed.
    *
    * @param listOfTestClasses
    */
@@ -64,6 +66,7 @@ public interface TestExecutionContext {
     FOLDER,
     PROJECT,
     CURSOR_POSITION,
-    SET
+    SET,
+    AFFECTED
   }
 }
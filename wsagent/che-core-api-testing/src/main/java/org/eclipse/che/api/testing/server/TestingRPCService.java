@@ -16,6 +16,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.testing.server.framework.TestForkLimit;
 import org.eclipse.che.api.testing.server.framework.TestFrameworkRegistry;
 import org.eclipse.che.api.testing.server.framework.TestMessagesOutputTransmitter;
 import org.eclipse.che.api.testing.server.framework.TestRunner;
@@ -34,15 +35,19 @@ public class TestingRPCService {
 
   private final RequestTransmitter requestTransmitter;
   private final TestFrameworkRegistry frameworkRegistry;
+  private final TestForkLimit forkLimit;
 
   private String endpoint;
   private TestMessagesOutputTransmitter outputTransmitter;
 
   @Inject
   public TestingRPCService(
-      RequestTransmitter requestTransmitter, TestFrameworkRegistry frameworkRegistry) {
+      RequestTransmitter requestTransmitter,
+      TestFrameworkRegistry frameworkRegistry,
+      TestForkLimit forkLimit) {
     this.requestTransmitter = requestTransmitter;
     this.frameworkRegistry = frameworkRegistry;
+    this.forkLimit = forkLimit;
   }
 
   @Inject
@@ -74,9 +79,14 @@ public class TestingRPCService {
       if (outputTransmitter != null) {
         outputTransmitter.stop();
       }
-      ProcessHandler processHandler = testRunner.execute(context);
+      int maxProcesses = context.isDebugModeEnable() ? 1 : forkLimit.getMaxForks();
+      List<ProcessHandler> processHandlers = testRunner.execute(context, maxProcesses);
+      if (processHandlers.isEmpty()) {
+        outputTransmitter = null;
+        return testLaunchResult.withSuccess(false);
+      }
       outputTransmitter =
-          new TestMessagesOutputTransmitter(processHandler, requestTransmitter, endpoint);
+          new TestMessagesOutputTransmitter(processHandlers, requestTransmitter, endpoint);
       if (context.isDebugModeEnable()) {
         testLaunchResult.withDebugPort(testRunner.getDebugPort());
       }
@@ -33,7 +33,7 @@ public class LineSplitter {
     int lineStart = 0;
     int lineEnd = 0;
 
-    for (; lineEnd > text.length(); lineEnd++) {
+    for (; lineEnd < text.length(); lineEnd++) {
       if (text.charAt(lineEnd) == '\n') {
         processLine(text.substring(lineStart, lineEnd + 1), outputType);
         lineStart = lineEnd + 1;
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides maximum count of processes in which tests of a single run are executed in parallel.
+ *
+ * <p>When the limit is not configured explicitly it is equal to the count of CPUs available to the
+ * workspace agent, but not more than fits into the memory limit of the machine container at {@link
+ * #FORK_MEMORY_BYTES} per process. CPU quota and memory limit of the container are read from both
+ * cgroup v1 and cgroup v2 hierarchies, as the JVM reports CPUs and memory of the host.
+ */
+@Singleton
+public class TestForkLimit {
+  private static final Logger LOG = LoggerFactory.getLogger(TestForkLimit.class);
+
+  private static final Path CGROUP_ROOT = Paths.get("/sys/fs/cgroup");
+  /** Memory which is expected to be used by a single test process. */
+  private static final long FORK_MEMORY_BYTES = 512L * 1024 * 1024;
+
+  private final int maxForks;
+
+  @Inject
+  public TestForkLimit(@Named("che.testing.max_forks") int maxForks) {
+    this.maxForks =
+        maxForks > 0
+            ? maxForks
+            : getAvailableForks(CGROUP_ROOT, Runtime.getRuntime().availableProcessors());
+  }
+
+  /** Returns maximum count of processes which may execute tests of a single run. */
+  public int getMaxForks() {
+    return maxForks;
+  }
+
+  @VisibleForTesting
+  static int getAvailableForks(Path cgroupRoot, int cpus) {
+    long forks = Math.min(cpus, getCpuLimit(cgroupRoot));
+    long memoryLimit = getMemoryLimit(cgroupRoot);
+    if (memoryLimit > 0) {
+      forks = Math.min(forks, memoryLimit / FORK_MEMORY_BYTES);
+    }
+    return (int) Math.max(1, forks);
+  }
+
+  /** Returns count of CPUs allowed by the CPU quota or {@link Long#MAX_VALUE} if not limited. */
+  private static long getCpuLimit(Path cgroupRoot) {
+    long quota = -1;
+    long period = -1;
+    // cgroup v2: "$MAX $PERIOD" where $MAX is "max" when not limited
+    String cpuMax = read(cgroupRoot.resolve("cpu.max"));
+    if (cpuMax != null) {
+      String[] values = cpuMax.split("\\s+");
+      if (values.length == 2 && !"max".equals(values[0])) {
+        quota = parse(values[0]);
+        period = parse(values[1]);
+      }
+    } else {
+      quota = parse(read(cgroupRoot.resolve("cpu/cpu.cfs_quota_us")));
+      period = parse(read(cgroupRoot.resolve("cpu/cpu.cfs_period_us")));
+    }
+    if (quota > 0 && period > 0) {
+      return Math.max(1, (quota + period - 1) / period);
+    }
+    return Long.MAX_VALUE;
+  }
+
+  /** Returns memory limit in bytes or -1 if not limited. */
+  private static long getMemoryLimit(Path cgroupRoot) {
+    // cgroup v2 contains "max" when not limited, cgroup v1 contains a huge number
+    String memoryMax = read(cgroupRoot.resolve("memory.max"));
+    if (memoryMax == null) {
+      memoryMax = read(cgroupRoot.resolve("memory/memory.limit_in_bytes"));
+    }
+    return parse(memoryMax);
+  }
+
+  private static String read(Path file) {
+    if (!Files.isReadable(file)) {
+      return null;
+    }
+    try {
+      return new String(Files.readAllBytes(file)).trim();
+    } catch (IOException e) {
+      LOG.warn("Can't read limits of the machine from {}. Cause: {}", file, e.getMessage());
+      return null;
+    }
+  }
+
+  private static long parse(String value) {
+    if (value == null || "max".equals(value)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      LOG.warn("Can't parse limit of the machine '{}'", value);
+      return -1;
+    }
+  }
+}
@@ -10,6 +10,22 @@
  */
 package org.eclipse.che.api.testing.server.framework;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
 import org.eclipse.che.api.testing.server.messages.ServerTestingMessage;
 import org.eclipse.che.api.testing.server.messages.UncapturedOutputMessage;
@@ -18,105 +34,297 @@ import org.eclipse.che.commons.lang.execution.ProcessEvent;
 import org.eclipse.che.commons.lang.execution.ProcessHandler;
 import org.eclipse.che.commons.lang.execution.ProcessListener;
 import org.eclipse.che.commons.lang.execution.ProcessOutputType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-/** Process and send testing messages to the client */
+/**
+ * Transmits testing messages of test processes to the client.
+ *
+ * <p>When tests are executed in several processes, their messages are merged into a single stream
+ * as if tests were executed by a single process: messages of the first process are sent as soon as
+ * they are received while messages of the other processes are kept until all the previous
+ * processes are terminated. So the client receives suites of different processes one after
+ * another, not mixed with each other. Kept messages over {@link #MAX_PENDING_MESSAGES} per process
+ * are spilled to a temporary file, so a long first process doesn't make the others fill the heap.
+ *
+ * <p>Messages are sent in batches, a batch is sent when it is full or when {@link
+ * #BATCH_DELAY_MS} passed since the first message of the batch was received.
+ */
 public class TestMessagesOutputTransmitter {
+  private static final Logger LOG = LoggerFactory.getLogger(TestMessagesOutputTransmitter.class);
+
+  private static final int MAX_BATCH_SIZE = 100;
+  private static final long BATCH_DELAY_MS = 100;
+  private static final int MAX_PENDING_MESSAGES = 10_000;
 
   private final RequestTransmitter requestTransmitter;
   private final String endpoint;
-  private final LineSplitter lineSplitter;
-  private ProcessHandler processHandler;
+  private final List<Shard> shards;
+  private final ScheduledExecutorService executor;
+
+  /** Messages which are not sent yet */
+  private List<String> batch = new ArrayList<>();
+  /** Index of the shard which messages are sent immediately */
+  private int active;
+
+  private boolean started;
 
   public TestMessagesOutputTransmitter(
       ProcessHandler processHandler, RequestTransmitter requestTransmitter, String endpoint) {
-    this.processHandler = processHandler;
+    this(singletonList(processHandler), requestTransmitter, endpoint);
+  }
+
+  public TestMessagesOutputTransmitter(
+      List<ProcessHandler> processHandlers,
+      RequestTransmitter requestTransmitter,
+      String endpoint) {
+    this(processHandlers, requestTransmitter, endpoint, MAX_PENDING_MESSAGES);
+  }
+
+  @VisibleForTesting
+  TestMessagesOutputTransmitter(
+      List<ProcessHandler> processHandlers,
+      RequestTransmitter requestTransmitter,
+      String endpoint,
+      int maxPendingMessages) {
     this.requestTransmitter = requestTransmitter;
     this.endpoint = endpoint;
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("TestMessagesOutputTransmitter-%d")
+                .setDaemon(true)
+                .build());
 
-    lineSplitter = new LineSplitter(this::processLine);
+    shards = new ArrayList<>(processHandlers.size());
+    for (ProcessHandler processHandler : processHandlers) {
+      shards.add(new Shard(processHandler, maxPendingMessages));
+    }
+    for (Shard shard : shards) {
+      shard.processHandler.addProcessListener(
+          new ProcessListener() {
+            @Override
+            public void onStart(ProcessEvent event) {
+              processStartTesting();
+            }
 
-    processHandler.addProcessListener(
-        new ProcessListener() {
-          @Override
-          public void onStart(ProcessEvent event) {
-            processStartTesting();
-          }
+            @Override
+            public void onText(ProcessEvent event, ProcessOutputType outputType) {
+              shard.process(event.getText(), outputType);
+            }
 
-          @Override
-          public void onText(ProcessEvent event, ProcessOutputType outputType) {
-            process(event.getText(), outputType);
-          }
+            @Override
+            public void onProcessTerminated(ProcessEvent event) {
+              processTestingStopped(shard);
+            }
 
-          @Override
-          public void onProcessTerminated(ProcessEvent event) {
-            processTestingStopped();
-          }
+            @Override
+            public void onProcessWillTerminate(ProcessEvent event) {
+              //ignore
+            }
+          });
+    }
+    for (Shard shard : shards) {
+      shard.processHandler.startNotify();
+    }
+  }
 
-          @Override
-          public void onProcessWillTerminate(ProcessEvent event) {
-            //ignore
-          }
-        });
+  public void stop() {
+    for (Shard shard : shards) {
+      if (!shard.processHandler.isProcessTerminated()) {
+        shard.processHandler.destroyProcess();
+      }
+    }
+  }
 
-    processHandler.startNotify();
+  private synchronized void processStartTesting() {
+    if (!started) {
+      started = true;
+      add(ServerTestingMessage.TESTING_STARTED.asJsonString());
+    }
   }
 
-  private void processLine(String line, ProcessOutputType outputType) {
-    if (!processTestingMessage(line)) {
-      sendOutput(line, outputType);
+  private synchronized void processMessage(Shard shard, String message) {
+    if (shards.get(active) == shard) {
+      add(message);
+    } else {
+      shard.pending.add(message);
     }
   }
 
-  private void sendOutput(String text, ProcessOutputType outputType) {
-    UncapturedOutputMessage message = new UncapturedOutputMessage(text, outputType);
-    requestTransmitter
-        .newRequest()
-        .endpointId(endpoint)
-        .methodName(Constants.TESTING_RPC_METHOD_NAME)
-        .paramsAsString(message.asJsonString())
-        .sendAndSkipResult();
+  private void processTestingStopped(Shard shard) {
+    shard.flush();
+    terminated(shard);
+  }
+
+  private synchronized void terminated(Shard shard) {
+    shard.terminated = true;
+    while (active < shards.size() && shards.get(active).terminated) {
+      active++;
+      if (active < shards.size()) {
+        shards.get(active).pending.drain(this::add);
+      }
+    }
+    if (active == shards.size()) {
+      add(ServerTestingMessage.FINISH_TESTING.asJsonString());
+      send();
+      executor.shutdown();
+    }
+  }
+
+  private void add(String message) {
+    batch.add(message);
+    if (batch.size() >= MAX_BATCH_SIZE) {
+      send();
+    } else if (batch.size() == 1) {
+      executor.schedule(this::sendScheduled, BATCH_DELAY_MS, MILLISECONDS);
+    }
   }
 
-  private boolean processTestingMessage(String line) {
-    ServerTestingMessage message = ServerTestingMessage.parse(line.trim());
-    if (message != null) {
+  private synchronized void sendScheduled() {
+    send();
+  }
+
+  private void send() {
+    if (batch.isEmpty()) {
+      return;
+    }
+    if (batch.size() == 1) {
       requestTransmitter
           .newRequest()
           .endpointId(endpoint)
           .methodName(Constants.TESTING_RPC_METHOD_NAME)
-          .paramsAsString(message.asJsonString())
+          .paramsAsString(batch.get(0))
+          .sendAndSkipResult();
+    } else {
+      requestTransmitter
+          .newRequest()
+          .endpointId(endpoint)
+          .methodName(Constants.TESTING_RPC_MESSAGES_METHOD_NAME)
+          .paramsAsListOfString(batch)
           .sendAndSkipResult();
-      return true;
     }
-    return false;
+    batch = new ArrayList<>();
   }
 
-  private void processTestingStopped() {
-    lineSplitter.flush();
-    requestTransmitter
-        .newRequest()
-        .endpointId(endpoint)
-        .methodName(Constants.TESTING_RPC_METHOD_NAME)
-        .paramsAsString(ServerTestingMessage.FINISH_TESTING.asJsonString())
-        .sendAndSkipResult();
-  }
+  /** Test process and its messages. */
+  private class Shard {
+    private final ProcessHandler processHandler;
+    private final LineSplitter lineSplitter;
+    /** Messages which are sent when all the previous processes are terminated */
+    private final PendingMessages pending;
 
-  private void process(String text, ProcessOutputType outputType) {
-    lineSplitter.process(text, outputType);
-  }
+    private boolean terminated;
+
+    private Shard(ProcessHandler processHandler, int maxPendingMessages) {
+      this.processHandler = processHandler;
+      this.pending = new PendingMessages(maxPendingMessages);
+      this.lineSplitter = new LineSplitter(this::processLine);
+    }
+
+    private synchronized void process(String text, ProcessOutputType outputType) {
+      lineSplitter.process(text, outputType);
+    }
+
+    private synchronized void flush() {
+      lineSplitter.flush();
+    }
 
-  private void processStartTesting() {
-    requestTransmitter
-        .newRequest()
-        .endpointId(endpoint)
-        .methodName(Constants.TESTING_RPC_METHOD_NAME)
-        .paramsAsString(ServerTestingMessage.TESTING_STARTED.asJsonString())
-        .sendAndSkipResult();
+    private void processLine(String line, ProcessOutputType outputType) {
+      ServerTestingMessage message = ServerTestingMessage.parse(line.trim());
+      if (message != null) {
+        processMessage(this, message.asJsonString());
+      } else {
+        processMessage(this, new UncapturedOutputMessage(line, outputType).asJsonString());
+      }
+    }
   }
 
-  public void stop() {
-    if (!processHandler.isProcessTerminated()) {
-      processHandler.destroyProcess();
+  /**
+   * Messages kept in memory up to the limit, after that all of them are written to a temporary
+   * file, one JSON message per line, and read back in the same order when they are drained.
+   */
+  private static class PendingMessages {
+    private final List<String> messages = new ArrayList<>();
+
+    private int maxInMemory;
+    private Path spillFile;
+    private BufferedWriter spillWriter;
+
+    private PendingMessages(int maxInMemory) {
+      this.maxInMemory = maxInMemory;
+    }
+
+    private void add(String message) {
+      if (spillFile == null && messages.size() >= maxInMemory) {
+        startSpilling();
+      }
+      if (spillWriter != null) {
+        try {
+          spillWriter.write(message);
+          spillWriter.newLine();
+          return;
+        } catch (IOException e) {
+          // messages spilled so far are still read back, the following ones are kept in memory
+          LOG.warn("Can't spill testing messages to {}. Cause: {}", spillFile, e.getMessage());
+          closeWriter();
+        }
+      }
+      messages.add(message);
+    }
+
+    private void startSpilling() {
+      try {
+        spillFile = Files.createTempFile("che-testing-messages-", ".json");
+        spillWriter = Files.newBufferedWriter(spillFile, UTF_8);
+      } catch (IOException e) {
+        LOG.warn("Can't create file for spilling testing messages. Cause: {}", e.getMessage());
+        deleteSpillFile();
+        maxInMemory = Integer.MAX_VALUE;
+        return;
+      }
+      List<String> kept = new ArrayList<>(messages);
+      messages.clear();
+      kept.forEach(this::add);
+    }
+
+    private void drain(Consumer<String> consumer) {
+      if (spillFile != null) {
+        closeWriter();
+        try (BufferedReader reader = Files.newBufferedReader(spillFile, UTF_8)) {
+          String line;
+          while ((line = reader.readLine()) != null) {
+            consumer.accept(line);
+          }
+        } catch (IOException e) {
+          LOG.warn("Can't read spilled testing messages {}. Cause: {}", spillFile, e.getMessage());
+        }
+        deleteSpillFile();
+      }
+      messages.forEach(consumer);
+      messages.clear();
+    }
+
+    private void deleteSpillFile() {
+      if (spillFile != null) {
+        try {
+          Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+          LOG.warn("Can't delete file {}. Cause: {}", spillFile, e.getMessage());
+        }
+        spillFile = null;
+      }
+    }
+
+    private void closeWriter() {
+      if (spillWriter != null) {
+        try {
+          spillWriter.close();
+        } catch (IOException e) {
+          LOG.warn("Can't close file {}. Cause: {}", spillFile, e.getMessage());
+        }
+        spillWriter = null;
+      }
     }
   }
 }
@@ -10,6 +10,9 @@
  */
 package org.eclipse.che.api.testing.server.framework;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
 import java.util.List;
 import javax.validation.constraints.NotNull;
 import org.eclipse.che.api.testing.shared.TestDetectionContext;
@@ -29,6 +32,21 @@ public interface TestRunner {
   @Nullable
   ProcessHandler execute(TestExecutionContext context);
 
+  /**
+   * Executes tests of the given context in up to {@code maxProcesses} processes which run in
+   * parallel. Test runners which are able to split tests between several processes should override
+   * this method, by default all the tests are executed in a single process.
+   *
+   * @param context the current context
+   * @param maxProcesses maximum count of processes which may be started
+   * @return handlers of the started processes, empty list if tests can't be executed
+   */
+  @NotNull
+  default List<ProcessHandler> execute(TestExecutionContext context, int maxProcesses) {
+    ProcessHandler processHandler = execute(context);
+    return processHandler == null ? emptyList() : singletonList(processHandler);
+  }
+
   /**
    * The test runner framework will call this method to get the framework name for registration.
    *
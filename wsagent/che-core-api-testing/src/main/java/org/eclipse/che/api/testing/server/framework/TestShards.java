@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Splits tests between processes which execute them in parallel. */
+public final class TestShards {
+
+  /**
+   * Splits tests into at most {@code maxShards} shards of nearly the same size. Tests are assigned
+   * to shards in round-robin order, so tests of the same package which are usually listed together
+   * are spread between the shards.
+   *
+   * @param tests tests to split, e.g. fully qualified names of test classes
+   * @param maxShards maximum count of shards
+   * @return non empty list of shards, single shard with all the tests if they can't be split
+   */
+  public static <T> List<List<T>> split(List<T> tests, int maxShards) {
+    int count = Math.min(tests.size(), maxShards);
+    if (count <= 1) {
+      return singletonList(tests);
+    }
+    List<List<T>> shards = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      shards.add(new ArrayList<>(tests.size() / count + 1));
+    }
+    for (int i = 0; i < tests.size(); i++) {
+      shards.get(i % count).add(tests.get(i));
+    }
+    return shards;
+  }
+
+  private TestShards() {}
+}
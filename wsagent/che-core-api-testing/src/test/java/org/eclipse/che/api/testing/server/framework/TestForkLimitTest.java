@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link TestForkLimit}. */
+public class TestForkLimitTest {
+  private static final long GB = 1024L * 1024 * 1024;
+
+  private Path cgroupRoot;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    cgroupRoot = Files.createTempDirectory("cgroup");
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    IoUtil.deleteRecursive(cgroupRoot.toFile());
+  }
+
+  @Test
+  public void shouldUseAllCpusWhenNotLimited() {
+    assertEquals(TestForkLimit.getAvailableForks(cgroupRoot, 8), 8);
+  }
+
+  @Test
+  public void shouldLimitForksByCgroupV1CpuQuota() throws Exception {
+    write("cpu/cpu.cfs_quota_us", "150000");
+    write("cpu/cpu.cfs_period_us", "100000");
+
+    assertEquals(TestForkLimit.getAvailableForks(cgroupRoot, 8), 2);
+  }
+
+  @Test
+  public void shouldNotLimitForksByUnlimitedCgroupV1CpuQuota() throws Exception {
+    write("cpu/cpu.cfs_quota_us", "-1");
+    write("cpu/cpu.cfs_period_us", "100000");
+    write("memory/memory.limit_in_bytes", "9223372036854771712");
+
+    assertEquals(TestForkLimit.getAvailableForks(cgroupRoot, 8), 8);
+  }
+
+  @Test
+  public void shouldLimitForksByCgroupV1MemoryLimit() throws Exception {
+    write("memory/memory.limit_in_bytes", String.valueOf(GB));
+
+    assertEquals(TestForkLimit.getAvailableForks(cgroupRoot, 8), 2);
+  }
+
+  @Test
+  public void shouldLimitForksByCgroupV2CpuMax() throws Exception {
+    write("cpu.max", "300000 100000");
+
+    assertEquals(TestForkLimit.getAvailableForks(cgroupRoot, 8), 3);
+  }
+
+  @Test
+  public void shouldNotLimitForksByUnlimitedCgroupV2Limits() throws Exception {
+    write("cpu.max", "max 100000");
+    write("memory.max", "max");
+
+    assertEquals(TestForkLimit.getAvailableForks(cgroupRoot, 8), 8);
+  }
+
+  @Test
+  public void shouldLimitForksByCgroupV2MemoryMax() throws Exception {
+    write("cpu.max", "max 100000");
+    write("memory.max", String.valueOf(2 * GB));
+
+    assertEquals(TestForkLimit.getAvailableForks(cgroupRoot, 8), 4);
+  }
+
+  @Test
+  public void shouldUseSingleForkWhenMemoryIsNotEnoughForOne() throws Exception {
+    write("memory.max", String.valueOf(GB / 4));
+
+    assertEquals(TestForkLimit.getAvailableForks(cgroupRoot, 8), 1);
+  }
+
+  private void write(String file, String content) throws IOException {
+    Path path = cgroupRoot.resolve(file);
+    Files.createDirectories(path.getParent());
+    Files.write(path, content.getBytes());
+  }
+}
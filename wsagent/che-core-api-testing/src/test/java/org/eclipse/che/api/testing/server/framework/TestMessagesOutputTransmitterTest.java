@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.EndpointIdConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.MethodNameConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.ParamsConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.SendConfiguratorFromMany;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.SendConfiguratorFromOne;
+import org.eclipse.che.api.testing.server.messages.ServerTestingMessage;
+import org.eclipse.che.api.testing.server.messages.UncapturedOutputMessage;
+import org.eclipse.che.commons.lang.execution.ProcessEvent;
+import org.eclipse.che.commons.lang.execution.ProcessHandler;
+import org.eclipse.che.commons.lang.execution.ProcessListener;
+import org.eclipse.che.commons.lang.execution.ProcessOutputType;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link TestMessagesOutputTransmitter}. */
+@Listeners(MockitoTestNGListener.class)
+public class TestMessagesOutputTransmitterTest {
+  private static final String ENDPOINT = "endpoint";
+
+  @Mock private RequestTransmitter requestTransmitter;
+  @Mock private EndpointIdConfigurator endpointIdConfigurator;
+  @Mock private MethodNameConfigurator methodNameConfigurator;
+  @Mock private ParamsConfigurator paramsConfigurator;
+  @Mock private SendConfiguratorFromOne<String> sendConfiguratorFromOne;
+  @Mock private SendConfiguratorFromMany<String> sendConfiguratorFromMany;
+
+  /** Batches of messages in the order they are sent */
+  private List<List<String>> batches;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    batches = new CopyOnWriteArrayList<>();
+    when(requestTransmitter.newRequest()).thenReturn(endpointIdConfigurator);
+    when(endpointIdConfigurator.endpointId(anyString())).thenReturn(methodNameConfigurator);
+    when(methodNameConfigurator.methodName(anyString())).thenReturn(paramsConfigurator);
+    when(paramsConfigurator.paramsAsString(anyString()))
+        .thenAnswer(
+            invocation -> {
+              batches.add(singletonList((String) invocation.getArguments()[0]));
+              return sendConfiguratorFromOne;
+            });
+    when(paramsConfigurator.paramsAsListOfString(anyListOf(String.class)))
+        .thenAnswer(
+            invocation -> {
+              @SuppressWarnings("unchecked")
+              List<String> batch = (List<String>) invocation.getArguments()[0];
+              batches.add(new ArrayList<>(batch));
+              return sendConfiguratorFromMany;
+            });
+  }
+
+  @Test
+  public void shouldSendMessagesOfLaterProcessesAfterPreviousProcessesAreTerminated()
+      throws Exception {
+    ProcessHandler first = mock(ProcessHandler.class);
+    ProcessHandler second = mock(ProcessHandler.class);
+    new TestMessagesOutputTransmitter(asList(first, second), requestTransmitter, ENDPOINT);
+    ProcessListener firstListener = captureListener(first);
+    ProcessListener secondListener = captureListener(second);
+
+    firstListener.onStart(new ProcessEvent(first));
+    secondListener.onStart(new ProcessEvent(second));
+    secondListener.onText(new ProcessEvent(second, "b1\nb2\n"), ProcessOutputType.STDOUT);
+    firstListener.onText(new ProcessEvent(first, "a1\n"), ProcessOutputType.STDOUT);
+    firstListener.onProcessTerminated(new ProcessEvent(first, 0));
+    secondListener.onText(new ProcessEvent(second, "b3\n"), ProcessOutputType.STDOUT);
+    secondListener.onProcessTerminated(new ProcessEvent(second, 0));
+
+    assertEquals(
+        sentMessages(),
+        asList(
+            ServerTestingMessage.TESTING_STARTED.asJsonString(),
+            output("a1\n"),
+            output("b1\n"),
+            output("b2\n"),
+            output("b3\n"),
+            ServerTestingMessage.FINISH_TESTING.asJsonString()));
+  }
+
+  @Test
+  public void shouldSendMessagesInBatches() throws Exception {
+    ProcessHandler process = mock(ProcessHandler.class);
+    new TestMessagesOutputTransmitter(process, requestTransmitter, ENDPOINT);
+    ProcessListener listener = captureListener(process);
+
+    listener.onStart(new ProcessEvent(process));
+    List<String> expected = new ArrayList<>();
+    expected.add(ServerTestingMessage.TESTING_STARTED.asJsonString());
+    for (int i = 0; i < 250; i++) {
+      listener.onText(new ProcessEvent(process, "line" + i + "\n"), ProcessOutputType.STDOUT);
+      expected.add(output("line" + i + "\n"));
+    }
+    listener.onProcessTerminated(new ProcessEvent(process, 0));
+    expected.add(ServerTestingMessage.FINISH_TESTING.asJsonString());
+
+    assertEquals(sentMessages(), expected);
+    assertTrue(batches.size() < expected.size());
+    for (List<String> batch : batches) {
+      assertTrue(batch.size() <= 100, "Batch size " + batch.size());
+    }
+  }
+
+  @Test
+  public void shouldSpillMessagesOfWaitingProcessAndSendThemInOrder() throws Exception {
+    ProcessHandler first = mock(ProcessHandler.class);
+    ProcessHandler second = mock(ProcessHandler.class);
+    new TestMessagesOutputTransmitter(asList(first, second), requestTransmitter, ENDPOINT, 2);
+    ProcessListener firstListener = captureListener(first);
+    ProcessListener secondListener = captureListener(second);
+
+    firstListener.onStart(new ProcessEvent(first));
+    List<String> expected = new ArrayList<>();
+    expected.add(ServerTestingMessage.TESTING_STARTED.asJsonString());
+    for (int i = 0; i < 10; i++) {
+      secondListener.onText(new ProcessEvent(second, "b" + i + "\n"), ProcessOutputType.STDERR);
+    }
+    secondListener.onProcessTerminated(new ProcessEvent(second, 0));
+    firstListener.onText(new ProcessEvent(first, "a\n"), ProcessOutputType.STDOUT);
+    firstListener.onProcessTerminated(new ProcessEvent(first, 0));
+    expected.add(output("a\n"));
+    for (int i = 0; i < 10; i++) {
+      expected.add(output("b" + i + "\n", ProcessOutputType.STDERR));
+    }
+    expected.add(ServerTestingMessage.FINISH_TESTING.asJsonString());
+
+    assertEquals(sentMessages(), expected);
+  }
+
+  private static ProcessListener captureListener(ProcessHandler processHandler) {
+    ArgumentCaptor<ProcessListener> captor = ArgumentCaptor.forClass(ProcessListener.class);
+    verify(processHandler).addProcessListener(captor.capture());
+    return captor.getValue();
+  }
+
+  private static String output(String text) {
+    return output(text, ProcessOutputType.STDOUT);
+  }
+
+  private static String output(String text, ProcessOutputType outputType) {
+    return new UncapturedOutputMessage(text, outputType).asJsonString();
+  }
+
+  private List<String> sentMessages() {
+    List<String> messages = new ArrayList<>();
+    batches.forEach(messages::addAll);
+    return messages;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+import org.testng.annotations.Test;
+
+/** Tests for {@link TestShards}. */
+public class TestShardsTest {
+
+  @Test
+  public void shouldSplitTestsInRoundRobinOrder() {
+    List<List<String>> shards = TestShards.split(asList("a", "b", "c", "d", "e"), 2);
+
+    assertEquals(shards, asList(asList("a", "c", "e"), asList("b", "d")));
+  }
+
+  @Test
+  public void shouldNotCreateMoreShardsThanTests() {
+    List<List<String>> shards = TestShards.split(asList("a", "b"), 4);
+
+    assertEquals(shards, asList(singletonList("a"), singletonList("b")));
+  }
+
+  @Test
+  public void shouldReturnSingleShardWhenTestsCanNotBeSplit() {
+    assertEquals(TestShards.split(asList("a", "b"), 1), singletonList(asList("a", "b")));
+    assertEquals(TestShards.split(emptyList(), 4), singletonList(emptyList()));
+  }
+}
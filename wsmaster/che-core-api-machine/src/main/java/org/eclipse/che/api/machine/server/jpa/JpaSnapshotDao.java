@@ -11,11 +11,14 @@
 package org.eclipse.che.api.machine.server.jpa;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 
 import com.google.inject.persist.Transactional;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
@@ -91,6 +94,30 @@ public class JpaSnapshotDao implements SnapshotDao {
     }
   }
 
+  @Override
+  @Transactional
+  public Map<String, Long> findLatestCreationDates(Collection<String> workspaceIds)
+      throws SnapshotException {
+    requireNonNull(workspaceIds, "Required non-null workspace ids");
+    if (workspaceIds.isEmpty()) {
+      return emptyMap();
+    }
+    try {
+      final Map<String, Long> creationDates = new HashMap<>();
+      for (Object[] row :
+          managerProvider
+              .get()
+              .createNamedQuery("Snapshot.findLatestCreationDates", Object[].class)
+              .setParameter("workspaceIds", workspaceIds)
+              .getResultList()) {
+        creationDates.put((String) row[0], (Long) row[1]);
+      }
+      return creationDates;
+    } catch (RuntimeException x) {
+      throw new SnapshotException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   public void saveSnapshot(SnapshotImpl snapshot) throws SnapshotException {
     requireNonNull(snapshot, "Required non-null snapshot");
@@ -12,6 +12,7 @@ package org.eclipse.che.api.machine.server.spi;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.machine.server.exception.SnapshotException;
 import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
@@ -66,6 +67,18 @@ public interface SnapshotDao {
    */
   List<SnapshotImpl> findSnapshots(String workspaceId) throws SnapshotException;
 
+  /**
+   * Finds creation dates of the latest snapshots of the given workspaces with a single request.
+   *
+   * @param workspaceIds identifiers of workspaces to find snapshots creation dates
+   * @return map of workspace identifiers to the creation date of their latest snapshot, workspaces
+   *     without snapshots are not present in the map
+   * @throws NullPointerException when {@code workspaceIds} is null
+   * @throws SnapshotException if error occurs
+   */
+  Map<String, Long> findLatestCreationDates(Collection<String> workspaceIds)
+      throws SnapshotException;
+
   /**
    * Remove snapshot by id
    *
@@ -11,12 +11,15 @@
 package org.eclipse.che.api.machine.server.spi.tck;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -151,6 +154,33 @@ public class SnapshotDaoTest {
     snapshotDao.findSnapshots(null);
   }
 
+  @Test
+  public void shouldFindLatestSnapshotsCreationDatesOfWorkspaces() throws Exception {
+    final Map<String, Long> expected = new HashMap<>();
+    for (SnapshotImpl snapshot : snapshots) {
+      expected.merge(snapshot.getWorkspaceId(), snapshot.getCreationDate(), Math::max);
+    }
+    expected.remove(workspaces[0].getId());
+
+    final Map<String, Long> found =
+        snapshotDao.findLatestCreationDates(
+            asList(workspaces[1].getId(), "non-existing-workspace"));
+
+    assertEquals(found, expected);
+  }
+
+  @Test
+  public void shouldReturnEmptyMapWhenFindingLatestSnapshotsCreationDatesOfNoWorkspaces()
+      throws Exception {
+    assertTrue(snapshotDao.findLatestCreationDates(emptyList()).isEmpty());
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void shouldThrowNpeWhenFindingLatestSnapshotsCreationDatesOfNullWorkspaces()
+      throws Exception {
+    snapshotDao.findLatestCreationDates(null);
+  }
+
   @Test(dependsOnMethods = "shouldGetSnapshotById")
   public void shouldSaveSnapshot() throws Exception {
     final SnapshotImpl newSnapshot =
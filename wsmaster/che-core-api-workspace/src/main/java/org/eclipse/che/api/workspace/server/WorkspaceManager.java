@@ -16,7 +16,9 @@ import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyMap;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
 import static org.eclipse.che.api.workspace.shared.Constants.AUTO_CREATE_SNAPSHOT;
 import static org.eclipse.che.api.workspace.shared.Constants.AUTO_RESTORE_FROM_SNAPSHOT;
@@ -29,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.account.api.AccountManager;
@@ -38,6 +41,7 @@ import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.workspace.Workspace;
@@ -286,6 +290,72 @@ public class WorkspaceManager {
     return workspaces;
   }
 
+  /**
+   * Gets page of workspaces which has given namespace, workspaces are ordered by name.
+   *
+   * <p>Returned workspaces have either {@link WorkspaceStatus#STOPPED} status or status defined by
+   * their runtime instances(if those exist).
+   *
+   * @param namespace the namespace to find workspaces
+   * @param includeRuntimes if <code>true</code>, will fetch runtime info for workspaces. If <code>
+   *     false</code>, will not fetch runtime info.
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return the page of workspaces
+   * @throws NullPointerException when {@code namespace} is null
+   * @throws ServerException when any server error occurs while getting workspaces with {@link
+   *     WorkspaceDao#getByNamespace(String, int, long)}
+   */
+  public Page<WorkspaceImpl> getByNamespace(
+      String namespace, boolean includeRuntimes, int maxItems, long skipCount)
+      throws ServerException {
+    requireNonNull(namespace, "Required non-null namespace");
+    final Page<WorkspaceImpl> workspaces =
+        workspaceDao.getByNamespace(namespace, maxItems, skipCount);
+    injectRuntimeAndAttributes(workspaces.getItems(), !includeRuntimes);
+    return workspaces;
+  }
+
+  /**
+   * Gets page of workspaces which has given namespace and status, workspaces are ordered by name.
+   *
+   * <p>Status of a workspace is defined by its runtime and isn't stored, so all the workspaces of
+   * the namespace are fetched and filtered by status before paging, and only the workspaces of the
+   * returned page get their runtime info and attributes.
+   *
+   * @param namespace the namespace to find workspaces
+   * @param status the status of the workspaces to return
+   * @param includeRuntimes if <code>true</code>, will fetch runtime info for workspaces. If <code>
+   *     false</code>, will not fetch runtime info.
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of matching workspaces to skip
+   * @return the page of workspaces with given status
+   * @throws NullPointerException when either {@code namespace} or {@code status} is null
+   * @throws ServerException when any server error occurs while getting workspaces with {@link
+   *     WorkspaceDao#getByNamespace(String)}
+   */
+  public Page<WorkspaceImpl> getByNamespace(
+      String namespace,
+      WorkspaceStatus status,
+      boolean includeRuntimes,
+      int maxItems,
+      long skipCount)
+      throws ServerException {
+    requireNonNull(namespace, "Required non-null namespace");
+    requireNonNull(status, "Required non-null status");
+    final List<WorkspaceImpl> matching =
+        workspaceDao
+            .getByNamespace(namespace)
+            .stream()
+            .filter(workspace -> runtimes.getStatus(workspace.getId()) == status)
+            .sorted(comparing(workspace -> workspace.getConfig().getName()))
+            .collect(toList());
+    final List<WorkspaceImpl> items =
+        matching.stream().skip(skipCount).limit(maxItems).collect(toList());
+    injectRuntimeAndAttributes(items, !includeRuntimes);
+    return new Page<>(items, skipCount, maxItems, matching.size());
+  }
+
   /**
    * Updates an existing workspace with a new configuration.
    *
@@ -616,11 +686,24 @@ public class WorkspaceManager {
         }
       }
 
-      // stopping them asynchronously
-      CountDownLatch stopLatch = new CountDownLatch(runningOrStarting.size());
+      // stopping them asynchronously, the workspaces which are snapshotted go first
+      // as snapshotting takes the most of the time and its results must not be lost
+      runningOrStarting.sort(comparing(ws -> !isSnapshotBeforeStop(ws, null)));
+      int total = runningOrStarting.size();
+      AtomicInteger stopped = new AtomicInteger();
+      CountDownLatch stopLatch = new CountDownLatch(total);
       for (WorkspaceImpl workspace : runningOrStarting) {
         try {
-          stopAsync(workspace, null).whenComplete((res, ex) -> stopLatch.countDown());
+          stopAsync(workspace, null)
+              .whenComplete(
+                  (res, ex) -> {
+                    LOG.info(
+                        "Workspace '{}' stopped on shutdown, {}/{} workspaces are stopped",
+                        workspace.getId(),
+                        stopped.incrementAndGet(),
+                        total);
+                    stopLatch.countDown();
+                  });
         } catch (Exception x) {
           stopLatch.countDown();
           if (runtimes.hasRuntime(workspace.getId())) {
@@ -704,18 +787,7 @@ public class WorkspaceManager {
               workspace.getId(),
               firstNonNull(stoppedBy, "undefined"));
 
-          final boolean snapshotBeforeStop;
-          if (workspace.isTemporary() || workspace.getStatus() == WorkspaceStatus.STARTING) {
-            snapshotBeforeStop = false;
-          } else if (createSnapshot != null) {
-            snapshotBeforeStop = createSnapshot;
-          } else if (workspace.getAttributes().containsKey(AUTO_CREATE_SNAPSHOT)) {
-            snapshotBeforeStop = parseBoolean(workspace.getAttributes().get(AUTO_CREATE_SNAPSHOT));
-          } else {
-            snapshotBeforeStop = defaultAutoSnapshot;
-          }
-
-          if (snapshotBeforeStop) {
+          if (isSnapshotBeforeStop(workspace, createSnapshot)) {
             try {
               runtimes.snapshot(workspace.getId());
             } catch (ConflictException | NotFoundException | ServerException x) {
@@ -746,6 +818,20 @@ public class WorkspaceManager {
         });
   }
 
+  /** Returns true if the workspace should be snapshotted before it is stopped. */
+  private boolean isSnapshotBeforeStop(WorkspaceImpl workspace, @Nullable Boolean createSnapshot) {
+    if (workspace.isTemporary() || workspace.getStatus() == WorkspaceStatus.STARTING) {
+      return false;
+    }
+    if (createSnapshot != null) {
+      return createSnapshot;
+    }
+    if (workspace.getAttributes().containsKey(AUTO_CREATE_SNAPSHOT)) {
+      return parseBoolean(workspace.getAttributes().get(AUTO_CREATE_SNAPSHOT));
+    }
+    return defaultAutoSnapshot;
+  }
+
   private void startAsync(MachineConfig machineConfig, String workspaceId) {
     sharedPool.execute(
         () -> {
@@ -847,12 +933,31 @@ public class WorkspaceManager {
     if (statusOnly) {
       for (WorkspaceImpl workspace : workspaces) {
         workspace.setStatus(runtimes.getStatus(workspace.getId()));
-        addExtraAttributes(workspace);
       }
     } else {
       for (WorkspaceImpl workspace : workspaces) {
         runtimes.injectRuntime(workspace);
-        addExtraAttributes(workspace);
+      }
+    }
+    addExtraAttributes(workspaces);
+  }
+
+  /**
+   * Adds attributes that are not originally stored in workspaces but should be published, fetching
+   * them for all the given workspaces at once.
+   */
+  private void addExtraAttributes(List<WorkspaceImpl> workspaces) throws SnapshotException {
+    if (workspaces.isEmpty()) {
+      return;
+    }
+    // snapshotted_at
+    final Map<String, Long> snapshotsCreationDates =
+        snapshotDao.findLatestCreationDates(
+            workspaces.stream().map(WorkspaceImpl::getId).collect(toList()));
+    for (WorkspaceImpl workspace : workspaces) {
+      final Long snapshottedAt = snapshotsCreationDates.get(workspace.getId());
+      if (snapshottedAt != null) {
+        workspace.getAttributes().put(SNAPSHOTTED_AT_ATTRIBUTE_NAME, Long.toString(snapshottedAt));
       }
     }
   }
@@ -20,6 +20,7 @@ import static org.eclipse.che.api.machine.shared.Constants.ENVIRONMENT_OUTPUT_CH
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -42,6 +43,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.agent.server.AgentRegistry;
 import org.eclipse.che.api.agent.server.exception.AgentException;
@@ -113,6 +115,8 @@ public class WorkspaceRuntimes {
   private final AgentRegistry agentRegistry;
   private final SnapshotDao snapshotDao;
   private final WorkspaceSharedPool sharedPool;
+  private final int shutdownParallelism;
+  private final long shutdownTimeoutSec;
 
   private final AtomicBoolean isShutdown = new AtomicBoolean(false);
   private final AtomicBoolean isStartRefused = new AtomicBoolean(false);
@@ -126,7 +130,9 @@ public class WorkspaceRuntimes {
       AgentLauncherFactory launcherFactory,
       AgentRegistry agentRegistry,
       SnapshotDao snapshotDao,
-      WorkspaceSharedPool sharedPool) {
+      WorkspaceSharedPool sharedPool,
+      @Named("che.workspace.shutdown.parallelism") @Nullable String shutdownParallelism,
+      @Named("che.workspace.shutdown.timeout_sec") long shutdownTimeoutSec) {
     this(
         eventsService,
         envEngine,
@@ -135,7 +141,9 @@ public class WorkspaceRuntimes {
         agentRegistry,
         snapshotDao,
         sharedPool,
-        new ConcurrentHashMap<>());
+        new ConcurrentHashMap<>(),
+        shutdownParallelism,
+        shutdownTimeoutSec);
   }
 
   public WorkspaceRuntimes(
@@ -146,7 +154,9 @@ public class WorkspaceRuntimes {
       AgentRegistry agentRegistry,
       SnapshotDao snapshotDao,
       WorkspaceSharedPool sharedPool,
-      ConcurrentMap<String, RuntimeState> states) {
+      ConcurrentMap<String, RuntimeState> states,
+      @Nullable String shutdownParallelism,
+      long shutdownTimeoutSec) {
     this.eventsService = eventsService;
     this.envEngine = envEngine;
     this.agentSorter = agentSorter;
@@ -157,6 +167,12 @@ public class WorkspaceRuntimes {
     this.locks = new StripedLocks(16);
     this.sharedPool = sharedPool;
     this.states = states;
+    Integer parallelism = shutdownParallelism == null ? null : Ints.tryParse(shutdownParallelism);
+    this.shutdownParallelism =
+        parallelism != null && parallelism > 0
+            ? parallelism
+            : 2 * Runtime.getRuntime().availableProcessors();
+    this.shutdownTimeoutSec = shutdownTimeoutSec;
   }
 
   /**
@@ -584,6 +600,10 @@ public class WorkspaceRuntimes {
    * stopped directly, all the running workspaces are going to be stopped, all the starting tasks
    * will be eventually interrupted.
    *
+   * <p>Environments are stopped by at most {@code che.workspace.shutdown.parallelism} threads, the
+   * {@link EventType#STOPPED} event is published for each stopped environment, so the progress of
+   * the shutdown can be tracked.
+   *
    * @throws IllegalStateException if component shutdown is already called
    */
   public void shutdown() throws InterruptedException {
@@ -592,33 +612,42 @@ public class WorkspaceRuntimes {
           "Workspace runtimes service shutdown has been already called");
     }
 
-    List<String> idsToStop;
+    Map<String, WorkspaceStatus> toStop;
     try (@SuppressWarnings("unused")
         Unlocker u = locks.writeAllLock()) {
-      idsToStop =
+      toStop =
           states
               .entrySet()
               .stream()
               .filter(e -> e.getValue().status != WorkspaceStatus.STOPPING)
-              .map(Map.Entry::getKey)
-              .collect(Collectors.toList());
+              .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().status));
       states.clear();
     }
 
-    if (!idsToStop.isEmpty()) {
-      LOG.info("Shutdown running environments, environments to stop: '{}'", idsToStop.size());
+    if (!toStop.isEmpty()) {
+      LOG.info(
+          "Shutdown running environments, environments to stop: '{}', stopping in parallel: '{}'",
+          toStop.size(),
+          shutdownParallelism);
       ExecutorService executor =
           Executors.newFixedThreadPool(
-              2 * Runtime.getRuntime().availableProcessors(),
+              Math.min(shutdownParallelism, toStop.size()),
               new ThreadFactoryBuilder()
                   .setNameFormat("StopEnvironmentsPool-%d")
                   .setDaemon(false)
                   .build());
-      for (String id : idsToStop) {
+      for (Map.Entry<String, WorkspaceStatus> entry : toStop.entrySet()) {
         executor.execute(
             () -> {
               try {
-                envEngine.stop(id);
+                envEngine.stop(entry.getKey());
+                // runtime state is already removed, let the clients know that it is stopped
+                eventsService.publish(
+                    DtoFactory.newDto(WorkspaceStatusEvent.class)
+                        .withWorkspaceId(entry.getKey())
+                        .withPrevStatus(entry.getValue())
+                        .withEventType(EventType.STOPPED)
+                        .withStatus(WorkspaceStatus.STOPPED));
               } catch (EnvironmentNotRunningException ignored) {
                 // might be already stopped
               } catch (Exception x) {
@@ -629,7 +658,7 @@ public class WorkspaceRuntimes {
 
       executor.shutdown();
       try {
-        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+        if (!executor.awaitTermination(shutdownTimeoutSec, TimeUnit.SECONDS)) {
           executor.shutdownNow();
           if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
             LOG.error("Unable to stop runtimes termination pool");
@@ -56,6 +56,7 @@ import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.rest.Service;
@@ -259,16 +260,53 @@ public class WorkspaceService extends Service {
     @ApiResponse(code = 200, message = "The workspaces successfully fetched"),
     @ApiResponse(code = 500, message = "Internal server error occurred during workspaces fetching")
   })
-  public List<WorkspaceDto> getByNamespace(
+  public Response getByNamespace(
       @ApiParam("Workspace status") @QueryParam("status") String status,
-      @ApiParam("The namespace") @PathParam("namespace") String namespace)
+      @ApiParam("The namespace") @PathParam("namespace") String namespace,
+      @ApiParam(
+            "The limit of the items in the response, "
+                + "all the workspaces of the namespace are returned when it is not specified"
+          )
+          @QueryParam("maxItems")
+          Integer maxItems,
+      @ApiParam("The number of the items to skip") @DefaultValue("0") @QueryParam("skipCount")
+          Integer skipCount)
       throws ServerException, BadRequestException {
-    return workspaceManager
-        .getByNamespace(namespace, false)
-        .stream()
-        .filter(ws -> status == null || status.equalsIgnoreCase(ws.getStatus().toString()))
-        .map(workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext()))
-        .collect(toList());
+    final List<WorkspaceImpl> workspaces;
+    String linkHeader = null;
+    if (maxItems == null) {
+      workspaces =
+          workspaceManager
+              .getByNamespace(namespace, false)
+              .stream()
+              .filter(ws -> status == null || status.equalsIgnoreCase(ws.getStatus().toString()))
+              .collect(toList());
+    } else {
+      if (maxItems <= 0) {
+        throw new BadRequestException("The number of items to return must be positive.");
+      }
+      if (skipCount < 0) {
+        throw new BadRequestException("The number of items to skip can't be negative.");
+      }
+      final Page<WorkspaceImpl> workspacesPage;
+      if (status == null) {
+        workspacesPage = workspaceManager.getByNamespace(namespace, false, maxItems, skipCount);
+      } else {
+        workspacesPage =
+            workspaceManager.getByNamespace(
+                namespace, parseStatus(status), false, maxItems, skipCount);
+      }
+      workspaces = workspacesPage.getItems();
+      linkHeader = createLinkHeader(workspacesPage);
+    }
+    return Response.ok()
+        .entity(
+            workspaces
+                .stream()
+                .map(workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext()))
+                .collect(toList()))
+        .header("Link", linkHeader)
+        .build();
   }
 
   @PUT
@@ -818,6 +856,15 @@ public class WorkspaceService extends Service {
     return res;
   }
 
+  private static WorkspaceStatus parseStatus(String status) throws BadRequestException {
+    for (WorkspaceStatus value : WorkspaceStatus.values()) {
+      if (value.name().equalsIgnoreCase(status)) {
+        return value;
+      }
+    }
+    throw new BadRequestException("Workspace status '" + status + "' is not valid");
+  }
+
   /**
    * Checks object reference is not {@code null}
    *
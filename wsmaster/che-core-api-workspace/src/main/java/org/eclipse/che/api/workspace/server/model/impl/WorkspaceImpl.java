@@ -56,6 +56,14 @@ import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
     name = "Workspace.getByNamespace",
     query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace"
   ),
+  @NamedQuery(
+    name = "Workspace.getByNamespaceOrderedByName",
+    query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace ORDER BY w.name"
+  ),
+  @NamedQuery(
+    name = "Workspace.getByNamespaceCount",
+    query = "SELECT COUNT(w) FROM Workspace w WHERE w.account.name = :namespace"
+  ),
   @NamedQuery(
     name = "Workspace.getByName",
     query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace AND w.name = :name"
@@ -13,6 +13,7 @@ package org.eclipse.che.api.workspace.server.spi;
 import java.util.List;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 
@@ -107,6 +108,20 @@ public interface WorkspaceDao {
    */
   List<WorkspaceImpl> getByNamespace(String namespace) throws ServerException;
 
+  /**
+   * Gets page of workspaces in given namespace, workspaces are ordered by name.
+   *
+   * @param namespace workspace namespace
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of workspaces in given namespace, never null
+   * @throws NullPointerException when {@code namespace} is null
+   * @throws IllegalArgumentException when {@code maxItems} or {@code skipCount} is negative
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  Page<WorkspaceImpl> getByNamespace(String namespace, int maxItems, long skipCount)
+      throws ServerException;
+
   /**
    * Gets list of workspaces which user can read
    *
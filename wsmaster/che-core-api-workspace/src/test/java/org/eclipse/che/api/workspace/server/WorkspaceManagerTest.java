@@ -14,6 +14,7 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
@@ -43,6 +44,7 @@ import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -53,6 +55,7 @@ import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.workspace.Workspace;
@@ -961,6 +964,55 @@ public class WorkspaceManagerTest {
     assertEquals(workspaces.get(0).getAttributes().get(SNAPSHOTTED_AT_ATTRIBUTE_NAME), "12345");
   }
 
+  @Test
+  public void snapshottedAtAttributeIncludedToWorkspaceWhenGettingPageByNamespace()
+      throws Exception {
+    WorkspaceImpl workspace = createAndMockWorkspace();
+    mockSnapshots(workspace, 12345);
+    when(workspaceDao.getByNamespace(workspace.getNamespace(), 30, 0))
+        .thenReturn(new Page<>(singletonList(workspace), 0, 30, 1));
+
+    Page<WorkspaceImpl> workspaces =
+        workspaceManager.getByNamespace(workspace.getNamespace(), false, 30, 0);
+
+    assertEquals(workspaces.getItemsCount(), 1);
+    assertEquals(
+        workspaces.getItems().get(0).getAttributes().get(SNAPSHOTTED_AT_ATTRIBUTE_NAME), "12345");
+    verify(snapshotDao, never()).findSnapshots(workspace.getId());
+  }
+
+  @Test
+  public void pagesThroughWorkspacesWithGivenStatusOrderedByName() throws Exception {
+    List<WorkspaceImpl> workspaces = new ArrayList<>();
+    for (String name : asList("ws-e", "ws-a", "ws-d", "ws-b", "ws-c")) {
+      WorkspaceConfigImpl config = createConfig();
+      config.setName(name);
+      WorkspaceImpl workspace =
+          WorkspaceImpl.builder()
+              .generateId()
+              .setConfig(config)
+              .setAccount(new AccountImpl("id", NAMESPACE, "type"))
+              .setStatus(STOPPED)
+              .build();
+      WorkspaceStatus status = asList("ws-a", "ws-c", "ws-e").contains(name) ? RUNNING : STOPPED;
+      when(runtimes.getStatus(workspace.getId())).thenReturn(status);
+      workspaces.add(workspace);
+    }
+    when(workspaceDao.getByNamespace(NAMESPACE)).thenReturn(workspaces);
+
+    Page<WorkspaceImpl> firstPage = workspaceManager.getByNamespace(NAMESPACE, RUNNING, false, 2, 0);
+    Page<WorkspaceImpl> secondPage =
+        workspaceManager.getByNamespace(NAMESPACE, RUNNING, false, 2, 2);
+
+    assertEquals(getNames(firstPage), asList("ws-a", "ws-c"));
+    assertEquals(firstPage.getTotalItemsCount(), 3);
+    assertTrue(firstPage.hasNextPage());
+    assertEquals(getNames(secondPage), singletonList("ws-e"));
+    assertEquals(secondPage.getTotalItemsCount(), 3);
+    assertFalse(secondPage.hasNextPage());
+    assertTrue(secondPage.getItems().stream().allMatch(ws -> ws.getStatus() == RUNNING));
+  }
+
   @Test
   public void snapshottedAtAttributeIncludedToWorkspaceWhenStartingById() throws Exception {
     WorkspaceImpl workspace = createAndMockWorkspace();
@@ -990,6 +1042,8 @@ public class WorkspaceManagerTest {
         snapshotBuilder.generateId().setDev(false).setMachineName("machine2").build();
     List<SnapshotImpl> snapshots = asList(snapshot1, snapshot2);
     when(snapshotDao.findSnapshots(workspace.getId())).thenReturn(snapshots);
+    when(snapshotDao.findLatestCreationDates(singletonList(workspace.getId())))
+        .thenReturn(singletonMap(workspace.getId(), creation));
     return snapshots;
   }
 
@@ -1066,6 +1120,10 @@ public class WorkspaceManagerTest {
     when(runtimes.startAsync(anyObject(), anyString(), anyBoolean())).thenReturn(cmpFuture);
   }
 
+  private static List<String> getNames(Page<WorkspaceImpl> page) {
+    return page.getItems().stream().map(ws -> ws.getConfig().getName()).collect(toList());
+  }
+
   private static WorkspaceConfigImpl createConfig() {
     EnvironmentImpl environment =
         new EnvironmentImpl(
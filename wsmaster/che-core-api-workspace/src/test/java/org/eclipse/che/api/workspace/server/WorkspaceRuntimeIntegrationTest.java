@@ -117,7 +117,9 @@ public class WorkspaceRuntimeIntegrationTest {
             launcherFactory,
             agentRegistry,
             snapshotDao,
-            sharedPool);
+            sharedPool,
+            null,
+            30);
 
     executor =
         Executors.newFixedThreadPool(
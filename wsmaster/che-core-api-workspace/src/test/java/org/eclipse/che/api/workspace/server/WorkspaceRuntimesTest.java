@@ -52,6 +52,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.eclipse.che.api.agent.server.AgentRegistry;
 import org.eclipse.che.api.agent.server.impl.AgentSorter;
 import org.eclipse.che.api.agent.server.launcher.AgentLauncherFactory;
@@ -134,7 +135,9 @@ public class WorkspaceRuntimesTest {
             agentRegistry,
             snapshotDao,
             sharedPool,
-            runtimeStates = new ConcurrentHashMap<>());
+            runtimeStates = new ConcurrentHashMap<>(),
+            "2",
+            30);
   }
 
   @Test(dataProvider = "allStatuses")
@@ -619,6 +622,28 @@ public class WorkspaceRuntimesTest {
     verify(envEngine).stop("workspace");
   }
 
+  @Test
+  public void publishesStoppedEventsOnShutdown() throws Exception {
+    setRuntime("workspace1", WorkspaceStatus.RUNNING, "env-name");
+    setRuntime("workspace2", WorkspaceStatus.STARTING, "env-name");
+    setRuntime("workspace3", WorkspaceStatus.RUNNING, "env-name");
+
+    runtimes.shutdown();
+
+    verify(envEngine).stop("workspace1");
+    verify(envEngine).stop("workspace2");
+    verify(envEngine).stop("workspace3");
+    verify(eventService, times(3)).publish(eventCaptor.capture());
+    assertEquals(
+        eventCaptor
+            .getAllValues()
+            .stream()
+            .filter(event -> event.getStatus() == WorkspaceStatus.STOPPED)
+            .map(WorkspaceStatusEvent::getWorkspaceId)
+            .collect(Collectors.toSet()),
+        Sets.newHashSet("workspace1", "workspace2", "workspace3"));
+  }
+
   @Test(
     expectedExceptions = IllegalStateException.class,
     expectedExceptionsMessageRegExp = "Workspace runtimes service shutdown has been already called"
@@ -69,6 +69,7 @@ import java.util.stream.Collectors;
 import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.agent.server.WsAgentHealthChecker;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
@@ -420,6 +421,73 @@ public class WorkspaceServiceTest {
         asList(workspace1, workspace2));
   }
 
+  @Test
+  public void shouldGetPageOfWorkspacesByNamespace() throws Exception {
+    final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
+    final WorkspaceImpl workspace2 = createWorkspace(createConfigDto(), STARTING);
+    when(wsManager.getByNamespace(NAMESPACE, false, 2, 1))
+        .thenReturn(new Page<>(asList(workspace1, workspace2), 1, 2, 5));
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/workspace/namespace/" + NAMESPACE + "?maxItems=2&skipCount=1");
+
+    assertEquals(response.getStatusCode(), 200);
+    assertEquals(
+        unwrapDtoList(response, WorkspaceDto.class)
+            .stream()
+            .map(ws -> new WorkspaceImpl(ws, TEST_ACCOUNT))
+            .collect(toList()),
+        asList(workspace1, workspace2));
+    assertNotNull(response.getHeader("Link"));
+  }
+
+  @Test
+  public void shouldGetPageOfWorkspacesByNamespaceAndStatus() throws Exception {
+    final WorkspaceImpl workspace1 = createWorkspace(createConfigDto(), RUNNING);
+    final WorkspaceImpl workspace2 = createWorkspace(createConfigDto(), RUNNING);
+    when(wsManager.getByNamespace(NAMESPACE, RUNNING, false, 2, 2))
+        .thenReturn(new Page<>(asList(workspace1, workspace2), 2, 2, 6));
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(
+                SECURE_PATH
+                    + "/workspace/namespace/"
+                    + NAMESPACE
+                    + "?status=running&maxItems=2&skipCount=2");
+
+    assertEquals(response.getStatusCode(), 200);
+    assertEquals(
+        unwrapDtoList(response, WorkspaceDto.class)
+            .stream()
+            .map(ws -> new WorkspaceImpl(ws, TEST_ACCOUNT))
+            .collect(toList()),
+        asList(workspace1, workspace2));
+    final String links = response.getHeader("Link");
+    assertTrue(links.contains("skipCount=4"));
+    assertTrue(links.contains("status=running"));
+    verify(wsManager, never()).getByNamespace(NAMESPACE, false, 2, 2);
+  }
+
+  @Test
+  public void shouldNotGetPageOfWorkspacesWithInvalidStatus() throws Exception {
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/workspace/namespace/" + NAMESPACE + "?status=unknown&maxItems=2");
+
+    assertEquals(response.getStatusCode(), 400);
+  }
+
   @Test
   public void shouldGetWorkspacesByStatus() throws Exception {
     final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
@@ -36,6 +36,7 @@ import javax.inject.Inject;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.machine.server.model.impl.CommandImpl;
@@ -146,6 +147,77 @@ public class WorkspaceDaoTest {
     workspaceDao.getByNamespace(null);
   }
 
+  @Test
+  public void shouldGetPageOfWorkspacesByNamespace() throws Exception {
+    final WorkspaceImpl workspace1 = workspaces[0];
+    final WorkspaceImpl workspace2 = workspaces[1];
+    assertEquals(
+        workspace1.getNamespace(), workspace2.getNamespace(), "Namespaces must be the same");
+
+    final Page<WorkspaceImpl> page = workspaceDao.getByNamespace(workspace1.getNamespace(), 1, 1);
+
+    assertEquals(page.getItems(), singletonList(workspace2));
+    assertEquals(page.getTotalItemsCount(), 2);
+  }
+
+  @Test
+  public void shouldGetAllWorkspacesOfLargeNamespacePageByPage() throws Exception {
+    final AccountImpl account = accounts[COUNT_OF_ACCOUNTS - 1];
+    final List<WorkspaceImpl> namespaceWorkspaces = new ArrayList<>();
+    for (WorkspaceImpl workspace : workspaces) {
+      if (workspace.getNamespace().equals(account.getName())) {
+        namespaceWorkspaces.add(workspace);
+      }
+    }
+    final List<WorkspaceImpl> toCreate = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      toCreate.add(createWorkspace("large-namespace-ws-" + i, account, "large-namespace-" + i));
+    }
+    workspaceRepo.createAll(toCreate.stream().map(WorkspaceImpl::new).collect(toList()));
+    namespaceWorkspaces.addAll(toCreate);
+
+    final List<WorkspaceImpl> found = new ArrayList<>();
+    Page<WorkspaceImpl> page = workspaceDao.getByNamespace(account.getName(), 30, 0);
+    found.addAll(page.getItems());
+    while (page.hasNextPage()) {
+      final Page.PageRef nextRef = page.getNextPageRef();
+      page =
+          workspaceDao.getByNamespace(
+              account.getName(), nextRef.getPageSize(), nextRef.getItemsBefore());
+      found.addAll(page.getItems());
+    }
+
+    assertEquals(found.size(), namespaceWorkspaces.size());
+    assertEquals(new HashSet<>(found), new HashSet<>(namespaceWorkspaces));
+    assertEquals(page.getTotalItemsCount(), namespaceWorkspaces.size());
+  }
+
+  @Test
+  public void emptyPageShouldBeReturnedWhenThereAreNoWorkspacesInGivenNamespace()
+      throws Exception {
+    final Page<WorkspaceImpl> page = workspaceDao.getByNamespace("non-existing-namespace", 30, 0);
+
+    assertTrue(page.isEmpty());
+    assertEquals(page.getTotalItemsCount(), 0);
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void shouldThrowNpeWhenGettingPageOfWorkspacesByNullNamespace() throws Exception {
+    workspaceDao.getByNamespace(null, 30, 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowIllegalArgumentExceptionWhenGettingPageOfWorkspacesWithNegativeLimit()
+      throws Exception {
+    workspaceDao.getByNamespace(workspaces[0].getNamespace(), -1, 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowIllegalArgumentExceptionWhenGettingPageOfWorkspacesWithNegativeSkipCount()
+      throws Exception {
+    workspaceDao.getByNamespace(workspaces[0].getNamespace(), 30, -1);
+  }
+
   @Test
   public void shouldGetWorkspaceByNameAndNamespace() throws Exception {
     final WorkspaceImpl workspace = workspaces[0];